@@ -7,8 +7,10 @@ import org.hzt.utils.collections.primitives.DoubleMutableList;
 import org.hzt.utils.primitive_comparators.DoubleComparator;
 import org.hzt.utils.ranges.IntRange;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
@@ -90,12 +92,62 @@ public class DoubleTimSortBenchmark {
         return list;
     }
 
+    /**
+     * Compares the parallel merge sort of {@link ArraysX#parallelSort(DoubleComparator, double...)} with the sequential tim
+     * sort, with {@link Arrays#parallelSort(double[])} and with a parallel sort of the boxed values by a comparator.
+     * The boxed array of the largest size needs a heap of several gigabytes.
+     */
+    @State(Scope.Benchmark)
+    public static class LargeArray {
+
+        @Param({"1000000", "10000000", "100000000"})
+        int size;
+
+        double[] array;
+        Double[] boxedArray;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            array = new Random(0).doubles(size).toArray();
+            boxedArray = Arrays.stream(array).boxed().toArray(Double[]::new);
+        }
+    }
+
+    @Benchmark
+    public double[] primitiveArraySortLarge(final LargeArray largeArray) {
+        final double[] copy = Arrays.copyOf(largeArray.array, largeArray.array.length);
+        ArraysX.sort(Double::compare, copy);
+        return copy;
+    }
+
+    @Benchmark
+    public double[] primitiveArrayParallelSortLarge(final LargeArray largeArray) {
+        final double[] copy = Arrays.copyOf(largeArray.array, largeArray.array.length);
+        ArraysX.parallelSort(Double::compare, copy);
+        return copy;
+    }
+
+    @Benchmark
+    public double[] arrayParallelSortLarge(final LargeArray largeArray) {
+        final double[] copy = Arrays.copyOf(largeArray.array, largeArray.array.length);
+        Arrays.parallelSort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public Double[] boxedArrayParallelSortLarge(final LargeArray largeArray) {
+        final Double[] copy = Arrays.copyOf(largeArray.boxedArray, largeArray.boxedArray.length);
+        Arrays.parallelSort(copy, Comparator.naturalOrder());
+        return copy;
+    }
+
     public static void main(final String[] args) {
         final Options options = new OptionsBuilder()
                 .include(DoubleTimSortBenchmark.class.getSimpleName())
                 .forks(2)
                 .warmupIterations(2)
                 .measurementIterations(3)
+                .jvmArgsAppend("-Xmx8g")
                 .shouldFailOnError(true)
                 .build();
         try {
@@ -0,0 +1,171 @@
+package benchmark.prefix;
+
+import org.hzt.graph.CsrGraph;
+import org.hzt.graph.Node;
+import org.hzt.graph.iterators.VisitedSet;
+import org.hzt.utils.collections.ListX;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Measures breadth first and depth first traversals of a random graph with an average of eight edges per node.
+ * <p>
+ * The baseline is the former breadth first traversal with a {@link LinkedList} queue and a {@link HashSet} of visited
+ * nodes. The node traversals are measured per {@link VisitedSet} and compared to a traversal of the {@link CsrGraph}
+ * form of the graph.
+ */
+@SuppressWarnings("unused")
+public class GraphTraversalBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class RandomGraph {
+
+        @Param({"1000000"})
+        int nrOfNodes;
+
+        List<Vertex> vertices;
+        CsrGraph csrGraph;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            final Random random = new Random(0);
+            vertices = new ArrayList<>(nrOfNodes);
+            for (int i = 0; i < nrOfNodes; i++) {
+                vertices.add(new Vertex(i));
+            }
+            for (final Vertex vertex : vertices) {
+                vertex.bidiAddNeighbor(vertices.get((vertex.id + 1) % nrOfNodes));
+                for (int j = 0; j < 3; j++) {
+                    vertex.bidiAddNeighbor(vertices.get(random.nextInt(nrOfNodes)));
+                }
+            }
+            csrGraph = CsrGraph.fromNodes(vertices.get(0)).graph();
+        }
+    }
+
+    static final class Vertex implements Node<Vertex, Vertex> {
+
+        private final int id;
+        private final List<Vertex> neighbors = new ArrayList<>();
+
+        Vertex(final int id) {
+            this.id = id;
+        }
+
+        @Override
+        public int id() {
+            return id;
+        }
+
+        @Override
+        public Iterator<Vertex> neighborIterator() {
+            return neighbors.iterator();
+        }
+
+        @Override
+        public List<Vertex> getMutableNeighbors() {
+            return neighbors;
+        }
+    }
+
+    @Benchmark
+    public long breadthFirstLinkedListAndHashSet(final RandomGraph graph) {
+        final Vertex source = graph.vertices.get(0);
+        final Set<Vertex> visited = new HashSet<>();
+        final Queue<Vertex> queue = new LinkedList<>();
+        queue.add(source);
+        visited.add(source);
+        long count = 0;
+        while (!queue.isEmpty()) {
+            final Vertex next = queue.remove();
+            for (final Vertex neighbor : next.neighbors) {
+                if (visited.add(neighbor)) {
+                    queue.add(neighbor);
+                }
+            }
+            count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long breadthFirstHashSet(final RandomGraph graph) {
+        return graph.vertices.get(0).breadthFirstSequence().count();
+    }
+
+    @Benchmark
+    public long breadthFirstIdentitySet(final RandomGraph graph) {
+        return graph.vertices.get(0).breadthFirstSequence(Node.Mode.NO_PREDECESSOR, VisitedSet::identitySet).count();
+    }
+
+    @Benchmark
+    public long breadthFirstBitSet(final RandomGraph graph) {
+        return graph.vertices.get(0)
+                .breadthFirstSequence(Node.Mode.NO_PREDECESSOR, () -> VisitedSet.bitSet(Vertex::id))
+                .count();
+    }
+
+    @Benchmark
+    public long breadthFirstLevelsBitSet(final RandomGraph graph) {
+        return graph.vertices.get(0)
+                .breadthFirstLevels(() -> VisitedSet.bitSet(Vertex::id))
+                .mapToInt(ListX::size)
+                .sum();
+    }
+
+    @Benchmark
+    public long parallelBreadthFirst(final RandomGraph graph) {
+        return graph.vertices.get(0).parallelBreadthFirst(ForkJoinPool.commonPool()).nrOfReachedNodes();
+    }
+
+    @Benchmark
+    public long breadthFirstCsr(final RandomGraph graph) {
+        return graph.csrGraph.breadthFirstSequence(0).count();
+    }
+
+    @Benchmark
+    public long depthFirstHashSet(final RandomGraph graph) {
+        return graph.vertices.get(0).depthFirstSequence().count();
+    }
+
+    @Benchmark
+    public long depthFirstBitSet(final RandomGraph graph) {
+        return graph.vertices.get(0)
+                .depthFirstSequence(Node.Mode.NO_PREDECESSOR, () -> VisitedSet.bitSet(Vertex::id))
+                .count();
+    }
+
+    public static void main(final String[] args) {
+        final Options options = new OptionsBuilder()
+                .include(GraphTraversalBenchmark.class.getSimpleName())
+                .forks(2)
+                .warmupIterations(2)
+                .measurementIterations(3)
+                .jvmArgsAppend("-Xmx4g")
+                .shouldFailOnError(true)
+                .build();
+        try {
+            new Runner(options).run();
+        } catch (final RunnerException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package benchmark.prefix;
+
+import org.hzt.geometry.DoubleBufferedIntGrid2D;
+import org.hzt.geometry.Grid2DUtils;
+import org.hzt.geometry.IntGrid2D;
+import org.hzt.geometry.IntStencil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compares the nested list paths of {@link Grid2DUtils} with the flat {@link IntGrid2D} and its tiled and parallel
+ * operations: map, all, sum, transpose and a Game of Life step on a square grid of zeros and ones.
+ */
+@SuppressWarnings("unused")
+public class GridBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Grids {
+
+        @Param({"512", "2048"})
+        int size;
+
+        List<List<Integer>> listGrid;
+        IntGrid2D intGrid;
+        DoubleBufferedIntGrid2D generations;
+        ForkJoinPool pool;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            final Random random = new Random(0);
+            intGrid = IntGrid2D.of(size, size).setAll(index -> random.nextInt(4) == 0 ? 1 : 0);
+            listGrid = Grid2DUtils.toListGrid(intGrid.toArray());
+            generations = DoubleBufferedIntGrid2D.of(intGrid);
+            pool = ForkJoinPool.commonPool();
+        }
+    }
+
+    @Benchmark
+    public List<List<Integer>> mapListGrid(final Grids grids) {
+        return Grid2DUtils.mapGrid(grids.listGrid, value -> value * 3 + 1);
+    }
+
+    @Benchmark
+    public IntGrid2D mapIntGrid(final Grids grids) {
+        return grids.intGrid.map(value -> value * 3 + 1);
+    }
+
+    @Benchmark
+    public IntGrid2D parallelMapIntGrid(final Grids grids) {
+        return grids.intGrid.parallelMap(value -> value * 3 + 1, grids.pool);
+    }
+
+    @Benchmark
+    public boolean allInListGrid(final Grids grids) {
+        return Grid2DUtils.allInGrid(grids.listGrid, value -> value >= 0);
+    }
+
+    @Benchmark
+    public boolean allInIntGrid(final Grids grids) {
+        return grids.intGrid.all(value -> value >= 0);
+    }
+
+    @Benchmark
+    public int sumListGrid(final Grids grids) {
+        int sum = 0;
+        for (final List<Integer> row : grids.listGrid) {
+            for (final Integer value : row) {
+                sum += value;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int sumIntGrid(final Grids grids) {
+        return grids.intGrid.reduce(0, Integer::sum);
+    }
+
+    @Benchmark
+    public int parallelSumIntGrid(final Grids grids) {
+        return grids.intGrid.parallelReduce(0, Integer::sum, grids.pool);
+    }
+
+    @Benchmark
+    public List<List<Integer>> transposeListGrid(final Grids grids) {
+        return transpose(grids.listGrid);
+    }
+
+    @Benchmark
+    public IntGrid2D transposeIntGrid(final Grids grids) {
+        return grids.intGrid.transpose();
+    }
+
+    @Benchmark
+    public IntGrid2D parallelTransposeIntGrid(final Grids grids) {
+        return grids.intGrid.parallelTranspose(grids.pool);
+    }
+
+    @Benchmark
+    public List<List<Integer>> gameOfLifeStepListGrid(final Grids grids) {
+        return gameOfLifeStep(grids.listGrid);
+    }
+
+    @Benchmark
+    public IntGrid2D gameOfLifeStepIntGrid(final Grids grids) {
+        return grids.generations.step(IntStencil.gameOfLife()).current();
+    }
+
+    @Benchmark
+    public IntGrid2D parallelGameOfLifeStepIntGrid(final Grids grids) {
+        return grids.generations.step(IntStencil.gameOfLife(), grids.pool).current();
+    }
+
+    static List<List<Integer>> transpose(final List<List<Integer>> grid) {
+        final List<List<Integer>> transposed = new ArrayList<>();
+        for (int x = 0; x < grid.get(0).size(); x++) {
+            final List<Integer> row = new ArrayList<>();
+            for (final List<Integer> gridRow : grid) {
+                row.add(gridRow.get(x));
+            }
+            transposed.add(row);
+        }
+        return transposed;
+    }
+
+    static List<List<Integer>> gameOfLifeStep(final List<List<Integer>> grid) {
+        final List<List<Integer>> next = new ArrayList<>();
+        for (int y = 0; y < grid.size(); y++) {
+            final List<Integer> row = new ArrayList<>();
+            for (int x = 0; x < grid.get(y).size(); x++) {
+                int liveNeighbors = 0;
+                for (int dy = -1; dy <= 1; dy++) {
+                    for (int dx = -1; dx <= 1; dx++) {
+                        final int ny = y + dy;
+                        final int nx = x + dx;
+                        if ((dx != 0 || dy != 0) && ny >= 0 && ny < grid.size() && nx >= 0 && nx < grid.get(ny).size()) {
+                            liveNeighbors += grid.get(ny).get(nx);
+                        }
+                    }
+                }
+                final boolean alive = grid.get(y).get(x) != 0;
+                row.add(liveNeighbors == 3 || (liveNeighbors == 2 && alive) ? 1 : 0);
+            }
+            next.add(row);
+        }
+        return next;
+    }
+
+    public static void main(final String[] args) {
+        final Options options = new OptionsBuilder()
+                .include(GridBenchmark.class.getSimpleName())
+                .forks(2)
+                .warmupIterations(2)
+                .measurementIterations(3)
+                .jvmArgsAppend("-Xmx4g")
+                .shouldFailOnError(true)
+                .build();
+        try {
+            new Runner(options).run();
+        } catch (final RunnerException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
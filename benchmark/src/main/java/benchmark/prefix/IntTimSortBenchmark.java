@@ -1,13 +1,16 @@
 package benchmark.prefix;
 
 import org.hzt.utils.It;
+import org.hzt.utils.arrays.ArraysX;
 import org.hzt.utils.collections.MutableListX;
 import org.hzt.utils.collections.primitives.IntMutableList;
 import org.hzt.utils.primitive_comparators.IntComparator;
 import org.hzt.utils.ranges.IntRange;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
@@ -80,12 +83,62 @@ public class IntTimSortBenchmark {
         return list;
     }
 
+    /**
+     * Compares the parallel merge sort of {@link ArraysX#parallelSort(IntComparator, int...)} with the sequential tim
+     * sort, with {@link Arrays#parallelSort(int[])} and with a parallel sort of the boxed values by a comparator.
+     * The boxed array of the largest size needs a heap of several gigabytes.
+     */
+    @State(Scope.Benchmark)
+    public static class LargeArray {
+
+        @Param({"1000000", "10000000", "100000000"})
+        int size;
+
+        int[] array;
+        Integer[] boxedArray;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            array = new Random(0).ints(size).toArray();
+            boxedArray = Arrays.stream(array).boxed().toArray(Integer[]::new);
+        }
+    }
+
+    @Benchmark
+    public int[] primitiveArraySortLarge(final LargeArray largeArray) {
+        final int[] copy = Arrays.copyOf(largeArray.array, largeArray.array.length);
+        ArraysX.sort(Integer::compare, copy);
+        return copy;
+    }
+
+    @Benchmark
+    public int[] primitiveArrayParallelSortLarge(final LargeArray largeArray) {
+        final int[] copy = Arrays.copyOf(largeArray.array, largeArray.array.length);
+        ArraysX.parallelSort(Integer::compare, copy);
+        return copy;
+    }
+
+    @Benchmark
+    public int[] arrayParallelSortLarge(final LargeArray largeArray) {
+        final int[] copy = Arrays.copyOf(largeArray.array, largeArray.array.length);
+        Arrays.parallelSort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public Integer[] boxedArrayParallelSortLarge(final LargeArray largeArray) {
+        final Integer[] copy = Arrays.copyOf(largeArray.boxedArray, largeArray.boxedArray.length);
+        Arrays.parallelSort(copy, Comparator.naturalOrder());
+        return copy;
+    }
+
     public static void main(final String[] args) {
         final Options options = new OptionsBuilder()
                 .include(IntTimSortBenchmark.class.getSimpleName())
                 .forks(2)
                 .warmupIterations(2)
                 .measurementIterations(3)
+                .jvmArgsAppend("-Xmx8g")
                 .shouldFailOnError(true)
                 .build();
         try {
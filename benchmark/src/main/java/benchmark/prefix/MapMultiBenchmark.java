@@ -0,0 +1,145 @@
+package benchmark.prefix;
+
+import org.hzt.utils.collections.ListX;
+import org.hzt.utils.collections.MutableListX;
+import org.hzt.utils.sequences.Sequence;
+import org.hzt.utils.sequences.primitives.IntSequence;
+import org.hzt.utils.spined_buffers.SpinedBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.PrimitiveIterator;
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Compares multi mapping elements to ints by pulling them from a reused buffer and by pushing them downstream to a
+ * buffer per element, the old implementation, and to the flat mapping of a stream.
+ * <p>
+ * {@code IntStream.mapMulti} needs Java 16, so the stream baselines flat map to a range, which is what an
+ * {@code IntStream.mapMulti} baseline falls back to on Java 8.
+ */
+@SuppressWarnings("unused")
+public class MapMultiBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Elements {
+
+        @Param({"1000000"})
+        int nrOfElements;
+
+        @Param({"1", "4", "16"})
+        int fanOut;
+
+        ListX<Integer> boxed;
+        int[] ints;
+        BiConsumer<Integer, IntConsumer> mapper;
+        IntSequence.IntMapMultiConsumer intMapper;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            ints = IntStream.range(0, nrOfElements).toArray();
+            final MutableListX<Integer> list = MutableListX.withInitCapacity(nrOfElements);
+            for (final int i : ints) {
+                list.add(i);
+            }
+            boxed = list;
+            final int n = fanOut;
+            mapper = (i, consumer) -> {
+                for (int j = 0; j < n; j++) {
+                    consumer.accept(i + j);
+                }
+            };
+            intMapper = (i, consumer) -> {
+                for (int j = 0; j < n; j++) {
+                    consumer.accept(i + j);
+                }
+            };
+        }
+    }
+
+    @Benchmark
+    public long streamFlatMapToInt(final Elements elements) {
+        final int n = elements.fanOut;
+        return elements.boxed.stream()
+                .flatMapToInt(i -> IntStream.range(0, n).map(j -> i + j))
+                .asLongStream()
+                .sum();
+    }
+
+    @Benchmark
+    public long spinedBufferPerElement(final Elements elements) {
+        final BiConsumer<Integer, IntConsumer> mapper = elements.mapper;
+        return Sequence.of(elements.boxed)
+                .flatMapToInt(i -> {
+                    final SpinedBuffer.OfInt buffer = new SpinedBuffer.OfInt();
+                    mapper.accept(i, buffer);
+                    return buffer::iterator;
+                })
+                .sum();
+    }
+
+    @Benchmark
+    public long mapMultiToIntPulled(final Elements elements) {
+        final PrimitiveIterator.OfInt iterator = Sequence.of(elements.boxed).mapMultiToInt(elements.mapper).iterator();
+        long sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long mapMultiToIntPushed(final Elements elements) {
+        return Sequence.of(elements.boxed).mapMultiToInt(elements.mapper).sum();
+    }
+
+    @Benchmark
+    public long intStreamFlatMap(final Elements elements) {
+        final int n = elements.fanOut;
+        return IntStream.of(elements.ints)
+                .flatMap(i -> IntStream.range(0, n).map(j -> i + j))
+                .asLongStream()
+                .sum();
+    }
+
+    @Benchmark
+    public long intMapMultiPulled(final Elements elements) {
+        final PrimitiveIterator.OfInt iterator = IntSequence.of(elements.ints).mapMulti(elements.intMapper).iterator();
+        long sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long intMapMultiPushed(final Elements elements) {
+        return IntSequence.of(elements.ints).mapMulti(elements.intMapper).sum();
+    }
+
+    public static void main(final String[] args) {
+        final Options options = new OptionsBuilder()
+                .include(MapMultiBenchmark.class.getSimpleName())
+                .forks(2)
+                .warmupIterations(2)
+                .measurementIterations(3)
+                .jvmArgsAppend("-Xmx4g")
+                .shouldFailOnError(true)
+                .build();
+        try {
+            new Runner(options).run();
+        } catch (final RunnerException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
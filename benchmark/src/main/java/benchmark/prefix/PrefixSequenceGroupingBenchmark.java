@@ -2,9 +2,12 @@ package benchmark.prefix;
 
 import org.hzt.utils.It;
 import org.hzt.utils.collections.MapX;
+import org.hzt.utils.collections.primitives.IntLongMap;
 import org.hzt.utils.collections.primitives.IntMutableList;
+import org.hzt.utils.collections.primitives.IntObjMap;
 import org.hzt.utils.numbers.LongX;
 import org.hzt.utils.ranges.IntRange;
+import org.hzt.utils.sequences.primitives.IntSequence;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
@@ -18,6 +21,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -34,6 +38,10 @@ public class PrefixSequenceGroupingBenchmark {
             .takeWhile(i -> i >= 0)
             .toSet();
 
+    private static final int HISTOGRAM_SIZE = 10_000_000;
+    static final int NR_OF_BUCKETS = 1_000;
+    private static final int[] histogramValues = new Random(0).ints(HISTOGRAM_SIZE, 0, 1_000_000).toArray();
+
     @Param({"100000"})
     private int nrOfIterations;
 
@@ -78,6 +86,48 @@ public class PrefixSequenceGroupingBenchmark {
         return grouping;
     }
 
+    @Benchmark
+    public MapX<Integer, Long> histogramEachCountBoxed() {
+        return IntSequence.of(histogramValues)
+                .boxed()
+                .groupingBy(i -> i % NR_OF_BUCKETS)
+                .eachCount();
+    }
+
+    @Benchmark
+    public Map<Integer, Long> histogramIntStreamCountingBoxed() {
+        return IntStream.of(histogramValues)
+                .boxed()
+                .collect(Collectors.groupingBy(i -> i % NR_OF_BUCKETS, Collectors.counting()));
+    }
+
+    @Benchmark
+    public IntLongMap histogramCountBy() {
+        return IntSequence.of(histogramValues).countBy(i -> i % NR_OF_BUCKETS);
+    }
+
+    @Benchmark
+    public Map<Integer, Long> histogramIntStreamSummingBoxed() {
+        return IntStream.of(histogramValues)
+                .boxed()
+                .collect(Collectors.groupingBy(i -> i % NR_OF_BUCKETS, Collectors.summingLong(i -> i)));
+    }
+
+    @Benchmark
+    public IntLongMap histogramSumBy() {
+        return IntSequence.of(histogramValues).sumBy(i -> i % NR_OF_BUCKETS);
+    }
+
+    @Benchmark
+    public MapX<Integer, IntMutableList> histogramGroupByBoxedKeys() {
+        return IntSequence.of(histogramValues).groupBy(i -> i % NR_OF_BUCKETS);
+    }
+
+    @Benchmark
+    public IntObjMap<IntMutableList> histogramGroupingBy() {
+        return IntSequence.of(histogramValues).groupingBy(i -> i % NR_OF_BUCKETS);
+    }
+
     public static void main(final String[] args) {
         final Options options = new OptionsBuilder()
                 .include(PrefixSequenceGroupingBenchmark.class.getSimpleName())
@@ -11,6 +11,7 @@ import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -40,6 +41,27 @@ public class PrefixSequenceMapFilterReduceBenchmark {
                 .reduce(1, (a, b) -> a * b);
     }
 
+    @Benchmark
+    public int sequenceOfListMapFilterReduceByIteratorChain() {
+        final Iterator<Integer> iterator = Sequence.of(list)
+                .map(String::length)
+                .filter(IntX::isEven)
+                .iterator();
+        int product = 1;
+        while (iterator.hasNext()) {
+            product *= iterator.next();
+        }
+        return product;
+    }
+
+    @Benchmark
+    public int sequenceOfListMapToIntFilterReduce() {
+        return Sequence.of(list)
+                .mapToInt(String::length)
+                .filter(IntX::isEven)
+                .reduce(1, (a, b) -> a * b);
+    }
+
     @Benchmark
     public int streamMapFilterReduce() {
         return list.stream()
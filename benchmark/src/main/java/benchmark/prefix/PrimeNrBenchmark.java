@@ -0,0 +1,95 @@
+package benchmark.prefix;
+
+import org.hzt.utils.numbers.IntX;
+import org.hzt.utils.numbers.LongX;
+import org.hzt.utils.ranges.LongRange;
+import org.hzt.utils.sequences.primitives.IntSequence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the segmented sieve behind {@link IntX#primeNrSequence()} with the former implementation, which tested every
+ * candidate by counting its divisors.
+ */
+@SuppressWarnings("unused")
+public class PrimeNrBenchmark {
+
+    /**
+     * Counting divisors is quadratic in the number of primes, so it is only measured for a few primes.
+     */
+    @State(Scope.Benchmark)
+    public static class FewPrimes {
+
+        @Param({"1000", "10000"})
+        int nrOfPrimes;
+    }
+
+    @State(Scope.Benchmark)
+    public static class ManyPrimes {
+
+        @Param({"1000", "10000", "1000000"})
+        int nrOfPrimes;
+    }
+
+    @Benchmark
+    public int divisorCountingPrimeNrSequence(final FewPrimes fewPrimes) {
+        return IntSequence.iterate(0, i -> i + (i < 3 ? 1 : 2))
+                .takeWhile(i -> i >= 0)
+                .filter(PrimeNrBenchmark::isPrimeNrByCountingDivisors)
+                .skip(fewPrimes.nrOfPrimes - 1L)
+                .first();
+    }
+
+    @Benchmark
+    public int sievedPrimeNrSequence(final ManyPrimes manyPrimes) {
+        return IntX.primeNrSequence()
+                .skip(manyPrimes.nrOfPrimes - 1L)
+                .first();
+    }
+
+    @Benchmark
+    public long millerRabinPrimeNrCount(final ManyPrimes manyPrimes) {
+        return LongRange.of(0, manyPrimes.nrOfPrimes * 16L).count(LongX::isPrimeNr);
+    }
+
+    @Benchmark
+    public long sievedPrimeNrCount(final ManyPrimes manyPrimes) {
+        return LongX.primesInRange(LongRange.of(0, manyPrimes.nrOfPrimes * 16L)).count();
+    }
+
+    @Benchmark
+    public long parallelSievedPrimeNrCount(final ManyPrimes manyPrimes) {
+        return LongX.primesInRange(LongRange.of(0, manyPrimes.nrOfPrimes * 16L)).parallel().count();
+    }
+
+    static boolean isPrimeNrByCountingDivisors(final long nrToCheck) {
+        long counter = 0;
+        for (long num = nrToCheck; num >= 1; num--) {
+            if (nrToCheck % num == 0) {
+                counter++;
+            }
+        }
+        return counter == 2;
+    }
+
+    public static void main(final String[] args) {
+        final Options options = new OptionsBuilder()
+                .include(PrimeNrBenchmark.class.getSimpleName())
+                .forks(2)
+                .warmupIterations(2)
+                .measurementIterations(3)
+                .shouldFailOnError(true)
+                .build();
+        try {
+            new Runner(options).run();
+        } catch (final RunnerException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
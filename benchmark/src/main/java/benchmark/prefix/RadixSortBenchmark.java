@@ -0,0 +1,138 @@
+package benchmark.prefix;
+
+import org.hzt.utils.arrays.ArraysX;
+import org.hzt.utils.sequences.primitives.IntSequence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Compares the radix sorts of {@link ArraysX} with {@link Arrays#sort(int[])} and with the tim sort by a primitive
+ * comparator.
+ */
+@SuppressWarnings("unused")
+@State(Scope.Benchmark)
+public class RadixSortBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    int[] ints;
+    long[] longs;
+    double[] doubles;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(0);
+        ints = random.ints(size).toArray();
+        longs = random.longs(size).toArray();
+        doubles = random.doubles(size, -1e6, 1e6).toArray();
+    }
+
+    @Benchmark
+    public int[] intRadixSort() {
+        final int[] copy = Arrays.copyOf(ints, ints.length);
+        ArraysX.radixSort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public int[] intArraysSort() {
+        final int[] copy = Arrays.copyOf(ints, ints.length);
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public int[] intTimSort() {
+        final int[] copy = Arrays.copyOf(ints, ints.length);
+        ArraysX.sort(Integer::compare, copy);
+        return copy;
+    }
+
+    @Benchmark
+    public int[] intSequenceSorted() {
+        return IntSequence.of(ints).sorted().toArray();
+    }
+
+    @Benchmark
+    public int[] intRadixSortBy() {
+        final int[] copy = Arrays.copyOf(ints, ints.length);
+        ArraysX.radixSortBy(i -> i >>> 16, copy);
+        return copy;
+    }
+
+    @Benchmark
+    public int[] intTimSortBy() {
+        final int[] copy = Arrays.copyOf(ints, ints.length);
+        ArraysX.sort((i1, i2) -> Integer.compare(i1 >>> 16, i2 >>> 16), copy);
+        return copy;
+    }
+
+    @Benchmark
+    public long[] longRadixSort() {
+        final long[] copy = Arrays.copyOf(longs, longs.length);
+        ArraysX.radixSort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public long[] longArraysSort() {
+        final long[] copy = Arrays.copyOf(longs, longs.length);
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public long[] longTimSort() {
+        final long[] copy = Arrays.copyOf(longs, longs.length);
+        ArraysX.sort(Long::compare, copy);
+        return copy;
+    }
+
+    @Benchmark
+    public double[] doubleRadixSort() {
+        final double[] copy = Arrays.copyOf(doubles, doubles.length);
+        ArraysX.radixSort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public double[] doubleArraysSort() {
+        final double[] copy = Arrays.copyOf(doubles, doubles.length);
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public double[] doubleTimSort() {
+        final double[] copy = Arrays.copyOf(doubles, doubles.length);
+        ArraysX.sort(Double::compare, copy);
+        return copy;
+    }
+
+    public static void main(final String[] args) {
+        final Options options = new OptionsBuilder()
+                .include(RadixSortBenchmark.class.getSimpleName())
+                .forks(2)
+                .warmupIterations(2)
+                .measurementIterations(3)
+                .shouldFailOnError(true)
+                .build();
+        try {
+            new Runner(options).run();
+        } catch (final RunnerException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
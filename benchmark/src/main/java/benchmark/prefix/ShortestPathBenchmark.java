@@ -0,0 +1,128 @@
+package benchmark.prefix;
+
+import org.hzt.graph.CsrGraph;
+import org.hzt.graph.GraphAlgorithms;
+import org.hzt.graph.WeightedEdge;
+import org.hzt.graph.WeightedNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures the heap based shortest path searches of {@link GraphAlgorithms} on a square grid graph and on a random
+ * graph with an average of eight edges per node. The grid is also searched in its {@link CsrGraph} form.
+ */
+@SuppressWarnings("unused")
+public class ShortestPathBenchmark {
+
+    private static final int MAX_WEIGHT = 9;
+
+    @State(Scope.Benchmark)
+    public static class Grid {
+
+        @Param({"100000", "1000000"})
+        int nrOfNodes;
+
+        int width;
+        List<WeightedNode<Integer>> nodes;
+        CsrGraph.OfNodes<WeightedNode<Integer>> csrGraph;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            width = (int) Math.sqrt(nrOfNodes);
+            final Random random = new Random(0);
+            nodes = nodes(width * width);
+            for (int i = 0; i < nodes.size(); i++) {
+                if (i % width < width - 1) {
+                    WeightedEdge.edgesInBothDirectionsBetween(nodes.get(i), nodes.get(i + 1), 1 + random.nextInt(MAX_WEIGHT));
+                }
+                if (i + width < nodes.size()) {
+                    WeightedEdge.edgesInBothDirectionsBetween(nodes.get(i), nodes.get(i + width), 1 + random.nextInt(MAX_WEIGHT));
+                }
+            }
+            csrGraph = CsrGraph.fromWeightedNodes(nodes.get(0));
+        }
+
+        long manhattanDistanceToLast(final WeightedNode<Integer> node) {
+            final int index = node.getPayload();
+            return (width - 1 - index % width) + (width - 1 - index / width);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class RandomGraph {
+
+        @Param({"100000", "1000000"})
+        int nrOfNodes;
+
+        List<WeightedNode<Integer>> nodes;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            final Random random = new Random(0);
+            nodes = nodes(nrOfNodes);
+            for (int i = 0; i < nrOfNodes; i++) {
+                WeightedEdge.edgesInBothDirectionsBetween(nodes.get(i), nodes.get((i + 1) % nrOfNodes), 1 + random.nextInt(MAX_WEIGHT));
+                for (int j = 0; j < 3; j++) {
+                    WeightedEdge.edgesInBothDirectionsBetween(nodes.get(i), nodes.get(random.nextInt(nrOfNodes)), 1 + random.nextInt(MAX_WEIGHT));
+                }
+            }
+        }
+    }
+
+    private static List<WeightedNode<Integer>> nodes(final int nrOfNodes) {
+        final List<WeightedNode<Integer>> nodes = new ArrayList<>(nrOfNodes);
+        for (int i = 0; i < nrOfNodes; i++) {
+            nodes.add(WeightedNode.of(i));
+        }
+        return nodes;
+    }
+
+    @Benchmark
+    public long dijkstraGrid(final Grid grid) {
+        return GraphAlgorithms.dijkstra(grid.nodes.get(0), grid.nodes.get(grid.nodes.size() - 1)).cost();
+    }
+
+    @Benchmark
+    public long aStarGrid(final Grid grid) {
+        return GraphAlgorithms.aStar(grid.nodes.get(0), grid.nodes.get(grid.nodes.size() - 1), grid::manhattanDistanceToLast).cost();
+    }
+
+    @Benchmark
+    public long dijkstraCsrGrid(final Grid grid) {
+        final int goal = grid.csrGraph.vertex(grid.nodes.get(grid.nodes.size() - 1));
+        return GraphAlgorithms.dijkstra(grid.csrGraph.graph(), 0, goal).cost();
+    }
+
+    @Benchmark
+    public long dijkstraRandomGraph(final RandomGraph graph) {
+        return GraphAlgorithms.dijkstra(graph.nodes.get(0), graph.nodes.get(graph.nodes.size() / 2)).cost();
+    }
+
+    public static void main(final String[] args) {
+        final Options options = new OptionsBuilder()
+                .include(ShortestPathBenchmark.class.getSimpleName())
+                .forks(2)
+                .warmupIterations(2)
+                .measurementIterations(3)
+                .jvmArgsAppend("-Xmx4g")
+                .shouldFailOnError(true)
+                .build();
+        try {
+            new Runner(options).run();
+        } catch (final RunnerException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package benchmark.prefix;
+
+import org.hzt.utils.collections.ListX;
+import org.hzt.utils.collections.MutableListX;
+import org.hzt.utils.collections.primitives.IntList;
+import org.hzt.utils.sequences.Sequence;
+import org.hzt.utils.sequences.primitives.IntSequence;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Comparator;
+import java.util.Random;
+
+/**
+ * Compares selecting the k greatest of n records and ints with a bounded heap to sorting all n of them and taking k.
+ */
+@SuppressWarnings("unused")
+public class TopKBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Records {
+
+        @Param({"1000000", "5000000"})
+        int nrOfRecords;
+
+        @Param({"10", "100"})
+        int k;
+
+        ListX<Record> records;
+        int[] scores;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            final Random random = new Random(0);
+            scores = random.ints(nrOfRecords).toArray();
+            final MutableListX<Record> list = MutableListX.withInitCapacity(nrOfRecords);
+            for (int i = 0; i < nrOfRecords; i++) {
+                list.add(new Record(i, scores[i]));
+            }
+            records = list;
+        }
+    }
+
+    static final class Record {
+
+        private final int id;
+        private final int score;
+
+        Record(final int id, final int score) {
+            this.id = id;
+            this.score = score;
+        }
+
+        int id() {
+            return id;
+        }
+
+        int score() {
+            return score;
+        }
+    }
+
+    @Benchmark
+    public ListX<Record> fullSortThenTake(final Records records) {
+        final MutableListX<Record> sorted = MutableListX.of(records.records);
+        sorted.sort(Comparator.comparing(Record::score).reversed());
+        return Sequence.of(sorted).take(records.k).toListX();
+    }
+
+    @Benchmark
+    public ListX<Record> sortedByDescendingTake(final Records records) {
+        return Sequence.of(records.records).sortedByDescending(Record::score).take(records.k).toListX();
+    }
+
+    @Benchmark
+    public ListX<Record> topKBy(final Records records) {
+        return Sequence.of(records.records).topKBy(records.k, Record::score);
+    }
+
+    @Benchmark
+    public IntList intFullSortThenTake(final Records records) {
+        final int[] sorted = IntSequence.of(records.scores).sortedDescending().toArray();
+        return IntSequence.of(sorted).take(records.k).toList();
+    }
+
+    @Benchmark
+    public IntList intSortedDescendingTake(final Records records) {
+        return IntSequence.of(records.scores).sortedDescending().take(records.k).toList();
+    }
+
+    @Benchmark
+    public IntList intTopK(final Records records) {
+        return IntSequence.of(records.scores).topK(records.k);
+    }
+
+    public static void main(final String[] args) {
+        final Options options = new OptionsBuilder()
+                .include(TopKBenchmark.class.getSimpleName())
+                .forks(2)
+                .warmupIterations(2)
+                .measurementIterations(3)
+                .jvmArgsAppend("-Xmx4g")
+                .shouldFailOnError(true)
+                .build();
+        try {
+            new Runner(options).run();
+        } catch (final RunnerException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import org.hzt.utils.collections.MutableListX;
 import org.hzt.utils.collections.primitives.DoubleMutableList;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class DoubleTimSortBenchmarkTest {
@@ -40,4 +42,21 @@ class DoubleTimSortBenchmarkTest {
                 () -> assertEquals(199_999, doubleMutableListX.size())
         );
     }
+
+    @Test
+    void testParallelSortsOfLargeArrayYieldSameContent() {
+        final DoubleTimSortBenchmark.LargeArray largeArray = new DoubleTimSortBenchmark.LargeArray();
+        largeArray.size = 100_000;
+        largeArray.setUp();
+
+        final double[] expected = doubleTimSortBenchmark.arrayParallelSortLarge(largeArray);
+
+        assertAll(
+                () -> assertArrayEquals(expected, doubleTimSortBenchmark.primitiveArraySortLarge(largeArray)),
+                () -> assertArrayEquals(expected, doubleTimSortBenchmark.primitiveArrayParallelSortLarge(largeArray)),
+                () -> assertArrayEquals(expected, Arrays.stream(doubleTimSortBenchmark.boxedArrayParallelSortLarge(largeArray))
+                        .mapToDouble(Double::doubleValue)
+                        .toArray())
+        );
+    }
 }
@@ -0,0 +1,30 @@
+package benchmark.prefix;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GraphTraversalBenchmarkTest {
+
+    private final GraphTraversalBenchmark graphTraversalBenchmark = new GraphTraversalBenchmark();
+
+    @Test
+    void testAllTraversalsVisitAllNodes() {
+        final GraphTraversalBenchmark.RandomGraph graph = new GraphTraversalBenchmark.RandomGraph();
+        graph.nrOfNodes = 10_000;
+        graph.setUp();
+
+        assertAll(
+                () -> assertEquals(10_000, graphTraversalBenchmark.breadthFirstLinkedListAndHashSet(graph)),
+                () -> assertEquals(10_000, graphTraversalBenchmark.breadthFirstHashSet(graph)),
+                () -> assertEquals(10_000, graphTraversalBenchmark.breadthFirstIdentitySet(graph)),
+                () -> assertEquals(10_000, graphTraversalBenchmark.breadthFirstBitSet(graph)),
+                () -> assertEquals(10_000, graphTraversalBenchmark.breadthFirstLevelsBitSet(graph)),
+                () -> assertEquals(10_000, graphTraversalBenchmark.parallelBreadthFirst(graph)),
+                () -> assertEquals(10_000, graphTraversalBenchmark.breadthFirstCsr(graph)),
+                () -> assertEquals(10_000, graphTraversalBenchmark.depthFirstHashSet(graph)),
+                () -> assertEquals(10_000, graphTraversalBenchmark.depthFirstBitSet(graph))
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package benchmark.prefix;
+
+import org.hzt.geometry.Grid2DUtils;
+import org.hzt.geometry.IntGrid2D;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GridBenchmarkTest {
+
+    private final GridBenchmark gridBenchmark = new GridBenchmark();
+
+    @Test
+    void testListGridAndIntGridPathsYieldSameResults() {
+        final GridBenchmark.Grids grids = new GridBenchmark.Grids();
+        grids.size = 64;
+        grids.setUp();
+
+        assertAll(
+                () -> assertEquals(gridBenchmark.mapListGrid(grids), Grid2DUtils.toListGrid(gridBenchmark.mapIntGrid(grids).toArray())),
+                () -> assertEquals(gridBenchmark.mapIntGrid(grids), gridBenchmark.parallelMapIntGrid(grids)),
+                () -> assertEquals(gridBenchmark.allInListGrid(grids), gridBenchmark.allInIntGrid(grids)),
+                () -> assertEquals(gridBenchmark.sumListGrid(grids), gridBenchmark.sumIntGrid(grids)),
+                () -> assertEquals(gridBenchmark.sumListGrid(grids), gridBenchmark.parallelSumIntGrid(grids)),
+                () -> assertEquals(gridBenchmark.transposeListGrid(grids), Grid2DUtils.toListGrid(gridBenchmark.transposeIntGrid(grids).toArray())),
+                () -> assertEquals(gridBenchmark.transposeIntGrid(grids), gridBenchmark.parallelTransposeIntGrid(grids))
+        );
+    }
+
+    @Test
+    void testGameOfLifeStepsYieldSameGenerations() {
+        final GridBenchmark.Grids grids = new GridBenchmark.Grids();
+        grids.size = 64;
+        grids.setUp();
+
+        final IntGrid2D first = gridBenchmark.gameOfLifeStepIntGrid(grids).copy();
+        final IntGrid2D second = gridBenchmark.parallelGameOfLifeStepIntGrid(grids);
+
+        assertAll(
+                () -> assertEquals(GridBenchmark.gameOfLifeStep(grids.listGrid), Grid2DUtils.toListGrid(first.toArray())),
+                () -> assertEquals(GridBenchmark.gameOfLifeStep(GridBenchmark.gameOfLifeStep(grids.listGrid)),
+                        Grid2DUtils.toListGrid(second.toArray()))
+        );
+    }
+}
@@ -4,6 +4,8 @@ import org.hzt.utils.collections.MutableListX;
 import org.hzt.utils.collections.primitives.IntMutableList;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -44,4 +46,21 @@ class IntTimSortBenchmarkTest {
                 () -> assertEquals(199_999, intMutableListX.size())
         );
     }
+
+    @Test
+    void testParallelSortsOfLargeArrayYieldSameContent() {
+        final IntTimSortBenchmark.LargeArray largeArray = new IntTimSortBenchmark.LargeArray();
+        largeArray.size = 100_000;
+        largeArray.setUp();
+
+        final int[] expected = intTimSortBenchmark.arrayParallelSortLarge(largeArray);
+
+        assertAll(
+                () -> assertArrayEquals(expected, intTimSortBenchmark.primitiveArraySortLarge(largeArray)),
+                () -> assertArrayEquals(expected, intTimSortBenchmark.primitiveArrayParallelSortLarge(largeArray)),
+                () -> assertArrayEquals(expected, Arrays.stream(intTimSortBenchmark.boxedArrayParallelSortLarge(largeArray))
+                        .mapToInt(Integer::intValue)
+                        .toArray())
+        );
+    }
 }
@@ -0,0 +1,31 @@
+package benchmark.prefix;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MapMultiBenchmarkTest {
+
+    private final MapMultiBenchmark mapMultiBenchmark = new MapMultiBenchmark();
+
+    @Test
+    void testMapMultiVariantsYieldSameSumAsStreamFlatMap() {
+        final MapMultiBenchmark.Elements elements = new MapMultiBenchmark.Elements();
+        elements.nrOfElements = 10_000;
+        elements.fanOut = 4;
+        elements.setUp();
+
+        final long expected = mapMultiBenchmark.streamFlatMapToInt(elements);
+
+        assertAll(
+                () -> assertEquals(4L * (9_999L * 10_000L / 2) + 10_000L * 6, expected),
+                () -> assertEquals(expected, mapMultiBenchmark.spinedBufferPerElement(elements)),
+                () -> assertEquals(expected, mapMultiBenchmark.mapMultiToIntPulled(elements)),
+                () -> assertEquals(expected, mapMultiBenchmark.mapMultiToIntPushed(elements)),
+                () -> assertEquals(expected, mapMultiBenchmark.intStreamFlatMap(elements)),
+                () -> assertEquals(expected, mapMultiBenchmark.intMapMultiPulled(elements)),
+                () -> assertEquals(expected, mapMultiBenchmark.intMapMultiPushed(elements))
+        );
+    }
+}
@@ -1,6 +1,8 @@
 package benchmark.prefix;
 
 import org.hzt.utils.collections.MapX;
+import org.hzt.utils.collections.MutableMapX;
+import org.hzt.utils.collections.primitives.IntLongMap;
 import org.hzt.utils.collections.primitives.IntMutableList;
 import org.junit.jupiter.api.Test;
 
@@ -8,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 
 class PrefixSequenceGroupingBenchmarkTest {
@@ -28,4 +31,16 @@ class PrefixSequenceGroupingBenchmarkTest {
         );
     }
 
+    @Test
+    void testPrimitiveHistogramsYieldSameResultAsBoxedHistograms() {
+        final IntLongMap counts = groupingBenchmark.histogramCountBy();
+        final IntLongMap sums = groupingBenchmark.histogramSumBy();
+
+        assertAll(
+                () -> assertEquals(PrefixSequenceGroupingBenchmark.NR_OF_BUCKETS, counts.size()),
+                () -> assertEquals(counts.boxed(), groupingBenchmark.histogramEachCountBoxed()),
+                () -> assertEquals(counts.boxed(), MutableMapX.ofMap(groupingBenchmark.histogramIntStreamCountingBoxed())),
+                () -> assertEquals(sums.boxed(), MutableMapX.ofMap(groupingBenchmark.histogramIntStreamSummingBoxed()))
+        );
+    }
 }
@@ -15,11 +15,15 @@ class PrefixSequenceMapFilterReduceBenchmarkTest {
         final int result2 = reduceBenchmark.sequenceOfListMapFilterReduce();
         final int result3 = reduceBenchmark.parallelStreamMapFilterReduce();
         final int result4 = reduceBenchmark.streamMapFilterReduce();
+        final int result5 = reduceBenchmark.sequenceOfListMapFilterReduceByIteratorChain();
+        final int result6 = reduceBenchmark.sequenceOfListMapToIntFilterReduce();
 
         assertAll(
                 () -> assertEquals(result1, result2),
                 () -> assertEquals(result1, result3),
-                () -> assertEquals(result1, result4)
+                () -> assertEquals(result1, result4),
+                () -> assertEquals(result1, result5),
+                () -> assertEquals(result1, result6)
         );
     }
 
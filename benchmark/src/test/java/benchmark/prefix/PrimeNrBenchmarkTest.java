@@ -0,0 +1,28 @@
+package benchmark.prefix;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PrimeNrBenchmarkTest {
+
+    private final PrimeNrBenchmark primeNrBenchmark = new PrimeNrBenchmark();
+
+    @Test
+    void testSievedPrimesYieldSameResultAsDivisorCounting() {
+        final PrimeNrBenchmark.FewPrimes fewPrimes = new PrimeNrBenchmark.FewPrimes();
+        fewPrimes.nrOfPrimes = 1_000;
+        final PrimeNrBenchmark.ManyPrimes manyPrimes = new PrimeNrBenchmark.ManyPrimes();
+        manyPrimes.nrOfPrimes = 1_000;
+
+        final long expectedCount = primeNrBenchmark.millerRabinPrimeNrCount(manyPrimes);
+
+        assertAll(
+                () -> assertEquals(7919, primeNrBenchmark.divisorCountingPrimeNrSequence(fewPrimes)),
+                () -> assertEquals(7919, primeNrBenchmark.sievedPrimeNrSequence(manyPrimes)),
+                () -> assertEquals(expectedCount, primeNrBenchmark.sievedPrimeNrCount(manyPrimes)),
+                () -> assertEquals(expectedCount, primeNrBenchmark.parallelSievedPrimeNrCount(manyPrimes))
+        );
+    }
+}
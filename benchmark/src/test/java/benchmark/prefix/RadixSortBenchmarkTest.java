@@ -0,0 +1,30 @@
+package benchmark.prefix;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class RadixSortBenchmarkTest {
+
+    private final RadixSortBenchmark radixSortBenchmark = new RadixSortBenchmark();
+
+    @Test
+    void testRadixSortsYieldSameResultAsComparisonSorts() {
+        radixSortBenchmark.size = 100_000;
+        radixSortBenchmark.setUp();
+
+        final int[] expectedInts = radixSortBenchmark.intArraysSort();
+
+        assertAll(
+                () -> assertArrayEquals(expectedInts, radixSortBenchmark.intRadixSort()),
+                () -> assertArrayEquals(expectedInts, radixSortBenchmark.intTimSort()),
+                () -> assertArrayEquals(expectedInts, radixSortBenchmark.intSequenceSorted()),
+                () -> assertArrayEquals(radixSortBenchmark.intTimSortBy(), radixSortBenchmark.intRadixSortBy()),
+                () -> assertArrayEquals(radixSortBenchmark.longArraysSort(), radixSortBenchmark.longRadixSort()),
+                () -> assertArrayEquals(radixSortBenchmark.longArraysSort(), radixSortBenchmark.longTimSort()),
+                () -> assertArrayEquals(radixSortBenchmark.doubleArraysSort(), radixSortBenchmark.doubleRadixSort()),
+                () -> assertArrayEquals(radixSortBenchmark.doubleArraysSort(), radixSortBenchmark.doubleTimSort())
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package benchmark.prefix;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShortestPathBenchmarkTest {
+
+    private final ShortestPathBenchmark shortestPathBenchmark = new ShortestPathBenchmark();
+
+    @Test
+    void testAStarAndDijkstraFindPathsOfSameCost() {
+        final ShortestPathBenchmark.Grid grid = new ShortestPathBenchmark.Grid();
+        grid.nrOfNodes = 10_000;
+        grid.setUp();
+        final ShortestPathBenchmark.RandomGraph randomGraph = new ShortestPathBenchmark.RandomGraph();
+        randomGraph.nrOfNodes = 10_000;
+        randomGraph.setUp();
+
+        assertAll(
+                () -> assertEquals(shortestPathBenchmark.dijkstraGrid(grid), shortestPathBenchmark.aStarGrid(grid)),
+                () -> assertEquals(shortestPathBenchmark.dijkstraGrid(grid), shortestPathBenchmark.dijkstraCsrGrid(grid)),
+                () -> assertTrue(shortestPathBenchmark.dijkstraRandomGraph(randomGraph) > 0)
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package benchmark.prefix;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+
+class TopKBenchmarkTest {
+
+    private final TopKBenchmark topKBenchmark = new TopKBenchmark();
+
+    @Test
+    void testTopKYieldsSameResultAsFullSortThenTake() {
+        final TopKBenchmark.Records records = new TopKBenchmark.Records();
+        records.nrOfRecords = 20_000;
+        records.k = 100;
+        records.setUp();
+
+        assertAll(
+                () -> assertIterableEquals(topKBenchmark.fullSortThenTake(records), topKBenchmark.sortedByDescendingTake(records)),
+                () -> assertIterableEquals(topKBenchmark.fullSortThenTake(records), topKBenchmark.topKBy(records)),
+                () -> assertEquals(topKBenchmark.intFullSortThenTake(records), topKBenchmark.intSortedDescendingTake(records)),
+                () -> assertEquals(topKBenchmark.intFullSortThenTake(records), topKBenchmark.intTopK(records)),
+                () -> assertEquals(100, topKBenchmark.intTopK(records).size())
+        );
+    }
+}
@@ -11,6 +11,7 @@ import org.hzt.utils.sequences.primitives.LongSequence;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.function.DoublePredicate;
+import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.function.IntPredicate;
 import java.util.function.IntToDoubleFunction;
@@ -18,6 +19,9 @@ import java.util.function.IntToLongFunction;
 import java.util.function.IntUnaryOperator;
 import java.util.function.LongPredicate;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 public final class ArraysX {
 
@@ -172,6 +176,257 @@ public final class ArraysX {
         DoubleTimSort.sort(array, fromIndex, toIndex, comparator);
     }
 
+    /**
+     * Sorts the array in ascending order. Arrays of at least {@value RadixSort#THRESHOLD} values are sorted by a radix
+     * sort, smaller arrays by {@link Arrays#sort(int[])}.
+     *
+     * @param array the array to sort
+     */
+    public static void sort(final int... array) {
+        if (array.length >= RadixSort.THRESHOLD) {
+            RadixSort.sort(array, 0, array.length);
+        } else {
+            Arrays.sort(array);
+        }
+    }
+
+    public static void sortDescending(final int... array) {
+        sort(array);
+        reverse(array);
+    }
+
+    /**
+     * Sorts the array in ascending order by a least significant digit radix sort, regardless of its length.
+     *
+     * @param array the array to sort
+     */
+    public static void radixSort(final int... array) {
+        RadixSort.sort(array, 0, array.length);
+    }
+
+    public static void sort(final long... array) {
+        if (array.length >= RadixSort.THRESHOLD) {
+            RadixSort.sort(array, 0, array.length);
+        } else {
+            Arrays.sort(array);
+        }
+    }
+
+    public static void sortDescending(final long... array) {
+        sort(array);
+        reverse(array);
+    }
+
+    public static void radixSort(final long... array) {
+        RadixSort.sort(array, 0, array.length);
+    }
+
+    public static void sort(final double... array) {
+        if (array.length >= RadixSort.THRESHOLD) {
+            RadixSort.sort(array, 0, array.length);
+        } else {
+            Arrays.sort(array);
+        }
+    }
+
+    public static void sortDescending(final double... array) {
+        sort(array);
+        reverse(array);
+    }
+
+    public static void radixSort(final double... array) {
+        RadixSort.sort(array, 0, array.length);
+    }
+
+    /**
+     * Sorts the array stably by the keys the key extractor computes. Arrays of at least {@value RadixSort#THRESHOLD}
+     * values are sorted by a radix sort on the keys, smaller arrays by a tim sort of their indices by the keys. Either
+     * way, the key of every value is computed once.
+     *
+     * @param keyExtractor the function that computes the key of a value
+     * @param array the array to sort
+     */
+    public static void sortBy(final IntUnaryOperator keyExtractor, final int... array) {
+        if (array.length >= RadixSort.THRESHOLD) {
+            RadixSort.sortBy(array, 0, array.length, keyExtractor);
+        } else {
+            final int[] keys = new int[array.length];
+            for (int i = 0; i < array.length; i++) {
+                keys[i] = keyExtractor.applyAsInt(array[i]);
+            }
+            final int[] indices = sortedIndices(keys);
+            final int[] values = array.clone();
+            for (int i = 0; i < array.length; i++) {
+                array[i] = values[indices[i]];
+            }
+        }
+    }
+
+    /**
+     * Sorts the array stably by the keys the key extractor computes, comparing the keys by the key comparator.
+     * <p>
+     * The key of every value is computed once into an array parallel to the values, like a decorate sort undecorate.
+     * The indices of the values are sorted by their keys, after which the values are put in the order of their indices.
+     * So the key extractor is called n times instead of about 2 n log n times by a comparator that computes the keys.
+     *
+     * @param keyExtractor the function that computes the key of a value
+     * @param keyComparator the order of the keys
+     * @param array the array to sort
+     * @param <T> the type of the values
+     * @param <K> the type of the keys
+     */
+    public static <T, K> void sortBy(final Function<? super T, ? extends K> keyExtractor,
+                                     final Comparator<? super K> keyComparator,
+                                     final T[] array) {
+        final Object[] keys = new Object[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = keyExtractor.apply(array[i]);
+        }
+        final int[] indices = indices(array.length);
+        //noinspection unchecked
+        IntTimSort.sort(indices, 0, indices.length, (i1, i2) -> keyComparator.compare((K) keys[i1], (K) keys[i2]));
+        permute(array, indices);
+    }
+
+    /**
+     * Sorts the array stably by the int keys the key extractor computes once per value, without boxing the keys. Arrays
+     * of at least {@value RadixSort#THRESHOLD} values are sorted by a radix sort on the keys.
+     *
+     * @param keyExtractor the function that computes the key of a value
+     * @param array the array to sort
+     * @param <T> the type of the values
+     * @see #sortBy(Function, Comparator, Object[])
+     */
+    public static <T> void sortByInt(final ToIntFunction<? super T> keyExtractor, final T[] array) {
+        final int[] keys = new int[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = keyExtractor.applyAsInt(array[i]);
+        }
+        permute(array, sortedIndices(keys));
+    }
+
+    /**
+     * Sorts the array stably by the long keys the key extractor computes once per value, without boxing the keys.
+     *
+     * @param keyExtractor the function that computes the key of a value
+     * @param array the array to sort
+     * @param <T> the type of the values
+     * @see #sortBy(Function, Comparator, Object[])
+     */
+    public static <T> void sortByLong(final ToLongFunction<? super T> keyExtractor, final T[] array) {
+        final long[] keys = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = keyExtractor.applyAsLong(array[i]);
+        }
+        final int[] indices = indices(array.length);
+        IntTimSort.sort(indices, 0, indices.length, (i1, i2) -> Long.compare(keys[i1], keys[i2]));
+        permute(array, indices);
+    }
+
+    /**
+     * Sorts the array stably by the double keys the key extractor computes once per value, without boxing the keys. The
+     * keys are ordered like {@link Double#compare(double, double)}.
+     *
+     * @param keyExtractor the function that computes the key of a value
+     * @param array the array to sort
+     * @param <T> the type of the values
+     * @see #sortBy(Function, Comparator, Object[])
+     */
+    public static <T> void sortByDouble(final ToDoubleFunction<? super T> keyExtractor, final T[] array) {
+        final double[] keys = new double[array.length];
+        for (int i = 0; i < array.length; i++) {
+            keys[i] = keyExtractor.applyAsDouble(array[i]);
+        }
+        final int[] indices = indices(array.length);
+        IntTimSort.sort(indices, 0, indices.length, (i1, i2) -> Double.compare(keys[i1], keys[i2]));
+        permute(array, indices);
+    }
+
+    private static int[] sortedIndices(final int[] keys) {
+        final int[] indices = indices(keys.length);
+        if (keys.length >= RadixSort.THRESHOLD) {
+            RadixSort.sortBy(indices, 0, indices.length, i -> keys[i]);
+        } else {
+            IntTimSort.sort(indices, 0, indices.length, (i1, i2) -> Integer.compare(keys[i1], keys[i2]));
+        }
+        return indices;
+    }
+
+    private static int[] indices(final int length) {
+        final int[] indices = new int[length];
+        for (int i = 0; i < length; i++) {
+            indices[i] = i;
+        }
+        return indices;
+    }
+
+    private static <T> void permute(final T[] array, final int[] indices) {
+        final Object[] values = array.clone();
+        for (int i = 0; i < array.length; i++) {
+            //noinspection unchecked
+            array[i] = (T) values[indices[i]];
+        }
+    }
+
+    /**
+     * Sorts the array stably by the keys the key extractor computes with a radix sort. The key of every value is computed
+     * once, regardless of the length of the array.
+     *
+     * @param keyExtractor the function that computes the key of a value
+     * @param array the array to sort
+     */
+    public static void radixSortBy(final IntUnaryOperator keyExtractor, final int... array) {
+        RadixSort.sortBy(array, 0, array.length, keyExtractor);
+    }
+
+    /**
+     * Sorts the array by the comparator with a stable merge sort in the common fork join pool. The runs are sorted by
+     * {@link IntTimSort} and merged in parallel. Small arrays are sorted sequentially.
+     *
+     * @param comparator the comparator to sort the array by
+     * @param array the array to sort
+     */
+    public static void parallelSort(final IntComparator comparator, final int... array) {
+        parallelSort(0, array.length, comparator, array);
+    }
+
+    public static void parallelSort(final int fromIndex, final int toIndex, final IntComparator comparator, final int... array) {
+        checkBounds(array.length, fromIndex, toIndex);
+        IntParallelSort.sort(array, fromIndex, toIndex, comparator);
+    }
+
+    /**
+     * Sorts the array by the comparator with a stable merge sort in the common fork join pool. The runs are sorted by
+     * {@link LongTimSort} and merged in parallel. Small arrays are sorted sequentially.
+     *
+     * @param comparator the comparator to sort the array by
+     * @param array the array to sort
+     */
+    public static void parallelSort(final LongComparator comparator, final long... array) {
+        parallelSort(0, array.length, comparator, array);
+    }
+
+    public static void parallelSort(final int fromIndex, final int toIndex, final LongComparator comparator, final long... array) {
+        checkBounds(array.length, fromIndex, toIndex);
+        LongParallelSort.sort(array, fromIndex, toIndex, comparator);
+    }
+
+    /**
+     * Sorts the array by the comparator with a stable merge sort in the common fork join pool. The runs are sorted by
+     * {@link DoubleTimSort} and merged in parallel. Small arrays are sorted sequentially.
+     *
+     * @param comparator the comparator to sort the array by
+     * @param array the array to sort
+     */
+    public static void parallelSort(final DoubleComparator comparator, final double... array) {
+        parallelSort(0, array.length, comparator, array);
+    }
+
+    public static void parallelSort(final int fromIndex, final int toIndex, final DoubleComparator comparator, final double... array) {
+        checkBounds(array.length, fromIndex, toIndex);
+        DoubleParallelSort.sort(array, fromIndex, toIndex, comparator);
+    }
+
     @SafeVarargs
     public static <T extends Comparable<? super T>> boolean isSorted(final T... array) {
         return Sequence.of(array).zipWithNext().map(Comparable::compareTo).all((comparison -> comparison <= 0));
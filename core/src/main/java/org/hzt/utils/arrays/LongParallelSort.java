@@ -0,0 +1,180 @@
+package org.hzt.utils.arrays;
+
+import org.hzt.utils.primitive_comparators.LongComparator;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A stable parallel merge sort for long arrays where a LongComparator is used for the comparisons.
+ * <p>
+ * The array is split into runs that are sorted by {@link LongTimSort} in the fork join pool. The sorted runs are merged
+ * in parallel as well. One work buffer of the size of the range is allocated up front. Every merge level writes into the
+ * other buffer than the level below it, so no values are copied back between merges.
+ */
+final class LongParallelSort {
+
+    private static final int MIN_RUN_LENGTH = 1 << 13;
+
+    private final long[] array;
+    private final long[] work;
+    private final int workOffset;
+    private final LongComparator comparator;
+    private final int runLength;
+
+    private LongParallelSort(final long[] array, final int fromIndex, final int toIndex, final LongComparator comparator,
+                          final int parallelism) {
+        final int length = toIndex - fromIndex;
+        this.array = array;
+        this.work = new long[length];
+        this.workOffset = fromIndex;
+        this.comparator = comparator;
+        this.runLength = Math.max(length / (parallelism << 2), MIN_RUN_LENGTH);
+    }
+
+    static void sort(final long[] array, final int fromIndex, final int toIndex, final LongComparator comparator) {
+        sort(array, fromIndex, toIndex, comparator, ForkJoinPool.commonPool());
+    }
+
+    static void sort(final long[] array, final int fromIndex, final int toIndex, final LongComparator comparator,
+                     final ForkJoinPool pool) {
+        final int parallelism = pool.getParallelism();
+        if (toIndex - fromIndex <= MIN_RUN_LENGTH || parallelism <= 1) {
+            LongTimSort.sort(array, fromIndex, toIndex, comparator);
+            return;
+        }
+        final LongParallelSort parallelSort = new LongParallelSort(array, fromIndex, toIndex, comparator, parallelism);
+        pool.invoke(parallelSort.new Sorter(fromIndex, toIndex, false));
+    }
+
+    private final class Sorter extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final boolean intoWork;
+
+        Sorter(final int from, final int to, final boolean intoWork) {
+            this.from = from;
+            this.to = to;
+            this.intoWork = intoWork;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= runLength) {
+                LongTimSort.sort(array, from, to, comparator);
+                if (intoWork) {
+                    System.arraycopy(array, from, work, from - workOffset, to - from);
+                }
+                return;
+            }
+            final int mid = (from + to) >>> 1;
+            invokeAll(new Sorter(from, mid, !intoWork), new Sorter(mid, to, !intoWork));
+            if (intoWork) {
+                new Merger(array, 0, work, -workOffset, from, mid, mid, to, from).compute();
+            } else {
+                new Merger(work, -workOffset, array, 0, from, mid, mid, to, from).compute();
+            }
+        }
+    }
+
+    /**
+     * Merges two adjacent sorted runs of the source into the destination. Large merges are split at the middle of the
+     * longer run. The split point in the shorter run is found by a binary search that keeps equal values of the left run
+     * before those of the right run, so the merge stays stable.
+     */
+    private final class Merger extends RecursiveAction {
+
+        private final long[] source;
+        private final int sourceOffset;
+        private final long[] destination;
+        private final int destinationOffset;
+        private final int leftFrom;
+        private final int leftTo;
+        private final int rightFrom;
+        private final int rightTo;
+        private final int destinationFrom;
+
+        @SuppressWarnings("squid:S107")
+        Merger(final long[] source, final int sourceOffset, final long[] destination, final int destinationOffset,
+               final int leftFrom, final int leftTo, final int rightFrom, final int rightTo, final int destinationFrom) {
+            this.source = source;
+            this.sourceOffset = sourceOffset;
+            this.destination = destination;
+            this.destinationOffset = destinationOffset;
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.destinationFrom = destinationFrom;
+        }
+
+        @Override
+        protected void compute() {
+            final int leftLength = leftTo - leftFrom;
+            final int rightLength = rightTo - rightFrom;
+            if (leftLength + rightLength <= runLength) {
+                merge();
+                return;
+            }
+            final int leftMid;
+            final int rightMid;
+            if (leftLength >= rightLength) {
+                leftMid = (leftFrom + leftTo) >>> 1;
+                rightMid = firstIndexNotBelow(rightFrom, rightTo, source[leftMid + sourceOffset]);
+            } else {
+                rightMid = (rightFrom + rightTo) >>> 1;
+                leftMid = firstIndexAbove(leftFrom, leftTo, source[rightMid + sourceOffset]);
+            }
+            final int destinationMid = destinationFrom + (leftMid - leftFrom) + (rightMid - rightFrom);
+            invokeAll(
+                    new Merger(source, sourceOffset, destination, destinationOffset, leftFrom, leftMid, rightFrom, rightMid, destinationFrom),
+                    new Merger(source, sourceOffset, destination, destinationOffset, leftMid, leftTo, rightMid, rightTo, destinationMid));
+        }
+
+        private void merge() {
+            int left = leftFrom + sourceOffset;
+            int right = rightFrom + sourceOffset;
+            final int leftEnd = leftTo + sourceOffset;
+            final int rightEnd = rightTo + sourceOffset;
+            int index = destinationFrom + destinationOffset;
+            while (left < leftEnd && right < rightEnd) {
+                if (comparator.compare(source[left], source[right]) <= 0) {
+                    destination[index++] = source[left++];
+                } else {
+                    destination[index++] = source[right++];
+                }
+            }
+            System.arraycopy(source, left, destination, index, leftEnd - left);
+            System.arraycopy(source, right, destination, index + leftEnd - left, rightEnd - right);
+        }
+
+        private int firstIndexNotBelow(final int from, final int toExclusive, final long value) {
+            int low = from;
+            int high = toExclusive;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (comparator.compare(source[mid + sourceOffset], value) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int firstIndexAbove(final int from, final int toExclusive, final long value) {
+            int low = from;
+            int high = toExclusive;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (comparator.compare(source[mid + sourceOffset], value) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
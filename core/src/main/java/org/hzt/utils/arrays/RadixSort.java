@@ -0,0 +1,182 @@
+package org.hzt.utils.arrays;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A least significant digit radix sort for int, long and double arrays.
+ * <p>
+ * The values are sorted by their keys byte by byte, starting at the lowest byte. The counts of all bytes are taken in
+ * one pass over the values, so a byte that is the same for all values is skipped without moving any value. Every other
+ * pass scatters the values stably into a buffer of the same length and the buffers swap roles after every pass.
+ * <p>
+ * The keys are transformed so that their unsigned order is the natural order of the values: the sign bit of an int or
+ * long is flipped. For a double, all bits of a negative value and only the sign bit of a positive value are flipped, which
+ * orders the values like {@link Double#compare(double, double)}.
+ */
+final class RadixSort {
+
+    /**
+     * The length from which a radix sort outperforms the comparison sorts of {@link java.util.Arrays}.
+     */
+    static final int THRESHOLD = 1 << 14;
+
+    private static final int RADIX = 256;
+    private static final int MASK = RADIX - 1;
+
+    private RadixSort() {
+    }
+
+    static void sort(final int[] array, final int fromIndex, final int toIndex) {
+        final int length = toIndex - fromIndex;
+        final int[][] counts = new int[Integer.BYTES][RADIX];
+        for (int i = fromIndex; i < toIndex; i++) {
+            final int key = array[i] ^ Integer.MIN_VALUE;
+            for (int pass = 0; pass < Integer.BYTES; pass++) {
+                counts[pass][(key >>> (pass << 3)) & MASK]++;
+            }
+        }
+        int[] source = array;
+        int sourceFrom = fromIndex;
+        int[] target = new int[length];
+        int targetFrom = 0;
+        for (int pass = 0; pass < Integer.BYTES; pass++) {
+            final int[] offsets = counts[pass];
+            final int shift = pass << 3;
+            if (toOffsets(offsets, length, targetFrom)) {
+                for (int i = sourceFrom, end = sourceFrom + length; i < end; i++) {
+                    final int value = source[i];
+                    target[offsets[((value ^ Integer.MIN_VALUE) >>> shift) & MASK]++] = value;
+                }
+                final int[] buffer = source;
+                final int bufferFrom = sourceFrom;
+                source = target;
+                sourceFrom = targetFrom;
+                target = buffer;
+                targetFrom = bufferFrom;
+            }
+        }
+        if (source != array) {
+            System.arraycopy(source, sourceFrom, array, fromIndex, length);
+        }
+    }
+
+    static void sort(final long[] array, final int fromIndex, final int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            array[i] ^= Long.MIN_VALUE;
+        }
+        sortUnsigned(array, fromIndex, toIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            array[i] ^= Long.MIN_VALUE;
+        }
+    }
+
+    static void sort(final double[] array, final int fromIndex, final int toIndex) {
+        final int length = toIndex - fromIndex;
+        final long[] keys = new long[length];
+        for (int i = 0; i < length; i++) {
+            final long bits = Double.doubleToLongBits(array[fromIndex + i]);
+            keys[i] = bits ^ ((bits >> 63) | Long.MIN_VALUE);
+        }
+        sortUnsigned(keys, 0, length);
+        for (int i = 0; i < length; i++) {
+            final long key = keys[i];
+            array[fromIndex + i] = Double.longBitsToDouble(key < 0 ? key ^ Long.MIN_VALUE : ~key);
+        }
+    }
+
+    private static void sortUnsigned(final long[] array, final int fromIndex, final int toIndex) {
+        final int length = toIndex - fromIndex;
+        final int[][] counts = new int[Long.BYTES][RADIX];
+        for (int i = fromIndex; i < toIndex; i++) {
+            final long key = array[i];
+            for (int pass = 0; pass < Long.BYTES; pass++) {
+                counts[pass][(int) (key >>> (pass << 3)) & MASK]++;
+            }
+        }
+        long[] source = array;
+        int sourceFrom = fromIndex;
+        long[] target = new long[length];
+        int targetFrom = 0;
+        for (int pass = 0; pass < Long.BYTES; pass++) {
+            final int[] offsets = counts[pass];
+            final int shift = pass << 3;
+            if (toOffsets(offsets, length, targetFrom)) {
+                for (int i = sourceFrom, end = sourceFrom + length; i < end; i++) {
+                    final long value = source[i];
+                    target[offsets[(int) (value >>> shift) & MASK]++] = value;
+                }
+                final long[] buffer = source;
+                final int bufferFrom = sourceFrom;
+                source = target;
+                sourceFrom = targetFrom;
+                target = buffer;
+                targetFrom = bufferFrom;
+            }
+        }
+        if (source != array) {
+            System.arraycopy(source, sourceFrom, array, fromIndex, length);
+        }
+    }
+
+    /**
+     * Sorts the values stably by the keys the key extractor computes. The key of every value is computed once.
+     *
+     * @param array the array to sort
+     * @param fromIndex the index of the first value to sort
+     * @param toIndex the index after the last value to sort
+     * @param keyExtractor the function that computes the key of a value
+     */
+    static void sortBy(final int[] array, final int fromIndex, final int toIndex, final IntUnaryOperator keyExtractor) {
+        final int length = toIndex - fromIndex;
+        final int[][] counts = new int[Integer.BYTES][RADIX];
+        int[] sourceKeys = new int[length];
+        for (int i = 0; i < length; i++) {
+            final int key = keyExtractor.applyAsInt(array[fromIndex + i]) ^ Integer.MIN_VALUE;
+            sourceKeys[i] = key;
+            for (int pass = 0; pass < Integer.BYTES; pass++) {
+                counts[pass][(key >>> (pass << 3)) & MASK]++;
+            }
+        }
+        int[] sourceValues = new int[length];
+        System.arraycopy(array, fromIndex, sourceValues, 0, length);
+        int[] targetKeys = new int[length];
+        int[] targetValues = new int[length];
+        for (int pass = 0; pass < Integer.BYTES; pass++) {
+            final int[] offsets = counts[pass];
+            final int shift = pass << 3;
+            if (toOffsets(offsets, length, 0)) {
+                for (int i = 0; i < length; i++) {
+                    final int key = sourceKeys[i];
+                    final int index = offsets[(key >>> shift) & MASK]++;
+                    targetKeys[index] = key;
+                    targetValues[index] = sourceValues[i];
+                }
+                final int[] keyBuffer = sourceKeys;
+                sourceKeys = targetKeys;
+                targetKeys = keyBuffer;
+                final int[] valueBuffer = sourceValues;
+                sourceValues = targetValues;
+                targetValues = valueBuffer;
+            }
+        }
+        System.arraycopy(sourceValues, 0, array, fromIndex, length);
+    }
+
+    /**
+     * Turns the counts of a byte into the offsets the values are scattered to.
+     *
+     * @return false if all values have the same byte, so the pass can be skipped
+     */
+    private static boolean toOffsets(final int[] counts, final int length, final int targetFrom) {
+        int offset = targetFrom;
+        for (int digit = 0; digit < RADIX; digit++) {
+            final int count = counts[digit];
+            if (count == length) {
+                return false;
+            }
+            counts[digit] = offset;
+            offset += count;
+        }
+        return true;
+    }
+}
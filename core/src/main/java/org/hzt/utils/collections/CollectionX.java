@@ -18,6 +18,7 @@ import org.hzt.utils.iterables.IterableExtension;
 import org.hzt.utils.iterables.IterableX;
 import org.hzt.utils.iterables.primitives.PrimitiveIterable;
 import org.hzt.utils.sequences.Sequence;
+import org.hzt.utils.sequences.parallel.ParallelSequence;
 import org.hzt.utils.spined_buffers.SpinedBuffer;
 import org.hzt.utils.tuples.IndexedValue;
 
@@ -196,17 +197,32 @@ public interface CollectionX<E> extends IterableX<E> {
 
     @Override
     default IntList mapMultiToInt(final BiConsumer<? super E, IntConsumer> mapper) {
-        return (IntList) IterableX.super.mapMultiToInt(mapper);
+        final IntMutableList intList = IntMutableList.withInitCapacity(size());
+        final IntConsumer consumer = intList::add;
+        for (final E e : this) {
+            mapper.accept(e, consumer);
+        }
+        return IntList.copyOf(intList);
     }
 
     @Override
     default LongList mapMultiToLong(final BiConsumer<? super E, LongConsumer> mapper) {
-        return (LongList) IterableX.super.mapMultiToLong(mapper);
+        final LongMutableList longList = LongMutableList.withInitCapacity(size());
+        final LongConsumer consumer = longList::add;
+        for (final E e : this) {
+            mapper.accept(e, consumer);
+        }
+        return LongList.copyOf(longList);
     }
 
     @Override
     default DoubleList mapMultiToDouble(final BiConsumer<? super E, DoubleConsumer> mapper) {
-        return (DoubleList) IterableX.super.mapMultiToDouble(mapper);
+        final DoubleMutableList doubleList = DoubleMutableList.withInitCapacity(size());
+        final DoubleConsumer consumer = doubleList::add;
+        for (final E e : this) {
+            mapper.accept(e, consumer);
+        }
+        return DoubleList.copyOf(doubleList);
     }
 
     default <R> ListX<R> mapNotNull(final Function<? super E, ? extends R> mapper) {
@@ -238,6 +254,24 @@ public interface CollectionX<E> extends IterableX<E> {
         return ListX.copyOf(sorted);
     }
 
+    @Override
+    default ListX<E> sortedByInt(final ToIntFunction<? super E> selector) {
+        final MutableListX<E> sorted = (MutableListX<E>) IterableX.super.sortedByInt(selector);
+        return ListX.copyOf(sorted);
+    }
+
+    @Override
+    default ListX<E> sortedByLong(final ToLongFunction<? super E> selector) {
+        final MutableListX<E> sorted = (MutableListX<E>) IterableX.super.sortedByLong(selector);
+        return ListX.copyOf(sorted);
+    }
+
+    @Override
+    default ListX<E> sortedByDouble(final ToDoubleFunction<? super E> selector) {
+        final MutableListX<E> sorted = (MutableListX<E>) IterableX.super.sortedByDouble(selector);
+        return ListX.copyOf(sorted);
+    }
+
     @Override
     default ListX<E> sorted(final Comparator<? super E> comparator) {
         final MutableListX<E> sorted = (MutableListX<E>) IterableX.super.sorted(comparator);
@@ -367,6 +401,10 @@ public interface CollectionX<E> extends IterableX<E> {
         return ListX.copyOf(takeWhileTo(MutableListX::empty, predicate, true));
     }
 
+    default ParallelSequence<E> parallelSequence() {
+        return ParallelSequence.of(this);
+    }
+
     @Override
     default Spliterator<E> spliterator() {
         return Spliterators.spliterator(iterator(), size(), Spliterator.SIZED);
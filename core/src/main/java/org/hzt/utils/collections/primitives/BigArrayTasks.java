@@ -0,0 +1,61 @@
+package org.hzt.utils.collections.primitives;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Splits a range of long indices of a big list into contiguous sub ranges that are processed in the common fork join
+ * pool. A range is split in halves until it is no longer than the larger of {@link #MIN_LENGTH_PER_TASK} and a fourth of
+ * the range length per worker.
+ */
+final class BigArrayTasks {
+
+    /**
+     * The minimum number of values per task, so the work of a task outweighs forking it.
+     */
+    static final int MIN_LENGTH_PER_TASK = 1 << 16;
+
+    private BigArrayTasks() {
+    }
+
+    static void forEachRange(final long from, final long to, final boolean parallel, final LongRangeAction action) {
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        if (!parallel || to - from <= MIN_LENGTH_PER_TASK || pool.getParallelism() <= 1) {
+            action.apply(from, to);
+            return;
+        }
+        final long threshold = Math.max(MIN_LENGTH_PER_TASK, (to - from) / (pool.getParallelism() << 2));
+        pool.invoke(new RangeActionTask(action, from, to, threshold));
+    }
+
+    @FunctionalInterface
+    interface LongRangeAction {
+
+        void apply(long from, long to);
+    }
+
+    private static final class RangeActionTask extends RecursiveAction {
+
+        private final transient LongRangeAction action;
+        private final long from;
+        private final long to;
+        private final long threshold;
+
+        RangeActionTask(final LongRangeAction action, final long from, final long to, final long threshold) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                action.apply(from, to);
+                return;
+            }
+            final long middle = (from + to) >>> 1;
+            invokeAll(new RangeActionTask(action, from, middle, threshold), new RangeActionTask(action, middle, to, threshold));
+        }
+    }
+}
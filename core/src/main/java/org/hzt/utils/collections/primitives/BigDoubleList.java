@@ -0,0 +1,538 @@
+package org.hzt.utils.collections.primitives;
+
+import org.hzt.utils.iterables.primitives.PrimitiveIterable;
+import org.hzt.utils.sequences.parallel.DoubleParallelSequence;
+import org.hzt.utils.sequences.primitives.DoubleSequence;
+
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * A list of double values with long indices, so it can hold more than {@code Integer.MAX_VALUE} values.
+ * <p>
+ * The values are stored in chunks of a fixed power of two length, so the chunk and the offset of an index are found by a
+ * shift and a mask. Only the last chunk grows by copying, and never beyond the chunk length, so adding a value never
+ * copies more than one chunk.
+ * <p>
+ * {@link #parallelFill(double)}, {@link #parallelSetAll(LongToDoubleFunction)} and {@link #parallelSort()} process
+ * contiguous ranges in the common fork join pool. The sorts need a work buffer of the size of the list.
+ */
+public final class BigDoubleList implements PrimitiveIterable.OfDouble, DoubleConsumer {
+
+    static final int DEFAULT_CHUNK_SHIFT = 24;
+    private static final int MIN_CHUNK_LENGTH = 16;
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+    private static final int MAX_TO_STRING_LENGTH = 200;
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+
+    private final int chunkShift;
+    private final int chunkLength;
+    private final long chunkMask;
+    private double[][] chunks;
+    private int chunkCount = 0;
+    private long size = 0;
+
+    BigDoubleList(final int chunkShift, final long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The size can not be negative, but is " + size);
+        }
+        this.chunkShift = chunkShift;
+        this.chunkLength = 1 << chunkShift;
+        this.chunkMask = chunkLength - 1L;
+        final long fullChunks = size >>> chunkShift;
+        final int lastChunkLength = (int) (size & chunkMask);
+        final long nrOfChunks = fullChunks + (lastChunkLength > 0 ? 1 : 0);
+        if (nrOfChunks > MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException("A size of " + size + " needs too many chunks");
+        }
+        chunks = new double[(int) Math.max(1, nrOfChunks)][];
+        for (int i = 0; i < fullChunks; i++) {
+            chunks[i] = new double[chunkLength];
+        }
+        if (lastChunkLength > 0) {
+            chunks[(int) fullChunks] = new double[lastChunkLength];
+        }
+        this.chunkCount = (int) nrOfChunks;
+        this.size = size;
+    }
+
+    public static BigDoubleList empty() {
+        return new BigDoubleList(DEFAULT_CHUNK_SHIFT, 0);
+    }
+
+    /**
+     * @param size the number of values
+     * @return a list of the size filled with zeros
+     */
+    public static BigDoubleList withSize(final long size) {
+        return new BigDoubleList(DEFAULT_CHUNK_SHIFT, size);
+    }
+
+    public static BigDoubleList of(final double... values) {
+        final BigDoubleList list = new BigDoubleList(DEFAULT_CHUNK_SHIFT, values.length);
+        list.putAll(0, DoubleBuffer.wrap(values));
+        return list;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public double get(final long index) {
+        checkIndex(index);
+        return chunks[(int) (index >>> chunkShift)][(int) (index & chunkMask)];
+    }
+
+    public void set(final long index, final double value) {
+        checkIndex(index);
+        chunks[(int) (index >>> chunkShift)][(int) (index & chunkMask)] = value;
+    }
+
+    public void add(final double value) {
+        final int chunk = (int) (size >>> chunkShift);
+        final int offset = (int) (size & chunkMask);
+        if (chunk == chunkCount) {
+            if (chunk == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunks.length << 1);
+            }
+            chunks[chunk] = new double[Math.min(MIN_CHUNK_LENGTH, chunkLength)];
+            chunkCount++;
+        } else if (offset == chunks[chunk].length) {
+            chunks[chunk] = Arrays.copyOf(chunks[chunk], Math.min(offset << 1, chunkLength));
+        }
+        chunks[chunk][offset] = value;
+        size++;
+    }
+
+    @Override
+    public void accept(final double value) {
+        add(value);
+    }
+
+    /**
+     * Copies the remaining values of the buffer into this list with one bulk get per chunk.
+     *
+     * @param fromIndex the index of the first value to overwrite
+     * @param values the values to copy. Its position is moved to its limit
+     * @return the index after the last copied value
+     */
+    public long putAll(final long fromIndex, final DoubleBuffer values) {
+        final long toIndex = fromIndex + values.remaining();
+        if (fromIndex < 0 || toIndex > size) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") out of bounds for size " + size);
+        }
+        forEachChunkRange(fromIndex, toIndex, (chunk, from, to, offset) -> values.get(chunk, from, to - from));
+        return toIndex;
+    }
+
+    public void fill(final double value) {
+        fill(value, false);
+    }
+
+    public void parallelFill(final double value) {
+        fill(value, true);
+    }
+
+    private void fill(final double value, final boolean parallel) {
+        BigArrayTasks.forEachRange(0, size, parallel, (from, to) ->
+                forEachChunkRange(from, to, (chunk, fromOffset, toOffset, offset) -> Arrays.fill(chunk, fromOffset, toOffset, value)));
+    }
+
+    /**
+     * @param generator the function that computes the value of an index
+     */
+    public void parallelSetAll(final LongToDoubleFunction generator) {
+        BigArrayTasks.forEachRange(0, size, true, (from, to) ->
+                forEachChunkRange(from, to, (chunk, fromOffset, toOffset, offset) -> {
+                    for (int i = fromOffset; i < toOffset; i++) {
+                        chunk[i] = generator.applyAsDouble(from + offset + i - fromOffset);
+                    }
+                }));
+    }
+
+    public void sort() {
+        sort(false);
+    }
+
+    /**
+     * Sorts the chunks in the common fork join pool and merges the sorted chunks in parallel, alternating between the
+     * chunks and one work buffer of the size of the list.
+     */
+    public void parallelSort() {
+        sort(true);
+    }
+
+    /**
+     * Searches the value in this list, which must be sorted, by bisecting the long index range.
+     *
+     * @param value the value to search
+     * @return the index of the value, or {@code -(insertion point) - 1} if it is not in the list
+     */
+    public long binarySearch(final double value) {
+        long low = 0;
+        long high = size - 1;
+        while (low <= high) {
+            final long middle = (low + high) >>> 1;
+            final int comparison = Double.compare(chunks[(int) (middle >>> chunkShift)][(int) (middle & chunkMask)], value);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * @return an array of the values of this list
+     * @throws IllegalStateException if the list has more values than an array can hold
+     */
+    public double[] toArray() {
+        if (size > MAX_ARRAY_LENGTH) {
+            throw new IllegalStateException("A list of " + size + " values does not fit in an array");
+        }
+        final double[] array = new double[(int) size];
+        forEachChunkRange(0, size, (chunk, from, to, offset) -> System.arraycopy(chunk, from, array, (int) offset, to - from));
+        return array;
+    }
+
+    public DoubleSequence asSequence() {
+        return new DoubleSequence() {
+            @Override
+            public PrimitiveIterator.OfDouble iterator() {
+                return BigDoubleList.this.iterator();
+            }
+
+            @Override
+            public DoubleParallelSequence parallel() {
+                return DoubleParallelSequence.of(BigDoubleList.this);
+            }
+        };
+    }
+
+    private boolean forEachDoubleWhile(final DoublePredicate action) {
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            final double[] values = chunks[chunk];
+            final int length = chunkFill(chunk);
+            for (int i = 0; i < length; i++) {
+                if (!action.test(values[i])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void forEachDouble(final DoubleConsumer action) {
+        forEachDoubleWhile(value -> {
+            action.accept(value);
+            return true;
+        });
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new PrimitiveIterator.OfDouble() {
+            private long index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public double nextDouble() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                final double value = chunks[(int) (index >>> chunkShift)][(int) (index & chunkMask)];
+                index++;
+                return value;
+            }
+        };
+    }
+
+    /**
+     * @return a spliterator that splits the remaining index range in halves
+     */
+    @Override
+    public Spliterator.OfDouble spliterator() {
+        return new BigDoubleSpliterator(0, size);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("BigDoubleList[size=").append(size).append("][");
+        final long length = Math.min(size, MAX_TO_STRING_LENGTH);
+        for (long i = 0; i < length; i++) {
+            sb.append(i == 0 ? "" : ", ").append(get(i));
+        }
+        return sb.append(size > length ? ", ...]" : "]").toString();
+    }
+
+    private void checkIndex(final long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    private int chunkFill(final int chunk) {
+        return chunk < chunkCount - 1 ? chunkLength : (int) (size - ((long) chunk << chunkShift));
+    }
+
+    private void forEachChunkRange(final long from, final long to, final ChunkRangeAction action) {
+        long index = from;
+        while (index < to) {
+            final int chunk = (int) (index >>> chunkShift);
+            final int fromOffset = (int) (index & chunkMask);
+            final int toOffset = (int) Math.min(chunkLength, fromOffset + (to - index));
+            action.apply(chunks[chunk], fromOffset, toOffset, index - from);
+            index += toOffset - fromOffset;
+        }
+    }
+
+    private double valueAt(final double[][] values, final long index) {
+        return values[(int) (index >>> chunkShift)][(int) (index & chunkMask)];
+    }
+
+    private void setValueAt(final double[][] values, final long index, final double value) {
+        values[(int) (index >>> chunkShift)][(int) (index & chunkMask)] = value;
+    }
+
+    @FunctionalInterface
+    private interface ChunkRangeAction {
+
+        /**
+         * @param offset the number of values of the range before this part of the range
+         */
+        void apply(double[] chunk, int fromOffset, int toOffset, long offset);
+    }
+
+    private void sort(final boolean parallel) {
+        if (size <= 1) {
+            return;
+        }
+        if (chunkCount == 1) {
+            if (parallel) {
+                Arrays.parallelSort(chunks[0], 0, (int) size);
+            } else {
+                Arrays.sort(chunks[0], 0, (int) size);
+            }
+            return;
+        }
+        if (parallel) {
+            ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> mergeSort(true)));
+        } else {
+            mergeSort(false);
+        }
+    }
+
+    private void mergeSort(final boolean parallel) {
+        final List<ForkJoinTask<?>> chunkSorts = new ArrayList<>(chunkCount);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            final double[] values = chunks[chunk];
+            final int length = chunkFill(chunk);
+            chunkSorts.add(ForkJoinTask.adapt(() -> Arrays.sort(values, 0, length)));
+        }
+        invoke(chunkSorts, parallel);
+        final double[][] work = new double[chunks.length][];
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            work[chunk] = new double[chunks[chunk].length];
+        }
+        double[][] source = chunks;
+        double[][] destination = work;
+        for (long runLength = chunkLength; runLength < size; runLength <<= 1) {
+            final List<ForkJoinTask<?>> merges = new ArrayList<>();
+            for (long from = 0; from < size; from += runLength << 1) {
+                final long middle = Math.min(from + runLength, size);
+                final long to = Math.min(middle + runLength, size);
+                merges.add(new Merger(source, destination, from, middle, middle, to, from, parallel));
+            }
+            invoke(merges, parallel);
+            final double[][] merged = destination;
+            destination = source;
+            source = merged;
+        }
+        chunks = source;
+    }
+
+    private static void invoke(final List<ForkJoinTask<?>> tasks, final boolean parallel) {
+        if (parallel) {
+            ForkJoinTask.invokeAll(tasks);
+        } else {
+            tasks.forEach(ForkJoinTask::invoke);
+        }
+    }
+
+    /**
+     * Merges two adjacent sorted runs of the source chunks into the destination chunks. Large merges are split at the
+     * middle of the longer run and the split point in the shorter run is found by a binary search.
+     */
+    private final class Merger extends RecursiveAction {
+
+        private final transient double[][] source;
+        private final transient double[][] destination;
+        private final long leftFrom;
+        private final long leftTo;
+        private final long rightFrom;
+        private final long rightTo;
+        private final long destinationFrom;
+        private final boolean parallel;
+
+        @SuppressWarnings("squid:S107")
+        Merger(final double[][] source, final double[][] destination, final long leftFrom, final long leftTo,
+               final long rightFrom, final long rightTo, final long destinationFrom, final boolean parallel) {
+            this.source = source;
+            this.destination = destination;
+            this.leftFrom = leftFrom;
+            this.leftTo = leftTo;
+            this.rightFrom = rightFrom;
+            this.rightTo = rightTo;
+            this.destinationFrom = destinationFrom;
+            this.parallel = parallel;
+        }
+
+        @Override
+        protected void compute() {
+            final long leftLength = leftTo - leftFrom;
+            final long rightLength = rightTo - rightFrom;
+            if (!parallel || leftLength + rightLength <= BigArrayTasks.MIN_LENGTH_PER_TASK) {
+                merge();
+                return;
+            }
+            final long leftMid;
+            final long rightMid;
+            if (leftLength >= rightLength) {
+                leftMid = (leftFrom + leftTo) >>> 1;
+                rightMid = firstIndexNotBelow(rightFrom, rightTo, valueAt(source, leftMid));
+            } else {
+                rightMid = (rightFrom + rightTo) >>> 1;
+                leftMid = firstIndexAbove(leftFrom, leftTo, valueAt(source, rightMid));
+            }
+            final long destinationMid = destinationFrom + (leftMid - leftFrom) + (rightMid - rightFrom);
+            invokeAll(
+                    new Merger(source, destination, leftFrom, leftMid, rightFrom, rightMid, destinationFrom, true),
+                    new Merger(source, destination, leftMid, leftTo, rightMid, rightTo, destinationMid, true));
+        }
+
+        private void merge() {
+            long left = leftFrom;
+            long right = rightFrom;
+            long index = destinationFrom;
+            while (left < leftTo && right < rightTo) {
+                final double leftValue = valueAt(source, left);
+                final double rightValue = valueAt(source, right);
+                if (Double.compare(leftValue, rightValue) <= 0) {
+                    setValueAt(destination, index++, leftValue);
+                    left++;
+                } else {
+                    setValueAt(destination, index++, rightValue);
+                    right++;
+                }
+            }
+            for (; left < leftTo; left++) {
+                setValueAt(destination, index++, valueAt(source, left));
+            }
+            for (; right < rightTo; right++) {
+                setValueAt(destination, index++, valueAt(source, right));
+            }
+        }
+
+        private long firstIndexNotBelow(final long from, final long toExclusive, final double value) {
+            long low = from;
+            long high = toExclusive;
+            while (low < high) {
+                final long mid = (low + high) >>> 1;
+                if (Double.compare(valueAt(source, mid), value) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private long firstIndexAbove(final long from, final long toExclusive, final double value) {
+            long low = from;
+            long high = toExclusive;
+            while (low < high) {
+                final long mid = (low + high) >>> 1;
+                if (Double.compare(valueAt(source, mid), value) <= 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private final class BigDoubleSpliterator implements Spliterator.OfDouble {
+
+        private long index;
+        private final long fence;
+
+        BigDoubleSpliterator(final long index, final long fence) {
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(final DoubleConsumer action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(valueAt(chunks, index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(final DoubleConsumer action) {
+            forEachChunkRange(index, fence, (chunk, from, to, offset) -> {
+                for (int i = from; i < to; i++) {
+                    action.accept(chunk[i]);
+                }
+            });
+            index = fence;
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            final long middle = (index + fence) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            final Spliterator.OfDouble prefix = new BigDoubleSpliterator(index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return CHARACTERISTICS;
+        }
+    }
+}
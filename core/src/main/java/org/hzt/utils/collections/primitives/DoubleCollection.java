@@ -9,6 +9,7 @@ import org.hzt.utils.iterables.primitives.DoubleNumerable;
 import org.hzt.utils.iterables.primitives.DoubleReducable;
 import org.hzt.utils.iterables.primitives.DoubleStreamable;
 import org.hzt.utils.iterables.primitives.DoubleStringable;
+import org.hzt.utils.sequences.parallel.DoubleParallelSequence;
 import org.hzt.utils.sequences.primitives.DoubleSequence;
 
 import java.util.PrimitiveIterator;
@@ -113,6 +114,10 @@ public interface DoubleCollection extends
         return DoubleSequence.of(this);
     }
 
+    default DoubleParallelSequence parallelSequence() {
+        return DoubleParallelSequence.of(this);
+    }
+
     @Override
     default Spliterator.OfDouble spliterator() {
         return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.NONNULL);
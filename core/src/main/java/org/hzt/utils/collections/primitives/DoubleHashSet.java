@@ -4,131 +4,186 @@ import org.hzt.utils.collections.MutableSetX;
 
 import java.util.PrimitiveIterator;
 import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.INITIAL_CAPACITY;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.canShiftBack;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.capacityFor;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.mix;
 
 /**
- * This class implements a simple hash set for {@code double} values.
- * keep track of nodes that are being pointed to by fingers.
+ * This class implements an open addressing hash set for {@code double} values.
+ * <p>
+ * The values are stored as their {@link Double#doubleToLongBits(double)} bit patterns in a flat {@code long[]} table
+ * using linear probing, so no node is allocated per element. Like {@link Double#compare(double, double)}, all NaN values
+ * are equal to each other and {@code 0.0} and {@code -0.0} are distinct.
+ * The bit pattern of {@code 0.0} marks a free slot and is tracked by a flag.
  */
 final class DoubleHashSet extends PrimitiveAbstractSet<Double, DoubleConsumer, double[], PrimitiveIterator.OfDouble>
         implements DoubleMutableSet {
 
+    private static final long FREE_KEY = 0L;
+
+    private long[] table;
+
     DoubleHashSet() {
         this(0);
     }
 
     DoubleHashSet(final double[] values) {
-        this(values.length > 0 ? 1 : 0);
+        this(values.length);
         for (final double value : values) {
             add(value);
         }
     }
 
-    public DoubleHashSet(final int size) {
-        super(size, new CollisionChainNode[INITIAL_CAPACITY]);
+    DoubleHashSet(final int expectedSize) {
+        super(capacityFor(expectedSize));
+        this.table = new long[capacity()];
     }
 
     public boolean add(final double value) {
-        if (contains(value)) {
-            return false;
+        final long bits = Double.doubleToLongBits(value);
+        if (bits == FREE_KEY) {
+            if (containsFreeKey) {
+                return false;
+            }
+            containsFreeKey = true;
+            size++;
+            return true;
         }
+        final long[] t = table;
+        int slot = mix(bits) & mask;
+        long current;
+        while ((current = t[slot]) != FREE_KEY) {
+            if (current == bits) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        t[slot] = bits;
         size++;
-
         if (shouldExpand()) {
-            expand();
+            resize(capacity() * 2);
         }
-
-        final int targetCollisionChainIndex = Double.hashCode(value) & mask;
-        final PrimitiveNode next = table[targetCollisionChainIndex];
-        final CollisionChainNode newNode = new CollisionChainNode(value, next);
-        table[targetCollisionChainIndex] = newNode;
         return true;
     }
 
     public boolean contains(final double value) {
-        final int collisionChainIndex = Double.hashCode(value) & mask;
-        PrimitiveNode node = table[collisionChainIndex];
-
-        while (node != null) {
-            if (Double.compare(((CollisionChainNode) node).value, value) == 0) {
+        final long bits = Double.doubleToLongBits(value);
+        if (bits == FREE_KEY) {
+            return containsFreeKey;
+        }
+        final long[] t = table;
+        int slot = mix(bits) & mask;
+        long current;
+        while ((current = t[slot]) != FREE_KEY) {
+            if (current == bits) {
                 return true;
             }
-            node = node.next;
+            slot = (slot + 1) & mask;
         }
         return false;
     }
 
     public boolean remove(final double value) {
-        if (!contains(value)) {
-            return false;
-        }
-        size--;
-        if (shouldContract()) {
-            contract();
+        final long bits = Double.doubleToLongBits(value);
+        if (bits == FREE_KEY) {
+            if (!containsFreeKey) {
+                return false;
+            }
+            containsFreeKey = false;
+            size--;
+            return true;
         }
-        final int targetCollisionChainIndex = Double.hashCode(value) & mask;
-
-        PrimitiveNode current = table[targetCollisionChainIndex];
-
-        PrimitiveNode previous = null;
-        while (current != null) {
-            final PrimitiveNode next = current.next;
-            if (Double.compare(((CollisionChainNode) current).value, value) == 0) {
-                if (previous == null) {
-                    table[targetCollisionChainIndex] = next;
-                } else {
-                    previous.next = next;
+        final long[] t = table;
+        int slot = mix(bits) & mask;
+        long current;
+        while ((current = t[slot]) != FREE_KEY) {
+            if (current == bits) {
+                size--;
+                shiftKeys(slot);
+                if (shouldContract()) {
+                    resize(capacity() / 2);
                 }
                 return true;
             }
-            previous = current;
-            current = next;
+            slot = (slot + 1) & mask;
         }
-        return true;
+        return false;
     }
 
-    @Override
-    public MutableSetX<Double> boxed() {
-        return MutableSetX.of(this);
+    private void shiftKeys(final int removedSlot) {
+        final long[] t = table;
+        int free = removedSlot;
+        int slot = (free + 1) & mask;
+        long current;
+        while ((current = t[slot]) != FREE_KEY) {
+            if (canShiftBack(free, mix(current) & mask, slot)) {
+                t[free] = current;
+                free = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        t[free] = FREE_KEY;
+    }
+
+    private void resize(final int newCapacity) {
+        final long[] oldTable = table;
+        final long[] newTable = new long[newCapacity];
+        final int newMask = newCapacity - 1;
+        for (final long value : oldTable) {
+            if (value != FREE_KEY) {
+                int slot = mix(value) & newMask;
+                while (newTable[slot] != FREE_KEY) {
+                    slot = (slot + 1) & newMask;
+                }
+                newTable[slot] = value;
+            }
+        }
+        table = newTable;
+        mask = newMask;
     }
 
     @Override
-    public double[] toArray() {
-        return asSequence().toArray();
-    }
-
-    public void clear() {
-        size = 0;
-        table = new CollisionChainNode[INITIAL_CAPACITY];
-        mask = table.length - 1;
+    public boolean removeIf(final DoublePredicate predicate) {
+        final double[] toRemove = asSequence().filter(predicate).toArray();
+        for (final double value : toRemove) {
+            remove(value);
+        }
+        return toRemove.length > 0;
     }
 
-    // Keep add(double) an amortized O(1)
-
-    private boolean shouldExpand() {
-        return size > table.length * MAXIMUM_LOAD_FACTOR;
+    @Override
+    public MutableSetX<Double> boxed() {
+        return asSequence().boxed().toMutableSet();
     }
-    // Keep remove(double) an amortized O(1)
 
-    private boolean shouldContract() {
-        if (table.length == INITIAL_CAPACITY) {
-            return false;
+    @Override
+    public double[] toArray() {
+        final double[] array = new double[size];
+        int index = 0;
+        if (containsFreeKey) {
+            array[index++] = 0.0;
         }
-
-        return MAXIMUM_LOAD_FACTOR * size * 4 < table.length;
+        for (final long bits : table) {
+            if (bits != FREE_KEY) {
+                array[index++] = Double.longBitsToDouble(bits);
+            }
+        }
+        return array;
     }
-    private void expand() {
-        final CollisionChainNode[] newTable = new CollisionChainNode[table.length * 2];
 
-        rehash(table, newTable);
-        table = newTable;
+    public void clear() {
+        size = 0;
+        containsFreeKey = false;
+        table = new long[INITIAL_CAPACITY];
         mask = table.length - 1;
     }
 
-    private void contract() {
-        final CollisionChainNode[] newTable = new CollisionChainNode[table.length / 4];
-        rehash(table, newTable);
-        table = newTable;
-        mask = table.length - 1;
+    @Override
+    boolean isOccupied(final int slot) {
+        return table[slot] != FREE_KEY;
     }
 
     @Override
@@ -136,11 +191,6 @@ final class DoubleHashSet extends PrimitiveAbstractSet<Double, DoubleConsumer, d
         return Double.hashCode(iterator.nextDouble());
     }
 
-    @Override
-    int rehash(final PrimitiveNode node, final int newTableLength) {
-        return Double.hashCode(((CollisionChainNode) node).value) & (newTableLength - 1);
-    }
-
     @Override
     protected double[] newArray(final int length) {
         return new double[length];
@@ -156,24 +206,11 @@ final class DoubleHashSet extends PrimitiveAbstractSet<Double, DoubleConsumer, d
 
         @Override
         public double nextDouble() {
-            return ((CollisionChainNode) nextNode()).value;
+            final int slot = nextSlot();
+            return slot < 0 ? 0.0 : Double.longBitsToDouble(table[slot]);
         }
     }
 
-    private static final class CollisionChainNode extends PrimitiveNode {
-
-        private final double value;
-
-        CollisionChainNode(final double value, final PrimitiveNode next) {
-            super(next);
-            this.value = value;
-        }
-
-        @Override
-        public String toString() {
-            return "Chain node, double = " + value;
-        }
-    }
     @Override
     protected void appendNextPrimitive(final StringBuilder sb, final PrimitiveIterator.OfDouble iterator) {
         sb.append(iterator.nextDouble());
@@ -9,7 +9,6 @@ import org.hzt.utils.primitive_comparators.DoubleComparator;
 import org.hzt.utils.ranges.IntRange;
 import org.hzt.utils.sequences.primitives.DoubleSequence;
 
-import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.OptionalDouble;
 import java.util.Random;
@@ -100,7 +99,7 @@ public interface DoubleList extends DoubleCollection,
     @Override
     default DoubleList sorted() {
         final double[] array = toArray();
-        Arrays.sort(array);
+        ArraysX.sort(array);
         return DoubleList.of(array);
     }
 
@@ -114,8 +113,7 @@ public interface DoubleList extends DoubleCollection,
     @Override
     default DoubleList sortedDescending() {
         final double[] array = toArray();
-        Arrays.sort(array);
-        ArraysX.reverse(array);
+        ArraysX.sortDescending(array);
         return DoubleList.of(array);
     }
 
@@ -9,6 +9,7 @@ import org.hzt.utils.iterables.primitives.IntNumerable;
 import org.hzt.utils.iterables.primitives.IntReducable;
 import org.hzt.utils.iterables.primitives.IntStreamable;
 import org.hzt.utils.iterables.primitives.IntStringable;
+import org.hzt.utils.sequences.parallel.IntParallelSequence;
 import org.hzt.utils.sequences.primitives.IntSequence;
 
 import java.util.PrimitiveIterator;
@@ -113,6 +114,10 @@ public interface IntCollection extends
         return IntSequence.of(this);
     }
 
+    default IntParallelSequence parallelSequence() {
+        return IntParallelSequence.of(this);
+    }
+
     @Override
     default Spliterator.OfInt spliterator() {
         return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.NONNULL);
@@ -0,0 +1,350 @@
+package org.hzt.utils.collections.primitives;
+
+import org.hzt.utils.collections.MapX;
+import org.hzt.utils.collections.MutableMapX;
+import org.hzt.utils.function.primitives.IntDoubleConsumer;
+import org.hzt.utils.sequences.primitives.DoubleSequence;
+import org.hzt.utils.sequences.primitives.IntSequence;
+
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntToDoubleFunction;
+
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.INITIAL_CAPACITY;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.canShiftBack;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.capacityFor;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.mix;
+
+/**
+ * This class implements an open addressing hash map from {@code int} keys to {@code double} values.
+ * <p>
+ * The keys and values are stored in parallel flat {@code int[]} and {@code double[]} tables using linear probing,
+ * so no entry object is allocated per mapping. The key {@code 0} marks a free slot, so its mapping is stored in a field.
+ */
+final class IntDoubleHashMap extends PrimitiveAbstractMap implements IntDoubleMutableMap {
+
+    private int[] keys;
+    private double[] values;
+    private double freeKeyValue;
+
+    IntDoubleHashMap() {
+        this(0);
+    }
+
+    IntDoubleHashMap(final int expectedSize) {
+        super(capacityFor(expectedSize));
+        this.keys = new int[capacity()];
+        this.values = new double[capacity()];
+    }
+
+    /**
+     * @param key a key that is not the free key
+     * @return the slot of the key if present, otherwise {@code -insertionSlot - 1}
+     */
+    private int slotOf(final int key) {
+        final int[] k = keys;
+        int slot = mix(key) & mask;
+        int current;
+        while ((current = k[slot]) != 0) {
+            if (key == current) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    @Override
+    public boolean containsKey(final int key) {
+        if (key == 0) {
+            return containsFreeKey;
+        }
+        return slotOf(key) >= 0;
+    }
+
+    @Override
+    public double get(final int key) {
+        if (key == 0) {
+            if (containsFreeKey) {
+                return freeKeyValue;
+            }
+            throw noValueFor(key);
+        }
+        final int slot = slotOf(key);
+        if (slot < 0) {
+            throw noValueFor(key);
+        }
+        return values[slot];
+    }
+
+    @Override
+    public double getOrDefault(final int key, final double defaultValue) {
+        if (key == 0) {
+            return containsFreeKey ? freeKeyValue : defaultValue;
+        }
+        final int slot = slotOf(key);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    @Override
+    public void put(final int key, final double value) {
+        if (key == 0) {
+            putFreeKeyValue(value);
+            return;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            values[slot] = value;
+        } else {
+            insert(-slot - 1, key, value);
+        }
+    }
+
+    private void putFreeKeyValue(final double value) {
+        if (!containsFreeKey) {
+            containsFreeKey = true;
+            size++;
+        }
+        freeKeyValue = value;
+    }
+
+    private void insert(final int slot, final int key, final double value) {
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (shouldExpand()) {
+            resize(capacity() * 2);
+        }
+    }
+
+    @Override
+    public double merge(final int key, final double value, final DoubleBinaryOperator remappingFunction) {
+        if (key == 0) {
+            final double newValue = containsFreeKey ? remappingFunction.applyAsDouble(freeKeyValue, value) : value;
+            putFreeKeyValue(newValue);
+            return newValue;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            final double newValue = remappingFunction.applyAsDouble(values[slot], value);
+            values[slot] = newValue;
+            return newValue;
+        }
+        insert(-slot - 1, key, value);
+        return value;
+    }
+
+    @Override
+    public double addTo(final int key, final double increment) {
+        if (key == 0) {
+            final double newValue = containsFreeKey ? freeKeyValue + increment : increment;
+            putFreeKeyValue(newValue);
+            return newValue;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            values[slot] += increment;
+            return values[slot];
+        }
+        insert(-slot - 1, key, increment);
+        return increment;
+    }
+
+    @Override
+    public double computeIfAbsent(final int key, final IntToDoubleFunction mappingFunction) {
+        if (key == 0) {
+            if (!containsFreeKey) {
+                putFreeKeyValue(mappingFunction.applyAsDouble(key));
+            }
+            return freeKeyValue;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            return values[slot];
+        }
+        final double value = mappingFunction.applyAsDouble(key);
+        insert(-slot - 1, key, value);
+        return value;
+    }
+
+    @Override
+    public boolean remove(final int key) {
+        if (key == 0) {
+            if (!containsFreeKey) {
+                return false;
+            }
+            containsFreeKey = false;
+            freeKeyValue = 0.0;
+            size--;
+            return true;
+        }
+        final int slot = slotOf(key);
+        if (slot < 0) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    private void removeAt(final int slot) {
+        size--;
+        shiftKeys(slot);
+        if (shouldContract()) {
+            resize(capacity() / 2);
+        }
+    }
+
+    private void shiftKeys(final int removedSlot) {
+        final int[] k = keys;
+        final double[] v = values;
+        int free = removedSlot;
+        int slot = (free + 1) & mask;
+        int current;
+        while ((current = k[slot]) != 0) {
+            if (canShiftBack(free, mix(current) & mask, slot)) {
+                k[free] = current;
+                v[free] = v[slot];
+                free = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        k[free] = 0;
+    }
+
+    private void resize(final int newCapacity) {
+        final int[] oldKeys = keys;
+        final double[] oldValues = values;
+        final int[] newKeys = new int[newCapacity];
+        final double[] newValues = new double[newCapacity];
+        final int newMask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            final int current = oldKeys[i];
+            if (current != 0) {
+                int slot = mix(current) & newMask;
+                while (newKeys[slot] != 0) {
+                    slot = (slot + 1) & newMask;
+                }
+                newKeys[slot] = current;
+                newValues[slot] = oldValues[i];
+            }
+        }
+        keys = newKeys;
+        values = newValues;
+        mask = newMask;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        containsFreeKey = false;
+        freeKeyValue = 0.0;
+        keys = new int[INITIAL_CAPACITY];
+        values = new double[INITIAL_CAPACITY];
+        mask = INITIAL_CAPACITY - 1;
+    }
+
+    @Override
+    public void forEach(final IntDoubleConsumer action) {
+        if (containsFreeKey) {
+            action.accept(0, freeKeyValue);
+        }
+        final int[] k = keys;
+        final double[] v = values;
+        for (int slot = 0; slot < k.length; slot++) {
+            if (k[slot] != 0) {
+                action.accept(k[slot], v[slot]);
+            }
+        }
+    }
+
+    @Override
+    public IntSequence keys() {
+        return KeyIterator::new;
+    }
+
+    @Override
+    public DoubleSequence values() {
+        return ValueIterator::new;
+    }
+
+    @Override
+    public MapX<Integer, Double> boxed() {
+        final MutableMapX<Integer, Double> map = MutableMapX.withInitCapacity(size);
+        forEach(map::put);
+        return map.toMapX();
+    }
+
+    @Override
+    boolean isOccupied(final int slot) {
+        return keys[slot] != 0;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final IntDoubleHashMap that = (IntDoubleHashMap) o;
+        if (size != that.size) {
+            return false;
+        }
+        if (containsFreeKey && (!that.containsFreeKey || Double.doubleToLongBits(freeKeyValue) != Double.doubleToLongBits(that.freeKeyValue))) {
+            return false;
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            final int key = keys[slot];
+            if (key != 0) {
+                final int otherSlot = that.slotOf(key);
+                if (otherSlot < 0 || Double.doubleToLongBits(values[slot]) != Double.doubleToLongBits(that.values[otherSlot])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = containsFreeKey ? Double.hashCode(freeKeyValue) : 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            final int key = keys[slot];
+            if (key != 0) {
+                hashCode += Integer.hashCode(key) ^ Double.hashCode(values[slot]);
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key).append('=').append(value);
+        });
+        return sb.append('}').toString();
+    }
+
+    private final class KeyIterator extends SlotIterator implements PrimitiveIterator.OfInt {
+
+        @Override
+        public int nextInt() {
+            final int slot = nextSlot();
+            return slot < 0 ? 0 : keys[slot];
+        }
+    }
+
+    private final class ValueIterator extends SlotIterator implements PrimitiveIterator.OfDouble {
+
+        @Override
+        public double nextDouble() {
+            final int slot = nextSlot();
+            return slot < 0 ? freeKeyValue : values[slot];
+        }
+    }
+}
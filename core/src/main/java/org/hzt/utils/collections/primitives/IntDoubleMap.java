@@ -0,0 +1,37 @@
+package org.hzt.utils.collections.primitives;
+
+import org.hzt.utils.collections.MapX;
+import org.hzt.utils.function.primitives.IntDoubleConsumer;
+import org.hzt.utils.sequences.primitives.DoubleSequence;
+import org.hzt.utils.sequences.primitives.IntSequence;
+
+/**
+ * A read only view of a hash map from {@code int} keys to {@code double} values that does not box.
+ *
+ * @see IntDoubleMutableMap
+ */
+public interface IntDoubleMap {
+
+    int size();
+
+    boolean isEmpty();
+
+    boolean containsKey(int key);
+
+    /**
+     * @param key the key to look up
+     * @return the value mapped to the key
+     * @throws java.util.NoSuchElementException if the map contains no mapping for the key
+     */
+    double get(int key);
+
+    double getOrDefault(int key, double defaultValue);
+
+    void forEach(IntDoubleConsumer action);
+
+    IntSequence keys();
+
+    DoubleSequence values();
+
+    MapX<Integer, Double> boxed();
+}
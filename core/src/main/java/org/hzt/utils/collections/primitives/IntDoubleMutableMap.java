@@ -0,0 +1,39 @@
+package org.hzt.utils.collections.primitives;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * A mutable open addressing hash map from {@code int} keys to {@code double} values.
+ * <p>
+ * {@link #merge}, {@link #addTo} and {@link #computeIfAbsent} update a mapping in place without allocating.
+ */
+public interface IntDoubleMutableMap extends IntDoubleMap {
+
+    static IntDoubleMutableMap empty() {
+        return new IntDoubleHashMap();
+    }
+
+    static IntDoubleMutableMap withInitCapacity(final int capacity) {
+        return new IntDoubleHashMap(capacity);
+    }
+
+    void put(int key, double value);
+
+    double merge(int key, double value, DoubleBinaryOperator remappingFunction);
+
+    /**
+     * Adds the increment to the value mapped to the key, or maps the key to the increment if it is not present.
+     *
+     * @param key the key of the value to increment
+     * @param increment the amount to add
+     * @return the new value mapped to the key
+     */
+    double addTo(int key, double increment);
+
+    double computeIfAbsent(int key, IntToDoubleFunction mappingFunction);
+
+    boolean remove(int key);
+
+    void clear();
+}
@@ -4,137 +4,181 @@ import org.hzt.utils.collections.MutableSetX;
 
 import java.util.PrimitiveIterator;
 import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.INITIAL_CAPACITY;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.canShiftBack;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.capacityFor;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.mix;
 
 /**
- * This class implements a simple hash set for {@code int} values.
- * keep track of nodes that are being pointed to by fingers.
- *
- * @author Rodion "rodde" Efremov
- * @version 1.6 (Aug 29, 2021)
- * @since 1.6 (Aug 29, 2021)
- *
- * @see <a href="https://codereview.stackexchange.com/questions/266541/a-simple-java-integer-hash-set">A simple Java integer hash set</a>
+ * This class implements an open addressing hash set for {@code int} values.
+ * <p>
+ * The values are stored in a flat {@code int[]} table using linear probing, so no node is allocated per element.
+ * The value {@code 0} marks a free slot and is tracked by a flag.
  */
 final class IntHashSet extends PrimitiveAbstractSet<Integer, IntConsumer, int[], PrimitiveIterator.OfInt>
         implements IntMutableSet {
 
+    private static final int FREE_KEY = 0;
+
+    private int[] table;
+
     IntHashSet() {
         this(0);
     }
 
-    public IntHashSet(final int[] values) {
-        this(values.length > 0 ? 1 : 0);
+    IntHashSet(final int[] values) {
+        this(values.length);
         for (final int value : values) {
             add(value);
         }
     }
 
-    public IntHashSet(final int size) {
-        super(size, new CollisionChainNode[INITIAL_CAPACITY]);
+    IntHashSet(final int expectedSize) {
+        super(capacityFor(expectedSize));
+        this.table = new int[capacity()];
     }
 
     public boolean add(final int value) {
-        if (contains(value)) {
-            return false;
+        if (value == FREE_KEY) {
+            if (containsFreeKey) {
+                return false;
+            }
+            containsFreeKey = true;
+            size++;
+            return true;
         }
+        final int[] t = table;
+        int slot = mix(value) & mask;
+        int current;
+        while ((current = t[slot]) != FREE_KEY) {
+            if (current == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        t[slot] = value;
         size++;
-
         if (shouldExpand()) {
-            expand();
+            resize(capacity() * 2);
         }
-
-        final int targetCollisionChainIndex = value & mask;
-        final PrimitiveNode next = table[targetCollisionChainIndex];
-        final PrimitiveNode newNode = new CollisionChainNode(value, next);
-        table[targetCollisionChainIndex] = newNode;
         return true;
     }
 
     public boolean contains(final int value) {
-        final int collisionChainIndex = value & mask;
-        PrimitiveNode node = table[collisionChainIndex];
-
-        while (node != null) {
-            if (((CollisionChainNode) node).value == value) {
+        if (value == FREE_KEY) {
+            return containsFreeKey;
+        }
+        final int[] t = table;
+        int slot = mix(value) & mask;
+        int current;
+        while ((current = t[slot]) != FREE_KEY) {
+            if (current == value) {
                 return true;
             }
-            node = node.next;
+            slot = (slot + 1) & mask;
         }
         return false;
     }
 
     public boolean remove(final int value) {
-        if (!contains(value)) {
-            return false;
-        }
-        size--;
-        if (shouldContract()) {
-            contract();
+        if (value == FREE_KEY) {
+            if (!containsFreeKey) {
+                return false;
+            }
+            containsFreeKey = false;
+            size--;
+            return true;
         }
-        final int targetCollisionChainIndex = value & mask;
-
-        PrimitiveNode current = table[targetCollisionChainIndex];
-
-        PrimitiveNode previous = null;
-        while (current != null) {
-            final PrimitiveNode next = current.next;
-            if (((CollisionChainNode) current).value == value) {
-                if (previous == null) {
-                    table[targetCollisionChainIndex] = next;
-                } else {
-                    previous.next = next;
+        final int[] t = table;
+        int slot = mix(value) & mask;
+        int current;
+        while ((current = t[slot]) != FREE_KEY) {
+            if (current == value) {
+                size--;
+                shiftKeys(slot);
+                if (shouldContract()) {
+                    resize(capacity() / 2);
                 }
                 return true;
             }
-            previous = current;
-            current = next;
+            slot = (slot + 1) & mask;
         }
-        return true;
+        return false;
     }
 
-    @Override
-    public MutableSetX<Integer> boxed() {
-        return MutableSetX.of(this);
+    private void shiftKeys(final int removedSlot) {
+        final int[] t = table;
+        int free = removedSlot;
+        int slot = (free + 1) & mask;
+        int current;
+        while ((current = t[slot]) != FREE_KEY) {
+            if (canShiftBack(free, mix(current) & mask, slot)) {
+                t[free] = current;
+                free = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        t[free] = FREE_KEY;
+    }
+
+    private void resize(final int newCapacity) {
+        final int[] oldTable = table;
+        final int[] newTable = new int[newCapacity];
+        final int newMask = newCapacity - 1;
+        for (final int value : oldTable) {
+            if (value != FREE_KEY) {
+                int slot = mix(value) & newMask;
+                while (newTable[slot] != FREE_KEY) {
+                    slot = (slot + 1) & newMask;
+                }
+                newTable[slot] = value;
+            }
+        }
+        table = newTable;
+        mask = newMask;
     }
 
     @Override
-    public int[] toArray() {
-        return asSequence().toArray();
-    }
-
-    public void clear() {
-        size = 0;
-        table = new CollisionChainNode[INITIAL_CAPACITY];
-        mask = table.length - 1;
+    public boolean removeIf(final IntPredicate predicate) {
+        final int[] toRemove = asSequence().filter(predicate).toArray();
+        for (final int value : toRemove) {
+            remove(value);
+        }
+        return toRemove.length > 0;
     }
 
-    // Keep add(int) an amortized O(1)
-
-    private boolean shouldExpand() {
-        return size > table.length * MAXIMUM_LOAD_FACTOR;
+    @Override
+    public MutableSetX<Integer> boxed() {
+        return asSequence().boxed().toMutableSet();
     }
-    // Keep remove(int) an amortized O(1)
 
-    private boolean shouldContract() {
-        if (table.length == INITIAL_CAPACITY) {
-            return false;
+    @Override
+    public int[] toArray() {
+        final int[] array = new int[size];
+        int index = 0;
+        if (containsFreeKey) {
+            array[index++] = FREE_KEY;
         }
-
-        return MAXIMUM_LOAD_FACTOR * size * 4 < table.length;
+        for (final int value : table) {
+            if (value != FREE_KEY) {
+                array[index++] = value;
+            }
+        }
+        return array;
     }
-    private void expand() {
-        final CollisionChainNode[] newTable = new CollisionChainNode[table.length * 2];
 
-        rehash(table, newTable);
-        table = newTable;
+    public void clear() {
+        size = 0;
+        containsFreeKey = false;
+        table = new int[INITIAL_CAPACITY];
         mask = table.length - 1;
     }
 
-    private void contract() {
-        final CollisionChainNode[] newTable = new CollisionChainNode[table.length / 4];
-        rehash(table, newTable);
-        table = newTable;
-        mask = table.length - 1;
+    @Override
+    boolean isOccupied(final int slot) {
+        return table[slot] != FREE_KEY;
     }
 
     @Override
@@ -142,11 +186,6 @@ final class IntHashSet extends PrimitiveAbstractSet<Integer, IntConsumer, int[],
         return Integer.hashCode(iterator.nextInt());
     }
 
-    @Override
-    int rehash(final PrimitiveNode node, final int newTableLength) {
-        return ((CollisionChainNode) node).value & (newTableLength - 1);
-    }
-
     @Override
     protected int[] newArray(final int length) {
         return new int[length];
@@ -162,24 +201,11 @@ final class IntHashSet extends PrimitiveAbstractSet<Integer, IntConsumer, int[],
 
         @Override
         public int nextInt() {
-            return ((CollisionChainNode) nextNode()).value;
+            final int slot = nextSlot();
+            return slot < 0 ? FREE_KEY : table[slot];
         }
     }
 
-    private static final class CollisionChainNode extends PrimitiveNode {
-
-        private final int value;
-
-        CollisionChainNode(final int value, final PrimitiveNode next) {
-            super(next);
-            this.value = value;
-        }
-
-        @Override
-        public String toString() {
-            return "Chain node, integer = " + value;
-        }
-    }
     @Override
     protected void appendNextPrimitive(final StringBuilder sb, final PrimitiveIterator.OfInt iterator) {
         sb.append(iterator.nextInt());
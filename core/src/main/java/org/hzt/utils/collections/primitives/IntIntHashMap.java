@@ -0,0 +1,349 @@
+package org.hzt.utils.collections.primitives;
+
+import org.hzt.utils.collections.MapX;
+import org.hzt.utils.collections.MutableMapX;
+import org.hzt.utils.function.primitives.IntIntConsumer;
+import org.hzt.utils.sequences.primitives.IntSequence;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.INITIAL_CAPACITY;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.canShiftBack;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.capacityFor;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.mix;
+
+/**
+ * This class implements an open addressing hash map from {@code int} keys to {@code int} values.
+ * <p>
+ * The keys and values are stored in parallel flat {@code int[]} and {@code int[]} tables using linear probing,
+ * so no entry object is allocated per mapping. The key {@code 0} marks a free slot, so its mapping is stored in a field.
+ */
+final class IntIntHashMap extends PrimitiveAbstractMap implements IntIntMutableMap {
+
+    private int[] keys;
+    private int[] values;
+    private int freeKeyValue;
+
+    IntIntHashMap() {
+        this(0);
+    }
+
+    IntIntHashMap(final int expectedSize) {
+        super(capacityFor(expectedSize));
+        this.keys = new int[capacity()];
+        this.values = new int[capacity()];
+    }
+
+    /**
+     * @param key a key that is not the free key
+     * @return the slot of the key if present, otherwise {@code -insertionSlot - 1}
+     */
+    private int slotOf(final int key) {
+        final int[] k = keys;
+        int slot = mix(key) & mask;
+        int current;
+        while ((current = k[slot]) != 0) {
+            if (key == current) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    @Override
+    public boolean containsKey(final int key) {
+        if (key == 0) {
+            return containsFreeKey;
+        }
+        return slotOf(key) >= 0;
+    }
+
+    @Override
+    public int get(final int key) {
+        if (key == 0) {
+            if (containsFreeKey) {
+                return freeKeyValue;
+            }
+            throw noValueFor(key);
+        }
+        final int slot = slotOf(key);
+        if (slot < 0) {
+            throw noValueFor(key);
+        }
+        return values[slot];
+    }
+
+    @Override
+    public int getOrDefault(final int key, final int defaultValue) {
+        if (key == 0) {
+            return containsFreeKey ? freeKeyValue : defaultValue;
+        }
+        final int slot = slotOf(key);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    @Override
+    public void put(final int key, final int value) {
+        if (key == 0) {
+            putFreeKeyValue(value);
+            return;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            values[slot] = value;
+        } else {
+            insert(-slot - 1, key, value);
+        }
+    }
+
+    private void putFreeKeyValue(final int value) {
+        if (!containsFreeKey) {
+            containsFreeKey = true;
+            size++;
+        }
+        freeKeyValue = value;
+    }
+
+    private void insert(final int slot, final int key, final int value) {
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (shouldExpand()) {
+            resize(capacity() * 2);
+        }
+    }
+
+    @Override
+    public int merge(final int key, final int value, final IntBinaryOperator remappingFunction) {
+        if (key == 0) {
+            final int newValue = containsFreeKey ? remappingFunction.applyAsInt(freeKeyValue, value) : value;
+            putFreeKeyValue(newValue);
+            return newValue;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            final int newValue = remappingFunction.applyAsInt(values[slot], value);
+            values[slot] = newValue;
+            return newValue;
+        }
+        insert(-slot - 1, key, value);
+        return value;
+    }
+
+    @Override
+    public int addTo(final int key, final int increment) {
+        if (key == 0) {
+            final int newValue = containsFreeKey ? freeKeyValue + increment : increment;
+            putFreeKeyValue(newValue);
+            return newValue;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            values[slot] += increment;
+            return values[slot];
+        }
+        insert(-slot - 1, key, increment);
+        return increment;
+    }
+
+    @Override
+    public int computeIfAbsent(final int key, final IntUnaryOperator mappingFunction) {
+        if (key == 0) {
+            if (!containsFreeKey) {
+                putFreeKeyValue(mappingFunction.applyAsInt(key));
+            }
+            return freeKeyValue;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            return values[slot];
+        }
+        final int value = mappingFunction.applyAsInt(key);
+        insert(-slot - 1, key, value);
+        return value;
+    }
+
+    @Override
+    public boolean remove(final int key) {
+        if (key == 0) {
+            if (!containsFreeKey) {
+                return false;
+            }
+            containsFreeKey = false;
+            freeKeyValue = 0;
+            size--;
+            return true;
+        }
+        final int slot = slotOf(key);
+        if (slot < 0) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    private void removeAt(final int slot) {
+        size--;
+        shiftKeys(slot);
+        if (shouldContract()) {
+            resize(capacity() / 2);
+        }
+    }
+
+    private void shiftKeys(final int removedSlot) {
+        final int[] k = keys;
+        final int[] v = values;
+        int free = removedSlot;
+        int slot = (free + 1) & mask;
+        int current;
+        while ((current = k[slot]) != 0) {
+            if (canShiftBack(free, mix(current) & mask, slot)) {
+                k[free] = current;
+                v[free] = v[slot];
+                free = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        k[free] = 0;
+    }
+
+    private void resize(final int newCapacity) {
+        final int[] oldKeys = keys;
+        final int[] oldValues = values;
+        final int[] newKeys = new int[newCapacity];
+        final int[] newValues = new int[newCapacity];
+        final int newMask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            final int current = oldKeys[i];
+            if (current != 0) {
+                int slot = mix(current) & newMask;
+                while (newKeys[slot] != 0) {
+                    slot = (slot + 1) & newMask;
+                }
+                newKeys[slot] = current;
+                newValues[slot] = oldValues[i];
+            }
+        }
+        keys = newKeys;
+        values = newValues;
+        mask = newMask;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        containsFreeKey = false;
+        freeKeyValue = 0;
+        keys = new int[INITIAL_CAPACITY];
+        values = new int[INITIAL_CAPACITY];
+        mask = INITIAL_CAPACITY - 1;
+    }
+
+    @Override
+    public void forEach(final IntIntConsumer action) {
+        if (containsFreeKey) {
+            action.accept(0, freeKeyValue);
+        }
+        final int[] k = keys;
+        final int[] v = values;
+        for (int slot = 0; slot < k.length; slot++) {
+            if (k[slot] != 0) {
+                action.accept(k[slot], v[slot]);
+            }
+        }
+    }
+
+    @Override
+    public IntSequence keys() {
+        return KeyIterator::new;
+    }
+
+    @Override
+    public IntSequence values() {
+        return ValueIterator::new;
+    }
+
+    @Override
+    public MapX<Integer, Integer> boxed() {
+        final MutableMapX<Integer, Integer> map = MutableMapX.withInitCapacity(size);
+        forEach(map::put);
+        return map.toMapX();
+    }
+
+    @Override
+    boolean isOccupied(final int slot) {
+        return keys[slot] != 0;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final IntIntHashMap that = (IntIntHashMap) o;
+        if (size != that.size) {
+            return false;
+        }
+        if (containsFreeKey && (!that.containsFreeKey || freeKeyValue != that.freeKeyValue)) {
+            return false;
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            final int key = keys[slot];
+            if (key != 0) {
+                final int otherSlot = that.slotOf(key);
+                if (otherSlot < 0 || values[slot] != that.values[otherSlot]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = containsFreeKey ? Integer.hashCode(freeKeyValue) : 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            final int key = keys[slot];
+            if (key != 0) {
+                hashCode += Integer.hashCode(key) ^ Integer.hashCode(values[slot]);
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key).append('=').append(value);
+        });
+        return sb.append('}').toString();
+    }
+
+    private final class KeyIterator extends SlotIterator implements PrimitiveIterator.OfInt {
+
+        @Override
+        public int nextInt() {
+            final int slot = nextSlot();
+            return slot < 0 ? 0 : keys[slot];
+        }
+    }
+
+    private final class ValueIterator extends SlotIterator implements PrimitiveIterator.OfInt {
+
+        @Override
+        public int nextInt() {
+            final int slot = nextSlot();
+            return slot < 0 ? freeKeyValue : values[slot];
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.hzt.utils.collections.primitives;
+
+import org.hzt.utils.collections.MapX;
+import org.hzt.utils.function.primitives.IntIntConsumer;
+import org.hzt.utils.sequences.primitives.IntSequence;
+
+/**
+ * A read only view of a hash map from {@code int} keys to {@code int} values that does not box.
+ *
+ * @see IntIntMutableMap
+ */
+public interface IntIntMap {
+
+    int size();
+
+    boolean isEmpty();
+
+    boolean containsKey(int key);
+
+    /**
+     * @param key the key to look up
+     * @return the value mapped to the key
+     * @throws java.util.NoSuchElementException if the map contains no mapping for the key
+     */
+    int get(int key);
+
+    int getOrDefault(int key, int defaultValue);
+
+    void forEach(IntIntConsumer action);
+
+    IntSequence keys();
+
+    IntSequence values();
+
+    MapX<Integer, Integer> boxed();
+}
@@ -0,0 +1,39 @@
+package org.hzt.utils.collections.primitives;
+
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A mutable open addressing hash map from {@code int} keys to {@code int} values.
+ * <p>
+ * {@link #merge}, {@link #addTo} and {@link #computeIfAbsent} update a mapping in place without allocating.
+ */
+public interface IntIntMutableMap extends IntIntMap {
+
+    static IntIntMutableMap empty() {
+        return new IntIntHashMap();
+    }
+
+    static IntIntMutableMap withInitCapacity(final int capacity) {
+        return new IntIntHashMap(capacity);
+    }
+
+    void put(int key, int value);
+
+    int merge(int key, int value, IntBinaryOperator remappingFunction);
+
+    /**
+     * Adds the increment to the value mapped to the key, or maps the key to the increment if it is not present.
+     *
+     * @param key the key of the value to increment
+     * @param increment the amount to add
+     * @return the new value mapped to the key
+     */
+    int addTo(int key, int increment);
+
+    int computeIfAbsent(int key, IntUnaryOperator mappingFunction);
+
+    boolean remove(int key);
+
+    void clear();
+}
@@ -9,7 +9,6 @@ import org.hzt.utils.primitive_comparators.IntComparator;
 import org.hzt.utils.ranges.IntRange;
 import org.hzt.utils.sequences.primitives.IntSequence;
 
-import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.OptionalInt;
 import java.util.Random;
@@ -100,7 +99,7 @@ public interface IntList extends IntCollection,
     @Override
     default IntList sorted() {
         final int[] array = toArray();
-        Arrays.sort(array);
+        ArraysX.sort(array);
         return IntList.of(array);
     }
 
@@ -114,8 +113,7 @@ public interface IntList extends IntCollection,
     @Override
     default IntList sortedDescending() {
         final int[] array = toArray();
-        Arrays.sort(array);
-        ArraysX.reverse(array);
+        ArraysX.sortDescending(array);
         return IntList.of(array);
     }
 
@@ -0,0 +1,350 @@
+package org.hzt.utils.collections.primitives;
+
+import org.hzt.utils.collections.MapX;
+import org.hzt.utils.collections.MutableMapX;
+import org.hzt.utils.function.primitives.IntLongConsumer;
+import org.hzt.utils.sequences.primitives.IntSequence;
+import org.hzt.utils.sequences.primitives.LongSequence;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongBinaryOperator;
+
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.INITIAL_CAPACITY;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.canShiftBack;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.capacityFor;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.mix;
+
+/**
+ * This class implements an open addressing hash map from {@code int} keys to {@code long} values.
+ * <p>
+ * The keys and values are stored in parallel flat {@code int[]} and {@code long[]} tables using linear probing,
+ * so no entry object is allocated per mapping. The key {@code 0} marks a free slot, so its mapping is stored in a field.
+ */
+final class IntLongHashMap extends PrimitiveAbstractMap implements IntLongMutableMap {
+
+    private int[] keys;
+    private long[] values;
+    private long freeKeyValue;
+
+    IntLongHashMap() {
+        this(0);
+    }
+
+    IntLongHashMap(final int expectedSize) {
+        super(capacityFor(expectedSize));
+        this.keys = new int[capacity()];
+        this.values = new long[capacity()];
+    }
+
+    /**
+     * @param key a key that is not the free key
+     * @return the slot of the key if present, otherwise {@code -insertionSlot - 1}
+     */
+    private int slotOf(final int key) {
+        final int[] k = keys;
+        int slot = mix(key) & mask;
+        int current;
+        while ((current = k[slot]) != 0) {
+            if (key == current) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    @Override
+    public boolean containsKey(final int key) {
+        if (key == 0) {
+            return containsFreeKey;
+        }
+        return slotOf(key) >= 0;
+    }
+
+    @Override
+    public long get(final int key) {
+        if (key == 0) {
+            if (containsFreeKey) {
+                return freeKeyValue;
+            }
+            throw noValueFor(key);
+        }
+        final int slot = slotOf(key);
+        if (slot < 0) {
+            throw noValueFor(key);
+        }
+        return values[slot];
+    }
+
+    @Override
+    public long getOrDefault(final int key, final long defaultValue) {
+        if (key == 0) {
+            return containsFreeKey ? freeKeyValue : defaultValue;
+        }
+        final int slot = slotOf(key);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    @Override
+    public void put(final int key, final long value) {
+        if (key == 0) {
+            putFreeKeyValue(value);
+            return;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            values[slot] = value;
+        } else {
+            insert(-slot - 1, key, value);
+        }
+    }
+
+    private void putFreeKeyValue(final long value) {
+        if (!containsFreeKey) {
+            containsFreeKey = true;
+            size++;
+        }
+        freeKeyValue = value;
+    }
+
+    private void insert(final int slot, final int key, final long value) {
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (shouldExpand()) {
+            resize(capacity() * 2);
+        }
+    }
+
+    @Override
+    public long merge(final int key, final long value, final LongBinaryOperator remappingFunction) {
+        if (key == 0) {
+            final long newValue = containsFreeKey ? remappingFunction.applyAsLong(freeKeyValue, value) : value;
+            putFreeKeyValue(newValue);
+            return newValue;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            final long newValue = remappingFunction.applyAsLong(values[slot], value);
+            values[slot] = newValue;
+            return newValue;
+        }
+        insert(-slot - 1, key, value);
+        return value;
+    }
+
+    @Override
+    public long addTo(final int key, final long increment) {
+        if (key == 0) {
+            final long newValue = containsFreeKey ? freeKeyValue + increment : increment;
+            putFreeKeyValue(newValue);
+            return newValue;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            values[slot] += increment;
+            return values[slot];
+        }
+        insert(-slot - 1, key, increment);
+        return increment;
+    }
+
+    @Override
+    public long computeIfAbsent(final int key, final IntToLongFunction mappingFunction) {
+        if (key == 0) {
+            if (!containsFreeKey) {
+                putFreeKeyValue(mappingFunction.applyAsLong(key));
+            }
+            return freeKeyValue;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            return values[slot];
+        }
+        final long value = mappingFunction.applyAsLong(key);
+        insert(-slot - 1, key, value);
+        return value;
+    }
+
+    @Override
+    public boolean remove(final int key) {
+        if (key == 0) {
+            if (!containsFreeKey) {
+                return false;
+            }
+            containsFreeKey = false;
+            freeKeyValue = 0L;
+            size--;
+            return true;
+        }
+        final int slot = slotOf(key);
+        if (slot < 0) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    private void removeAt(final int slot) {
+        size--;
+        shiftKeys(slot);
+        if (shouldContract()) {
+            resize(capacity() / 2);
+        }
+    }
+
+    private void shiftKeys(final int removedSlot) {
+        final int[] k = keys;
+        final long[] v = values;
+        int free = removedSlot;
+        int slot = (free + 1) & mask;
+        int current;
+        while ((current = k[slot]) != 0) {
+            if (canShiftBack(free, mix(current) & mask, slot)) {
+                k[free] = current;
+                v[free] = v[slot];
+                free = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        k[free] = 0;
+    }
+
+    private void resize(final int newCapacity) {
+        final int[] oldKeys = keys;
+        final long[] oldValues = values;
+        final int[] newKeys = new int[newCapacity];
+        final long[] newValues = new long[newCapacity];
+        final int newMask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            final int current = oldKeys[i];
+            if (current != 0) {
+                int slot = mix(current) & newMask;
+                while (newKeys[slot] != 0) {
+                    slot = (slot + 1) & newMask;
+                }
+                newKeys[slot] = current;
+                newValues[slot] = oldValues[i];
+            }
+        }
+        keys = newKeys;
+        values = newValues;
+        mask = newMask;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        containsFreeKey = false;
+        freeKeyValue = 0L;
+        keys = new int[INITIAL_CAPACITY];
+        values = new long[INITIAL_CAPACITY];
+        mask = INITIAL_CAPACITY - 1;
+    }
+
+    @Override
+    public void forEach(final IntLongConsumer action) {
+        if (containsFreeKey) {
+            action.accept(0, freeKeyValue);
+        }
+        final int[] k = keys;
+        final long[] v = values;
+        for (int slot = 0; slot < k.length; slot++) {
+            if (k[slot] != 0) {
+                action.accept(k[slot], v[slot]);
+            }
+        }
+    }
+
+    @Override
+    public IntSequence keys() {
+        return KeyIterator::new;
+    }
+
+    @Override
+    public LongSequence values() {
+        return ValueIterator::new;
+    }
+
+    @Override
+    public MapX<Integer, Long> boxed() {
+        final MutableMapX<Integer, Long> map = MutableMapX.withInitCapacity(size);
+        forEach(map::put);
+        return map.toMapX();
+    }
+
+    @Override
+    boolean isOccupied(final int slot) {
+        return keys[slot] != 0;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final IntLongHashMap that = (IntLongHashMap) o;
+        if (size != that.size) {
+            return false;
+        }
+        if (containsFreeKey && (!that.containsFreeKey || freeKeyValue != that.freeKeyValue)) {
+            return false;
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            final int key = keys[slot];
+            if (key != 0) {
+                final int otherSlot = that.slotOf(key);
+                if (otherSlot < 0 || values[slot] != that.values[otherSlot]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = containsFreeKey ? Long.hashCode(freeKeyValue) : 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            final int key = keys[slot];
+            if (key != 0) {
+                hashCode += Integer.hashCode(key) ^ Long.hashCode(values[slot]);
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key).append('=').append(value);
+        });
+        return sb.append('}').toString();
+    }
+
+    private final class KeyIterator extends SlotIterator implements PrimitiveIterator.OfInt {
+
+        @Override
+        public int nextInt() {
+            final int slot = nextSlot();
+            return slot < 0 ? 0 : keys[slot];
+        }
+    }
+
+    private final class ValueIterator extends SlotIterator implements PrimitiveIterator.OfLong {
+
+        @Override
+        public long nextLong() {
+            final int slot = nextSlot();
+            return slot < 0 ? freeKeyValue : values[slot];
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.hzt.utils.collections.primitives;
+
+import org.hzt.utils.collections.MapX;
+import org.hzt.utils.function.primitives.IntLongConsumer;
+import org.hzt.utils.sequences.primitives.IntSequence;
+import org.hzt.utils.sequences.primitives.LongSequence;
+
+/**
+ * A read only view of a hash map from {@code int} keys to {@code long} values that does not box.
+ *
+ * @see IntLongMutableMap
+ */
+public interface IntLongMap {
+
+    int size();
+
+    boolean isEmpty();
+
+    boolean containsKey(int key);
+
+    /**
+     * @param key the key to look up
+     * @return the value mapped to the key
+     * @throws java.util.NoSuchElementException if the map contains no mapping for the key
+     */
+    long get(int key);
+
+    long getOrDefault(int key, long defaultValue);
+
+    void forEach(IntLongConsumer action);
+
+    IntSequence keys();
+
+    LongSequence values();
+
+    MapX<Integer, Long> boxed();
+}
@@ -0,0 +1,39 @@
+package org.hzt.utils.collections.primitives;
+
+import java.util.function.IntToLongFunction;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * A mutable open addressing hash map from {@code int} keys to {@code long} values.
+ * <p>
+ * {@link #merge}, {@link #addTo} and {@link #computeIfAbsent} update a mapping in place without allocating.
+ */
+public interface IntLongMutableMap extends IntLongMap {
+
+    static IntLongMutableMap empty() {
+        return new IntLongHashMap();
+    }
+
+    static IntLongMutableMap withInitCapacity(final int capacity) {
+        return new IntLongHashMap(capacity);
+    }
+
+    void put(int key, long value);
+
+    long merge(int key, long value, LongBinaryOperator remappingFunction);
+
+    /**
+     * Adds the increment to the value mapped to the key, or maps the key to the increment if it is not present.
+     *
+     * @param key the key of the value to increment
+     * @param increment the amount to add
+     * @return the new value mapped to the key
+     */
+    long addTo(int key, long increment);
+
+    long computeIfAbsent(int key, IntToLongFunction mappingFunction);
+
+    boolean remove(int key);
+
+    void clear();
+}
@@ -0,0 +1,38 @@
+package org.hzt.utils.collections.primitives;
+
+import org.hzt.utils.collections.MapX;
+import org.hzt.utils.function.primitives.IntObjConsumer;
+import org.hzt.utils.sequences.Sequence;
+import org.hzt.utils.sequences.primitives.IntSequence;
+
+/**
+ * A read only view of a hash map from {@code int} keys to {@code V} values that does not box.
+ *
+ * @param <V> the type of the values
+ *
+ * @see IntObjMutableMap
+ */
+public interface IntObjMap<V> {
+
+    int size();
+
+    boolean isEmpty();
+
+    boolean containsKey(int key);
+
+    /**
+     * @param key the key to look up
+     * @return the value mapped to the key or {@code null} if the map contains no mapping for the key
+     */
+    V get(int key);
+
+    V getOrDefault(int key, V defaultValue);
+
+    void forEach(IntObjConsumer<? super V> action);
+
+    IntSequence keys();
+
+    Sequence<V> values();
+
+    MapX<Integer, V> boxed();
+}
@@ -0,0 +1,36 @@
+package org.hzt.utils.collections.primitives;
+
+import java.util.function.BiFunction;
+import java.util.function.IntFunction;
+
+/**
+ * A mutable open addressing hash map from {@code int} keys to {@code V} values.
+ * <p>
+ * {@link #merge} and {@link #computeIfAbsent} update a mapping in place without allocating.
+ *
+ * @param <V> the type of the values
+ */
+public interface IntObjMutableMap<V> extends IntObjMap<V> {
+
+    static <V> IntObjMutableMap<V> empty() {
+        return new IntObjHashMap<>();
+    }
+
+    static <V> IntObjMutableMap<V> withInitCapacity(final int capacity) {
+        return new IntObjHashMap<>(capacity);
+    }
+
+    void put(int key, V value);
+
+    /**
+     * Like {@link java.util.Map#merge(Object, Object, BiFunction)}, the mapping is removed if the remapping function
+     * returns {@code null}.
+     */
+    V merge(int key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction);
+
+    V computeIfAbsent(int key, IntFunction<? extends V> mappingFunction);
+
+    boolean remove(int key);
+
+    void clear();
+}
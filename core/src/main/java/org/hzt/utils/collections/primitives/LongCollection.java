@@ -9,6 +9,7 @@ import org.hzt.utils.iterables.primitives.LongNumerable;
 import org.hzt.utils.iterables.primitives.LongReducable;
 import org.hzt.utils.iterables.primitives.LongStreamable;
 import org.hzt.utils.iterables.primitives.LongStringable;
+import org.hzt.utils.sequences.parallel.LongParallelSequence;
 import org.hzt.utils.sequences.primitives.LongSequence;
 
 import java.util.PrimitiveIterator;
@@ -113,6 +114,10 @@ public interface LongCollection extends
         return LongSequence.of(this);
     }
 
+    default LongParallelSequence parallelSequence() {
+        return LongParallelSequence.of(this);
+    }
+
     @Override
     default Spliterator.OfLong spliterator() {
         return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.NONNULL);
@@ -4,131 +4,181 @@ import org.hzt.utils.collections.MutableSetX;
 
 import java.util.PrimitiveIterator;
 import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.INITIAL_CAPACITY;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.canShiftBack;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.capacityFor;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.mix;
 
 /**
- * This class implements a simple hash set for {@code long} values.
- * keep track of nodes that are being pointed to by fingers.
+ * This class implements an open addressing hash set for {@code long} values.
+ * <p>
+ * The values are stored in a flat {@code long[]} table using linear probing, so no node is allocated per element.
+ * The value {@code 0L} marks a free slot and is tracked by a flag.
  */
 final class LongHashSet extends PrimitiveAbstractSet<Long, LongConsumer, long[], PrimitiveIterator.OfLong>
         implements LongMutableSet {
 
+    private static final long FREE_KEY = 0L;
+
+    private long[] table;
+
     LongHashSet() {
         this(0);
     }
 
-    public LongHashSet(final long[] values) {
-        this(values.length > 0 ? 1 : 0);
+    LongHashSet(final long[] values) {
+        this(values.length);
         for (final long value : values) {
             add(value);
         }
     }
 
-    public LongHashSet(final int size) {
-        super(size, new CollisionChainNode[INITIAL_CAPACITY]);
+    LongHashSet(final int expectedSize) {
+        super(capacityFor(expectedSize));
+        this.table = new long[capacity()];
     }
 
     public boolean add(final long value) {
-        if (contains(value)) {
-            return false;
+        if (value == FREE_KEY) {
+            if (containsFreeKey) {
+                return false;
+            }
+            containsFreeKey = true;
+            size++;
+            return true;
         }
+        final long[] t = table;
+        int slot = mix(value) & mask;
+        long current;
+        while ((current = t[slot]) != FREE_KEY) {
+            if (current == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        t[slot] = value;
         size++;
-
         if (shouldExpand()) {
-            expand();
+            resize(capacity() * 2);
         }
-
-        final int targetCollisionChainIndex = Long.hashCode(value) & mask;
-        final PrimitiveNode next = table[targetCollisionChainIndex];
-        final PrimitiveNode newNode = new CollisionChainNode(value, next);
-        table[targetCollisionChainIndex] = newNode;
         return true;
     }
 
     public boolean contains(final long value) {
-        final int collisionChainIndex = Long.hashCode(value) & mask;
-        PrimitiveNode node = table[collisionChainIndex];
-
-        while (node != null) {
-            if (((CollisionChainNode) node).value == value) {
+        if (value == FREE_KEY) {
+            return containsFreeKey;
+        }
+        final long[] t = table;
+        int slot = mix(value) & mask;
+        long current;
+        while ((current = t[slot]) != FREE_KEY) {
+            if (current == value) {
                 return true;
             }
-            node = node.next;
+            slot = (slot + 1) & mask;
         }
         return false;
     }
 
     public boolean remove(final long value) {
-        if (!contains(value)) {
-            return false;
-        }
-        size--;
-        if (shouldContract()) {
-            contract();
+        if (value == FREE_KEY) {
+            if (!containsFreeKey) {
+                return false;
+            }
+            containsFreeKey = false;
+            size--;
+            return true;
         }
-        final int targetCollisionChainIndex = Long.hashCode(value) & mask;
-
-        PrimitiveNode current = table[targetCollisionChainIndex];
-
-        PrimitiveNode previous = null;
-        while (current != null) {
-            final PrimitiveNode next = current.next;
-            if (((CollisionChainNode) current).value == value) {
-                if (previous == null) {
-                    table[targetCollisionChainIndex] = next;
-                } else {
-                    previous.next = next;
+        final long[] t = table;
+        int slot = mix(value) & mask;
+        long current;
+        while ((current = t[slot]) != FREE_KEY) {
+            if (current == value) {
+                size--;
+                shiftKeys(slot);
+                if (shouldContract()) {
+                    resize(capacity() / 2);
                 }
                 return true;
             }
-            previous = current;
-            current = next;
+            slot = (slot + 1) & mask;
         }
-        return true;
+        return false;
     }
 
-    @Override
-    public MutableSetX<Long> boxed() {
-        return MutableSetX.of(this);
+    private void shiftKeys(final int removedSlot) {
+        final long[] t = table;
+        int free = removedSlot;
+        int slot = (free + 1) & mask;
+        long current;
+        while ((current = t[slot]) != FREE_KEY) {
+            if (canShiftBack(free, mix(current) & mask, slot)) {
+                t[free] = current;
+                free = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        t[free] = FREE_KEY;
+    }
+
+    private void resize(final int newCapacity) {
+        final long[] oldTable = table;
+        final long[] newTable = new long[newCapacity];
+        final int newMask = newCapacity - 1;
+        for (final long value : oldTable) {
+            if (value != FREE_KEY) {
+                int slot = mix(value) & newMask;
+                while (newTable[slot] != FREE_KEY) {
+                    slot = (slot + 1) & newMask;
+                }
+                newTable[slot] = value;
+            }
+        }
+        table = newTable;
+        mask = newMask;
     }
 
     @Override
-    public long[] toArray() {
-        return asSequence().toArray();
-    }
-
-    public void clear() {
-        size = 0;
-        table = new CollisionChainNode[INITIAL_CAPACITY];
-        mask = table.length - 1;
+    public boolean removeIf(final LongPredicate predicate) {
+        final long[] toRemove = asSequence().filter(predicate).toArray();
+        for (final long value : toRemove) {
+            remove(value);
+        }
+        return toRemove.length > 0;
     }
 
-    // Keep add(long) an amortized O(1)
-
-    private boolean shouldExpand() {
-        return size > table.length * MAXIMUM_LOAD_FACTOR;
+    @Override
+    public MutableSetX<Long> boxed() {
+        return asSequence().boxed().toMutableSet();
     }
-    // Keep remove(long) an amortized O(1)
 
-    private boolean shouldContract() {
-        if (table.length == INITIAL_CAPACITY) {
-            return false;
+    @Override
+    public long[] toArray() {
+        final long[] array = new long[size];
+        int index = 0;
+        if (containsFreeKey) {
+            array[index++] = FREE_KEY;
         }
-
-        return MAXIMUM_LOAD_FACTOR * size * 4 < table.length;
+        for (final long value : table) {
+            if (value != FREE_KEY) {
+                array[index++] = value;
+            }
+        }
+        return array;
     }
-    private void expand() {
-        final CollisionChainNode[] newTable = new CollisionChainNode[table.length * 2];
 
-        rehash(table, newTable);
-        table = newTable;
+    public void clear() {
+        size = 0;
+        containsFreeKey = false;
+        table = new long[INITIAL_CAPACITY];
         mask = table.length - 1;
     }
 
-    private void contract() {
-        final CollisionChainNode[] newTable = new CollisionChainNode[table.length / 4];
-        rehash(table, newTable);
-        table = newTable;
-        mask = table.length - 1;
+    @Override
+    boolean isOccupied(final int slot) {
+        return table[slot] != FREE_KEY;
     }
 
     @Override
@@ -136,11 +186,6 @@ final class LongHashSet extends PrimitiveAbstractSet<Long, LongConsumer, long[],
         return Long.hashCode(iterator.nextLong());
     }
 
-    @Override
-    int rehash(final PrimitiveNode node, final int newTableLength) {
-        return Long.hashCode(((CollisionChainNode) node).value) & (newTableLength - 1);
-    }
-
     @Override
     protected long[] newArray(final int length) {
         return new long[length];
@@ -156,24 +201,11 @@ final class LongHashSet extends PrimitiveAbstractSet<Long, LongConsumer, long[],
 
         @Override
         public long nextLong() {
-            return ((CollisionChainNode) nextNode()).value;
+            final int slot = nextSlot();
+            return slot < 0 ? FREE_KEY : table[slot];
         }
     }
 
-    private static final class CollisionChainNode extends PrimitiveNode {
-
-        private final long value;
-
-        CollisionChainNode(final long value, final PrimitiveNode next) {
-            super(next);
-            this.value = value;
-        }
-
-        @Override
-        public String toString() {
-            return "Chain node, long = " + value;
-        }
-    }
     @Override
     protected void appendNextPrimitive(final StringBuilder sb, final PrimitiveIterator.OfLong iterator) {
         sb.append(iterator.nextLong());
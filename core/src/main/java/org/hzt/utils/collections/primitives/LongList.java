@@ -9,7 +9,6 @@ import org.hzt.utils.primitive_comparators.LongComparator;
 import org.hzt.utils.ranges.IntRange;
 import org.hzt.utils.sequences.primitives.LongSequence;
 
-import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.OptionalLong;
 import java.util.Random;
@@ -100,7 +99,7 @@ public interface LongList extends LongCollection,
     @Override
     default LongList sorted() {
         final long[] array = toArray();
-        Arrays.sort(array);
+        ArraysX.sort(array);
         return LongList.of(array);
     }
 
@@ -114,8 +113,7 @@ public interface LongList extends LongCollection,
     @Override
     default LongList sortedDescending() {
         final long[] array = toArray();
-        Arrays.sort(array);
-        ArraysX.reverse(array);
+        ArraysX.sortDescending(array);
         return LongList.of(array);
     }
 
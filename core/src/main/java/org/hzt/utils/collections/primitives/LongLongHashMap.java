@@ -0,0 +1,349 @@
+package org.hzt.utils.collections.primitives;
+
+import org.hzt.utils.collections.MapX;
+import org.hzt.utils.collections.MutableMapX;
+import org.hzt.utils.function.primitives.LongLongConsumer;
+import org.hzt.utils.sequences.primitives.LongSequence;
+
+import java.util.PrimitiveIterator;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.INITIAL_CAPACITY;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.canShiftBack;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.capacityFor;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.mix;
+
+/**
+ * This class implements an open addressing hash map from {@code long} keys to {@code long} values.
+ * <p>
+ * The keys and values are stored in parallel flat {@code long[]} and {@code long[]} tables using linear probing,
+ * so no entry object is allocated per mapping. The key {@code 0L} marks a free slot, so its mapping is stored in a field.
+ */
+final class LongLongHashMap extends PrimitiveAbstractMap implements LongLongMutableMap {
+
+    private long[] keys;
+    private long[] values;
+    private long freeKeyValue;
+
+    LongLongHashMap() {
+        this(0);
+    }
+
+    LongLongHashMap(final int expectedSize) {
+        super(capacityFor(expectedSize));
+        this.keys = new long[capacity()];
+        this.values = new long[capacity()];
+    }
+
+    /**
+     * @param key a key that is not the free key
+     * @return the slot of the key if present, otherwise {@code -insertionSlot - 1}
+     */
+    private int slotOf(final long key) {
+        final long[] k = keys;
+        int slot = mix(key) & mask;
+        long current;
+        while ((current = k[slot]) != 0L) {
+            if (key == current) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    @Override
+    public boolean containsKey(final long key) {
+        if (key == 0L) {
+            return containsFreeKey;
+        }
+        return slotOf(key) >= 0;
+    }
+
+    @Override
+    public long get(final long key) {
+        if (key == 0L) {
+            if (containsFreeKey) {
+                return freeKeyValue;
+            }
+            throw noValueFor(key);
+        }
+        final int slot = slotOf(key);
+        if (slot < 0) {
+            throw noValueFor(key);
+        }
+        return values[slot];
+    }
+
+    @Override
+    public long getOrDefault(final long key, final long defaultValue) {
+        if (key == 0L) {
+            return containsFreeKey ? freeKeyValue : defaultValue;
+        }
+        final int slot = slotOf(key);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    @Override
+    public void put(final long key, final long value) {
+        if (key == 0L) {
+            putFreeKeyValue(value);
+            return;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            values[slot] = value;
+        } else {
+            insert(-slot - 1, key, value);
+        }
+    }
+
+    private void putFreeKeyValue(final long value) {
+        if (!containsFreeKey) {
+            containsFreeKey = true;
+            size++;
+        }
+        freeKeyValue = value;
+    }
+
+    private void insert(final int slot, final long key, final long value) {
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (shouldExpand()) {
+            resize(capacity() * 2);
+        }
+    }
+
+    @Override
+    public long merge(final long key, final long value, final LongBinaryOperator remappingFunction) {
+        if (key == 0L) {
+            final long newValue = containsFreeKey ? remappingFunction.applyAsLong(freeKeyValue, value) : value;
+            putFreeKeyValue(newValue);
+            return newValue;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            final long newValue = remappingFunction.applyAsLong(values[slot], value);
+            values[slot] = newValue;
+            return newValue;
+        }
+        insert(-slot - 1, key, value);
+        return value;
+    }
+
+    @Override
+    public long addTo(final long key, final long increment) {
+        if (key == 0L) {
+            final long newValue = containsFreeKey ? freeKeyValue + increment : increment;
+            putFreeKeyValue(newValue);
+            return newValue;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            values[slot] += increment;
+            return values[slot];
+        }
+        insert(-slot - 1, key, increment);
+        return increment;
+    }
+
+    @Override
+    public long computeIfAbsent(final long key, final LongUnaryOperator mappingFunction) {
+        if (key == 0L) {
+            if (!containsFreeKey) {
+                putFreeKeyValue(mappingFunction.applyAsLong(key));
+            }
+            return freeKeyValue;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            return values[slot];
+        }
+        final long value = mappingFunction.applyAsLong(key);
+        insert(-slot - 1, key, value);
+        return value;
+    }
+
+    @Override
+    public boolean remove(final long key) {
+        if (key == 0L) {
+            if (!containsFreeKey) {
+                return false;
+            }
+            containsFreeKey = false;
+            freeKeyValue = 0L;
+            size--;
+            return true;
+        }
+        final int slot = slotOf(key);
+        if (slot < 0) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    private void removeAt(final int slot) {
+        size--;
+        shiftKeys(slot);
+        if (shouldContract()) {
+            resize(capacity() / 2);
+        }
+    }
+
+    private void shiftKeys(final int removedSlot) {
+        final long[] k = keys;
+        final long[] v = values;
+        int free = removedSlot;
+        int slot = (free + 1) & mask;
+        long current;
+        while ((current = k[slot]) != 0L) {
+            if (canShiftBack(free, mix(current) & mask, slot)) {
+                k[free] = current;
+                v[free] = v[slot];
+                free = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        k[free] = 0L;
+    }
+
+    private void resize(final int newCapacity) {
+        final long[] oldKeys = keys;
+        final long[] oldValues = values;
+        final long[] newKeys = new long[newCapacity];
+        final long[] newValues = new long[newCapacity];
+        final int newMask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            final long current = oldKeys[i];
+            if (current != 0L) {
+                int slot = mix(current) & newMask;
+                while (newKeys[slot] != 0L) {
+                    slot = (slot + 1) & newMask;
+                }
+                newKeys[slot] = current;
+                newValues[slot] = oldValues[i];
+            }
+        }
+        keys = newKeys;
+        values = newValues;
+        mask = newMask;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        containsFreeKey = false;
+        freeKeyValue = 0L;
+        keys = new long[INITIAL_CAPACITY];
+        values = new long[INITIAL_CAPACITY];
+        mask = INITIAL_CAPACITY - 1;
+    }
+
+    @Override
+    public void forEach(final LongLongConsumer action) {
+        if (containsFreeKey) {
+            action.accept(0L, freeKeyValue);
+        }
+        final long[] k = keys;
+        final long[] v = values;
+        for (int slot = 0; slot < k.length; slot++) {
+            if (k[slot] != 0L) {
+                action.accept(k[slot], v[slot]);
+            }
+        }
+    }
+
+    @Override
+    public LongSequence keys() {
+        return KeyIterator::new;
+    }
+
+    @Override
+    public LongSequence values() {
+        return ValueIterator::new;
+    }
+
+    @Override
+    public MapX<Long, Long> boxed() {
+        final MutableMapX<Long, Long> map = MutableMapX.withInitCapacity(size);
+        forEach(map::put);
+        return map.toMapX();
+    }
+
+    @Override
+    boolean isOccupied(final int slot) {
+        return keys[slot] != 0L;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final LongLongHashMap that = (LongLongHashMap) o;
+        if (size != that.size) {
+            return false;
+        }
+        if (containsFreeKey && (!that.containsFreeKey || freeKeyValue != that.freeKeyValue)) {
+            return false;
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            final long key = keys[slot];
+            if (key != 0L) {
+                final int otherSlot = that.slotOf(key);
+                if (otherSlot < 0 || values[slot] != that.values[otherSlot]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = containsFreeKey ? Long.hashCode(freeKeyValue) : 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            final long key = keys[slot];
+            if (key != 0L) {
+                hashCode += Long.hashCode(key) ^ Long.hashCode(values[slot]);
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key).append('=').append(value);
+        });
+        return sb.append('}').toString();
+    }
+
+    private final class KeyIterator extends SlotIterator implements PrimitiveIterator.OfLong {
+
+        @Override
+        public long nextLong() {
+            final int slot = nextSlot();
+            return slot < 0 ? 0L : keys[slot];
+        }
+    }
+
+    private final class ValueIterator extends SlotIterator implements PrimitiveIterator.OfLong {
+
+        @Override
+        public long nextLong() {
+            final int slot = nextSlot();
+            return slot < 0 ? freeKeyValue : values[slot];
+        }
+    }
+}
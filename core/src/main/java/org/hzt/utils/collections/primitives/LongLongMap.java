@@ -0,0 +1,36 @@
+package org.hzt.utils.collections.primitives;
+
+import org.hzt.utils.collections.MapX;
+import org.hzt.utils.function.primitives.LongLongConsumer;
+import org.hzt.utils.sequences.primitives.LongSequence;
+
+/**
+ * A read only view of a hash map from {@code long} keys to {@code long} values that does not box.
+ *
+ * @see LongLongMutableMap
+ */
+public interface LongLongMap {
+
+    int size();
+
+    boolean isEmpty();
+
+    boolean containsKey(long key);
+
+    /**
+     * @param key the key to look up
+     * @return the value mapped to the key
+     * @throws java.util.NoSuchElementException if the map contains no mapping for the key
+     */
+    long get(long key);
+
+    long getOrDefault(long key, long defaultValue);
+
+    void forEach(LongLongConsumer action);
+
+    LongSequence keys();
+
+    LongSequence values();
+
+    MapX<Long, Long> boxed();
+}
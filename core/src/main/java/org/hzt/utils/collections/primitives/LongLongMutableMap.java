@@ -0,0 +1,39 @@
+package org.hzt.utils.collections.primitives;
+
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A mutable open addressing hash map from {@code long} keys to {@code long} values.
+ * <p>
+ * {@link #merge}, {@link #addTo} and {@link #computeIfAbsent} update a mapping in place without allocating.
+ */
+public interface LongLongMutableMap extends LongLongMap {
+
+    static LongLongMutableMap empty() {
+        return new LongLongHashMap();
+    }
+
+    static LongLongMutableMap withInitCapacity(final int capacity) {
+        return new LongLongHashMap(capacity);
+    }
+
+    void put(long key, long value);
+
+    long merge(long key, long value, LongBinaryOperator remappingFunction);
+
+    /**
+     * Adds the increment to the value mapped to the key, or maps the key to the increment if it is not present.
+     *
+     * @param key the key of the value to increment
+     * @param increment the amount to add
+     * @return the new value mapped to the key
+     */
+    long addTo(long key, long increment);
+
+    long computeIfAbsent(long key, LongUnaryOperator mappingFunction);
+
+    boolean remove(long key);
+
+    void clear();
+}
@@ -0,0 +1,352 @@
+package org.hzt.utils.collections.primitives;
+
+import org.hzt.utils.collections.MapX;
+import org.hzt.utils.collections.MutableMapX;
+import org.hzt.utils.function.primitives.LongObjConsumer;
+import org.hzt.utils.sequences.Sequence;
+import org.hzt.utils.sequences.primitives.LongSequence;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.BiFunction;
+import java.util.function.LongFunction;
+
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.INITIAL_CAPACITY;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.canShiftBack;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.capacityFor;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.mix;
+
+/**
+ * This class implements an open addressing hash map from {@code long} keys to {@code V} values.
+ * <p>
+ * The keys and values are stored in parallel flat {@code long[]} and {@code Object[]} tables using linear probing,
+ * so no entry object is allocated per mapping. The key {@code 0L} marks a free slot, so its mapping is stored in a field.
+ *
+ * @param <V> the type of the values
+ */
+@SuppressWarnings("unchecked")
+final class LongObjHashMap<V> extends PrimitiveAbstractMap implements LongObjMutableMap<V> {
+
+    private long[] keys;
+    private Object[] values;
+    private V freeKeyValue;
+
+    LongObjHashMap() {
+        this(0);
+    }
+
+    LongObjHashMap(final int expectedSize) {
+        super(capacityFor(expectedSize));
+        this.keys = new long[capacity()];
+        this.values = new Object[capacity()];
+    }
+
+    /**
+     * @param key a key that is not the free key
+     * @return the slot of the key if present, otherwise {@code -insertionSlot - 1}
+     */
+    private int slotOf(final long key) {
+        final long[] k = keys;
+        int slot = mix(key) & mask;
+        long current;
+        while ((current = k[slot]) != 0L) {
+            if (key == current) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    @Override
+    public boolean containsKey(final long key) {
+        if (key == 0L) {
+            return containsFreeKey;
+        }
+        return slotOf(key) >= 0;
+    }
+
+    @Override
+    public V get(final long key) {
+        if (key == 0L) {
+            return containsFreeKey ? freeKeyValue : null;
+        }
+        final int slot = slotOf(key);
+        return slot >= 0 ? (V) values[slot] : null;
+    }
+
+    @Override
+    public V getOrDefault(final long key, final V defaultValue) {
+        if (key == 0L) {
+            return containsFreeKey ? freeKeyValue : defaultValue;
+        }
+        final int slot = slotOf(key);
+        return slot >= 0 ? (V) values[slot] : defaultValue;
+    }
+
+    @Override
+    public void put(final long key, final V value) {
+        if (key == 0L) {
+            putFreeKeyValue(value);
+            return;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            values[slot] = value;
+        } else {
+            insert(-slot - 1, key, value);
+        }
+    }
+
+    private void putFreeKeyValue(final V value) {
+        if (!containsFreeKey) {
+            containsFreeKey = true;
+            size++;
+        }
+        freeKeyValue = value;
+    }
+
+    private void insert(final int slot, final long key, final V value) {
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (shouldExpand()) {
+            resize(capacity() * 2);
+        }
+    }
+
+    @Override
+    public V merge(final long key, final V value, final BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        if (key == 0L) {
+            if (!containsFreeKey) {
+                putFreeKeyValue(value);
+                return value;
+            }
+            final V newValue = remappingFunction.apply(freeKeyValue, value);
+            if (newValue == null) {
+                remove(key);
+            } else {
+                freeKeyValue = newValue;
+            }
+            return newValue;
+        }
+        final int slot = slotOf(key);
+        if (slot < 0) {
+            insert(-slot - 1, key, value);
+            return value;
+        }
+        final V newValue = remappingFunction.apply((V) values[slot], value);
+        if (newValue == null) {
+            removeAt(slot);
+        } else {
+            values[slot] = newValue;
+        }
+        return newValue;
+    }
+
+    @Override
+    public V computeIfAbsent(final long key, final LongFunction<? extends V> mappingFunction) {
+        if (key == 0L) {
+            if (!containsFreeKey) {
+                final V value = mappingFunction.apply(key);
+                if (value != null) {
+                    putFreeKeyValue(value);
+                }
+                return value;
+            }
+            return freeKeyValue;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            return (V) values[slot];
+        }
+        final V value = mappingFunction.apply(key);
+        if (value != null) {
+            insert(-slot - 1, key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean remove(final long key) {
+        if (key == 0L) {
+            if (!containsFreeKey) {
+                return false;
+            }
+            containsFreeKey = false;
+            freeKeyValue = null;
+            size--;
+            return true;
+        }
+        final int slot = slotOf(key);
+        if (slot < 0) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    private void removeAt(final int slot) {
+        size--;
+        shiftKeys(slot);
+        if (shouldContract()) {
+            resize(capacity() / 2);
+        }
+    }
+
+    private void shiftKeys(final int removedSlot) {
+        final long[] k = keys;
+        final Object[] v = values;
+        int free = removedSlot;
+        int slot = (free + 1) & mask;
+        long current;
+        while ((current = k[slot]) != 0L) {
+            if (canShiftBack(free, mix(current) & mask, slot)) {
+                k[free] = current;
+                v[free] = v[slot];
+                free = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        k[free] = 0L;
+        v[free] = null;
+    }
+
+    private void resize(final int newCapacity) {
+        final long[] oldKeys = keys;
+        final Object[] oldValues = values;
+        final long[] newKeys = new long[newCapacity];
+        final Object[] newValues = new Object[newCapacity];
+        final int newMask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            final long current = oldKeys[i];
+            if (current != 0L) {
+                int slot = mix(current) & newMask;
+                while (newKeys[slot] != 0L) {
+                    slot = (slot + 1) & newMask;
+                }
+                newKeys[slot] = current;
+                newValues[slot] = oldValues[i];
+            }
+        }
+        keys = newKeys;
+        values = newValues;
+        mask = newMask;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        containsFreeKey = false;
+        freeKeyValue = null;
+        keys = new long[INITIAL_CAPACITY];
+        values = new Object[INITIAL_CAPACITY];
+        mask = INITIAL_CAPACITY - 1;
+    }
+
+    @Override
+    public void forEach(final LongObjConsumer<? super V> action) {
+        if (containsFreeKey) {
+            action.accept(0L, freeKeyValue);
+        }
+        final long[] k = keys;
+        final Object[] v = values;
+        for (int slot = 0; slot < k.length; slot++) {
+            if (k[slot] != 0L) {
+                action.accept(k[slot], (V) v[slot]);
+            }
+        }
+    }
+
+    @Override
+    public LongSequence keys() {
+        return KeyIterator::new;
+    }
+
+    @Override
+    public Sequence<V> values() {
+        return ValueIterator::new;
+    }
+
+    @Override
+    public MapX<Long, V> boxed() {
+        final MutableMapX<Long, V> map = MutableMapX.withInitCapacity(size);
+        forEach(map::put);
+        return map.toMapX();
+    }
+
+    @Override
+    boolean isOccupied(final int slot) {
+        return keys[slot] != 0L;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final LongObjHashMap<V> that = (LongObjHashMap<V>) o;
+        if (size != that.size) {
+            return false;
+        }
+        if (containsFreeKey && (!that.containsFreeKey || !Objects.equals(freeKeyValue, that.freeKeyValue))) {
+            return false;
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            final long key = keys[slot];
+            if (key != 0L) {
+                final int otherSlot = that.slotOf(key);
+                if (otherSlot < 0 || !Objects.equals(values[slot], that.values[otherSlot])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = containsFreeKey ? Objects.hashCode(freeKeyValue) : 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            final long key = keys[slot];
+            if (key != 0L) {
+                hashCode += Long.hashCode(key) ^ Objects.hashCode(values[slot]);
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key).append('=').append(value);
+        });
+        return sb.append('}').toString();
+    }
+
+    private final class KeyIterator extends SlotIterator implements PrimitiveIterator.OfLong {
+
+        @Override
+        public long nextLong() {
+            final int slot = nextSlot();
+            return slot < 0 ? 0L : keys[slot];
+        }
+    }
+
+    private final class ValueIterator extends SlotIterator implements Iterator<V> {
+
+        @Override
+        public V next() {
+            final int slot = nextSlot();
+            return slot < 0 ? freeKeyValue : (V) values[slot];
+        }
+    }
+}
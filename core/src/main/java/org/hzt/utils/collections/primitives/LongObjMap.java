@@ -0,0 +1,38 @@
+package org.hzt.utils.collections.primitives;
+
+import org.hzt.utils.collections.MapX;
+import org.hzt.utils.function.primitives.LongObjConsumer;
+import org.hzt.utils.sequences.Sequence;
+import org.hzt.utils.sequences.primitives.LongSequence;
+
+/**
+ * A read only view of a hash map from {@code long} keys to {@code V} values that does not box.
+ *
+ * @param <V> the type of the values
+ *
+ * @see LongObjMutableMap
+ */
+public interface LongObjMap<V> {
+
+    int size();
+
+    boolean isEmpty();
+
+    boolean containsKey(long key);
+
+    /**
+     * @param key the key to look up
+     * @return the value mapped to the key or {@code null} if the map contains no mapping for the key
+     */
+    V get(long key);
+
+    V getOrDefault(long key, V defaultValue);
+
+    void forEach(LongObjConsumer<? super V> action);
+
+    LongSequence keys();
+
+    Sequence<V> values();
+
+    MapX<Long, V> boxed();
+}
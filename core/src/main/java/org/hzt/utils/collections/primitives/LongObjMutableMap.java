@@ -0,0 +1,36 @@
+package org.hzt.utils.collections.primitives;
+
+import java.util.function.BiFunction;
+import java.util.function.LongFunction;
+
+/**
+ * A mutable open addressing hash map from {@code long} keys to {@code V} values.
+ * <p>
+ * {@link #merge} and {@link #computeIfAbsent} update a mapping in place without allocating.
+ *
+ * @param <V> the type of the values
+ */
+public interface LongObjMutableMap<V> extends LongObjMap<V> {
+
+    static <V> LongObjMutableMap<V> empty() {
+        return new LongObjHashMap<>();
+    }
+
+    static <V> LongObjMutableMap<V> withInitCapacity(final int capacity) {
+        return new LongObjHashMap<>(capacity);
+    }
+
+    void put(long key, V value);
+
+    /**
+     * Like {@link java.util.Map#merge(Object, Object, BiFunction)}, the mapping is removed if the remapping function
+     * returns {@code null}.
+     */
+    V merge(long key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction);
+
+    V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction);
+
+    boolean remove(long key);
+
+    void clear();
+}
@@ -0,0 +1,354 @@
+package org.hzt.utils.collections.primitives;
+
+import org.hzt.utils.collections.MapX;
+import org.hzt.utils.collections.MutableMapX;
+import org.hzt.utils.sequences.Sequence;
+import org.hzt.utils.sequences.primitives.IntSequence;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.INITIAL_CAPACITY;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.canShiftBack;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.capacityFor;
+import static org.hzt.utils.collections.primitives.PrimitiveHashHelper.mix;
+
+/**
+ * This class implements an open addressing hash map from {@code K} keys to {@code int} values.
+ * <p>
+ * The keys and values are stored in parallel flat {@code Object[]} and {@code int[]} tables using linear probing,
+ * so no entry object is allocated per mapping. The {@code null} key marks a free slot, so its mapping is stored in a field.
+ *
+ * @param <K> the type of the keys
+ */
+@SuppressWarnings("unchecked")
+final class ObjIntHashMap<K> extends PrimitiveAbstractMap implements ObjIntMutableMap<K> {
+
+    private Object[] keys;
+    private int[] values;
+    private int freeKeyValue;
+
+    ObjIntHashMap() {
+        this(0);
+    }
+
+    ObjIntHashMap(final int expectedSize) {
+        super(capacityFor(expectedSize));
+        this.keys = new Object[capacity()];
+        this.values = new int[capacity()];
+    }
+
+    /**
+     * @param key a key that is not the free key
+     * @return the slot of the key if present, otherwise {@code -insertionSlot - 1}
+     */
+    private int slotOf(final K key) {
+        final Object[] k = keys;
+        int slot = mix(key.hashCode()) & mask;
+        Object current;
+        while ((current = k[slot]) != null) {
+            if (key.equals(current)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -slot - 1;
+    }
+
+    @Override
+    public boolean containsKey(final K key) {
+        if (key == null) {
+            return containsFreeKey;
+        }
+        return slotOf(key) >= 0;
+    }
+
+    @Override
+    public int get(final K key) {
+        if (key == null) {
+            if (containsFreeKey) {
+                return freeKeyValue;
+            }
+            throw noValueFor(key);
+        }
+        final int slot = slotOf(key);
+        if (slot < 0) {
+            throw noValueFor(key);
+        }
+        return values[slot];
+    }
+
+    @Override
+    public int getOrDefault(final K key, final int defaultValue) {
+        if (key == null) {
+            return containsFreeKey ? freeKeyValue : defaultValue;
+        }
+        final int slot = slotOf(key);
+        return slot >= 0 ? values[slot] : defaultValue;
+    }
+
+    @Override
+    public void put(final K key, final int value) {
+        if (key == null) {
+            putFreeKeyValue(value);
+            return;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            values[slot] = value;
+        } else {
+            insert(-slot - 1, key, value);
+        }
+    }
+
+    private void putFreeKeyValue(final int value) {
+        if (!containsFreeKey) {
+            containsFreeKey = true;
+            size++;
+        }
+        freeKeyValue = value;
+    }
+
+    private void insert(final int slot, final K key, final int value) {
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        if (shouldExpand()) {
+            resize(capacity() * 2);
+        }
+    }
+
+    @Override
+    public int merge(final K key, final int value, final IntBinaryOperator remappingFunction) {
+        if (key == null) {
+            final int newValue = containsFreeKey ? remappingFunction.applyAsInt(freeKeyValue, value) : value;
+            putFreeKeyValue(newValue);
+            return newValue;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            final int newValue = remappingFunction.applyAsInt(values[slot], value);
+            values[slot] = newValue;
+            return newValue;
+        }
+        insert(-slot - 1, key, value);
+        return value;
+    }
+
+    @Override
+    public int addTo(final K key, final int increment) {
+        if (key == null) {
+            final int newValue = containsFreeKey ? freeKeyValue + increment : increment;
+            putFreeKeyValue(newValue);
+            return newValue;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            values[slot] += increment;
+            return values[slot];
+        }
+        insert(-slot - 1, key, increment);
+        return increment;
+    }
+
+    @Override
+    public int computeIfAbsent(final K key, final ToIntFunction<? super K> mappingFunction) {
+        if (key == null) {
+            if (!containsFreeKey) {
+                putFreeKeyValue(mappingFunction.applyAsInt(key));
+            }
+            return freeKeyValue;
+        }
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            return values[slot];
+        }
+        final int value = mappingFunction.applyAsInt(key);
+        insert(-slot - 1, key, value);
+        return value;
+    }
+
+    @Override
+    public boolean remove(final K key) {
+        if (key == null) {
+            if (!containsFreeKey) {
+                return false;
+            }
+            containsFreeKey = false;
+            freeKeyValue = 0;
+            size--;
+            return true;
+        }
+        final int slot = slotOf(key);
+        if (slot < 0) {
+            return false;
+        }
+        removeAt(slot);
+        return true;
+    }
+
+    private void removeAt(final int slot) {
+        size--;
+        shiftKeys(slot);
+        if (shouldContract()) {
+            resize(capacity() / 2);
+        }
+    }
+
+    private void shiftKeys(final int removedSlot) {
+        final Object[] k = keys;
+        final int[] v = values;
+        int free = removedSlot;
+        int slot = (free + 1) & mask;
+        Object current;
+        while ((current = k[slot]) != null) {
+            if (canShiftBack(free, mix(current.hashCode()) & mask, slot)) {
+                k[free] = current;
+                v[free] = v[slot];
+                free = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        k[free] = null;
+    }
+
+    private void resize(final int newCapacity) {
+        final Object[] oldKeys = keys;
+        final int[] oldValues = values;
+        final Object[] newKeys = new Object[newCapacity];
+        final int[] newValues = new int[newCapacity];
+        final int newMask = newCapacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            final Object current = oldKeys[i];
+            if (current != null) {
+                int slot = mix(current.hashCode()) & newMask;
+                while (newKeys[slot] != null) {
+                    slot = (slot + 1) & newMask;
+                }
+                newKeys[slot] = current;
+                newValues[slot] = oldValues[i];
+            }
+        }
+        keys = newKeys;
+        values = newValues;
+        mask = newMask;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        containsFreeKey = false;
+        freeKeyValue = 0;
+        keys = new Object[INITIAL_CAPACITY];
+        values = new int[INITIAL_CAPACITY];
+        mask = INITIAL_CAPACITY - 1;
+    }
+
+    @Override
+    public void forEach(final ObjIntConsumer<? super K> action) {
+        if (containsFreeKey) {
+            action.accept(null, freeKeyValue);
+        }
+        final Object[] k = keys;
+        final int[] v = values;
+        for (int slot = 0; slot < k.length; slot++) {
+            if (k[slot] != null) {
+                action.accept((K) k[slot], v[slot]);
+            }
+        }
+    }
+
+    @Override
+    public Sequence<K> keys() {
+        return KeyIterator::new;
+    }
+
+    @Override
+    public IntSequence values() {
+        return ValueIterator::new;
+    }
+
+    @Override
+    public MapX<K, Integer> boxed() {
+        final MutableMapX<K, Integer> map = MutableMapX.withInitCapacity(size);
+        forEach(map::put);
+        return map.toMapX();
+    }
+
+    @Override
+    boolean isOccupied(final int slot) {
+        return keys[slot] != null;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ObjIntHashMap<K> that = (ObjIntHashMap<K>) o;
+        if (size != that.size) {
+            return false;
+        }
+        if (containsFreeKey && (!that.containsFreeKey || freeKeyValue != that.freeKeyValue)) {
+            return false;
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            final Object key = keys[slot];
+            if (key != null) {
+                final int otherSlot = that.slotOf((K) key);
+                if (otherSlot < 0 || values[slot] != that.values[otherSlot]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = containsFreeKey ? Integer.hashCode(freeKeyValue) : 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            final Object key = keys[slot];
+            if (key != null) {
+                hashCode += key.hashCode() ^ Integer.hashCode(values[slot]);
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key).append('=').append(value);
+        });
+        return sb.append('}').toString();
+    }
+
+    private final class KeyIterator extends SlotIterator implements Iterator<K> {
+
+        @Override
+        public K next() {
+            final int slot = nextSlot();
+            return slot < 0 ? null : (K) keys[slot];
+        }
+    }
+
+    private final class ValueIterator extends SlotIterator implements PrimitiveIterator.OfInt {
+
+        @Override
+        public int nextInt() {
+            final int slot = nextSlot();
+            return slot < 0 ? freeKeyValue : values[slot];
+        }
+    }
+}
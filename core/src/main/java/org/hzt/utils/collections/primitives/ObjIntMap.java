@@ -0,0 +1,40 @@
+package org.hzt.utils.collections.primitives;
+
+import org.hzt.utils.collections.MapX;
+import org.hzt.utils.sequences.Sequence;
+import org.hzt.utils.sequences.primitives.IntSequence;
+
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A read only view of a hash map from {@code K} keys to {@code int} values that does not box.
+ *
+ * @param <K> the type of the keys
+ *
+ * @see ObjIntMutableMap
+ */
+public interface ObjIntMap<K> {
+
+    int size();
+
+    boolean isEmpty();
+
+    boolean containsKey(K key);
+
+    /**
+     * @param key the key to look up
+     * @return the value mapped to the key
+     * @throws java.util.NoSuchElementException if the map contains no mapping for the key
+     */
+    int get(K key);
+
+    int getOrDefault(K key, int defaultValue);
+
+    void forEach(ObjIntConsumer<? super K> action);
+
+    Sequence<K> keys();
+
+    IntSequence values();
+
+    MapX<K, Integer> boxed();
+}
@@ -0,0 +1,41 @@
+package org.hzt.utils.collections.primitives;
+
+import java.util.function.IntBinaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * A mutable open addressing hash map from {@code K} keys to {@code int} values.
+ * <p>
+ * {@link #merge}, {@link #addTo} and {@link #computeIfAbsent} update a mapping in place without allocating.
+ *
+ * @param <K> the type of the keys
+ */
+public interface ObjIntMutableMap<K> extends ObjIntMap<K> {
+
+    static <K> ObjIntMutableMap<K> empty() {
+        return new ObjIntHashMap<>();
+    }
+
+    static <K> ObjIntMutableMap<K> withInitCapacity(final int capacity) {
+        return new ObjIntHashMap<>(capacity);
+    }
+
+    void put(K key, int value);
+
+    int merge(K key, int value, IntBinaryOperator remappingFunction);
+
+    /**
+     * Adds the increment to the value mapped to the key, or maps the key to the increment if it is not present.
+     *
+     * @param key the key of the value to increment
+     * @param increment the amount to add
+     * @return the new value mapped to the key
+     */
+    int addTo(K key, int increment);
+
+    int computeIfAbsent(K key, ToIntFunction<? super K> mappingFunction);
+
+    boolean remove(K key);
+
+    void clear();
+}
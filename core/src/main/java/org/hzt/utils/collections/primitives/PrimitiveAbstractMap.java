@@ -0,0 +1,87 @@
+package org.hzt.utils.collections.primitives;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Base class of the open addressing primitive hash maps.
+ * <p>
+ * The keys and values are stored in parallel flat tables that are probed linearly, so no entry object is allocated
+ * per mapping. The zero key (or the {@code null} key) marks a free slot, so its mapping is stored next to the tables.
+ *
+ * @see PrimitiveHashHelper
+ */
+abstract class PrimitiveAbstractMap {
+
+    int size = 0;
+    int mask;
+    boolean containsFreeKey = false;
+
+    PrimitiveAbstractMap(final int capacity) {
+        this.mask = capacity - 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    abstract boolean isOccupied(int slot);
+
+    final int capacity() {
+        return mask + 1;
+    }
+
+    final boolean shouldExpand() {
+        return PrimitiveHashHelper.shouldExpand(occupiedSlots(), capacity());
+    }
+
+    final boolean shouldContract() {
+        return PrimitiveHashHelper.shouldContract(occupiedSlots(), capacity());
+    }
+
+    private int occupiedSlots() {
+        return containsFreeKey ? size - 1 : size;
+    }
+
+    static NoSuchElementException noValueFor(final Object key) {
+        return new NoSuchElementException("No value present for key " + key);
+    }
+
+    @SuppressWarnings("squid:S2972")
+    abstract class SlotIterator {
+        private boolean freeKeyPending = containsFreeKey;
+        private int slot = nextOccupied(0);
+
+        private int nextOccupied(final int from) {
+            int index = from;
+            final int capacity = capacity();
+            while (index < capacity && !isOccupied(index)) {
+                index++;
+            }
+            return index;
+        }
+
+        /**
+         * @return the next occupied slot or -1 if the next mapping is the one of the free key
+         */
+        int nextSlot() {
+            if (freeKeyPending) {
+                freeKeyPending = false;
+                return -1;
+            }
+            final int current = slot;
+            if (current >= capacity()) {
+                throw new NoSuchElementException();
+            }
+            slot = nextOccupied(current + 1);
+            return current;
+        }
+
+        public boolean hasNext() {
+            return freeKeyPending || slot < capacity();
+        }
+    }
+}
@@ -4,18 +4,28 @@ package org.hzt.utils.collections.primitives;
 import java.util.NoSuchElementException;
 import java.util.PrimitiveIterator;
 
+/**
+ * Base class of the open addressing primitive hash sets.
+ * <p>
+ * The values are stored in a flat primitive table that is probed linearly. The zero value (or the zero bit pattern)
+ * marks a free slot, so whether the zero value itself is contained in the set is tracked separately.
+ *
+ * @see PrimitiveHashHelper
+ *
+ * @param <T> The boxed type
+ * @param <T_CONST> The primitive consumer
+ * @param <A> The primitive array type
+ * @param <I> the primitive iterator
+ */
 public abstract class PrimitiveAbstractSet<T, T_CONST, A, I extends PrimitiveIterator<T, T_CONST>>
         extends PrimitiveAbstractCollection<T, T_CONST, A, I> implements PrimitiveCollection<T, T_CONST, A> {
 
-    static final float MAXIMUM_LOAD_FACTOR = 0.75F;
-    static final int INITIAL_CAPACITY = 8;
-    PrimitiveNode[] table;
+    int mask;
+    boolean containsFreeKey = false;
 
-    int mask = INITIAL_CAPACITY - 1;
-
-    PrimitiveAbstractSet(final int size, final PrimitiveNode[] table) {
-        super(size);
-        this.table = table;
+    PrimitiveAbstractSet(final int capacity) {
+        super(0);
+        this.mask = capacity - 1;
     }
 
     @Override
@@ -47,63 +57,56 @@ public abstract class PrimitiveAbstractSet<T, T_CONST, A, I extends PrimitiveIte
 
     abstract int nextHashCode(I i);
 
-    void rehash(final PrimitiveNode[] table, final PrimitiveNode[] newTable) {
-        for (PrimitiveNode node : table) {
-            while (node != null) {
-                final PrimitiveNode next = node.next;
-                final int rehashedIndex = rehash(node, newTable.length);
+    abstract boolean isOccupied(int slot);
 
-                node.next = newTable[rehashedIndex];
-                newTable[rehashedIndex] = node;
-                node = next;
-            }
-        }
+    final int capacity() {
+        return mask + 1;
+    }
+
+    final boolean shouldExpand() {
+        return PrimitiveHashHelper.shouldExpand(occupiedSlots(), capacity());
     }
 
-    abstract int rehash(PrimitiveNode node, int newTableLength);
+    final boolean shouldContract() {
+        return PrimitiveHashHelper.shouldContract(occupiedSlots(), capacity());
+    }
 
-    @SuppressWarnings("squid:S2972")
-    class PrimitiveHashIterator {
-        private PrimitiveNode next = null;
-        private int index = 0;
+    private int occupiedSlots() {
+        return containsFreeKey ? size - 1 : size;
+    }
 
-        PrimitiveHashIterator() {
-            while (index < table.length && next == null) {
-                next = table[index];
+    @SuppressWarnings("squid:S2972")
+    abstract class PrimitiveHashIterator {
+        private boolean freeKeyPending = containsFreeKey;
+        private int slot = nextOccupied(0);
+
+        private int nextOccupied(final int from) {
+            int index = from;
+            final int capacity = capacity();
+            while (index < capacity && !isOccupied(index)) {
                 index++;
             }
+            return index;
         }
 
-        PrimitiveNode nextNode() {
-            final PrimitiveNode current = next;
-            if (current == null) {
-                throw new NoSuchElementException();
+        /**
+         * @return the next occupied slot or -1 if the next value is the free key
+         */
+        int nextSlot() {
+            if (freeKeyPending) {
+                freeKeyPending = false;
+                return -1;
             }
-            next = current.next;
-            if (next == null) {
-                final PrimitiveNode[] t = table;
-                while (index < t.length) {
-                    next = t[index];
-                    index++;
-                    if (next != null) {
-                        break;
-                    }
-                }
+            final int current = slot;
+            if (current >= capacity()) {
+                throw new NoSuchElementException();
             }
+            slot = nextOccupied(current + 1);
             return current;
         }
 
         public boolean hasNext() {
-            return next != null;
-        }
-    }
-
-    static class PrimitiveNode {
-
-        PrimitiveNode next;
-
-        PrimitiveNode(final PrimitiveNode next) {
-            this.next = next;
+            return freeKeyPending || slot < capacity();
         }
     }
 }
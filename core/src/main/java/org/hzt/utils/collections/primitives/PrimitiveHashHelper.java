@@ -0,0 +1,66 @@
+package org.hzt.utils.collections.primitives;
+
+/**
+ * Shared sizing and hashing logic of the open addressing primitive sets and maps.
+ * <p>
+ * The tables have a power of two capacity and are probed linearly. Removal uses backward shift deletion,
+ * so a table never contains tombstones.
+ */
+final class PrimitiveHashHelper {
+
+    static final float MAXIMUM_LOAD_FACTOR = 0.75F;
+    static final int INITIAL_CAPACITY = 8;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final int INT_PHI = 0x9E3779B9;
+    private static final long LONG_PHI = 0x9E3779B97F4A7C15L;
+
+    private PrimitiveHashHelper() {
+    }
+
+    /**
+     * @param expectedSize the number of values expected to be stored
+     * @return the smallest power of two capacity that can hold the expected size without exceeding the load factor
+     */
+    static int capacityFor(final int expectedSize) {
+        final long minCapacity = (long) Math.ceil(expectedSize / (double) MAXIMUM_LOAD_FACTOR) + 1;
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < minCapacity && capacity < MAXIMUM_CAPACITY) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    // Keeps inserting an amortized O(1)
+    static boolean shouldExpand(final int occupiedSlots, final int capacity) {
+        return occupiedSlots > capacity * MAXIMUM_LOAD_FACTOR && capacity < MAXIMUM_CAPACITY;
+    }
+
+    // Keeps removing an amortized O(1). Halving at an eighth keeps the load factor low after contraction
+    static boolean shouldContract(final int occupiedSlots, final int capacity) {
+        return capacity > INITIAL_CAPACITY && occupiedSlots * 8 < capacity;
+    }
+
+    /**
+     * Spreads the bits of the value so sequential and patterned values do not cluster when masked.
+     *
+     * @param value the value to spread
+     * @return the spread hash
+     */
+    static int mix(final int value) {
+        final int h = value * INT_PHI;
+        return h ^ (h >>> 16);
+    }
+
+    static int mix(final long value) {
+        final long h = value * LONG_PHI;
+        return (int) (h ^ (h >>> 32) ^ (h >>> 16));
+    }
+
+    /**
+     * Decides if the value at {@code current}, with home slot {@code home}, may be moved to the freed slot {@code free}
+     * without becoming unreachable from its home slot.
+     */
+    static boolean canShiftBack(final int free, final int home, final int current) {
+        return free <= current ? free >= home || home > current : free >= home && home > current;
+    }
+}
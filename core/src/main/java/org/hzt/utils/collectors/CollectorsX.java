@@ -7,9 +7,6 @@ import org.hzt.utils.collections.MapX;
 import org.hzt.utils.collections.MutableCollectionX;
 import org.hzt.utils.collections.MutableListX;
 import org.hzt.utils.collections.SetX;
-import org.hzt.utils.collections.primitives.DoubleMutableList;
-import org.hzt.utils.collections.primitives.IntMutableList;
-import org.hzt.utils.collections.primitives.LongMutableList;
 import org.hzt.utils.function.QuadFunction;
 import org.hzt.utils.function.QuintFunction;
 import org.hzt.utils.function.TriFunction;
@@ -698,27 +695,38 @@ public final class CollectorsX {
                 .collect(toIntersection());
     }
 
+    /**
+     * Collects the elements in a spined buffer. In a parallel stream every thread fills its own buffer and the buffers
+     * are merged by linking their chunks, so neither growing nor combining copies an element.
+     *
+     * @param <T> the type of the elements
+     * @return a collector that collects the elements in a spined buffer
+     */
+    public static <T> Collector<T, ?, SpinedBuffer<T>> toSpinedBuffer() {
+        return Collector.of(SpinedBuffer<T>::new, SpinedBuffer::accept, SpinedBuffer::appendAll);
+    }
+
     public static <T> Collector<T, ?, int[]> intArrayOf(final ToIntFunction<? super T> toIntMapper) {
         return Collector.of(
-                IntMutableList::empty,
-                (list, t) -> list.add(toIntMapper.applyAsInt(t)),
-                IntMutableList::plus,
-                IntMutableList::toArray);
+                SpinedBuffer.OfInt::new,
+                (buffer, t) -> buffer.accept(toIntMapper.applyAsInt(t)),
+                SpinedBuffer.OfInt::appendAll,
+                SpinedBuffer.OfInt::asPrimitiveArray);
     }
 
     public static <T> Collector<T, ?, long[]> longArrayOf(final ToLongFunction<? super T> toLongMapper) {
         return Collector.of(
-                LongMutableList::empty,
-                (list, t) -> list.add(toLongMapper.applyAsLong(t)),
-                LongMutableList::plus,
-                LongMutableList::toArray);
+                SpinedBuffer.OfLong::new,
+                (buffer, t) -> buffer.accept(toLongMapper.applyAsLong(t)),
+                SpinedBuffer.OfLong::appendAll,
+                SpinedBuffer.OfLong::asPrimitiveArray);
     }
 
     public static <T> Collector<T, ?, double[]> doubleArrayOf(final ToDoubleFunction<? super T> toDoubleArrayMapper) {
         return Collector.of(
-                DoubleMutableList::empty,
-                (list, t) -> list.add(toDoubleArrayMapper.applyAsDouble(t)),
-                DoubleMutableList::plus,
-                DoubleMutableList::toArray);
+                SpinedBuffer.OfDouble::new,
+                (buffer, t) -> buffer.accept(toDoubleArrayMapper.applyAsDouble(t)),
+                SpinedBuffer.OfDouble::appendAll,
+                SpinedBuffer.OfDouble::asPrimitiveArray);
     }
 }
@@ -0,0 +1,7 @@
+package org.hzt.utils.function.primitives;
+
+@FunctionalInterface
+public interface IntDoubleConsumer {
+
+    void accept(int key, double value);
+}
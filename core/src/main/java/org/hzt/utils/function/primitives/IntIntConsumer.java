@@ -0,0 +1,7 @@
+package org.hzt.utils.function.primitives;
+
+@FunctionalInterface
+public interface IntIntConsumer {
+
+    void accept(int key, int value);
+}
@@ -0,0 +1,7 @@
+package org.hzt.utils.function.primitives;
+
+@FunctionalInterface
+public interface IntLongConsumer {
+
+    void accept(int key, long value);
+}
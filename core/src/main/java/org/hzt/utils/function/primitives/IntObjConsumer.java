@@ -0,0 +1,7 @@
+package org.hzt.utils.function.primitives;
+
+@FunctionalInterface
+public interface IntObjConsumer<T> {
+
+    void accept(int key, T value);
+}
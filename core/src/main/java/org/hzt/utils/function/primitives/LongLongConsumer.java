@@ -0,0 +1,7 @@
+package org.hzt.utils.function.primitives;
+
+@FunctionalInterface
+public interface LongLongConsumer {
+
+    void accept(long key, long value);
+}
@@ -0,0 +1,7 @@
+package org.hzt.utils.function.primitives;
+
+@FunctionalInterface
+public interface LongObjConsumer<T> {
+
+    void accept(long key, T value);
+}
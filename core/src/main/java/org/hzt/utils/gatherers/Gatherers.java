@@ -578,6 +578,58 @@ public final class Gatherers {
         );
     }
 
+    /**
+     * Returns a Gatherer that performs an ordered, <i>reduction-like</i>,
+     * transformation like {@link #fold(Supplier, BiFunction)}, but which
+     * can be evaluated in parallel.
+     *
+     * <p>Every partition is folded starting from a value provided by
+     * {@code initial}, after which the folded values of the partitions are
+     * merged in encounter order using {@code combiner}. For the result to be
+     * the same as for a sequential evaluation, {@code initial} must supply an
+     * identity value and {@code combiner} must be associative and compatible
+     * with {@code folder}.
+     *
+     * @param initial  the identity value for the fold operation
+     * @param folder   the folding function
+     * @param combiner the function that merges the folded values of two partitions
+     * @param <T>      the type of elements the returned gatherer consumes
+     * @param <R>      the type of elements the returned gatherer produces
+     * @return a new Gatherer
+     * @throws NullPointerException if any of the parameters are null
+     * @see Stream#reduce(Object, BiFunction, BinaryOperator)
+     */
+    public static <T, R> Gatherer<T, ?, R> fold(
+            final Supplier<R> initial,
+            final BiFunction<? super R, ? super T, ? extends R> folder,
+            final BinaryOperator<R> combiner) {
+        Objects.requireNonNull(initial, "'initial' must not be null");
+        Objects.requireNonNull(folder, "'folder' must not be null");
+        Objects.requireNonNull(combiner, "'combiner' must not be null");
+
+        class State {
+            R value = initial.get();
+
+            State() {
+            }
+
+            State combine(final State other) {
+                value = combiner.apply(value, other.value);
+                return this;
+            }
+        }
+
+        return Gatherer.of(
+                State::new,
+                Integrator.ofGreedy((state, element, downstream) -> {
+                    state.value = folder.apply(state.value, element);
+                    return true;
+                }),
+                State::combine,
+                (state, downstream) -> downstream.push(state.value)
+        );
+    }
+
     /**
      * Performs a prefix scan -- an incremental accumulation, using the
      * provided functions.
@@ -206,6 +206,27 @@ public final class GatherersX {
         });
     }
 
+    public static <T> Gatherer<T, ?, IntStatistics> intStatisticsOf(final ToIntFunction<? super T> selector) {
+        return Gatherer.of(IntStatistics::new, (stats, item, downstream) -> {
+            stats.accept(selector.applyAsInt(item));
+            return true;
+        }, IntStatistics::combine, (stats, downstream) -> downstream.push(stats));
+    }
+
+    public static <T> Gatherer<T, ?, LongStatistics> longStatisticsOf(final ToLongFunction<? super T> selector) {
+        return Gatherer.of(LongStatistics::new, (stats, item, downstream) -> {
+            stats.accept(selector.applyAsLong(item));
+            return true;
+        }, LongStatistics::combine, (stats, downstream) -> downstream.push(stats));
+    }
+
+    public static <T> Gatherer<T, ?, DoubleStatistics> doubleStatisticsOf(final ToDoubleFunction<? super T> selector) {
+        return Gatherer.of(DoubleStatistics::new, (stats, item, downstream) -> {
+            stats.accept(selector.applyAsDouble(item));
+            return true;
+        }, DoubleStatistics::combine, (stats, downstream) -> downstream.push(stats));
+    }
+
     public static <T, R> Gatherer<T, ?, R> zipWithNext(final BiFunction<? super T, ? super T, ? extends R> mapper) {
         return Gatherers.<T>windowSliding(2)
                 .andThen(Gatherer.ofSequential((unused, w, downstream) -> downstream.push(mapper.apply(w.get(0), w.get(1)))));
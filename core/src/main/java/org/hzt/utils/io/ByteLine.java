@@ -0,0 +1,129 @@
+package org.hzt.utils.io;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A line of a memory mapped file as a view on its bytes.
+ * <p>
+ * No bytes are copied or decoded until {@link #toString()} is called. The chars of the view are its bytes interpreted as
+ * ISO-8859-1, so {@link #length()} and {@link #charAt(int)} match the decoded line only for single byte content like
+ * ASCII. The line terminator is not part of the view.
+ *
+ * @see FileX#useMappedLines(java.util.function.Function)
+ */
+public final class ByteLine implements CharSequence {
+
+    private final ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+
+    ByteLine(final ByteBuffer buffer, final int offset, final int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public byte byteAt(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("index: " + index + ", length: " + length);
+        }
+        return buffer.get(offset + index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        return (char) (byteAt(index) & 0xFF);
+    }
+
+    @Override
+    public ByteLine subSequence(final int start, final int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("start: " + start + ", end: " + end + ", length: " + length);
+        }
+        return new ByteLine(buffer, offset + start, end - start);
+    }
+
+    /**
+     * Parses the bytes of this line as a signed decimal int without decoding them to a string first.
+     *
+     * @return the int value of this line
+     * @throws NumberFormatException if this line is not a decimal int
+     */
+    public int parseInt() {
+        final long value = parseLong();
+        if (value != (int) value) {
+            throw new NumberFormatException("Value out of int range: " + this);
+        }
+        return (int) value;
+    }
+
+    public long parseLong() {
+        final boolean negative = length > 0 && buffer.get(offset) == '-';
+        int index = negative || (length > 0 && buffer.get(offset) == '+') ? 1 : 0;
+        if (index == length) {
+            throw new NumberFormatException("Not a number: '" + this + "'");
+        }
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long result = 0;
+        while (index < length) {
+            final int digit = buffer.get(offset + index++) - '0';
+            if (digit < 0 || digit > 9 || result < limit / 10 || result * 10 < limit + digit) {
+                throw new NumberFormatException("Not a long: '" + this + "'");
+            }
+            result = result * 10 - digit;
+        }
+        return negative ? result : -result;
+    }
+
+    public String toString(final Charset charset) {
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+        return new String(bytes, charset);
+    }
+
+    /**
+     * @return the line decoded as UTF-8
+     */
+    @Override
+    public String toString() {
+        return toString(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ByteLine other = (ByteLine) o;
+        if (length != other.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + i) != other.buffer.get(other.offset + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + buffer.get(offset + i);
+        }
+        return hash;
+    }
+}
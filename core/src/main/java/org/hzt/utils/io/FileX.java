@@ -1,20 +1,29 @@
 package org.hzt.utils.io;
 
 import org.hzt.utils.collections.ListX;
+import org.hzt.utils.collections.primitives.BigDoubleList;
+import org.hzt.utils.collections.primitives.BigIntList;
+import org.hzt.utils.collections.primitives.BigLongList;
 import org.hzt.utils.iterables.Collectable;
 import org.hzt.utils.sequences.Sequence;
+import org.hzt.utils.sequences.parallel.ParallelSequence;
 import org.hzt.utils.strings.StringX;
 
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 import java.util.stream.Stream;
 
 public final class FileX extends File {
@@ -86,4 +95,104 @@ public final class FileX extends File {
             throw new IllegalStateException(e);
         }
     }
+
+    /**
+     * Memory maps this file and applies the block to its lines as views on the mapped bytes.
+     * <p>
+     * The file is mapped in segments, so files larger than 2 GB can be read as well. The lines are split on the raw bytes
+     * at {@code '\n'} and a {@code '\r'} in front of it is dropped. No line is decoded to a string unless
+     * {@link ByteLine#toString()} is called on it.
+     *
+     * @param block the function to apply to the lines
+     * @param <T> the type of the result
+     * @return the result of the block
+     * @see ByteLine
+     */
+    public <T> T useMappedLines(final Function<? super Sequence<ByteLine>, ? extends T> block) {
+        try (final FileChannel channel = FileChannel.open(toPath(), StandardOpenOption.READ)) {
+            final long size = channel.size();
+            return block.apply(Sequence.of(() -> new MappedLineIterator(channel, 0, size, MappedLineIterator.SEGMENT_SIZE)));
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Memory maps this file and applies the block to its lines as a parallel sequence. The file is split at the line
+     * boundaries nearest to the middle of a split, so every chunk can be aggregated on a core of its own.
+     *
+     * @param block the function to apply to the lines
+     * @param <T> the type of the result
+     * @return the result of the block
+     * @see #useMappedLines(Function)
+     */
+    public <T> T useMappedLinesInParallel(final Function<? super ParallelSequence<ByteLine>, ? extends T> block) {
+        try (final FileChannel channel = FileChannel.open(toPath(), StandardOpenOption.READ)) {
+            final long size = channel.size();
+            return block.apply(ParallelSequence.fromSpliterator(() ->
+                    new MappedLineSpliterator(channel, 0, size, MappedLineIterator.SEGMENT_SIZE)));
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Memory maps this file in segments and bulk loads its bytes as ints in the byte order. Files with more than
+     * {@code Integer.MAX_VALUE} ints can be read as well.
+     *
+     * @param order the byte order the ints were written in
+     * @return a big list of the ints in this file
+     */
+    public BigIntList readInts(final ByteOrder order) {
+        return readValues(Integer.BYTES, BigIntList::withSize,
+                (list, index, segment) -> list.putAll(index, segment.order(order).asIntBuffer()));
+    }
+
+    /**
+     * @param order the byte order the longs were written in
+     * @return a big list of the longs in this file
+     * @see #readInts(ByteOrder)
+     */
+    public BigLongList readLongs(final ByteOrder order) {
+        return readValues(Long.BYTES, BigLongList::withSize,
+                (list, index, segment) -> list.putAll(index, segment.order(order).asLongBuffer()));
+    }
+
+    /**
+     * @param order the byte order the doubles were written in
+     * @return a big list of the doubles in this file
+     * @see #readInts(ByteOrder)
+     */
+    public BigDoubleList readDoubles(final ByteOrder order) {
+        return readValues(Double.BYTES, BigDoubleList::withSize,
+                (list, index, segment) -> list.putAll(index, segment.order(order).asDoubleBuffer()));
+    }
+
+    private <L> L readValues(final int valueSize, final LongFunction<L> listFactory, final SegmentLoader<L> loader) {
+        try (final FileChannel channel = FileChannel.open(toPath(), StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size % valueSize != 0) {
+                throw new IllegalStateException("The size of " + getName() + " (" + size + " bytes) is not a multiple of "
+                        + valueSize + " bytes");
+            }
+            final L list = listFactory.apply(size / valueSize);
+            long index = 0;
+            for (long position = 0; position < size; position += MappedLineIterator.SEGMENT_SIZE) {
+                final long segmentSize = Math.min(MappedLineIterator.SEGMENT_SIZE, size - position);
+                index = loader.load(list, index, channel.map(FileChannel.MapMode.READ_ONLY, position, segmentSize));
+            }
+            return list;
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SegmentLoader<L> {
+
+        /**
+         * @return the index after the last value loaded from the segment
+         */
+        long load(L list, long index, ByteBuffer segment);
+    }
 }
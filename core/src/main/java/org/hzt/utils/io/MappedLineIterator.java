@@ -0,0 +1,101 @@
+package org.hzt.utils.io;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterates over the lines in a byte range of a file by mapping the range segment by segment.
+ * <p>
+ * A line ends at a {@code '\n'}, an optional {@code '\r'} in front of it is dropped. A segment starts at the beginning of
+ * a line. When the end of a segment is reached in the middle of a line, the next segment is mapped from the start of that
+ * line, so a line never spans two segments.
+ */
+final class MappedLineIterator implements Iterator<ByteLine> {
+
+    static final int SEGMENT_SIZE = 1 << 28;
+
+    private final FileChannel channel;
+    private final long end;
+    private final int segmentSize;
+
+    private MappedByteBuffer segment;
+    private long segmentStart;
+    private int position;
+    private ByteLine next;
+
+    MappedLineIterator(final FileChannel channel, final long start, final long end, final int segmentSize) {
+        this.channel = channel;
+        this.end = end;
+        this.segmentSize = segmentSize;
+        this.segmentStart = start;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = nextLine();
+        }
+        return next != null;
+    }
+
+    @Override
+    public ByteLine next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final ByteLine line = next;
+        next = null;
+        return line;
+    }
+
+    private ByteLine nextLine() {
+        if (segment == null || position == segment.limit()) {
+            segmentStart += position;
+            if (segmentStart >= end) {
+                return null;
+            }
+            segment = map(segmentStart);
+            position = 0;
+        }
+        final int lineStart = position;
+        int index = indexOfNewLine(lineStart);
+        if (index < 0) {
+            if (segmentStart + segment.limit() < end) {
+                if (lineStart == 0) {
+                    throw new IllegalStateException("Line at position " + segmentStart + " is longer than " + segmentSize + " bytes");
+                }
+                segmentStart += lineStart;
+                segment = map(segmentStart);
+                position = 0;
+                return nextLine();
+            }
+            index = segment.limit();
+            position = index;
+        } else {
+            position = index + 1;
+        }
+        final int lineEnd = index > lineStart && segment.get(index - 1) == '\r' ? index - 1 : index;
+        return new ByteLine(segment, lineStart, lineEnd - lineStart);
+    }
+
+    private int indexOfNewLine(final int from) {
+        final int limit = segment.limit();
+        for (int i = from; i < limit; i++) {
+            if (segment.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private MappedByteBuffer map(final long start) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(segmentSize, end - start));
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
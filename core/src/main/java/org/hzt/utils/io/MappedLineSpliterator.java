@@ -0,0 +1,101 @@
+package org.hzt.utils.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Splits a byte range of a file at the line boundary nearest after its middle, so every split holds whole lines.
+ * <p>
+ * The estimated size is the number of bytes in the range. A split that has started iterating is not split any further.
+ */
+final class MappedLineSpliterator implements Spliterator<ByteLine> {
+
+    private static final int MIN_SPLIT_SIZE = 1 << 12;
+    private static final int SCAN_BUFFER_SIZE = 1 << 12;
+
+    private final FileChannel channel;
+    private final long end;
+    private final int segmentSize;
+
+    private long start;
+    private MappedLineIterator iterator;
+
+    MappedLineSpliterator(final FileChannel channel, final long start, final long end, final int segmentSize) {
+        this.channel = channel;
+        this.start = start;
+        this.end = end;
+        this.segmentSize = segmentSize;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super ByteLine> action) {
+        final MappedLineIterator lines = lines();
+        if (lines.hasNext()) {
+            action.accept(lines.next());
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super ByteLine> action) {
+        lines().forEachRemaining(action);
+    }
+
+    private MappedLineIterator lines() {
+        if (iterator == null) {
+            iterator = new MappedLineIterator(channel, start, end, segmentSize);
+        }
+        return iterator;
+    }
+
+    @Override
+    public Spliterator<ByteLine> trySplit() {
+        if (iterator != null || end - start < MIN_SPLIT_SIZE) {
+            return null;
+        }
+        final long lineStart = nextLineStart(start + ((end - start) >>> 1));
+        if (lineStart >= end) {
+            return null;
+        }
+        final Spliterator<ByteLine> prefix = new MappedLineSpliterator(channel, start, lineStart, segmentSize);
+        start = lineStart;
+        return prefix;
+    }
+
+    private long nextLineStart(final long from) {
+        final ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long position = from;
+        try {
+            while (position < end) {
+                buffer.clear();
+                final int read = channel.read(buffer, position);
+                if (read <= 0) {
+                    return end;
+                }
+                for (int i = 0; i < read; i++) {
+                    if (buffer.get(i) == '\n') {
+                        return position + i + 1;
+                    }
+                }
+                position += read;
+            }
+            return end;
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - start;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+}
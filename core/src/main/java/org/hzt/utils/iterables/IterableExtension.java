@@ -25,7 +25,7 @@ public interface IterableExtension<T, R> {
         return Collector.of(
                 SpinedBuffer<T>::new,
                 SpinedBuffer::accept,
-                Iterables::combine,
+                SpinedBuffer::appendAll,
                 buffer -> Sequence.of(extend(buffer)).collect(collector)
         );
     }
@@ -1,5 +1,6 @@
 package org.hzt.utils.iterables;
 
+import org.hzt.utils.arrays.ArraysX;
 import org.hzt.utils.collections.ListX;
 import org.hzt.utils.collections.MutableListX;
 
@@ -15,6 +16,9 @@ import java.util.function.Function;
 import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 public final class IterableXHelper {
 
@@ -158,8 +162,42 @@ public final class IterableXHelper {
 
     static <T, R extends Comparable<? super R>> MutableListX<T> toMutableListXSortedBy(
             final Function<? super T, ? extends R> selector, final Iterable<T> iterable) {
-        final MutableListX<T> list = MutableListX.of(iterable);
-        list.sort(Comparator.comparing(selector));
-        return list;
+        return toMutableListXSortedBy(iterable, selector, Comparator.naturalOrder());
+    }
+
+    /**
+     * Sorts the elements stably by their keys, computing the key of every element once.
+     *
+     * @see ArraysX#sortBy(Function, Comparator, Object[])
+     */
+    static <T, K> MutableListX<T> toMutableListXSortedBy(final Iterable<T> iterable,
+                                                         final Function<? super T, ? extends K> selector,
+                                                         final Comparator<? super K> keyComparator) {
+        final T[] array = toArray(iterable);
+        ArraysX.sortBy(selector, keyComparator, array);
+        return MutableListX.of(array);
+    }
+
+    static <T> MutableListX<T> toMutableListXSortedByInt(final Iterable<T> iterable, final ToIntFunction<? super T> selector) {
+        final T[] array = toArray(iterable);
+        ArraysX.sortByInt(selector, array);
+        return MutableListX.of(array);
+    }
+
+    static <T> MutableListX<T> toMutableListXSortedByLong(final Iterable<T> iterable, final ToLongFunction<? super T> selector) {
+        final T[] array = toArray(iterable);
+        ArraysX.sortByLong(selector, array);
+        return MutableListX.of(array);
+    }
+
+    static <T> MutableListX<T> toMutableListXSortedByDouble(final Iterable<T> iterable, final ToDoubleFunction<? super T> selector) {
+        final T[] array = toArray(iterable);
+        ArraysX.sortByDouble(selector, array);
+        return MutableListX.of(array);
+    }
+
+    private static <T> T[] toArray(final Iterable<T> iterable) {
+        //noinspection unchecked
+        return (T[]) MutableListX.of(iterable).toArray();
     }
 }
@@ -2,7 +2,7 @@ package org.hzt.utils.iterables;
 
 import org.hzt.utils.function.IndexedFunction;
 import org.hzt.utils.iterables.primitives.PrimitiveIterable;
-import org.hzt.utils.spined_buffers.SpinedBuffer;
+import org.hzt.utils.iterators.primitives.PrimitiveIterators;
 
 import java.util.Optional;
 import java.util.function.BiConsumer;
@@ -33,26 +33,14 @@ public interface Mappable<T> extends IndexedIterable<T> {
     <R> Mappable<R> mapMulti(BiConsumer<? super T, ? super Consumer<R>> mapper);
 
     default PrimitiveIterable.OfInt mapMultiToInt(final BiConsumer<? super T, IntConsumer> mapper) {
-        return flatMapToInt(e -> {
-            final SpinedBuffer.OfInt spinedBuffer = new SpinedBuffer.OfInt();
-            mapper.accept(e, spinedBuffer);
-            return spinedBuffer::iterator;
-        });
+        return () -> PrimitiveIterators.toIntMultiMappingIterator(iterator(), mapper);
     }
 
     default PrimitiveIterable.OfLong mapMultiToLong(final BiConsumer<? super T, LongConsumer> mapper) {
-        return flatMapToLong(e -> {
-            final SpinedBuffer.OfLong spinedBuffer = new SpinedBuffer.OfLong();
-            mapper.accept(e, spinedBuffer);
-            return spinedBuffer::iterator;
-        });
+        return () -> PrimitiveIterators.toLongMultiMappingIterator(iterator(), mapper);
     }
 
     default PrimitiveIterable.OfDouble mapMultiToDouble(final BiConsumer<? super T, DoubleConsumer> mapper) {
-        return flatMapToDouble(e -> {
-            final SpinedBuffer.OfDouble spinedBuffer = new SpinedBuffer.OfDouble();
-            mapper.accept(e, spinedBuffer);
-            return spinedBuffer::iterator;
-        });
+        return () -> PrimitiveIterators.toDoubleMultiMappingIterator(iterator(), mapper);
     }
 }
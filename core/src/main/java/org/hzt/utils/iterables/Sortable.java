@@ -9,6 +9,9 @@ import org.hzt.utils.sequences.Sequence;
 import java.util.Comparator;
 import java.util.Random;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 @FunctionalInterface
 public interface Sortable<T> extends Iterable<T> {
@@ -18,13 +21,54 @@ public interface Sortable<T> extends Iterable<T> {
     }
 
     default <R extends Comparable<R>> Sortable<T> sorted() {
-        return IterableXHelper.toSortedListX(this, (Function<T, R>) IterableXHelper::asComparableOrThrow);
+        final MutableListX<T> list = MutableListX.of(this);
+        list.sort((t1, t2) -> IterableXHelper.<T, R>asComparableOrThrow(t1).compareTo(IterableXHelper.asComparableOrThrow(t2)));
+        return list;
     }
 
+    /**
+     * Sorts the elements stably by the keys the selector computes. The key of every element is computed once.
+     *
+     * @param selector the function that computes the key of an element
+     * @param <R> the type of the keys
+     * @return the elements sorted by their keys
+     * @see org.hzt.utils.arrays.ArraysX#sortBy(Function, Comparator, Object[])
+     */
     default <R extends Comparable<? super R>> Sortable<T> sortedBy(final Function<? super T, ? extends R> selector) {
         return IterableXHelper.toSortedListX(this, selector);
     }
 
+    /**
+     * Sorts the elements stably by the int keys the selector computes once per element, without boxing the keys.
+     *
+     * @param selector the function that computes the key of an element
+     * @return the elements sorted by their keys
+     * @see org.hzt.utils.arrays.ArraysX#sortByInt(ToIntFunction, Object[])
+     */
+    default Sortable<T> sortedByInt(final ToIntFunction<? super T> selector) {
+        return IterableXHelper.toMutableListXSortedByInt(this, selector);
+    }
+
+    /**
+     * Sorts the elements stably by the long keys the selector computes once per element, without boxing the keys.
+     *
+     * @param selector the function that computes the key of an element
+     * @return the elements sorted by their keys
+     */
+    default Sortable<T> sortedByLong(final ToLongFunction<? super T> selector) {
+        return IterableXHelper.toMutableListXSortedByLong(this, selector);
+    }
+
+    /**
+     * Sorts the elements stably by the double keys the selector computes once per element, without boxing the keys.
+     *
+     * @param selector the function that computes the key of an element
+     * @return the elements sorted by their keys in the order of {@link Double#compare(double, double)}
+     */
+    default Sortable<T> sortedByDouble(final ToDoubleFunction<? super T> selector) {
+        return IterableXHelper.toMutableListXSortedByDouble(this, selector);
+    }
+
     default Sortable<T> sorted(final Comparator<? super T> comparator) {
         final MutableListX<T> list = MutableListX.of(this);
         list.sort(comparator);
@@ -36,9 +80,7 @@ public interface Sortable<T> extends Iterable<T> {
     }
 
     default <R extends Comparable<? super R>> Sortable<T> sortedByDescending(final Function<? super T, ? extends R> selector) {
-        final MutableListX<T> list = MutableListX.of(this);
-        list.sort(Comparator.comparing(selector).reversed());
-        return list;
+        return IterableXHelper.toMutableListXSortedBy(this, selector, Comparator.<R>reverseOrder());
     }
 
     default <R extends Comparable<? super R>> SortedMutableSetX<T> toSortedSet(final Function<? super T, ? extends R> selector) {
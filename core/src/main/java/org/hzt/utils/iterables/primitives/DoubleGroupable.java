@@ -3,11 +3,19 @@ package org.hzt.utils.iterables.primitives;
 import org.hzt.utils.collections.MapX;
 import org.hzt.utils.collections.MutableMapX;
 import org.hzt.utils.collections.primitives.DoubleMutableList;
+import org.hzt.utils.collections.primitives.IntDoubleMap;
+import org.hzt.utils.collections.primitives.IntDoubleMutableMap;
+import org.hzt.utils.collections.primitives.IntLongMap;
+import org.hzt.utils.collections.primitives.IntLongMutableMap;
+import org.hzt.utils.collections.primitives.IntObjMap;
+import org.hzt.utils.collections.primitives.IntObjMutableMap;
 import org.hzt.utils.tuples.Pair;
 
 import java.util.PrimitiveIterator;
+import java.util.function.DoubleBinaryOperator;
 import java.util.function.DoubleFunction;
 import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
 
 @FunctionalInterface
 public interface DoubleGroupable extends PrimitiveGroupable<Double, DoubleMutableList, DoublePredicate>, PrimitiveIterable.OfDouble {
@@ -33,6 +41,72 @@ public interface DoubleGroupable extends PrimitiveGroupable<Double, DoubleMutabl
         return map;
     }
 
+    /**
+     * Counts the values per bucket without boxing the buckets or the counts.
+     *
+     * @param classifier the function that maps a value to its bucket
+     * @return a map from each bucket to the number of values classified by it
+     */
+    default IntLongMap countBy(final DoubleToIntFunction classifier) {
+        final PrimitiveIterator.OfDouble iterator = iterator();
+        final IntLongMutableMap counts = IntLongMutableMap.empty();
+        while (iterator.hasNext()) {
+            counts.addTo(classifier.applyAsInt(iterator.nextDouble()), 1L);
+        }
+        return counts;
+    }
+
+    default IntDoubleMap sumBy(final DoubleToIntFunction classifier) {
+        final PrimitiveIterator.OfDouble iterator = iterator();
+        final IntDoubleMutableMap sums = IntDoubleMutableMap.empty();
+        while (iterator.hasNext()) {
+            final double nextDouble = iterator.nextDouble();
+            sums.addTo(classifier.applyAsInt(nextDouble), nextDouble);
+        }
+        return sums;
+    }
+
+    default IntDoubleMap minBy(final DoubleToIntFunction classifier) {
+        return aggregateBy(classifier, Math::min);
+    }
+
+    default IntDoubleMap maxBy(final DoubleToIntFunction classifier) {
+        return aggregateBy(classifier, Math::max);
+    }
+
+    /**
+     * Reduces the values per bucket without boxing the buckets or the values.
+     *
+     * @param classifier the function that maps a value to its bucket
+     * @param operator the function that combines the aggregate of a bucket with the next value classified by it
+     * @return a map from each bucket to the aggregate of the values classified by it
+     */
+    default IntDoubleMap aggregateBy(final DoubleToIntFunction classifier, final DoubleBinaryOperator operator) {
+        final PrimitiveIterator.OfDouble iterator = iterator();
+        final IntDoubleMutableMap aggregates = IntDoubleMutableMap.empty();
+        while (iterator.hasNext()) {
+            final double nextDouble = iterator.nextDouble();
+            aggregates.merge(classifier.applyAsInt(nextDouble), nextDouble, operator);
+        }
+        return aggregates;
+    }
+
+    /**
+     * Groups the values by a primitive bucket. In contrast to {@link #groupBy(DoubleFunction)}, the buckets are not boxed.
+     *
+     * @param classifier the function that maps a value to its bucket
+     * @return a map from each bucket to the values classified by it
+     */
+    default IntObjMap<DoubleMutableList> groupingBy(final DoubleToIntFunction classifier) {
+        final PrimitiveIterator.OfDouble iterator = iterator();
+        final IntObjMutableMap<DoubleMutableList> groups = IntObjMutableMap.empty();
+        while (iterator.hasNext()) {
+            final double nextDouble = iterator.nextDouble();
+            groups.computeIfAbsent(classifier.applyAsInt(nextDouble), key -> DoubleMutableList.empty()).add(nextDouble);
+        }
+        return groups;
+    }
+
     @Override
     default Pair<DoubleMutableList, DoubleMutableList> partition(final DoublePredicate predicate) {
         final DoubleMutableList matchingList = DoubleMutableList.empty();
@@ -2,12 +2,20 @@ package org.hzt.utils.iterables.primitives;
 
 import org.hzt.utils.collections.MapX;
 import org.hzt.utils.collections.MutableMapX;
+import org.hzt.utils.collections.primitives.IntIntMap;
+import org.hzt.utils.collections.primitives.IntIntMutableMap;
+import org.hzt.utils.collections.primitives.IntLongMap;
+import org.hzt.utils.collections.primitives.IntLongMutableMap;
 import org.hzt.utils.collections.primitives.IntMutableList;
+import org.hzt.utils.collections.primitives.IntObjMap;
+import org.hzt.utils.collections.primitives.IntObjMutableMap;
 import org.hzt.utils.tuples.Pair;
 
 import java.util.PrimitiveIterator;
+import java.util.function.IntBinaryOperator;
 import java.util.function.IntFunction;
 import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
 
 @FunctionalInterface
 public interface IntGroupable extends PrimitiveGroupable<Integer, IntMutableList, IntPredicate>, PrimitiveIterable.OfInt {
@@ -33,6 +41,72 @@ public interface IntGroupable extends PrimitiveGroupable<Integer, IntMutableList
         return map;
     }
 
+    /**
+     * Counts the values per key without boxing the keys or the counts.
+     *
+     * @param classifier the function that maps a value to its key
+     * @return a map from each key to the number of values classified by it
+     */
+    default IntLongMap countBy(final IntUnaryOperator classifier) {
+        final PrimitiveIterator.OfInt iterator = iterator();
+        final IntLongMutableMap counts = IntLongMutableMap.empty();
+        while (iterator.hasNext()) {
+            counts.addTo(classifier.applyAsInt(iterator.nextInt()), 1L);
+        }
+        return counts;
+    }
+
+    default IntLongMap sumBy(final IntUnaryOperator classifier) {
+        final PrimitiveIterator.OfInt iterator = iterator();
+        final IntLongMutableMap sums = IntLongMutableMap.empty();
+        while (iterator.hasNext()) {
+            final int nextInt = iterator.nextInt();
+            sums.addTo(classifier.applyAsInt(nextInt), nextInt);
+        }
+        return sums;
+    }
+
+    default IntIntMap minBy(final IntUnaryOperator classifier) {
+        return aggregateBy(classifier, Math::min);
+    }
+
+    default IntIntMap maxBy(final IntUnaryOperator classifier) {
+        return aggregateBy(classifier, Math::max);
+    }
+
+    /**
+     * Reduces the values per key without boxing the keys or the values.
+     *
+     * @param classifier the function that maps a value to its key
+     * @param operator the function that combines the aggregate of a key with the next value classified by it
+     * @return a map from each key to the aggregate of the values classified by it
+     */
+    default IntIntMap aggregateBy(final IntUnaryOperator classifier, final IntBinaryOperator operator) {
+        final PrimitiveIterator.OfInt iterator = iterator();
+        final IntIntMutableMap aggregates = IntIntMutableMap.empty();
+        while (iterator.hasNext()) {
+            final int nextInt = iterator.nextInt();
+            aggregates.merge(classifier.applyAsInt(nextInt), nextInt, operator);
+        }
+        return aggregates;
+    }
+
+    /**
+     * Groups the values by a primitive key. In contrast to {@link #groupBy(IntFunction)}, the keys are not boxed.
+     *
+     * @param classifier the function that maps a value to its key
+     * @return a map from each key to the values classified by it
+     */
+    default IntObjMap<IntMutableList> groupingBy(final IntUnaryOperator classifier) {
+        final PrimitiveIterator.OfInt iterator = iterator();
+        final IntObjMutableMap<IntMutableList> groups = IntObjMutableMap.empty();
+        while (iterator.hasNext()) {
+            final int nextInt = iterator.nextInt();
+            groups.computeIfAbsent(classifier.applyAsInt(nextInt), key -> IntMutableList.empty()).add(nextInt);
+        }
+        return groups;
+    }
+
     @Override
     default Pair<IntMutableList, IntMutableList> partition(final IntPredicate predicate) {
         final IntMutableList matchingList = IntMutableList.empty();
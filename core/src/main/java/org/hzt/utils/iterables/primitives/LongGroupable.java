@@ -2,12 +2,18 @@ package org.hzt.utils.iterables.primitives;
 
 import org.hzt.utils.collections.MapX;
 import org.hzt.utils.collections.MutableMapX;
+import org.hzt.utils.collections.primitives.LongLongMap;
+import org.hzt.utils.collections.primitives.LongLongMutableMap;
 import org.hzt.utils.collections.primitives.LongMutableList;
+import org.hzt.utils.collections.primitives.LongObjMap;
+import org.hzt.utils.collections.primitives.LongObjMutableMap;
 import org.hzt.utils.tuples.Pair;
 
 import java.util.PrimitiveIterator;
+import java.util.function.LongBinaryOperator;
 import java.util.function.LongFunction;
 import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
 
 @FunctionalInterface
 public interface LongGroupable extends PrimitiveGroupable<Long, LongMutableList, LongPredicate>, PrimitiveIterable.OfLong {
@@ -33,6 +39,72 @@ public interface LongGroupable extends PrimitiveGroupable<Long, LongMutableList,
         return map;
     }
 
+    /**
+     * Counts the values per key without boxing the keys or the counts.
+     *
+     * @param classifier the function that maps a value to its key
+     * @return a map from each key to the number of values classified by it
+     */
+    default LongLongMap countBy(final LongUnaryOperator classifier) {
+        final PrimitiveIterator.OfLong iterator = iterator();
+        final LongLongMutableMap counts = LongLongMutableMap.empty();
+        while (iterator.hasNext()) {
+            counts.addTo(classifier.applyAsLong(iterator.nextLong()), 1L);
+        }
+        return counts;
+    }
+
+    default LongLongMap sumBy(final LongUnaryOperator classifier) {
+        final PrimitiveIterator.OfLong iterator = iterator();
+        final LongLongMutableMap sums = LongLongMutableMap.empty();
+        while (iterator.hasNext()) {
+            final long nextLong = iterator.nextLong();
+            sums.addTo(classifier.applyAsLong(nextLong), nextLong);
+        }
+        return sums;
+    }
+
+    default LongLongMap minBy(final LongUnaryOperator classifier) {
+        return aggregateBy(classifier, Math::min);
+    }
+
+    default LongLongMap maxBy(final LongUnaryOperator classifier) {
+        return aggregateBy(classifier, Math::max);
+    }
+
+    /**
+     * Reduces the values per key without boxing the keys or the values.
+     *
+     * @param classifier the function that maps a value to its key
+     * @param operator the function that combines the aggregate of a key with the next value classified by it
+     * @return a map from each key to the aggregate of the values classified by it
+     */
+    default LongLongMap aggregateBy(final LongUnaryOperator classifier, final LongBinaryOperator operator) {
+        final PrimitiveIterator.OfLong iterator = iterator();
+        final LongLongMutableMap aggregates = LongLongMutableMap.empty();
+        while (iterator.hasNext()) {
+            final long nextLong = iterator.nextLong();
+            aggregates.merge(classifier.applyAsLong(nextLong), nextLong, operator);
+        }
+        return aggregates;
+    }
+
+    /**
+     * Groups the values by a primitive key. In contrast to {@link #groupBy(LongFunction)}, the keys are not boxed.
+     *
+     * @param classifier the function that maps a value to its key
+     * @return a map from each key to the values classified by it
+     */
+    default LongObjMap<LongMutableList> groupingBy(final LongUnaryOperator classifier) {
+        final PrimitiveIterator.OfLong iterator = iterator();
+        final LongObjMutableMap<LongMutableList> groups = LongObjMutableMap.empty();
+        while (iterator.hasNext()) {
+            final long nextLong = iterator.nextLong();
+            groups.computeIfAbsent(classifier.applyAsLong(nextLong), key -> LongMutableList.empty()).add(nextLong);
+        }
+        return groups;
+    }
+
     @Override
     default Pair<LongMutableList, LongMutableList> partition(final LongPredicate predicate) {
         final LongMutableList matchingList = LongMutableList.empty();
@@ -1,56 +1,80 @@
 package org.hzt.utils.iterators.primitives;
 
 import org.hzt.utils.sequences.primitives.DoubleSequence;
-import org.hzt.utils.spined_buffers.SpinedBuffer;
 
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.PrimitiveIterator;
+import java.util.function.BiConsumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.Predicate;
 
+/**
+ * Iterates over the values a mapper emits for the elements of an upstream iterator.
+ * <p>
+ * The values of an element are collected in one buffer that is reset for the next element, so iterating does not
+ * allocate per element. The buffer only grows when an element emits more values than any element before.
+ */
 public final class DoubleMultiMappingIterator implements PrimitiveIterator.OfDouble {
 
-    private final OfDouble iterator;
-    private final DoubleSequence.DoubleMapMultiConsumer mapper;
+    private static final int INITIAL_BUFFER_SIZE = 8;
 
-    private OfDouble itemIterator = null;
+    private final Predicate<DoubleConsumer> nextElementMapper;
+    private final DoubleConsumer buffer = this::add;
 
-    private DoubleMultiMappingIterator(final OfDouble iterator, final DoubleSequence.DoubleMapMultiConsumer mapper) {
-        this.iterator = iterator;
-        this.mapper = mapper;
+    private double[] values = new double[INITIAL_BUFFER_SIZE];
+    private int size = 0;
+    private int index = 0;
+
+    private DoubleMultiMappingIterator(final Predicate<DoubleConsumer> nextElementMapper) {
+        this.nextElementMapper = nextElementMapper;
     }
 
     public static DoubleMultiMappingIterator of(final OfDouble iterator, final DoubleSequence.DoubleMapMultiConsumer mapper) {
-        return new DoubleMultiMappingIterator(iterator, mapper);
+        return new DoubleMultiMappingIterator(consumer -> {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            mapper.accept(iterator.nextDouble(), consumer);
+            return true;
+        });
+    }
+
+    static <T> DoubleMultiMappingIterator ofObjects(final Iterator<T> iterator, final BiConsumer<? super T, DoubleConsumer> mapper) {
+        return new DoubleMultiMappingIterator(consumer -> {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            mapper.accept(iterator.next(), consumer);
+            return true;
+        });
     }
 
     @Override
     public boolean hasNext() {
-        return ensureItemIterator();
+        while (index == size) {
+            index = 0;
+            size = 0;
+            if (!nextElementMapper.test(buffer)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public double nextDouble() {
-        if (!ensureItemIterator()) {
+        if (!hasNext()) {
             throw new NoSuchElementException();
         }
-        return itemIterator.nextDouble();
+        return values[index++];
     }
 
-    private boolean ensureItemIterator() {
-        if (itemIterator != null && !itemIterator.hasNext()) {
-            itemIterator = null;
+    private void add(final double value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
         }
-        while (itemIterator == null) {
-            if (!iterator.hasNext()) {
-                return false;
-            }
-            final SpinedBuffer.OfDouble doubleBuffer = new SpinedBuffer.OfDouble();
-            mapper.accept(iterator.nextDouble(), doubleBuffer);
-            final OfDouble nextItemIterator = doubleBuffer.iterator();
-            if (nextItemIterator.hasNext()) {
-                itemIterator = nextItemIterator;
-                return true;
-            }
-        }
-        return true;
+        values[size++] = value;
     }
 }
@@ -1,56 +1,80 @@
 package org.hzt.utils.iterators.primitives;
 
 import org.hzt.utils.sequences.primitives.IntSequence;
-import org.hzt.utils.spined_buffers.SpinedBuffer;
 
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.PrimitiveIterator;
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
 
+/**
+ * Iterates over the values a mapper emits for the elements of an upstream iterator.
+ * <p>
+ * The values of an element are collected in one buffer that is reset for the next element, so iterating does not
+ * allocate per element. The buffer only grows when an element emits more values than any element before.
+ */
 public final class IntMultiMappingIterator implements PrimitiveIterator.OfInt {
 
-    private final OfInt iterator;
-    private final IntSequence.IntMapMultiConsumer mapper;
+    private static final int INITIAL_BUFFER_SIZE = 8;
 
-    private OfInt itemIterator = null;
+    private final Predicate<IntConsumer> nextElementMapper;
+    private final IntConsumer buffer = this::add;
 
-    private IntMultiMappingIterator(final OfInt iterator, final IntSequence.IntMapMultiConsumer mapper) {
-        this.iterator = iterator;
-        this.mapper = mapper;
+    private int[] values = new int[INITIAL_BUFFER_SIZE];
+    private int size = 0;
+    private int index = 0;
+
+    private IntMultiMappingIterator(final Predicate<IntConsumer> nextElementMapper) {
+        this.nextElementMapper = nextElementMapper;
     }
 
     public static IntMultiMappingIterator of(final OfInt iterator, final IntSequence.IntMapMultiConsumer mapper) {
-        return new IntMultiMappingIterator(iterator, mapper);
+        return new IntMultiMappingIterator(consumer -> {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            mapper.accept(iterator.nextInt(), consumer);
+            return true;
+        });
+    }
+
+    static <T> IntMultiMappingIterator ofObjects(final Iterator<T> iterator, final BiConsumer<? super T, IntConsumer> mapper) {
+        return new IntMultiMappingIterator(consumer -> {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            mapper.accept(iterator.next(), consumer);
+            return true;
+        });
     }
 
     @Override
     public boolean hasNext() {
-        return ensureItemIterator();
+        while (index == size) {
+            index = 0;
+            size = 0;
+            if (!nextElementMapper.test(buffer)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public int nextInt() {
-        if (!ensureItemIterator()) {
+        if (!hasNext()) {
             throw new NoSuchElementException();
         }
-        return itemIterator.nextInt();
+        return values[index++];
     }
 
-    private boolean ensureItemIterator() {
-        if (itemIterator != null && !itemIterator.hasNext()) {
-            itemIterator = null;
+    private void add(final int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
         }
-        while (itemIterator == null) {
-            if (!iterator.hasNext()) {
-                return false;
-            }
-            final SpinedBuffer.OfInt intBuffer = new SpinedBuffer.OfInt();
-            mapper.accept(iterator.nextInt(), intBuffer);
-            final OfInt nextItemIterator = intBuffer.iterator();
-            if (nextItemIterator.hasNext()) {
-                itemIterator = nextItemIterator;
-                return true;
-            }
-        }
-        return true;
+        values[size++] = value;
     }
 }
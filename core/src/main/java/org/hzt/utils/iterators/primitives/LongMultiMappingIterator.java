@@ -1,56 +1,80 @@
 package org.hzt.utils.iterators.primitives;
 
 import org.hzt.utils.sequences.primitives.LongSequence;
-import org.hzt.utils.spined_buffers.SpinedBuffer;
 
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.PrimitiveIterator;
+import java.util.function.BiConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
 
+/**
+ * Iterates over the values a mapper emits for the elements of an upstream iterator.
+ * <p>
+ * The values of an element are collected in one buffer that is reset for the next element, so iterating does not
+ * allocate per element. The buffer only grows when an element emits more values than any element before.
+ */
 public final class LongMultiMappingIterator implements PrimitiveIterator.OfLong {
 
-    private final PrimitiveIterator.OfLong iterator;
-    private final LongSequence.LongMapMultiConsumer mapper;
+    private static final int INITIAL_BUFFER_SIZE = 8;
 
-    private PrimitiveIterator.OfLong itemIterator = null;
+    private final Predicate<LongConsumer> nextElementMapper;
+    private final LongConsumer buffer = this::add;
 
-    private LongMultiMappingIterator(final OfLong iterator, final LongSequence.LongMapMultiConsumer mapper) {
-        this.iterator = iterator;
-        this.mapper = mapper;
+    private long[] values = new long[INITIAL_BUFFER_SIZE];
+    private int size = 0;
+    private int index = 0;
+
+    private LongMultiMappingIterator(final Predicate<LongConsumer> nextElementMapper) {
+        this.nextElementMapper = nextElementMapper;
     }
 
     public static LongMultiMappingIterator of(final OfLong iterator, final LongSequence.LongMapMultiConsumer mapper) {
-        return new LongMultiMappingIterator(iterator, mapper);
+        return new LongMultiMappingIterator(consumer -> {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            mapper.accept(iterator.nextLong(), consumer);
+            return true;
+        });
+    }
+
+    static <T> LongMultiMappingIterator ofObjects(final Iterator<T> iterator, final BiConsumer<? super T, LongConsumer> mapper) {
+        return new LongMultiMappingIterator(consumer -> {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            mapper.accept(iterator.next(), consumer);
+            return true;
+        });
     }
 
     @Override
     public boolean hasNext() {
-        return ensureItemIterator();
+        while (index == size) {
+            index = 0;
+            size = 0;
+            if (!nextElementMapper.test(buffer)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public long nextLong() {
-        if (!ensureItemIterator()) {
+        if (!hasNext()) {
             throw new NoSuchElementException();
         }
-        return itemIterator.nextLong();
+        return values[index++];
     }
 
-    private boolean ensureItemIterator() {
-        if (itemIterator != null && !itemIterator.hasNext()) {
-            itemIterator = null;
+    private void add(final long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
         }
-        while (itemIterator == null) {
-            if (!iterator.hasNext()) {
-                return false;
-            }
-            final SpinedBuffer.OfLong longBuffer = new SpinedBuffer.OfLong();
-            mapper.accept(iterator.nextLong(), longBuffer);
-            final OfLong nextItemIterator = longBuffer.iterator();
-            if (nextItemIterator.hasNext()) {
-                itemIterator = nextItemIterator;
-                return true;
-            }
-        }
-        return true;
+        values[size++] = value;
     }
 }
@@ -122,6 +122,21 @@ public final class PrimitiveIterators {
         return new ToDoubleFlatMappingIterator<>(iterator, mapper);
     }
 
+    public static <T> PrimitiveIterator.OfInt toIntMultiMappingIterator(final Iterator<T> iterator,
+                                                                        final BiConsumer<? super T, IntConsumer> mapper) {
+        return IntMultiMappingIterator.ofObjects(iterator, mapper);
+    }
+
+    public static <T> PrimitiveIterator.OfLong toLongMultiMappingIterator(final Iterator<T> iterator,
+                                                                          final BiConsumer<? super T, LongConsumer> mapper) {
+        return LongMultiMappingIterator.ofObjects(iterator, mapper);
+    }
+
+    public static <T> PrimitiveIterator.OfDouble toDoubleMultiMappingIterator(final Iterator<T> iterator,
+                                                                              final BiConsumer<? super T, DoubleConsumer> mapper) {
+        return DoubleMultiMappingIterator.ofObjects(iterator, mapper);
+    }
+
     public static PrimitiveIterator.OfInt intTransformingIterator(final PrimitiveIterator.OfInt iterator,
                                                                   final IntUnaryOperator mapper) {
         return new PrimitiveIterator.OfInt() {
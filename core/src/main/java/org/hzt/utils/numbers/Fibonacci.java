@@ -0,0 +1,84 @@
+package org.hzt.utils.numbers;
+
+import java.math.BigInteger;
+
+/**
+ * Computes Fibonacci numbers by fast doubling in O(log n) steps, using
+ * <pre>
+ * F(2k)     = F(k) * (2 * F(k + 1) - F(k))
+ * F(2k + 1) = F(k)^2 + F(k + 1)^2
+ * </pre>
+ * The index is walked from its highest bit down. Every step doubles the index and, if the bit is set, adds one.
+ */
+final class Fibonacci {
+
+    /**
+     * The largest index of a Fibonacci number that fits in a long.
+     */
+    static final int MAX_LONG_INDEX = 92;
+
+    private static final BigInteger TWO = BigInteger.valueOf(2);
+
+    private Fibonacci() {
+    }
+
+    /**
+     * Computes F(index) as a long.
+     * <p>
+     * The intermediate F(k + 1) may overflow for the largest indices. All operations are additions, subtractions and
+     * multiplications, so they are exact modulo 2^64 and F(index) itself is exact as long as it fits in a long.
+     *
+     * @param index the index of the Fibonacci number, where F(0) = 0 and F(1) = 1
+     * @return F(index)
+     * @throws ArithmeticException if F(index) does not fit in a long
+     */
+    static long fibonacci(final int index) {
+        if (index > MAX_LONG_INDEX) {
+            throw new ArithmeticException("F(" + index + ") is larger than Long.MAX_VALUE");
+        }
+        long a = 0;
+        long b = 1;
+        for (int bit = Integer.highestOneBit(index); bit != 0; bit >>>= 1) {
+            final long c = a * (2 * b - a);
+            final long d = a * a + b * b;
+            if ((index & bit) == 0) {
+                a = c;
+                b = d;
+            } else {
+                a = d;
+                b = c + d;
+            }
+        }
+        return a;
+    }
+
+    /**
+     * Computes F(index) as a BigInteger.
+     * <p>
+     * The squares are computed by multiplying a value with itself, which {@link BigInteger} turns into a dedicated
+     * square for large values. Karatsuba and Toom-Cook multiplication take over from their thresholds. The last step
+     * computes only the number that is returned.
+     *
+     * @param index the index of the Fibonacci number, where F(0) = 0 and F(1) = 1
+     * @return F(index)
+     */
+    static BigInteger bigFibonacci(final int index) {
+        if (index <= MAX_LONG_INDEX) {
+            return BigInteger.valueOf(fibonacci(index));
+        }
+        BigInteger a = BigInteger.ZERO;
+        BigInteger b = BigInteger.ONE;
+        for (int bit = Integer.highestOneBit(index); bit > 1; bit >>>= 1) {
+            final BigInteger c = a.multiply(b.multiply(TWO).subtract(a));
+            final BigInteger d = a.multiply(a).add(b.multiply(b));
+            if ((index & bit) == 0) {
+                a = c;
+                b = d;
+            } else {
+                a = d;
+                b = c.add(d);
+            }
+        }
+        return (index & 1) == 0 ? a.multiply(b.multiply(TWO).subtract(a)) : a.multiply(a).add(b.multiply(b));
+    }
+}
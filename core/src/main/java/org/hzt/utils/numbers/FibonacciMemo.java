@@ -0,0 +1,54 @@
+package org.hzt.utils.numbers;
+
+import org.hzt.utils.PreConditions;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded memo table of Fibonacci numbers that can be shared across threads.
+ * <p>
+ * The numbers up to the capacity are computed once and looked up in O(1) after that. A number is added to the sum of
+ * its two predecessors if those are memoized already, else it is computed by fast doubling. Numbers beyond the capacity
+ * are computed by fast doubling on every call and are not memoized.
+ *
+ * @see LongX#nthBigFibonacciNumber(int)
+ */
+public final class FibonacciMemo {
+
+    private final AtomicReferenceArray<BigInteger> table;
+
+    private FibonacciMemo(final int capacity) {
+        this.table = new AtomicReferenceArray<>(capacity);
+    }
+
+    public static FibonacciMemo withCapacity(final int capacity) {
+        PreConditions.requireGreaterThanOrEqualToZero(capacity);
+        return new FibonacciMemo(capacity);
+    }
+
+    /**
+     * @param n the position of the Fibonacci number in {@link LongX#fibonacciSequence()}, starting at 1
+     * @return the nth Fibonacci number
+     */
+    public BigInteger nthFibonacciNumber(final int n) {
+        PreConditions.require(n > 0, () -> "n must be greater than 0");
+        final int index = n - 1;
+        if (index >= table.length()) {
+            return Fibonacci.bigFibonacci(index);
+        }
+        final BigInteger memoized = table.get(index);
+        if (memoized != null) {
+            return memoized;
+        }
+        final BigInteger previous = index >= 2 ? table.get(index - 1) : null;
+        final BigInteger beforePrevious = previous != null ? table.get(index - 2) : null;
+        final BigInteger fibonacci = beforePrevious != null ? previous.add(beforePrevious) : Fibonacci.bigFibonacci(index);
+        table.lazySet(index, fibonacci);
+        return fibonacci;
+    }
+
+    public int capacity() {
+        return table.length();
+    }
+}
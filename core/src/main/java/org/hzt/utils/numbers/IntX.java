@@ -4,6 +4,7 @@ import org.hzt.utils.Transformable;
 import org.hzt.utils.comparables.ComparableX;
 import org.hzt.utils.progressions.IntProgression;
 import org.hzt.utils.ranges.IntRange;
+import org.hzt.utils.ranges.LongRange;
 import org.hzt.utils.sequences.primitives.IntSequence;
 
 import java.util.Objects;
@@ -143,23 +144,18 @@ public final class IntX extends Number implements NumberX<Integer>, Transformabl
         return i;
     }
 
+    /**
+     * @return an IntSequence of all primes up to {@link Integer#MAX_VALUE}, sieved lazily one segment at a time
+     * @see LongX#primesInRange(LongRange)
+     */
     public static IntSequence primeNrSequence() {
-        return IntSequence.iterate(0, i -> i + (i < 3 ? 1 : 2))
-                .takeWhile(i -> i >= 0)
-                .filter(IntX::isPrimeNr);
+        return LongX.primesInRange(LongRange.closed(2, Integer.MAX_VALUE)).mapToInt(prime -> (int) prime);
     }
 
     public static boolean isPrimeNr(final long nrToCheck) {
-        long counter = 0;
-        for (long num = nrToCheck; num >= 1; num--) {
-            if (nrToCheck % num == 0) {
-                counter++;
-            }
-        }
-        return counter == 2;
+        return Primes.isPrime(nrToCheck);
     }
 
-
     @Override
     public byte byteValue() {
         return integer.byteValue();
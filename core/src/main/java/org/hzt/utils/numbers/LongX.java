@@ -5,10 +5,13 @@ import org.hzt.utils.Transformable;
 import org.hzt.utils.comparables.ComparableX;
 import org.hzt.utils.ranges.LongRange;
 import org.hzt.utils.sequences.Sequence;
+import org.hzt.utils.sequences.parallel.LongParallelSequence;
 import org.hzt.utils.sequences.primitives.LongSequence;
 
+import java.math.BigInteger;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.PrimitiveIterator;
 import java.util.function.LongPredicate;
 
 @SuppressWarnings({"unused", "squid:S1448"})
@@ -125,11 +128,59 @@ public final class LongX extends Number implements NumberX<Long>, Transformable<
                 });
     }
 
+    /**
+     * Computes the nth number of the {@link #fibonacciSequence()} by fast doubling in O(log n) steps.
+     *
+     * @param n the position of the Fibonacci number, starting at 1
+     * @return the nth Fibonacci number
+     * @throws NoSuchElementException if the nth Fibonacci number is larger than Long.MAX_VALUE
+     */
     public static long nthFibonacciNumber(final int n) {
         PreConditions.require(n > 0, () -> "n must be greater than 0");
-        return fibonacciSequence()
-                .take(n)
-                .reduce(0, (first, second) -> second);
+        if (n > Fibonacci.MAX_LONG_INDEX + 1) {
+            throw new NoSuchElementException("term n>=" + (Fibonacci.MAX_LONG_INDEX + 2) + " would yield value larger than Long.MAX_VALUE");
+        }
+        return Fibonacci.fibonacci(n - 1);
+    }
+
+    /**
+     * @param n the position of the Fibonacci number, starting at 1
+     * @return the nth Fibonacci number, without an upper bound
+     * @see #nthFibonacciNumber(int)
+     * @see FibonacciMemo
+     */
+    public static BigInteger nthBigFibonacciNumber(final int n) {
+        PreConditions.require(n > 0, () -> "n must be greater than 0");
+        return Fibonacci.bigFibonacci(n - 1);
+    }
+
+    public static boolean isPrimeNr(final long nrToCheck) {
+        return Primes.isPrime(nrToCheck);
+    }
+
+    /**
+     * Sieves the primes in the range lazily, one cache sized segment at a time.
+     * <p>
+     * The parallel sequence of the result splits the range at segment boundaries, so the segments are sieved in parallel.
+     *
+     * @param range the range to find the primes in. Only ranges with step 1 are supported
+     * @return a LongSequence of the primes in the range in ascending order
+     */
+    public static LongSequence primesInRange(final LongRange range) {
+        PreConditions.require(range.getStep() == 1, () -> "The step of the range must be 1 but was " + range.getStep());
+        final long from = range.start();
+        final long last = range.endInclusive();
+        return new LongSequence() {
+            @Override
+            public PrimitiveIterator.OfLong iterator() {
+                return Primes.iterator(from, last);
+            }
+
+            @Override
+            public LongParallelSequence parallel() {
+                return LongParallelSequence.fromSpliterator(() -> Primes.spliterator(from, last));
+            }
+        };
     }
 
     public static Long decode(final String nm) throws NumberFormatException {
@@ -0,0 +1,354 @@
+package org.hzt.utils.numbers;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * Finds primes with a segmented sieve of Eratosthenes and tests single numbers with a deterministic Miller-Rabin test.
+ * <p>
+ * A segment holds only the odd numbers of its range as bits and fits in the L1 cache. The composites of a segment are
+ * crossed out by the base primes up to the square root of its last number. The base primes are sieved once and cached
+ * up to {@link #BASE_PRIME_LIMIT}. Beyond the square of that limit, the sieve only pre-filters the candidates of a
+ * segment and the remaining candidates are tested by Miller-Rabin.
+ */
+final class Primes {
+
+    private static final int SEGMENT_WORDS = 1 << 12;
+    private static final long SEGMENT_SPAN = (long) SEGMENT_WORDS * Long.SIZE * 2;
+    private static final int BASE_PRIME_LIMIT = 1 << 25;
+    private static final long SQRT_MAX_LONG = 3_037_000_499L;
+    private static final int[] SMALL_PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37};
+    private static final long[] MILLER_RABIN_BASES = {2, 325, 9375, 28178, 450775, 9780504, 1795265022};
+
+    private static volatile int[] basePrimes = {3};
+    private static volatile int basePrimeLimit = 3;
+
+    private Primes() {
+    }
+
+    /**
+     * Tests if a number is prime. The bases used make the test deterministic for all longs.
+     *
+     * @param n the number to test
+     * @return true if n is prime
+     */
+    static boolean isPrime(final long n) {
+        if (n < 2) {
+            return false;
+        }
+        for (final int prime : SMALL_PRIMES) {
+            if (n % prime == 0) {
+                return n == prime;
+            }
+        }
+        if (n < 41 * 41) {
+            return true;
+        }
+        final int twos = Long.numberOfTrailingZeros(n - 1);
+        final long odd = (n - 1) >>> twos;
+        for (final long base : MILLER_RABIN_BASES) {
+            final long a = base % n;
+            if (a != 0 && isWitness(a, odd, twos, n)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isWitness(final long a, final long odd, final int twos, final long n) {
+        long x = powMod(a, odd, n);
+        if (x == 1 || x == n - 1) {
+            return false;
+        }
+        for (int i = 1; i < twos; i++) {
+            x = mulMod(x, x, n);
+            if (x == n - 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long powMod(final long base, final long exponent, final long modulus) {
+        long result = 1;
+        long power = base;
+        for (long e = exponent; e > 0; e >>>= 1) {
+            if ((e & 1) == 1) {
+                result = mulMod(result, power, modulus);
+            }
+            power = mulMod(power, power, modulus);
+        }
+        return result;
+    }
+
+    private static long mulMod(final long a, final long b, final long modulus) {
+        if (modulus <= SQRT_MAX_LONG) {
+            return a * b % modulus;
+        }
+        long result = 0;
+        long addend = a;
+        for (long factor = b; factor > 0; factor >>>= 1) {
+            if ((factor & 1) == 1) {
+                result = addMod(result, addend, modulus);
+            }
+            addend = addMod(addend, addend, modulus);
+        }
+        return result;
+    }
+
+    private static long addMod(final long a, final long b, final long modulus) {
+        return a >= modulus - b ? a - (modulus - b) : a + b;
+    }
+
+    static PrimitiveIterator.OfLong iterator(final long from, final long last) {
+        return new PrimeIterator(Math.max(from, 2), last);
+    }
+
+    static Spliterator.OfLong spliterator(final long from, final long last) {
+        return new PrimeSpliterator(Math.max(from, 2), last);
+    }
+
+    private static int[] basePrimes(final int limit) {
+        if (basePrimeLimit >= limit) {
+            return basePrimes;
+        }
+        synchronized (Primes.class) {
+            if (basePrimeLimit < limit) {
+                final int newLimit = (int) Math.min(BASE_PRIME_LIMIT, Math.max((long) basePrimeLimit << 1, limit));
+                basePrimes = sieveOddPrimes(newLimit);
+                basePrimeLimit = newLimit;
+            }
+            return basePrimes;
+        }
+    }
+
+    private static int[] sieveOddPrimes(final int limit) {
+        final boolean[] composite = new boolean[limit + 1];
+        int count = 0;
+        for (int i = 3; i <= limit; i += 2) {
+            if (!composite[i]) {
+                count++;
+                for (long j = (long) i * i; j <= limit; j += 2L * i) {
+                    composite[(int) j] = true;
+                }
+            }
+        }
+        final int[] primes = new int[count];
+        int index = 0;
+        for (int i = 3; i <= limit; i += 2) {
+            if (!composite[i]) {
+                primes[index++] = i;
+            }
+        }
+        return primes;
+    }
+
+    private static long sqrtFloor(final long n) {
+        long root = (long) Math.sqrt((double) n);
+        while (root * root > n) {
+            root--;
+        }
+        while (root < SQRT_MAX_LONG && (root + 1) * (root + 1) <= n) {
+            root++;
+        }
+        return root;
+    }
+
+    /**
+     * The odd numbers of a range of at most {@link #SEGMENT_SPAN} numbers. Bit k stands for {@code low + 2k}.
+     */
+    private static final class Segment {
+
+        private final long[] words = new long[SEGMENT_WORDS];
+        private long low;
+        private int count;
+
+        /**
+         * Sieves the odd numbers from the first odd number at or after from up to and including last.
+         */
+        void sieve(final long from, final long last) {
+            low = from | 1;
+            count = low > last ? 0 : (int) ((last - low) / 2 + 1);
+            final int nrOfWords = (count + Long.SIZE - 1) >>> 6;
+            for (int i = 0; i < nrOfWords; i++) {
+                words[i] = -1L;
+            }
+            if ((count & (Long.SIZE - 1)) != 0) {
+                words[nrOfWords - 1] = -1L >>> (Long.SIZE - (count & (Long.SIZE - 1)));
+            }
+            final long root = sqrtFloor(last);
+            final int[] primes = basePrimes((int) Math.min(root, BASE_PRIME_LIMIT));
+            for (final int prime : primes) {
+                if (prime > root) {
+                    break;
+                }
+                crossOut(prime);
+            }
+            if (root > BASE_PRIME_LIMIT) {
+                retainMillerRabinPrimes();
+            }
+        }
+
+        private void crossOut(final int prime) {
+            final long square = (long) prime * prime;
+            final long first;
+            if (square >= low) {
+                first = (square - low) >>> 1;
+            } else {
+                final long remainder = low % prime;
+                long offset = remainder == 0 ? 0 : prime - remainder;
+                if ((offset & 1) == 1) {
+                    offset += prime;
+                }
+                first = offset >>> 1;
+            }
+            for (long k = first; k < count; k += prime) {
+                words[(int) (k >>> 6)] &= ~(1L << k);
+            }
+        }
+
+        private void retainMillerRabinPrimes() {
+            for (int k = nextSetBit(0); k >= 0; k = nextSetBit(k + 1)) {
+                if (!isPrime(low + 2L * k)) {
+                    words[k >>> 6] &= ~(1L << k);
+                }
+            }
+        }
+
+        int nextSetBit(final int fromIndex) {
+            if (fromIndex >= count) {
+                return -1;
+            }
+            int wordIndex = fromIndex >>> 6;
+            long word = words[wordIndex] & (-1L << fromIndex);
+            final int nrOfWords = (count + Long.SIZE - 1) >>> 6;
+            while (word == 0) {
+                if (++wordIndex == nrOfWords) {
+                    return -1;
+                }
+                word = words[wordIndex];
+            }
+            return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+        }
+
+        long primeAt(final int index) {
+            return low + 2L * index;
+        }
+    }
+
+    /**
+     * Iterates over the primes of a range segment by segment. A segment is sieved when the previous one is exhausted.
+     */
+    private static final class PrimeIterator implements PrimitiveIterator.OfLong {
+
+        private final Segment segment = new Segment();
+        private final long last;
+        private long nextSegmentFrom;
+        private boolean hasTwo;
+        private boolean exhausted;
+        private int index = -1;
+
+        PrimeIterator(final long from, final long last) {
+            this.last = last;
+            this.nextSegmentFrom = Math.max(from, 3);
+            this.hasTwo = from <= 2 && last >= 2;
+            this.exhausted = nextSegmentFrom > last;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (hasTwo) {
+                return true;
+            }
+            while (index < 0) {
+                if (exhausted) {
+                    return false;
+                }
+                final long segmentLast = last - nextSegmentFrom < SEGMENT_SPAN ? last : nextSegmentFrom + SEGMENT_SPAN - 1;
+                segment.sieve(nextSegmentFrom, segmentLast);
+                exhausted = segmentLast == last;
+                nextSegmentFrom = segmentLast + 1;
+                index = segment.nextSetBit(0);
+            }
+            return true;
+        }
+
+        @Override
+        public long nextLong() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (hasTwo) {
+                hasTwo = false;
+                return 2;
+            }
+            final long prime = segment.primeAt(index);
+            index = segment.nextSetBit(index + 1);
+            return prime;
+        }
+    }
+
+    /**
+     * Splits a range of numbers at segment boundaries, so every split sieves its own segments.
+     */
+    private static final class PrimeSpliterator implements Spliterator.OfLong {
+
+        private final long last;
+        private long from;
+        private PrimeIterator iterator;
+
+        PrimeSpliterator(final long from, final long last) {
+            this.from = from;
+            this.last = last;
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            if (iterator != null || last - from < 2 * SEGMENT_SPAN) {
+                return null;
+            }
+            final long middle = from + ((last - from) >>> 1);
+            final long splitAt = middle - middle % SEGMENT_SPAN;
+            if (splitAt <= from) {
+                return null;
+            }
+            final Spliterator.OfLong prefix = new PrimeSpliterator(from, splitAt - 1);
+            from = splitAt;
+            return prefix;
+        }
+
+        @Override
+        public boolean tryAdvance(final LongConsumer action) {
+            final PrimeIterator primes = primes();
+            if (primes.hasNext()) {
+                action.accept(primes.nextLong());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(final LongConsumer action) {
+            primes().forEachRemaining(action);
+        }
+
+        private PrimeIterator primes() {
+            if (iterator == null) {
+                iterator = new PrimeIterator(from, last);
+            }
+            return iterator;
+        }
+
+        @Override
+        public long estimateSize() {
+            return last < from ? 0 : last - from + 1;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | DISTINCT | NONNULL;
+        }
+    }
+}
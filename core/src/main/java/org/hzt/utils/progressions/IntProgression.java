@@ -5,6 +5,7 @@ import org.hzt.utils.sequences.primitives.IntSequence;
 
 import java.util.Objects;
 import java.util.PrimitiveIterator;
+import java.util.function.IntPredicate;
 
 public class IntProgression implements IntSequence {
 
@@ -93,6 +94,24 @@ public class IntProgression implements IntSequence {
         };
     }
 
+    @Override
+    public boolean forEachIntWhile(final IntPredicate action) {
+        if (step > 0) {
+            for (long next = start; next <= endInclusive; next += step) {
+                if (!action.test((int) next)) {
+                    return false;
+                }
+            }
+        } else {
+            for (long next = start; next >= endInclusive; next += step) {
+                if (!action.test((int) next)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
     public Integer start() {
         return start;
     }
@@ -0,0 +1,44 @@
+package org.hzt.utils.sequences;
+
+import java.util.Iterator;
+import java.util.function.Predicate;
+
+/**
+ * A sequence stage that supports both ways of evaluation.
+ * <p>
+ * Its items can be pulled from its iterator, or be pushed by {@link #forEachWhile(Predicate)} into the action of the
+ * terminal operation. When pushed, the stages of a pipeline are fused into nested actions, so no iterator is created
+ * and no {@code hasNext}/{@code next} state machine is evaluated per stage.
+ *
+ * @param <T> the type of the items in the sequence
+ */
+final class PushingSequence<T> implements Sequence<T> {
+
+    private final Sequence<T> pullSource;
+    private final Pusher<T> pusher;
+
+    PushingSequence(final Sequence<T> pullSource, final Pusher<T> pusher) {
+        this.pullSource = pullSource;
+        this.pusher = pusher;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return pullSource.iterator();
+    }
+
+    @Override
+    public boolean forEachWhile(final Predicate<? super T> action) {
+        return pusher.forEachWhile(action);
+    }
+
+    @FunctionalInterface
+    interface Pusher<T> {
+
+        /**
+         * @param action the action to push the items to. It returns {@code false} to cancel the evaluation
+         * @return {@code true} if all items were pushed, {@code false} if the evaluation was cancelled
+         */
+        boolean forEachWhile(Predicate<? super T> action);
+    }
+}
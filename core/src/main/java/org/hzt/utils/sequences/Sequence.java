@@ -4,6 +4,7 @@ import org.hzt.utils.It;
 import org.hzt.utils.PreConditions;
 import org.hzt.utils.collections.ListX;
 import org.hzt.utils.collections.MapX;
+import org.hzt.utils.collections.MutableListX;
 import org.hzt.utils.function.IndexedBiFunction;
 import org.hzt.utils.function.IndexedFunction;
 import org.hzt.utils.function.IndexedPredicate;
@@ -16,6 +17,7 @@ import org.hzt.utils.iterables.IterableX;
 import org.hzt.utils.iterables.primitives.PrimitiveIterable;
 import org.hzt.utils.iterators.Iterators;
 import org.hzt.utils.iterators.primitives.PrimitiveIterators;
+import org.hzt.utils.sequences.parallel.ParallelSequence;
 import org.hzt.utils.sequences.primitives.DoubleSequence;
 import org.hzt.utils.sequences.primitives.IntSequence;
 import org.hzt.utils.sequences.primitives.LongSequence;
@@ -25,20 +27,25 @@ import org.hzt.utils.tuples.Pair;
 import org.hzt.utils.tuples.Triple;
 
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PrimitiveIterator;
 import java.util.Random;
 import java.util.Set;
 import java.util.Spliterators;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.DoubleConsumer;
 import java.util.function.Function;
 import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 import java.util.function.LongConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -53,7 +60,7 @@ import static java.util.Spliterator.ORDERED;
 /**
  * A sequence is a simplified stream. It evaluates its operations in a lazy way.
  * <p>
- * It does not support parallel execution.
+ * It is evaluated sequentially. Use {@link #parallel()} to evaluate its operations on chunks in the fork join pool.
  * <p>
  * The implementation is heavily inspired on Kotlin's sequences api. This api provides offers simpler syntax than streams
  * and is easier to understand
@@ -74,11 +81,25 @@ public interface Sequence<T> extends IterableX<T>, WindowedSequence<T> {
 
     @SafeVarargs
     static <T> Sequence<T> of(final T... values) {
-        return () -> Iterators.arrayIterator(values);
+        return new PushingSequence<>(() -> Iterators.arrayIterator(values), action -> {
+            for (final T value : values) {
+                if (!action.test(value)) {
+                    return false;
+                }
+            }
+            return true;
+        });
     }
 
     static <T> Sequence<T> of(final Iterable<T> iterable) {
-        return iterable::iterator;
+        return new PushingSequence<>(iterable::iterator, action -> {
+            for (final T t : iterable) {
+                if (!action.test(t)) {
+                    return false;
+                }
+            }
+            return true;
+        });
     }
 
     @SafeVarargs
@@ -156,7 +177,8 @@ public interface Sequence<T> extends IterableX<T>, WindowedSequence<T> {
     }
 
     default <R> Sequence<R> map(final Function<? super T, ? extends R> mapper) {
-        return () -> Iterators.transformingIterator(iterator(), mapper);
+        return new PushingSequence<>(() -> Iterators.transformingIterator(iterator(), mapper),
+                action -> forEachWhile(t -> action.test(mapper.apply(t))));
     }
 
     default <R> Sequence<R> mapNotNull(final Function<? super T, ? extends R> mapper) {
@@ -206,22 +228,33 @@ public interface Sequence<T> extends IterableX<T>, WindowedSequence<T> {
     }
 
     default <R> Sequence<R> mapMulti(final BiConsumer<? super T, ? super Consumer<R>> mapper) {
-        return () -> Iterators.multiMappingIterator(iterator(), mapper);
+        return new PushingSequence<>(() -> Iterators.multiMappingIterator(iterator(), mapper),
+                action -> forEachWhile(new Sinks.MultiMapping<>(mapper, action)));
     }
 
     @Override
     default IntSequence mapMultiToInt(final BiConsumer<? super T, IntConsumer> mapper) {
-        return (IntSequence) IterableX.super.mapMultiToInt(mapper);
+        return new IntSequence() {
+            @Override
+            public PrimitiveIterator.OfInt iterator() {
+                return PrimitiveIterators.toIntMultiMappingIterator(Sequence.this.iterator(), mapper);
+            }
+
+            @Override
+            public boolean forEachIntWhile(final IntPredicate action) {
+                return forEachWhile(new Sinks.IntMultiMapping<>(mapper, action));
+            }
+        };
     }
 
     @Override
     default LongSequence mapMultiToLong(final BiConsumer<? super T, LongConsumer> mapper) {
-        return (LongSequence) IterableX.super.mapMultiToLong(mapper);
+        return () -> PrimitiveIterators.toLongMultiMappingIterator(iterator(), mapper);
     }
 
     @Override
     default DoubleSequence mapMultiToDouble(final BiConsumer<? super T, DoubleConsumer> mapper) {
-        return (DoubleSequence) IterableX.super.mapMultiToDouble(mapper);
+        return () -> PrimitiveIterators.toDoubleMultiMappingIterator(iterator(), mapper);
     }
 
     @Override
@@ -230,11 +263,13 @@ public interface Sequence<T> extends IterableX<T>, WindowedSequence<T> {
     }
 
     default Sequence<T> filter(final Predicate<? super T> predicate) {
-        return () -> Iterators.filteringIterator(iterator(), predicate, true);
+        return new PushingSequence<>(() -> Iterators.filteringIterator(iterator(), predicate, true),
+                action -> forEachWhile(t -> !predicate.test(t) || action.test(t)));
     }
 
     default Sequence<T> filterNot(final Predicate<? super T> predicate) {
-        return () -> Iterators.filteringIterator(iterator(), predicate, false);
+        return new PushingSequence<>(() -> Iterators.filteringIterator(iterator(), predicate, false),
+                action -> forEachWhile(t -> predicate.test(t) || action.test(t)));
     }
 
     default <R> Sequence<T> filterBy(final Function<? super T, ? extends R> selector,
@@ -317,11 +352,13 @@ public interface Sequence<T> extends IterableX<T>, WindowedSequence<T> {
     }
 
     default Sequence<T> takeWhile(final Predicate<? super T> predicate) {
-        return () -> Iterators.takeWhileIterator(iterator(), predicate, false);
+        return new PushingSequence<>(() -> Iterators.takeWhileIterator(iterator(), predicate, false),
+                action -> forEachWhile(t -> predicate.test(t) && action.test(t)));
     }
 
     default Sequence<T> takeWhileInclusive(final Predicate<? super T> predicate) {
-        return () -> Iterators.takeWhileIterator(iterator(), predicate, true);
+        return new PushingSequence<>(() -> Iterators.takeWhileIterator(iterator(), predicate, true),
+                action -> forEachWhile(t -> action.test(t) && predicate.test(t)));
     }
 
     default Sequence<T> skip(final long n) {
@@ -348,22 +385,42 @@ public interface Sequence<T> extends IterableX<T>, WindowedSequence<T> {
 
     @Override
     default Sequence<T> sorted() {
-        return () -> IterableX.super.sorted().iterator();
+        return SortedSequence.of(() -> IterableX.super.sorted().iterator(), this, SequenceHelper.naturalOrder());
     }
 
     @Override
     default Sequence<T> sorted(final Comparator<? super T> comparator) {
-        return () -> IterableX.super.sorted(comparator).iterator();
+        return SortedSequence.of(() -> IterableX.super.sorted(comparator).iterator(), this, comparator);
     }
 
     @Override
     default <R extends Comparable<? super R>> Sequence<T> sortedBy(final Function<? super T, ? extends R> selector) {
-        return () -> IterableX.super.sortedBy(selector).iterator();
+        return new SortedSequence<>(() -> IterableX.super.sortedBy(selector).iterator(), this, selector,
+                Comparator.<R>naturalOrder());
+    }
+
+    @Override
+    default Sequence<T> sortedByInt(final ToIntFunction<? super T> selector) {
+        return new SortedSequence<>(() -> IterableX.super.sortedByInt(selector).iterator(), this, selector::applyAsInt,
+                Integer::compare);
+    }
+
+    @Override
+    default Sequence<T> sortedByLong(final ToLongFunction<? super T> selector) {
+        return new SortedSequence<>(() -> IterableX.super.sortedByLong(selector).iterator(), this, selector::applyAsLong,
+                Long::compare);
+    }
+
+    @Override
+    default Sequence<T> sortedByDouble(final ToDoubleFunction<? super T> selector) {
+        return new SortedSequence<>(() -> IterableX.super.sortedByDouble(selector).iterator(), this, selector::applyAsDouble,
+                Double::compare);
     }
 
     @Override
     default Sequence<T> sortedDescending() {
-        return () -> IterableX.super.sortedDescending().iterator();
+        return SortedSequence.of(() -> IterableX.super.sortedDescending().iterator(), this,
+                SequenceHelper.<T>naturalOrder().reversed());
     }
 
     @Override
@@ -373,7 +430,42 @@ public interface Sequence<T> extends IterableX<T>, WindowedSequence<T> {
 
     @Override
     default <R extends Comparable<? super R>> Sequence<T> sortedByDescending(final Function<? super T, ? extends R> selector) {
-        return () -> IterableX.super.sortedByDescending(selector).iterator();
+        return new SortedSequence<>(() -> IterableX.super.sortedByDescending(selector).iterator(), this, selector,
+                Comparator.<R>reverseOrder());
+    }
+
+    /**
+     * Selects the k greatest elements with a bounded heap in O(n log k) time and O(k) memory.
+     *
+     * @param k the maximum number of elements to select
+     * @param comparator the order of the elements
+     * @return the k greatest elements in descending order, equal elements in encounter order
+     */
+    default ListX<T> topK(final int k, final Comparator<? super T> comparator) {
+        PreConditions.requireGreaterThanOrEqualToZero(k);
+        return TopK.smallest(this, k, comparator.reversed());
+    }
+
+    /**
+     * Selects the k smallest elements with a bounded heap in O(n log k) time and O(k) memory.
+     *
+     * @param k the maximum number of elements to select
+     * @param comparator the order of the elements
+     * @return the k smallest elements in ascending order, equal elements in encounter order
+     */
+    default ListX<T> bottomK(final int k, final Comparator<? super T> comparator) {
+        PreConditions.requireGreaterThanOrEqualToZero(k);
+        return TopK.smallest(this, k, comparator);
+    }
+
+    default <R extends Comparable<? super R>> ListX<T> topKBy(final int k, final Function<? super T, ? extends R> selector) {
+        PreConditions.requireGreaterThanOrEqualToZero(k);
+        return TopK.smallestBy(this, k, selector, Comparator.<R>reverseOrder());
+    }
+
+    default <R extends Comparable<? super R>> ListX<T> bottomKBy(final int k, final Function<? super T, ? extends R> selector) {
+        PreConditions.requireGreaterThanOrEqualToZero(k);
+        return TopK.smallestBy(this, k, selector, Comparator.<R>naturalOrder());
     }
 
     default <K, V> EntrySequence<K, V> asEntrySequence(final Function<? super T, ? extends K> keyMapper,
@@ -396,7 +488,17 @@ public interface Sequence<T> extends IterableX<T>, WindowedSequence<T> {
 
     @Override
     default IntSequence mapToInt(final ToIntFunction<? super T> toIntMapper) {
-        return () -> PrimitiveIterators.intIteratorOf(iterator(), toIntMapper);
+        return new IntSequence() {
+            @Override
+            public PrimitiveIterator.OfInt iterator() {
+                return PrimitiveIterators.intIteratorOf(Sequence.this.iterator(), toIntMapper);
+            }
+
+            @Override
+            public boolean forEachIntWhile(final IntPredicate action) {
+                return forEachWhile(t -> action.test(toIntMapper.applyAsInt(t)));
+            }
+        };
     }
 
     @Override
@@ -409,6 +511,74 @@ public interface Sequence<T> extends IterableX<T>, WindowedSequence<T> {
         return () -> PrimitiveIterators.doubleIteratorOf(iterator(), toDoubleMapper);
     }
 
+    /**
+     * Pushes the items of this sequence to the action until the action returns {@code false}.
+     * <p>
+     * This is the push counterpart of {@link #iterator()} the terminal operations are evaluated by. The stages of a
+     * pipeline that support pushing are fused into nested actions, so no iterator chain is built. Any other stage falls
+     * back to pulling the items from its iterator.
+     *
+     * @param action the action to push the items to. It returns {@code false} to cancel the evaluation
+     * @return {@code false} if the evaluation stopped before all items were pushed, {@code true} otherwise
+     */
+    default boolean forEachWhile(final Predicate<? super T> action) {
+        final Iterator<T> iterator = iterator();
+        while (iterator.hasNext()) {
+            if (!action.test(iterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    default void forEach(final Consumer<? super T> action) {
+        forEachWhile(t -> {
+            action.accept(t);
+            return true;
+        });
+    }
+
+    @Override
+    default <R> R fold(final R initial, final BiFunction<? super R, ? super T, ? extends R> operation) {
+        final Sinks.Folding<T, R> folding = new Sinks.Folding<>(initial, operation);
+        forEachWhile(folding);
+        return folding.result();
+    }
+
+    @Override
+    default T reduce(final T initial, final BinaryOperator<T> operation) {
+        final Sinks.Reducing<T> reducing = new Sinks.Reducing<>(initial, operation);
+        forEachWhile(reducing);
+        return reducing.result();
+    }
+
+    @Override
+    default long count() {
+        final Sinks.Counting<T> counting = new Sinks.Counting<>();
+        forEachWhile(counting);
+        return counting.result();
+    }
+
+    @Override
+    default MutableListX<T> toMutableList() {
+        final MutableListX<T> list = MutableListX.empty();
+        forEachWhile(t -> t == null || list.add(t));
+        return list;
+    }
+
+    @Override
+    default T first() {
+        return findFirst().orElseThrow(() -> new NoSuchElementException("No value present"));
+    }
+
+    @Override
+    default Optional<T> findFirst() {
+        final Sinks.FirstNonNull<T> firstNonNull = new Sinks.FirstNonNull<>();
+        forEachWhile(firstNonNull);
+        return Optional.ofNullable(firstNonNull.result());
+    }
+
     default <R> R transform(final Function<? super Sequence<T>, ? extends R> resultMapper) {
         return resultMapper.apply(this);
     }
@@ -418,6 +588,17 @@ public interface Sequence<T> extends IterableX<T>, WindowedSequence<T> {
         return StreamX.of(StreamSupport.stream(() -> Spliterators.spliteratorUnknownSize(iterator(), ORDERED), ORDERED, false));
     }
 
+    /**
+     * Returns a parallel sequence over the items of this sequence. As a sequence is only known by its iterator, its items
+     * are split into batches for the parallel evaluation.
+     *
+     * @return a parallel sequence over the items of this sequence
+     * @see ParallelSequence#of(Iterable)
+     */
+    default ParallelSequence<T> parallel() {
+        return ParallelSequence.of(this);
+    }
+
     default Sequence<T> onSequence(final Consumer<? super Sequence<T>> sequenceConsumer) {
         sequenceConsumer.accept(this);
         return this;
@@ -487,6 +668,19 @@ public interface Sequence<T> extends IterableX<T>, WindowedSequence<T> {
             return this;
         }
 
+        /**
+         * Moves the elements of the other builder behind the elements of this builder. Builders that were filled by
+         * different threads are merged this way without copying their elements. The default implementation builds the
+         * other builder and adds its elements one by one.
+         *
+         * @param other the builder to move the elements of
+         * @return {@code this} builder
+         */
+        default Sequence.Builder<T> addAll(final Sequence.Builder<T> other) {
+            other.build().forEach(this);
+            return this;
+        }
+
         /**
          * Builds the sequence, transitioning this builder to the built state.
          * An {@code IllegalStateException} is thrown if there are further attempts
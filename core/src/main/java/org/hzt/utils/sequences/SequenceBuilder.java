@@ -1,8 +1,12 @@
 package org.hzt.utils.sequences;
 
 
+import org.hzt.utils.sequences.parallel.ParallelSequence;
 import org.hzt.utils.spined_buffers.SpinedBuffer;
 
+import java.util.Iterator;
+import java.util.function.Predicate;
+
 final class SequenceBuilder<T> implements Sequence.Builder<T> {
 
     private final SpinedBuffer<T> buffer = new SpinedBuffer<>();
@@ -12,8 +16,37 @@ final class SequenceBuilder<T> implements Sequence.Builder<T> {
         buffer.accept(t);
     }
 
+    @Override
+    public Sequence.Builder<T> addAll(final Sequence.Builder<T> other) {
+        if (other instanceof SequenceBuilder) {
+            buffer.appendAll(((SequenceBuilder<T>) other).buffer);
+            return this;
+        }
+        return Sequence.Builder.super.addAll(other);
+    }
+
+    /**
+     * The built sequence is split by the spliterator of the buffer when it is evaluated in parallel, which splits the
+     * elements in halves instead of in batches of an unknown sized iterator.
+     */
     @Override
     public Sequence<T> build() {
-        return Sequence.of(buffer);
+        final Sequence<T> sequence = Sequence.of(buffer);
+        return new Sequence<T>() {
+            @Override
+            public Iterator<T> iterator() {
+                return sequence.iterator();
+            }
+
+            @Override
+            public boolean forEachWhile(final Predicate<? super T> action) {
+                return sequence.forEachWhile(action);
+            }
+
+            @Override
+            public ParallelSequence<T> parallel() {
+                return ParallelSequence.of(buffer);
+            }
+        };
     }
 }
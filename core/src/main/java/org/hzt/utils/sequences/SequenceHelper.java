@@ -1,7 +1,9 @@
 package org.hzt.utils.sequences;
 
 import org.hzt.utils.PreConditions;
+import org.hzt.utils.iterables.IterableXHelper;
 
+import java.util.Comparator;
 import java.util.Map;
 
 public final class SequenceHelper {
@@ -20,6 +22,15 @@ public final class SequenceHelper {
         PreConditions.require(size > 0 && step > 0, () -> getErrorMessage(size, step));
     }
 
+    /**
+     * @return the natural order of comparable elements, which throws an IllegalStateException for an element that is not
+     * comparable
+     * @see IterableXHelper#asComparableOrThrow(Object)
+     */
+    static <T> Comparator<T> naturalOrder() {
+        return (t1, t2) -> IterableXHelper.<T, Comparable<Object>>asComparableOrThrow(t1).compareTo(t2);
+    }
+
     static <K, V> V keyAsValueTypeOrThrow(final Map.Entry<K, V> entry) {
         final K k = entry.getKey();
         final V v = entry.getValue();
@@ -0,0 +1,198 @@
+package org.hzt.utils.sequences;
+
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+/**
+ * The stateful actions that are used when a sequence pushes its items.
+ * <p>
+ * Every action returns {@code false} from {@link Predicate#test(Object)} to cancel the evaluation of its upstream.
+ */
+final class Sinks {
+
+    private Sinks() {
+    }
+
+    static final class Folding<T, R> implements Predicate<T> {
+
+        private final BiFunction<? super R, ? super T, ? extends R> operation;
+        private R accumulator;
+
+        Folding(final R initial, final BiFunction<? super R, ? super T, ? extends R> operation) {
+            this.accumulator = initial;
+            this.operation = operation;
+        }
+
+        @Override
+        public boolean test(final T t) {
+            if (t != null) {
+                accumulator = operation.apply(accumulator, t);
+            }
+            return true;
+        }
+
+        R result() {
+            return accumulator;
+        }
+    }
+
+    static final class Reducing<T> implements Predicate<T> {
+
+        private final BiFunction<T, T, T> operation;
+        private T accumulator;
+
+        Reducing(final T initial, final BiFunction<T, T, T> operation) {
+            this.accumulator = initial;
+            this.operation = operation;
+        }
+
+        @Override
+        public boolean test(final T t) {
+            accumulator = operation.apply(accumulator, t);
+            return true;
+        }
+
+        T result() {
+            return accumulator;
+        }
+    }
+
+    static final class Counting<T> implements Predicate<T> {
+
+        private long count = 0;
+
+        @Override
+        public boolean test(final T t) {
+            count++;
+            return true;
+        }
+
+        long result() {
+            return count;
+        }
+    }
+
+    static final class FirstNonNull<T> implements Predicate<T> {
+
+        private T first;
+
+        @Override
+        public boolean test(final T t) {
+            first = t;
+            return t == null;
+        }
+
+        T result() {
+            return first;
+        }
+    }
+
+    /**
+     * Takes at most {@code limit} items and cancels the evaluation as soon as the last one is taken.
+     *
+     * @param <T> the type of the items
+     */
+    static final class Limiting<T> implements Predicate<T> {
+
+        private final Predicate<? super T> downstream;
+        private long left;
+
+        Limiting(final long limit, final Predicate<? super T> downstream) {
+            this.left = limit;
+            this.downstream = downstream;
+        }
+
+        @Override
+        public boolean test(final T t) {
+            left--;
+            return downstream.test(t) && left > 0;
+        }
+    }
+
+    static final class Skipping<T> implements Predicate<T> {
+
+        private final Predicate<? super T> downstream;
+        private long left;
+
+        Skipping(final long count, final Predicate<? super T> downstream) {
+            this.left = count;
+            this.downstream = downstream;
+        }
+
+        @Override
+        public boolean test(final T t) {
+            if (left > 0) {
+                left--;
+                return true;
+            }
+            return downstream.test(t);
+        }
+    }
+
+    /**
+     * Passes the items the mapper emits to the downstream action. A cancellation by the downstream action is kept in a
+     * flag, because the mapper pushes into a plain consumer.
+     *
+     * @param <T> the type of the upstream items
+     * @param <R> the type of the items the mapper emits
+     */
+    static final class MultiMapping<T, R> implements Predicate<T>, Consumer<R> {
+
+        private final BiConsumer<? super T, ? super Consumer<R>> mapper;
+        private final Predicate<? super R> downstream;
+        private boolean cancelled = false;
+
+        MultiMapping(final BiConsumer<? super T, ? super Consumer<R>> mapper, final Predicate<? super R> downstream) {
+            this.mapper = mapper;
+            this.downstream = downstream;
+        }
+
+        @Override
+        public boolean test(final T t) {
+            mapper.accept(t, this);
+            return !cancelled;
+        }
+
+        @Override
+        public void accept(final R r) {
+            if (!cancelled) {
+                cancelled = !downstream.test(r);
+            }
+        }
+    }
+
+    /**
+     * Passes the ints the mapper emits to the downstream action without boxing or buffering them.
+     *
+     * @param <T> the type of the upstream items
+     * @see MultiMapping
+     */
+    static final class IntMultiMapping<T> implements Predicate<T>, IntConsumer {
+
+        private final BiConsumer<? super T, IntConsumer> mapper;
+        private final IntPredicate downstream;
+        private boolean cancelled = false;
+
+        IntMultiMapping(final BiConsumer<? super T, IntConsumer> mapper, final IntPredicate downstream) {
+            this.mapper = mapper;
+            this.downstream = downstream;
+        }
+
+        @Override
+        public boolean test(final T t) {
+            mapper.accept(t, this);
+            return !cancelled;
+        }
+
+        @Override
+        public void accept(final int value) {
+            if (!cancelled) {
+                cancelled = !downstream.test(value);
+            }
+        }
+    }
+}
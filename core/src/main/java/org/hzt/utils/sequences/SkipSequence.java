@@ -3,6 +3,7 @@ package org.hzt.utils.sequences;
 import org.hzt.utils.PreConditions;
 
 import java.util.Iterator;
+import java.util.function.Predicate;
 
 final class SkipSequence<T> implements SkipTakeSequence<T> {
 
@@ -32,6 +33,11 @@ final class SkipSequence<T> implements SkipTakeSequence<T> {
         return count;
     }
 
+    @Override
+    public boolean forEachWhile(final Predicate<? super T> action) {
+        return upstream.forEachWhile(new Sinks.Skipping<>(count, action));
+    }
+
     @Override
     public Iterator<T> iterator() {
         return new Iterator<T>() {
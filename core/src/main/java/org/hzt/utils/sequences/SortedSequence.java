@@ -0,0 +1,91 @@
+package org.hzt.utils.sequences;
+
+import org.hzt.utils.PreConditions;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A sequence sorted stably by the keys of its elements. The full sort is done by the sorted sequence it is given, which
+ * may compute the sort keys once per element. A {@link #take(long)} of n elements is fused with the sort into a
+ * selection of the n smallest elements by a bounded heap, so only n elements are kept in memory. {@link #findFirst()}
+ * selects the smallest element in one pass, unless there are null elements. Both compute the key of an element once.
+ *
+ * @param <T> the type of the elements
+ * @param <K> the type of the sort keys
+ */
+final class SortedSequence<T, K> implements Sequence<T> {
+
+    private final Sequence<T> sorted;
+    private final Iterable<T> upstream;
+    private final Function<? super T, ? extends K> selector;
+    private final Comparator<? super K> comparator;
+
+    /**
+     * @param sorted the fully sorted sequence
+     * @param upstream the unsorted elements
+     * @param selector computes the sort key of an element
+     * @param comparator the order of the keys, where elements with equal keys keep their encounter order
+     */
+    SortedSequence(final Sequence<T> sorted,
+                   final Iterable<T> upstream,
+                   final Function<? super T, ? extends K> selector,
+                   final Comparator<? super K> comparator) {
+        this.sorted = sorted;
+        this.upstream = upstream;
+        this.selector = selector;
+        this.comparator = comparator;
+    }
+
+    /**
+     * @param sorted the fully sorted sequence
+     * @param upstream the unsorted elements
+     * @param comparator the order of the sorted sequence, where equal elements keep their encounter order
+     * @param <T> the type of the elements
+     * @return a sorted sequence that uses the elements themselves as sort keys
+     */
+    static <T> SortedSequence<T, T> of(final Sequence<T> sorted,
+                                       final Iterable<T> upstream,
+                                       final Comparator<? super T> comparator) {
+        return new SortedSequence<>(sorted, upstream, t -> t, comparator);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return sorted.iterator();
+    }
+
+    @Override
+    public Sequence<T> take(final long n) {
+        PreConditions.requireGreaterThanOrEqualToZero(n);
+        if (n == 0) {
+            return new EmptySequence<>();
+        }
+        return () -> TopK.smallestBy(upstream, n, selector, comparator).iterator();
+    }
+
+    /**
+     * Selects the smallest element in one pass if there are no null elements. Otherwise, the full sort decides, so a
+     * selector or comparator that does not accept nulls throws the same exception as the sort would.
+     *
+     * @return the first non null element of the sorted sequence
+     */
+    @Override
+    public Optional<T> findFirst() {
+        T smallest = null;
+        K smallestKey = null;
+        for (final T t : upstream) {
+            if (t == null) {
+                return sorted.findFirst();
+            }
+            final K key = selector.apply(t);
+            if (smallest == null || comparator.compare(key, smallestKey) < 0) {
+                smallest = t;
+                smallestKey = key;
+            }
+        }
+        return Optional.ofNullable(smallest);
+    }
+}
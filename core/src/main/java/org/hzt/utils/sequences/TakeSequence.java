@@ -4,6 +4,7 @@ import org.hzt.utils.PreConditions;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.Predicate;
 
 final class TakeSequence<T> implements SkipTakeSequence<T> {
 
@@ -46,6 +47,11 @@ final class TakeSequence<T> implements SkipTakeSequence<T> {
         };
     }
 
+    @Override
+    public boolean forEachWhile(final Predicate<? super T> action) {
+        return count == 0 || upstream.forEachWhile(new Sinks.Limiting<>(count, action));
+    }
+
     @Override
     public long count() {
         return count;
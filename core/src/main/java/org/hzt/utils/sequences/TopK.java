@@ -0,0 +1,174 @@
+package org.hzt.utils.sequences;
+
+import org.hzt.utils.collections.ListX;
+import org.hzt.utils.collections.MutableListX;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Function;
+
+/**
+ * Selects the k smallest elements of an iterable with a bounded binary max heap in O(n log k) time and O(k) memory.
+ * <p>
+ * The root of the heap is the greatest element kept so far, so an element is only kept when it is smaller than the root.
+ * Equal elements are ordered by their position in the iterable, so the result equals the first k elements of a stable
+ * sort. The elements are compared by a key that is computed once per element and kept beside its heap slot.
+ *
+ * @param <T> the type of the elements
+ * @param <K> the type of the keys
+ */
+final class TopK<T, K> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final Function<? super T, ? extends K> selector;
+    private final Comparator<? super K> comparator;
+    private final long k;
+    private Object[] elements;
+    private Object[] keys;
+    private long[] positions;
+    private int size;
+
+    private TopK(final long k, final Function<? super T, ? extends K> selector, final Comparator<? super K> comparator) {
+        this.selector = selector;
+        this.comparator = comparator;
+        this.k = k;
+        final int capacity = (int) Math.min(k, INITIAL_CAPACITY);
+        this.elements = new Object[capacity];
+        this.keys = new Object[capacity];
+        this.positions = new long[capacity];
+    }
+
+    /**
+     * @param iterable the elements to select from
+     * @param k the maximum number of elements to select
+     * @param comparator the order of the elements
+     * @param <T> the type of the elements
+     * @return the k smallest elements in ascending order, or all elements if there are fewer than k
+     */
+    static <T> ListX<T> smallest(final Iterable<? extends T> iterable, final long k, final Comparator<? super T> comparator) {
+        return smallestBy(iterable, k, t -> t, comparator);
+    }
+
+    /**
+     * @param iterable the elements to select from
+     * @param k the maximum number of elements to select
+     * @param selector computes the key of an element. It is called once per element
+     * @param comparator the order of the keys
+     * @param <T> the type of the elements
+     * @param <K> the type of the keys
+     * @return the k elements with the smallest keys in ascending order, or all elements if there are fewer than k
+     */
+    static <T, K> ListX<T> smallestBy(final Iterable<? extends T> iterable,
+                                      final long k,
+                                      final Function<? super T, ? extends K> selector,
+                                      final Comparator<? super K> comparator) {
+        final TopK<T, K> topK = new TopK<>(k, selector, comparator);
+        if (k > 0) {
+            long position = 0;
+            for (final T t : iterable) {
+                topK.offer(t, position++);
+            }
+        }
+        return topK.toSortedList();
+    }
+
+    private void offer(final T t, final long position) {
+        final K key = selector.apply(t);
+        if (size < k) {
+            if (size == elements.length) {
+                grow();
+            }
+            elements[size] = t;
+            keys[size] = key;
+            positions[size] = position;
+            siftUp(size++);
+        } else if (comparator.compare(key, keyAt(0)) < 0) {
+            elements[0] = t;
+            keys[0] = key;
+            positions[0] = position;
+            siftDown(0, size);
+        }
+    }
+
+    private void grow() {
+        if (size == MAX_CAPACITY) {
+            throw new IllegalStateException("Can not select more than " + MAX_CAPACITY + " elements");
+        }
+        final int capacity = (int) Math.min(Math.min(k, MAX_CAPACITY), Math.max(INITIAL_CAPACITY, (long) size << 1));
+        elements = Arrays.copyOf(elements, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        positions = Arrays.copyOf(positions, capacity);
+    }
+
+    private void siftUp(final int index) {
+        int child = index;
+        while (child > 0) {
+            final int parent = (child - 1) >>> 1;
+            if (!isGreater(child, parent)) {
+                return;
+            }
+            swap(child, parent);
+            child = parent;
+        }
+    }
+
+    private void siftDown(final int index, final int heapSize) {
+        int parent = index;
+        int child = (parent << 1) + 1;
+        while (child < heapSize) {
+            if (child + 1 < heapSize && isGreater(child + 1, child)) {
+                child++;
+            }
+            if (!isGreater(child, parent)) {
+                return;
+            }
+            swap(child, parent);
+            parent = child;
+            child = (parent << 1) + 1;
+        }
+    }
+
+    private boolean isGreater(final int i, final int j) {
+        final int comparison = comparator.compare(keyAt(i), keyAt(j));
+        return comparison > 0 || (comparison == 0 && positions[i] > positions[j]);
+    }
+
+    private void swap(final int i, final int j) {
+        final Object element = elements[i];
+        elements[i] = elements[j];
+        elements[j] = element;
+        final Object key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+        final long position = positions[i];
+        positions[i] = positions[j];
+        positions[j] = position;
+    }
+
+    private K keyAt(final int index) {
+        //noinspection unchecked
+        return (K) keys[index];
+    }
+
+    private T elementAt(final int index) {
+        //noinspection unchecked
+        return (T) elements[index];
+    }
+
+    /**
+     * Sorts the heap in place by moving the root behind the shrinking heap, like a heap sort.
+     */
+    private ListX<T> toSortedList() {
+        for (int end = size - 1; end > 0; end--) {
+            swap(0, end);
+            siftDown(0, end);
+        }
+        final MutableListX<T> list = MutableListX.withInitCapacity(size);
+        for (int i = 0; i < size; i++) {
+            list.add(elementAt(i));
+        }
+        return list;
+    }
+}
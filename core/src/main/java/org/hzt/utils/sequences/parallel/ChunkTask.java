@@ -0,0 +1,57 @@
+package org.hzt.utils.sequences.parallel;
+
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Splits a source spliterator into chunks on the fork join pool, evaluates every chunk and combines the partial
+ * results in encounter order.
+ * <p>
+ * Sized sources are split until a chunk is below the target size. Sources of unknown size are split in batches by their
+ * spliterator, so every batch becomes a chunk of its own.
+ *
+ * @param <R> the type of the partial results
+ */
+@SuppressWarnings("squid:S1948")
+final class ChunkTask<R> extends RecursiveTask<R> {
+
+    private static final int LEAF_TARGET = ForkJoinPool.getCommonPoolParallelism() << 2;
+
+    private final Spliterator<?> spliterator;
+    private final Function<Spliterator<?>, ? extends R> chunkEvaluator;
+    private final BinaryOperator<R> combiner;
+    private final long targetSize;
+
+    private ChunkTask(final Spliterator<?> spliterator,
+                      final Function<Spliterator<?>, ? extends R> chunkEvaluator,
+                      final BinaryOperator<R> combiner,
+                      final long targetSize) {
+        this.spliterator = spliterator;
+        this.chunkEvaluator = chunkEvaluator;
+        this.combiner = combiner;
+        this.targetSize = targetSize;
+    }
+
+    static <R> R evaluate(final Spliterator<?> spliterator,
+                          final Function<Spliterator<?>, ? extends R> chunkEvaluator,
+                          final BinaryOperator<R> combiner) {
+        final long targetSize = Math.max(spliterator.estimateSize() / LEAF_TARGET, 1);
+        return new ChunkTask<>(spliterator, chunkEvaluator, combiner, targetSize).invoke();
+    }
+
+    @Override
+    protected R compute() {
+        final Spliterator<?> right = spliterator;
+        final Spliterator<?> left;
+        if (right.estimateSize() > targetSize && (left = right.trySplit()) != null) {
+            final ChunkTask<R> leftTask = new ChunkTask<>(left, chunkEvaluator, combiner, targetSize);
+            leftTask.fork();
+            final R rightResult = new ChunkTask<>(right, chunkEvaluator, combiner, targetSize).compute();
+            return combiner.apply(leftTask.join(), rightResult);
+        }
+        return chunkEvaluator.apply(right);
+    }
+}
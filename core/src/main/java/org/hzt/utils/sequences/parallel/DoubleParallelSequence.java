@@ -0,0 +1,137 @@
+package org.hzt.utils.sequences.parallel;
+
+import org.hzt.utils.collections.primitives.DoubleList;
+import org.hzt.utils.collections.primitives.DoubleMutableList;
+import org.hzt.utils.collections.primitives.IntLongMap;
+import org.hzt.utils.collections.primitives.IntLongMutableMap;
+import org.hzt.utils.collections.primitives.IntObjMap;
+import org.hzt.utils.collections.primitives.IntObjMutableMap;
+import org.hzt.utils.gatherers.Gatherer;
+import org.hzt.utils.sequences.primitives.DoubleSequence;
+
+import java.util.Arrays;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+
+/**
+ * The double specialization of {@link ParallelSequence}.
+ *
+ * @see DoubleSequence#parallel()
+ */
+public interface DoubleParallelSequence {
+
+    static DoubleParallelSequence of(final Iterable<Double> iterable) {
+        return new DoubleParallelSequenceImpl(() -> ParallelSources.doubleSpliterator(iterable), DoubleParallelSequenceImpl::chunkOf);
+    }
+
+    static DoubleParallelSequence of(final double... array) {
+        return new DoubleParallelSequenceImpl(() -> Arrays.spliterator(array), DoubleParallelSequenceImpl::chunkOf);
+    }
+
+    DoubleParallelSequence map(DoubleUnaryOperator mapper);
+
+    DoubleParallelSequence filter(DoublePredicate predicate);
+
+    DoubleParallelSequence mapMulti(DoubleSequence.DoubleMapMultiConsumer mapper);
+
+    <R> ParallelSequence<R> mapToObj(DoubleFunction<? extends R> mapper);
+
+    default ParallelSequence<Double> boxed() {
+        return mapToObj(Double::valueOf);
+    }
+
+    /**
+     * Applies the gatherer to the values of this sequence.
+     * <p>
+     * The values are boxed and gathered like the items of a {@link ParallelSequence}.
+     *
+     * @param gatherer the gatherer to apply
+     * @param <A> the type of the state of the gatherer
+     * @param <R> the type of the resulting items
+     * @return a parallel sequence of the gathered items
+     * @see ParallelSequence#gather(Gatherer)
+     */
+    default <A, R> ParallelSequence<R> gather(final Gatherer<Double, A, R> gatherer) {
+        return boxed().gather(gatherer);
+    }
+
+    /**
+     * Evaluates every chunk of this sequence and combines the partial results in encounter order.
+     *
+     * @param chunkEvaluator the function that evaluates a chunk. The chunk can be iterated only once
+     * @param combiner the associative function that combines the result of a chunk with the result of the next chunk
+     * @param <R> the type of the result
+     * @return the combined result of all chunks
+     * @see ParallelSequence#evaluateChunks(Function, BinaryOperator)
+     */
+    <R> R evaluateChunks(Function<? super DoubleSequence, ? extends R> chunkEvaluator, BinaryOperator<R> combiner);
+
+    default DoubleSequence sequential() {
+        return () -> toMutableList().iterator();
+    }
+
+    default double reduce(final double identity, final DoubleBinaryOperator operator) {
+        return evaluateChunks(chunk -> chunk.reduce(identity, operator), operator::applyAsDouble);
+    }
+
+    default double sum() {
+        return evaluateChunks(DoubleSequence::sum, Double::sum);
+    }
+
+    default long count() {
+        return evaluateChunks(DoubleSequence::count, Long::sum);
+    }
+
+    default void forEach(final DoubleConsumer action) {
+        evaluateChunks(chunk -> {
+            chunk.forEachDouble(action);
+            return null;
+        }, (left, right) -> null);
+    }
+
+    default DoubleMutableList toMutableList() {
+        return evaluateChunks(DoubleSequence::toMutableList, (left, right) -> {
+            left.addAll(right);
+            return left;
+        });
+    }
+
+    default DoubleList toList() {
+        return DoubleList.copyOf(toMutableList());
+    }
+
+    default double[] toArray() {
+        return toMutableList().toArray();
+    }
+
+    default IntLongMap countBy(final DoubleToIntFunction classifier) {
+        return evaluateChunks(chunk -> {
+            final IntLongMutableMap counts = IntLongMutableMap.empty();
+            chunk.forEachDouble(value -> counts.addTo(classifier.applyAsInt(value), 1L));
+            return counts;
+        }, (left, right) -> {
+            right.forEach(left::addTo);
+            return left;
+        });
+    }
+
+    default IntObjMap<DoubleMutableList> groupingBy(final DoubleToIntFunction classifier) {
+        return evaluateChunks(chunk -> {
+            final IntObjMutableMap<DoubleMutableList> groups = IntObjMutableMap.empty();
+            chunk.forEachDouble(value -> groups.computeIfAbsent(classifier.applyAsInt(value), bucket -> DoubleMutableList.empty()).add(value));
+            return groups;
+        }, (left, right) -> {
+            right.forEach((bucket, values) -> left.merge(bucket, values, (leftValues, rightValues) -> {
+                leftValues.addAll(rightValues);
+                return leftValues;
+            }));
+            return left;
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package org.hzt.utils.sequences.parallel;
+
+import org.hzt.utils.sequences.primitives.DoubleSequence;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.Supplier;
+import java.util.function.DoubleUnaryOperator;
+
+final class DoubleParallelSequenceImpl implements DoubleParallelSequence {
+
+    private final Supplier<? extends Spliterator<?>> source;
+    private final Function<Spliterator<?>, DoubleSequence> pipeline;
+
+    DoubleParallelSequenceImpl(final Supplier<? extends Spliterator<?>> source,
+                          final Function<Spliterator<?>, DoubleSequence> pipeline) {
+        this.source = source;
+        this.pipeline = pipeline;
+    }
+
+    static DoubleSequence chunkOf(final Spliterator<?> spliterator) {
+        return () -> Spliterators.iterator((Spliterator.OfDouble) spliterator);
+    }
+
+    @Override
+    public DoubleParallelSequence map(final DoubleUnaryOperator mapper) {
+        return new DoubleParallelSequenceImpl(source, pipeline.andThen(chunk -> chunk.map(mapper)));
+    }
+
+    @Override
+    public DoubleParallelSequence filter(final DoublePredicate predicate) {
+        return new DoubleParallelSequenceImpl(source, pipeline.andThen(chunk -> chunk.filter(predicate)));
+    }
+
+    @Override
+    public DoubleParallelSequence mapMulti(final DoubleSequence.DoubleMapMultiConsumer mapper) {
+        return new DoubleParallelSequenceImpl(source, pipeline.andThen(chunk -> chunk.mapMulti(mapper)));
+    }
+
+    @Override
+    public <R> ParallelSequence<R> mapToObj(final DoubleFunction<? extends R> mapper) {
+        return new ParallelSequenceImpl<>(source, pipeline.andThen(chunk -> chunk.mapToObj(mapper)));
+    }
+
+    @Override
+    public <R> R evaluateChunks(final Function<? super DoubleSequence, ? extends R> chunkEvaluator,
+                                final BinaryOperator<R> combiner) {
+        return ChunkTask.evaluate(source.get(), pipeline.andThen(chunkEvaluator), combiner);
+    }
+}
@@ -0,0 +1,56 @@
+package org.hzt.utils.sequences.parallel;
+
+import org.hzt.utils.collections.MutableListX;
+import org.hzt.utils.gatherers.Gatherer;
+import org.hzt.utils.gatherers.Integrator;
+import org.hzt.utils.sequences.Sequence;
+
+import java.util.Iterator;
+import java.util.function.BinaryOperator;
+
+/**
+ * The partial result of gathering a chunk in parallel: the state of the gatherer for the chunk and the items it pushed.
+ * <p>
+ * Chunks are combined in encounter order. When the integrator stopped accepting items in a chunk, the items of the chunks
+ * after it are discarded.
+ *
+ * @param <A> the type of the state of the gatherer
+ * @param <R> the type of the gathered items
+ */
+final class GatheringChunk<A, R> {
+
+    private A state;
+    private final MutableListX<R> output = MutableListX.empty();
+    private boolean rejected = false;
+
+    private GatheringChunk(final A state) {
+        this.state = state;
+    }
+
+    static <T, A, R> GatheringChunk<A, R> integrate(final Sequence<T> chunk, final Gatherer<? super T, A, R> gatherer) {
+        final Integrator<A, ? super T, R> integrator = gatherer.integrator();
+        final GatheringChunk<A, R> gatheringChunk = new GatheringChunk<>(gatherer.initializer().get());
+        final Iterator<T> iterator = chunk.iterator();
+        while (!gatheringChunk.rejected && iterator.hasNext()) {
+            gatheringChunk.rejected = !integrator.integrate(gatheringChunk.state, iterator.next(), gatheringChunk.output::add);
+        }
+        return gatheringChunk;
+    }
+
+    static <A, R> BinaryOperator<GatheringChunk<A, R>> combining(final BinaryOperator<A> combiner) {
+        return (left, right) -> {
+            if (left.rejected) {
+                return left;
+            }
+            left.state = combiner.apply(left.state, right.state);
+            left.output.addAll(right.output);
+            left.rejected = right.rejected;
+            return left;
+        };
+    }
+
+    MutableListX<R> finish(final Gatherer<?, A, R> gatherer) {
+        gatherer.finisher().accept(state, output::add);
+        return output;
+    }
+}
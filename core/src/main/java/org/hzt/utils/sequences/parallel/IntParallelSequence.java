@@ -0,0 +1,136 @@
+package org.hzt.utils.sequences.parallel;
+
+import org.hzt.utils.collections.primitives.IntList;
+import org.hzt.utils.collections.primitives.IntLongMap;
+import org.hzt.utils.collections.primitives.IntLongMutableMap;
+import org.hzt.utils.collections.primitives.IntMutableList;
+import org.hzt.utils.collections.primitives.IntObjMap;
+import org.hzt.utils.collections.primitives.IntObjMutableMap;
+import org.hzt.utils.gatherers.Gatherer;
+import org.hzt.utils.sequences.primitives.IntSequence;
+
+import java.util.Arrays;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * The int specialization of {@link ParallelSequence}.
+ *
+ * @see IntSequence#parallel()
+ */
+public interface IntParallelSequence {
+
+    static IntParallelSequence of(final Iterable<Integer> iterable) {
+        return new IntParallelSequenceImpl(() -> ParallelSources.intSpliterator(iterable), IntParallelSequenceImpl::chunkOf);
+    }
+
+    static IntParallelSequence of(final int... array) {
+        return new IntParallelSequenceImpl(() -> Arrays.spliterator(array), IntParallelSequenceImpl::chunkOf);
+    }
+
+    IntParallelSequence map(IntUnaryOperator mapper);
+
+    IntParallelSequence filter(IntPredicate predicate);
+
+    IntParallelSequence mapMulti(IntSequence.IntMapMultiConsumer mapper);
+
+    <R> ParallelSequence<R> mapToObj(IntFunction<R> mapper);
+
+    default ParallelSequence<Integer> boxed() {
+        return mapToObj(Integer::valueOf);
+    }
+
+    /**
+     * Applies the gatherer to the values of this sequence.
+     * <p>
+     * The values are boxed and gathered like the items of a {@link ParallelSequence}.
+     *
+     * @param gatherer the gatherer to apply
+     * @param <A> the type of the state of the gatherer
+     * @param <R> the type of the resulting items
+     * @return a parallel sequence of the gathered items
+     * @see ParallelSequence#gather(Gatherer)
+     */
+    default <A, R> ParallelSequence<R> gather(final Gatherer<Integer, A, R> gatherer) {
+        return boxed().gather(gatherer);
+    }
+
+    /**
+     * Evaluates every chunk of this sequence and combines the partial results in encounter order.
+     *
+     * @param chunkEvaluator the function that evaluates a chunk. The chunk can be iterated only once
+     * @param combiner the associative function that combines the result of a chunk with the result of the next chunk
+     * @param <R> the type of the result
+     * @return the combined result of all chunks
+     * @see ParallelSequence#evaluateChunks(Function, BinaryOperator)
+     */
+    <R> R evaluateChunks(Function<? super IntSequence, ? extends R> chunkEvaluator, BinaryOperator<R> combiner);
+
+    default IntSequence sequential() {
+        return () -> toMutableList().iterator();
+    }
+
+    default int reduce(final int identity, final IntBinaryOperator operator) {
+        return evaluateChunks(chunk -> chunk.reduce(identity, operator), operator::applyAsInt);
+    }
+
+    default long sum() {
+        return evaluateChunks(IntSequence::sum, Long::sum);
+    }
+
+    default long count() {
+        return evaluateChunks(IntSequence::count, Long::sum);
+    }
+
+    default void forEach(final IntConsumer action) {
+        evaluateChunks(chunk -> {
+            chunk.forEachInt(action);
+            return null;
+        }, (left, right) -> null);
+    }
+
+    default IntMutableList toMutableList() {
+        return evaluateChunks(IntSequence::toMutableList, (left, right) -> {
+            left.addAll(right);
+            return left;
+        });
+    }
+
+    default IntList toList() {
+        return IntList.copyOf(toMutableList());
+    }
+
+    default int[] toArray() {
+        return toMutableList().toArray();
+    }
+
+    default IntLongMap countBy(final IntUnaryOperator classifier) {
+        return evaluateChunks(chunk -> {
+            final IntLongMutableMap counts = IntLongMutableMap.empty();
+            chunk.forEachInt(value -> counts.addTo(classifier.applyAsInt(value), 1L));
+            return counts;
+        }, (left, right) -> {
+            right.forEach(left::addTo);
+            return left;
+        });
+    }
+
+    default IntObjMap<IntMutableList> groupingBy(final IntUnaryOperator classifier) {
+        return evaluateChunks(chunk -> {
+            final IntObjMutableMap<IntMutableList> groups = IntObjMutableMap.empty();
+            chunk.forEachInt(value -> groups.computeIfAbsent(classifier.applyAsInt(value), key -> IntMutableList.empty()).add(value));
+            return groups;
+        }, (left, right) -> {
+            right.forEach((key, values) -> left.merge(key, values, (leftValues, rightValues) -> {
+                leftValues.addAll(rightValues);
+                return leftValues;
+            }));
+            return left;
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package org.hzt.utils.sequences.parallel;
+
+import org.hzt.utils.sequences.primitives.IntSequence;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+import java.util.function.IntUnaryOperator;
+
+final class IntParallelSequenceImpl implements IntParallelSequence {
+
+    private final Supplier<? extends Spliterator<?>> source;
+    private final Function<Spliterator<?>, IntSequence> pipeline;
+
+    IntParallelSequenceImpl(final Supplier<? extends Spliterator<?>> source,
+                       final Function<Spliterator<?>, IntSequence> pipeline) {
+        this.source = source;
+        this.pipeline = pipeline;
+    }
+
+    static IntSequence chunkOf(final Spliterator<?> spliterator) {
+        return () -> Spliterators.iterator((Spliterator.OfInt) spliterator);
+    }
+
+    @Override
+    public IntParallelSequence map(final IntUnaryOperator mapper) {
+        return new IntParallelSequenceImpl(source, pipeline.andThen(chunk -> chunk.map(mapper)));
+    }
+
+    @Override
+    public IntParallelSequence filter(final IntPredicate predicate) {
+        return new IntParallelSequenceImpl(source, pipeline.andThen(chunk -> chunk.filter(predicate)));
+    }
+
+    @Override
+    public IntParallelSequence mapMulti(final IntSequence.IntMapMultiConsumer mapper) {
+        return new IntParallelSequenceImpl(source, pipeline.andThen(chunk -> chunk.mapMulti(mapper)));
+    }
+
+    @Override
+    public <R> ParallelSequence<R> mapToObj(final IntFunction<R> mapper) {
+        return new ParallelSequenceImpl<>(source, pipeline.andThen(chunk -> chunk.mapToObj(mapper)));
+    }
+
+    @Override
+    public <R> R evaluateChunks(final Function<? super IntSequence, ? extends R> chunkEvaluator,
+                                final BinaryOperator<R> combiner) {
+        return ChunkTask.evaluate(source.get(), pipeline.andThen(chunkEvaluator), combiner);
+    }
+}
@@ -0,0 +1,142 @@
+package org.hzt.utils.sequences.parallel;
+
+import org.hzt.utils.collections.primitives.LongList;
+import org.hzt.utils.collections.primitives.LongLongMap;
+import org.hzt.utils.collections.primitives.LongLongMutableMap;
+import org.hzt.utils.collections.primitives.LongMutableList;
+import org.hzt.utils.collections.primitives.LongObjMap;
+import org.hzt.utils.collections.primitives.LongObjMutableMap;
+import org.hzt.utils.gatherers.Gatherer;
+import org.hzt.utils.sequences.primitives.LongSequence;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * The long specialization of {@link ParallelSequence}.
+ *
+ * @see LongSequence#parallel()
+ */
+public interface LongParallelSequence {
+
+    static LongParallelSequence of(final Iterable<Long> iterable) {
+        return new LongParallelSequenceImpl(() -> ParallelSources.longSpliterator(iterable), LongParallelSequenceImpl::chunkOf);
+    }
+
+    static LongParallelSequence of(final long... array) {
+        return new LongParallelSequenceImpl(() -> Arrays.spliterator(array), LongParallelSequenceImpl::chunkOf);
+    }
+
+    static LongParallelSequence fromSpliterator(final Supplier<? extends Spliterator.OfLong> spliteratorSupplier) {
+        return new LongParallelSequenceImpl(spliteratorSupplier, LongParallelSequenceImpl::chunkOf);
+    }
+
+    LongParallelSequence map(LongUnaryOperator mapper);
+
+    LongParallelSequence filter(LongPredicate predicate);
+
+    LongParallelSequence mapMulti(LongSequence.LongMapMultiConsumer mapper);
+
+    <R> ParallelSequence<R> mapToObj(LongFunction<R> mapper);
+
+    default ParallelSequence<Long> boxed() {
+        return mapToObj(Long::valueOf);
+    }
+
+    /**
+     * Applies the gatherer to the values of this sequence.
+     * <p>
+     * The values are boxed and gathered like the items of a {@link ParallelSequence}.
+     *
+     * @param gatherer the gatherer to apply
+     * @param <A> the type of the state of the gatherer
+     * @param <R> the type of the resulting items
+     * @return a parallel sequence of the gathered items
+     * @see ParallelSequence#gather(Gatherer)
+     */
+    default <A, R> ParallelSequence<R> gather(final Gatherer<Long, A, R> gatherer) {
+        return boxed().gather(gatherer);
+    }
+
+    /**
+     * Evaluates every chunk of this sequence and combines the partial results in encounter order.
+     *
+     * @param chunkEvaluator the function that evaluates a chunk. The chunk can be iterated only once
+     * @param combiner the associative function that combines the result of a chunk with the result of the next chunk
+     * @param <R> the type of the result
+     * @return the combined result of all chunks
+     * @see ParallelSequence#evaluateChunks(Function, BinaryOperator)
+     */
+    <R> R evaluateChunks(Function<? super LongSequence, ? extends R> chunkEvaluator, BinaryOperator<R> combiner);
+
+    default LongSequence sequential() {
+        return () -> toMutableList().iterator();
+    }
+
+    default long reduce(final long identity, final LongBinaryOperator operator) {
+        return evaluateChunks(chunk -> chunk.reduce(identity, operator), operator::applyAsLong);
+    }
+
+    default long sum() {
+        return evaluateChunks(LongSequence::sum, Long::sum);
+    }
+
+    default long count() {
+        return evaluateChunks(LongSequence::count, Long::sum);
+    }
+
+    default void forEach(final LongConsumer action) {
+        evaluateChunks(chunk -> {
+            chunk.forEachLong(action);
+            return null;
+        }, (left, right) -> null);
+    }
+
+    default LongMutableList toMutableList() {
+        return evaluateChunks(LongSequence::toMutableList, (left, right) -> {
+            left.addAll(right);
+            return left;
+        });
+    }
+
+    default LongList toList() {
+        return LongList.copyOf(toMutableList());
+    }
+
+    default long[] toArray() {
+        return toMutableList().toArray();
+    }
+
+    default LongLongMap countBy(final LongUnaryOperator classifier) {
+        return evaluateChunks(chunk -> {
+            final LongLongMutableMap counts = LongLongMutableMap.empty();
+            chunk.forEachLong(value -> counts.addTo(classifier.applyAsLong(value), 1L));
+            return counts;
+        }, (left, right) -> {
+            right.forEach(left::addTo);
+            return left;
+        });
+    }
+
+    default LongObjMap<LongMutableList> groupingBy(final LongUnaryOperator classifier) {
+        return evaluateChunks(chunk -> {
+            final LongObjMutableMap<LongMutableList> groups = LongObjMutableMap.empty();
+            chunk.forEachLong(value -> groups.computeIfAbsent(classifier.applyAsLong(value), key -> LongMutableList.empty()).add(value));
+            return groups;
+        }, (left, right) -> {
+            right.forEach((key, values) -> left.merge(key, values, (leftValues, rightValues) -> {
+                leftValues.addAll(rightValues);
+                return leftValues;
+            }));
+            return left;
+        });
+    }
+}
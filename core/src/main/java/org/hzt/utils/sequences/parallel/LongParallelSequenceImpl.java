@@ -0,0 +1,54 @@
+package org.hzt.utils.sequences.parallel;
+
+import org.hzt.utils.sequences.primitives.LongSequence;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.Supplier;
+import java.util.function.LongUnaryOperator;
+
+final class LongParallelSequenceImpl implements LongParallelSequence {
+
+    private final Supplier<? extends Spliterator<?>> source;
+    private final Function<Spliterator<?>, LongSequence> pipeline;
+
+    LongParallelSequenceImpl(final Supplier<? extends Spliterator<?>> source,
+                        final Function<Spliterator<?>, LongSequence> pipeline) {
+        this.source = source;
+        this.pipeline = pipeline;
+    }
+
+    static LongSequence chunkOf(final Spliterator<?> spliterator) {
+        return () -> Spliterators.iterator((Spliterator.OfLong) spliterator);
+    }
+
+    @Override
+    public LongParallelSequence map(final LongUnaryOperator mapper) {
+        return new LongParallelSequenceImpl(source, pipeline.andThen(chunk -> chunk.map(mapper)));
+    }
+
+    @Override
+    public LongParallelSequence filter(final LongPredicate predicate) {
+        return new LongParallelSequenceImpl(source, pipeline.andThen(chunk -> chunk.filter(predicate)));
+    }
+
+    @Override
+    public LongParallelSequence mapMulti(final LongSequence.LongMapMultiConsumer mapper) {
+        return new LongParallelSequenceImpl(source, pipeline.andThen(chunk -> chunk.mapMulti(mapper)));
+    }
+
+    @Override
+    public <R> ParallelSequence<R> mapToObj(final LongFunction<R> mapper) {
+        return new ParallelSequenceImpl<>(source, pipeline.andThen(chunk -> chunk.mapToObj(mapper)));
+    }
+
+    @Override
+    public <R> R evaluateChunks(final Function<? super LongSequence, ? extends R> chunkEvaluator,
+                                final BinaryOperator<R> combiner) {
+        return ChunkTask.evaluate(source.get(), pipeline.andThen(chunkEvaluator), combiner);
+    }
+}
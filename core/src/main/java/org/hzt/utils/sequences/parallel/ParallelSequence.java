@@ -0,0 +1,134 @@
+package org.hzt.utils.sequences.parallel;
+
+import org.hzt.utils.collections.ListX;
+import org.hzt.utils.collections.MapX;
+import org.hzt.utils.collections.MutableListX;
+import org.hzt.utils.collections.MutableMapX;
+import org.hzt.utils.gatherers.Gatherer;
+import org.hzt.utils.sequences.Sequence;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A sequence that evaluates its operations on chunks of its source in the common fork join pool.
+ * <p>
+ * The intermediate operations are lazy and are applied to every chunk as a plain {@link Sequence}. A terminal operation
+ * splits the source, evaluates the chunks in parallel and combines the partial results in encounter order.
+ * <p>
+ * Lists and ranges are split by size. Any other source is split in batches by its spliterator.
+ *
+ * @param <T> the type of the items in the ParallelSequence
+ * @see Sequence#parallel()
+ */
+public interface ParallelSequence<T> {
+
+    static <T> ParallelSequence<T> of(final Iterable<T> iterable) {
+        return new ParallelSequenceImpl<>(() -> ParallelSources.spliterator(iterable), ParallelSequenceImpl::chunkOf);
+    }
+
+    @SafeVarargs
+    static <T> ParallelSequence<T> of(final T... values) {
+        return new ParallelSequenceImpl<>(() -> Arrays.spliterator(values), ParallelSequenceImpl::chunkOf);
+    }
+
+    /**
+     * Creates a parallel sequence that is split by the spliterators of the supplier. Every terminal operation gets a new
+     * spliterator.
+     *
+     * @param spliteratorSupplier the supplier of the spliterator to split
+     * @param <T> the type of the items
+     * @return a parallel sequence of the items of the spliterators
+     */
+    static <T> ParallelSequence<T> fromSpliterator(final Supplier<? extends Spliterator<T>> spliteratorSupplier) {
+        return new ParallelSequenceImpl<>(spliteratorSupplier, ParallelSequenceImpl::chunkOf);
+    }
+
+    <R> ParallelSequence<R> map(Function<? super T, ? extends R> mapper);
+
+    ParallelSequence<T> filter(Predicate<? super T> predicate);
+
+    <R> ParallelSequence<R> mapMulti(BiConsumer<? super T, ? super Consumer<R>> mapper);
+
+    /**
+     * Applies the gatherer to the items of this sequence.
+     * <p>
+     * If the gatherer has a combiner, every chunk is integrated with a state of its own. The states are merged by the
+     * combiner in encounter order before the finisher is invoked. A gatherer without a combiner integrates all items
+     * sequentially in encounter order. The operations after the gatherer are evaluated in parallel again.
+     *
+     * @param gatherer the gatherer to apply
+     * @param <A> the type of the state of the gatherer
+     * @param <R> the type of the resulting items
+     * @return a parallel sequence of the gathered items
+     */
+    <A, R> ParallelSequence<R> gather(Gatherer<? super T, A, R> gatherer);
+
+    IntParallelSequence mapToInt(ToIntFunction<? super T> mapper);
+
+    LongParallelSequence mapToLong(ToLongFunction<? super T> mapper);
+
+    DoubleParallelSequence mapToDouble(ToDoubleFunction<? super T> mapper);
+
+    /**
+     * Evaluates every chunk of this sequence and combines the partial results in encounter order.
+     *
+     * @param chunkEvaluator the function that evaluates a chunk. The chunk can be iterated only once
+     * @param combiner the associative function that combines the result of a chunk with the result of the next chunk
+     * @param <R> the type of the result
+     * @return the combined result of all chunks
+     */
+    <R> R evaluateChunks(Function<? super Sequence<T>, ? extends R> chunkEvaluator, BinaryOperator<R> combiner);
+
+    default Sequence<T> sequential() {
+        return () -> toListX().iterator();
+    }
+
+    default <R> R fold(final R identity,
+                       final BiFunction<? super R, ? super T, ? extends R> accumulator,
+                       final BinaryOperator<R> combiner) {
+        return evaluateChunks(chunk -> chunk.fold(identity, accumulator), combiner);
+    }
+
+    default long count() {
+        return evaluateChunks(Sequence::count, Long::sum);
+    }
+
+    default void forEach(final Consumer<? super T> action) {
+        evaluateChunks(chunk -> {
+            chunk.forEach(action);
+            return null;
+        }, (left, right) -> null);
+    }
+
+    default ListX<T> toListX() {
+        return evaluateChunks(Sequence::toMutableList, (left, right) -> {
+            left.addAll(right);
+            return left;
+        });
+    }
+
+    default <K> MapX<K, MutableListX<T>> groupBy(final Function<? super T, ? extends K> classifier) {
+        return evaluateChunks(chunk -> {
+            final MutableMapX<K, MutableListX<T>> groups = MutableMapX.empty();
+            chunk.forEach(t -> groups.computeIfAbsent(classifier.apply(t), key -> MutableListX.empty()).add(t));
+            return groups;
+        }, (left, right) -> {
+            right.forEach((key, values) -> left.merge(key, values, (leftValues, rightValues) -> {
+                leftValues.addAll(rightValues);
+                return leftValues;
+            }));
+            return left;
+        });
+    }
+}
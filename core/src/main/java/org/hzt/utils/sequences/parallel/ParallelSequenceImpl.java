@@ -0,0 +1,84 @@
+package org.hzt.utils.sequences.parallel;
+
+import org.hzt.utils.collections.ListX;
+import org.hzt.utils.gatherers.Gatherer;
+import org.hzt.utils.sequences.Sequence;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+final class ParallelSequenceImpl<T> implements ParallelSequence<T> {
+
+    private final Supplier<? extends Spliterator<?>> source;
+    private final Function<Spliterator<?>, Sequence<T>> pipeline;
+
+    ParallelSequenceImpl(final Supplier<? extends Spliterator<?>> source,
+                         final Function<Spliterator<?>, Sequence<T>> pipeline) {
+        this.source = source;
+        this.pipeline = pipeline;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Sequence<T> chunkOf(final Spliterator<?> spliterator) {
+        return () -> Spliterators.iterator((Spliterator<T>) spliterator);
+    }
+
+    @Override
+    public <R> ParallelSequence<R> map(final Function<? super T, ? extends R> mapper) {
+        return new ParallelSequenceImpl<>(source, pipeline.andThen(chunk -> chunk.map(mapper)));
+    }
+
+    @Override
+    public ParallelSequence<T> filter(final Predicate<? super T> predicate) {
+        return new ParallelSequenceImpl<>(source, pipeline.andThen(chunk -> chunk.filter(predicate)));
+    }
+
+    @Override
+    public <R> ParallelSequence<R> mapMulti(final BiConsumer<? super T, ? super Consumer<R>> mapper) {
+        return new ParallelSequenceImpl<>(source, pipeline.andThen(chunk -> chunk.mapMulti(mapper)));
+    }
+
+    @Override
+    public <A, R> ParallelSequence<R> gather(final Gatherer<? super T, A, R> gatherer) {
+        return new ParallelSequenceImpl<>(() -> ParallelSources.spliterator(gatherToList(gatherer)), ParallelSequenceImpl::chunkOf);
+    }
+
+    private <A, R> ListX<R> gatherToList(final Gatherer<? super T, A, R> gatherer) {
+        final BinaryOperator<A> combiner = gatherer.combiner();
+        if (combiner == Gatherer.<A>defaultCombiner()) {
+            return Sequence.of(toListX()).gather(gatherer).toListX();
+        }
+        return evaluateChunks(chunk -> GatheringChunk.integrate(chunk, gatherer), GatheringChunk.combining(combiner))
+                .finish(gatherer);
+    }
+
+    @Override
+    public IntParallelSequence mapToInt(final ToIntFunction<? super T> mapper) {
+        return new IntParallelSequenceImpl(source, pipeline.andThen(chunk -> chunk.mapToInt(mapper)));
+    }
+
+    @Override
+    public LongParallelSequence mapToLong(final ToLongFunction<? super T> mapper) {
+        return new LongParallelSequenceImpl(source, pipeline.andThen(chunk -> chunk.mapToLong(mapper)));
+    }
+
+    @Override
+    public DoubleParallelSequence mapToDouble(final ToDoubleFunction<? super T> mapper) {
+        return new DoubleParallelSequenceImpl(source, pipeline.andThen(chunk -> chunk.mapToDouble(mapper)));
+    }
+
+    @Override
+    public <R> R evaluateChunks(final Function<? super Sequence<T>, ? extends R> chunkEvaluator,
+                                final BinaryOperator<R> combiner) {
+        return ChunkTask.evaluate(source.get(), pipeline.andThen(chunkEvaluator), combiner);
+    }
+}
@@ -0,0 +1,284 @@
+package org.hzt.utils.sequences.parallel;
+
+import org.hzt.utils.collections.ListX;
+import org.hzt.utils.collections.primitives.BigDoubleList;
+import org.hzt.utils.collections.primitives.BigIntList;
+import org.hzt.utils.collections.primitives.BigLongList;
+import org.hzt.utils.collections.primitives.DoubleList;
+import org.hzt.utils.collections.primitives.IntList;
+import org.hzt.utils.collections.primitives.LongList;
+import org.hzt.utils.progressions.IntProgression;
+import org.hzt.utils.progressions.LongProgression;
+import org.hzt.utils.sequences.primitives.DoubleSequence;
+import org.hzt.utils.sequences.primitives.IntSequence;
+import org.hzt.utils.sequences.primitives.LongSequence;
+import org.hzt.utils.spined_buffers.SpinedBuffer;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Creates the spliterators the parallel sequences are split by.
+ * <p>
+ * Sources with random access by index, including the big lists with long indices, are split in halves by size. All other
+ * sources use their own spliterator, which for an unknown iterable splits off batches of growing size.
+ */
+final class ParallelSources {
+
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+
+    private ParallelSources() {
+    }
+
+    static <T> Spliterator<T> spliterator(final Iterable<T> iterable) {
+        if (iterable instanceof ListX) {
+            final ListX<T> list = (ListX<T>) iterable;
+            return new IndexedSpliterator<>(index -> list.get((int) index), 0, list.size());
+        }
+        if (iterable instanceof List && iterable instanceof RandomAccess) {
+            final List<T> list = (List<T>) iterable;
+            return new IndexedSpliterator<>(index -> list.get((int) index), 0, list.size());
+        }
+        return iterable.spliterator();
+    }
+
+    static Spliterator.OfInt intSpliterator(final Iterable<Integer> iterable) {
+        if (iterable instanceof IntList) {
+            final IntList list = (IntList) iterable;
+            return new IntIndexedSpliterator(index -> list.get((int) index), 0, list.size());
+        }
+        if (iterable instanceof IntProgression) {
+            final IntProgression progression = (IntProgression) iterable;
+            final int start = progression.start();
+            final int step = progression.getStep();
+            final long size = sizeOf(start, progression.endInclusive(), step);
+            return new IntIndexedSpliterator(index -> (int) (start + index * step), 0, size);
+        }
+        if (iterable instanceof SpinedBuffer.OfInt) {
+            return ((SpinedBuffer.OfInt) iterable).spliterator();
+        }
+        if (iterable instanceof BigIntList) {
+            return ((BigIntList) iterable).spliterator();
+        }
+        return Spliterators.spliteratorUnknownSize(IntSequence.of(iterable).iterator(), Spliterator.ORDERED);
+    }
+
+    static Spliterator.OfLong longSpliterator(final Iterable<Long> iterable) {
+        if (iterable instanceof LongList) {
+            final LongList list = (LongList) iterable;
+            return new LongIndexedSpliterator(index -> list.get((int) index), 0, list.size());
+        }
+        if (iterable instanceof LongProgression) {
+            final LongProgression progression = (LongProgression) iterable;
+            final long start = progression.start();
+            final long step = progression.getStep();
+            final long size = sizeOf(start, progression.endInclusive(), step);
+            return new LongIndexedSpliterator(index -> start + index * step, 0, size);
+        }
+        if (iterable instanceof SpinedBuffer.OfLong) {
+            return ((SpinedBuffer.OfLong) iterable).spliterator();
+        }
+        if (iterable instanceof BigLongList) {
+            return ((BigLongList) iterable).spliterator();
+        }
+        return Spliterators.spliteratorUnknownSize(LongSequence.of(iterable).iterator(), Spliterator.ORDERED);
+    }
+
+    static Spliterator.OfDouble doubleSpliterator(final Iterable<Double> iterable) {
+        if (iterable instanceof DoubleList) {
+            final DoubleList list = (DoubleList) iterable;
+            return new DoubleIndexedSpliterator(index -> list.get((int) index), 0, list.size());
+        }
+        if (iterable instanceof SpinedBuffer.OfDouble) {
+            return ((SpinedBuffer.OfDouble) iterable).spliterator();
+        }
+        if (iterable instanceof BigDoubleList) {
+            return ((BigDoubleList) iterable).spliterator();
+        }
+        return Spliterators.spliteratorUnknownSize(DoubleSequence.of(iterable).iterator(), Spliterator.ORDERED);
+    }
+
+    private static long sizeOf(final long start, final long endInclusive, final long step) {
+        if (step > 0) {
+            return start > endInclusive ? 0 : (endInclusive - start) / step + 1;
+        }
+        return start < endInclusive ? 0 : (start - endInclusive) / -step + 1;
+    }
+
+    private abstract static class AbstractIndexedSpliterator<S extends Spliterator<?>> {
+
+        long index;
+        final long fence;
+
+        AbstractIndexedSpliterator(final long origin, final long fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        abstract S newSplit(long origin, long fence);
+
+        public S trySplit() {
+            final long origin = index;
+            final long mid = (origin + fence) >>> 1;
+            if (origin >= mid) {
+                return null;
+            }
+            index = mid;
+            return newSplit(origin, mid);
+        }
+
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        public int characteristics() {
+            return CHARACTERISTICS;
+        }
+    }
+
+    private static final class IndexedSpliterator<T>
+            extends AbstractIndexedSpliterator<Spliterator<T>> implements Spliterator<T> {
+
+        private final LongFunction<T> getter;
+
+        IndexedSpliterator(final LongFunction<T> getter, final long origin, final long fence) {
+            super(origin, fence);
+            this.getter = getter;
+        }
+
+        @Override
+        Spliterator<T> newSplit(final long origin, final long fence) {
+            return new IndexedSpliterator<>(getter, origin, fence);
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            if (index < fence) {
+                action.accept(getter.apply(index++));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super T> action) {
+            final long end = fence;
+            for (long i = index; i < end; i++) {
+                action.accept(getter.apply(i));
+            }
+            index = end;
+        }
+    }
+
+    private static final class IntIndexedSpliterator
+            extends AbstractIndexedSpliterator<Spliterator.OfInt> implements Spliterator.OfInt {
+
+        private final LongToIntFunction getter;
+
+        IntIndexedSpliterator(final LongToIntFunction getter, final long origin, final long fence) {
+            super(origin, fence);
+            this.getter = getter;
+        }
+
+        @Override
+        Spliterator.OfInt newSplit(final long origin, final long fence) {
+            return new IntIndexedSpliterator(getter, origin, fence);
+        }
+
+        @Override
+        public boolean tryAdvance(final IntConsumer action) {
+            if (index < fence) {
+                action.accept(getter.applyAsInt(index++));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(final IntConsumer action) {
+            final long end = fence;
+            for (long i = index; i < end; i++) {
+                action.accept(getter.applyAsInt(i));
+            }
+            index = end;
+        }
+    }
+
+    private static final class LongIndexedSpliterator
+            extends AbstractIndexedSpliterator<Spliterator.OfLong> implements Spliterator.OfLong {
+
+        private final LongUnaryOperator getter;
+
+        LongIndexedSpliterator(final LongUnaryOperator getter, final long origin, final long fence) {
+            super(origin, fence);
+            this.getter = getter;
+        }
+
+        @Override
+        Spliterator.OfLong newSplit(final long origin, final long fence) {
+            return new LongIndexedSpliterator(getter, origin, fence);
+        }
+
+        @Override
+        public boolean tryAdvance(final LongConsumer action) {
+            if (index < fence) {
+                action.accept(getter.applyAsLong(index++));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(final LongConsumer action) {
+            final long end = fence;
+            for (long i = index; i < end; i++) {
+                action.accept(getter.applyAsLong(i));
+            }
+            index = end;
+        }
+    }
+
+    private static final class DoubleIndexedSpliterator
+            extends AbstractIndexedSpliterator<Spliterator.OfDouble> implements Spliterator.OfDouble {
+
+        private final LongToDoubleFunction getter;
+
+        DoubleIndexedSpliterator(final LongToDoubleFunction getter, final long origin, final long fence) {
+            super(origin, fence);
+            this.getter = getter;
+        }
+
+        @Override
+        Spliterator.OfDouble newSplit(final long origin, final long fence) {
+            return new DoubleIndexedSpliterator(getter, origin, fence);
+        }
+
+        @Override
+        public boolean tryAdvance(final DoubleConsumer action) {
+            if (index < fence) {
+                action.accept(getter.applyAsDouble(index++));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(final DoubleConsumer action) {
+            final long end = fence;
+            for (long i = index; i < end; i++) {
+                action.accept(getter.applyAsDouble(i));
+            }
+            index = end;
+        }
+    }
+}
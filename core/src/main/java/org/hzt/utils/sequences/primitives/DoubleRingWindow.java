@@ -0,0 +1,102 @@
+package org.hzt.utils.sequences.primitives;
+
+import org.hzt.utils.iterators.AbstractIterator;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A ring buffer that is exposed as the view of every window, so windowing does not copy the values of a window.
+ * <p>
+ * The buffer holds the values at the positions {@code [end - size, end)} of the upstream sequence. A value is stored
+ * at the index {@code position % capacity}.
+ */
+final class DoubleRingWindow implements DoubleWindow {
+
+    private final double[] values;
+    private long end = 0;
+    private int size = 0;
+
+    private DoubleRingWindow(final int capacity) {
+        this.values = new double[capacity];
+    }
+
+    static AbstractIterator<DoubleWindow> windowIterator(final PrimitiveIterator.OfDouble iterator,
+                                                     final int size,
+                                                     final int step,
+                                                     final boolean partialWindows) {
+        final DoubleRingWindow window = new DoubleRingWindow(size);
+        return new AbstractIterator<DoubleWindow>() {
+            private long nextStart = 0;
+
+            @Override
+            protected void computeNext() {
+                window.dropBefore(nextStart);
+                while (window.end < nextStart && iterator.hasNext()) {
+                    iterator.nextDouble();
+                    window.end++;
+                }
+                while (window.size < size && iterator.hasNext()) {
+                    window.add(iterator.nextDouble());
+                }
+                if (window.size == size || (partialWindows && window.size > 0)) {
+                    nextStart += step;
+                    setNext(window);
+                } else {
+                    done();
+                }
+            }
+        };
+    }
+
+    private void add(final double value) {
+        values[(int) (end % values.length)] = value;
+        end++;
+        size++;
+    }
+
+    private void dropBefore(final long start) {
+        final long first = end - size;
+        if (first < start) {
+            size = (int) Math.max(0, end - start);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return values[(int) ((end - size + index) % values.length)];
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new PrimitiveIterator.OfDouble() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public double nextDouble() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(index++);
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+}
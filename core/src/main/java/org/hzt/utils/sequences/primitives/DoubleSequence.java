@@ -20,9 +20,9 @@ import org.hzt.utils.iterators.primitives.DoubleMultiMappingIterator;
 import org.hzt.utils.iterators.primitives.DoubleSkipWhileIterator;
 import org.hzt.utils.iterators.primitives.DoubleTakeWhileIterator;
 import org.hzt.utils.iterators.primitives.PrimitiveIterators;
-import org.hzt.utils.numbers.DoubleX;
 import org.hzt.utils.primitive_comparators.DoubleComparator;
 import org.hzt.utils.sequences.Sequence;
+import org.hzt.utils.sequences.parallel.DoubleParallelSequence;
 import org.hzt.utils.tuples.Pair;
 import org.hzt.utils.tuples.Triple;
 
@@ -141,6 +141,10 @@ public interface DoubleSequence extends DoubleWindowedSequence, DoubleReducable,
         });
     }
 
+    default DoubleParallelSequence parallel() {
+        return DoubleParallelSequence.of(this);
+    }
+
     default DoubleSequence mapMulti(final DoubleMapMultiConsumer mapMultiConsumer) {
         return () -> DoubleMultiMappingIterator.of(iterator(), mapMultiConsumer);
     }
@@ -215,16 +219,63 @@ public interface DoubleSequence extends DoubleWindowedSequence, DoubleReducable,
 
     @Override
     default DoubleSequence sorted() {
-        return () -> toList().sorted().iterator();
+        return new DoubleSortedSequence(() -> toList().sorted().iterator(), this, DoubleComparator.naturalOrder());
     }
 
     default DoubleSequence sorted(final DoubleComparator comparator) {
-        return () -> toList().sorted(comparator).iterator();
+        return new DoubleSortedSequence(() -> toList().sorted(comparator).iterator(), this, comparator);
     }
 
     @Override
     default DoubleSequence sortedDescending() {
-        return sorted(DoubleX::compareReversed);
+        return new DoubleSortedSequence(() -> toList().sortedDescending().iterator(), this, DoubleComparator.reverseOrder());
+    }
+
+    /**
+     * Selects the k greatest values with a bounded heap of primitives in O(n log k) time and O(k) memory.
+     *
+     * @param k the maximum number of values to select
+     * @return the k greatest values in descending order
+     */
+    default DoubleList topK(final int k) {
+        return bottomK(k, DoubleComparator.reverseOrder());
+    }
+
+    /**
+     * Selects the k smallest values with a bounded heap of primitives in O(n log k) time and O(k) memory.
+     *
+     * @param k the maximum number of values to select
+     * @return the k smallest values in ascending order
+     */
+    default DoubleList bottomK(final int k) {
+        return bottomK(k, DoubleComparator.naturalOrder());
+    }
+
+    /**
+     * @param k the maximum number of values to select
+     * @param comparator the order of the values
+     * @return the k greatest values by the comparator in descending order, equal values in encounter order
+     */
+    default DoubleList topK(final int k, final DoubleComparator comparator) {
+        return bottomK(k, (d1, d2) -> comparator.compare(d2, d1));
+    }
+
+    /**
+     * @param k the maximum number of values to select
+     * @param comparator the order of the values
+     * @return the k smallest values by the comparator in ascending order, equal values in encounter order
+     */
+    default DoubleList bottomK(final int k, final DoubleComparator comparator) {
+        PreConditions.requireGreaterThanOrEqualToZero(k);
+        return DoubleTopK.smallest(this, k, comparator);
+    }
+
+    default DoubleList topKBy(final int k, final DoubleUnaryOperator selector) {
+        return topK(k, DoubleComparator.comparing(selector));
+    }
+
+    default DoubleList bottomKBy(final int k, final DoubleUnaryOperator selector) {
+        return bottomK(k, DoubleComparator.comparing(selector));
     }
 
     @Override
@@ -0,0 +1,152 @@
+package org.hzt.utils.sequences.primitives;
+
+import org.hzt.utils.iterators.AbstractIterator;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * Keeps the statistics of a sliding window up to date in constant amortized time per value.
+ * <p>
+ * The sum and the sum of squares are updated by adding the new value and subtracting the value that leaves the window.
+ * Both are compensated sums, so the rounding errors do not accumulate while the window slides.
+ * The minimum and the maximum are kept by monotonic deques of positions: a value that is dominated by a newer value
+ * can never become the minimum (maximum) again, so it is removed from the back of the deque. The front of a deque
+ * is the position of the current minimum (maximum).
+ */
+final class DoubleSlidingWindowStatistics implements DoubleWindowStatistics {
+
+    private final double[] values;
+    private final long[] minDeque;
+    private final long[] maxDeque;
+    private int minHead = 0;
+    private int minSize = 0;
+    private int maxHead = 0;
+    private int maxSize = 0;
+    private long position = 0;
+    private double sum = 0;
+    private double sumCompensation = 0;
+    private double sumOfSquare = 0;
+    private double sumOfSquareCompensation = 0;
+
+    private DoubleSlidingWindowStatistics(final int size, final boolean trackMin, final boolean trackMax) {
+        this.values = new double[size];
+        this.minDeque = trackMin ? new long[size] : null;
+        this.maxDeque = trackMax ? new long[size] : null;
+    }
+
+    static AbstractIterator<DoubleWindowStatistics> slidingIterator(final PrimitiveIterator.OfDouble iterator,
+                                                                final int size,
+                                                                final boolean trackMin,
+                                                                final boolean trackMax) {
+        final DoubleSlidingWindowStatistics statistics = new DoubleSlidingWindowStatistics(size, trackMin, trackMax);
+        return new AbstractIterator<DoubleWindowStatistics>() {
+            @Override
+            protected void computeNext() {
+                do {
+                    if (!iterator.hasNext()) {
+                        done();
+                        return;
+                    }
+                    statistics.accept(iterator.nextDouble());
+                } while (statistics.position < size);
+                setNext(statistics);
+            }
+        };
+    }
+
+    void accept(final double value) {
+        final int capacity = values.length;
+        final int index = (int) (position % capacity);
+        if (position >= capacity) {
+            final double leaving = values[index];
+            addToSum(-leaving);
+            addToSumOfSquare(-leaving * leaving);
+            final long leavingPosition = position - capacity;
+            if (minSize > 0 && minDeque[minHead] == leavingPosition) {
+                minHead = (minHead + 1) % capacity;
+                minSize--;
+            }
+            if (maxSize > 0 && maxDeque[maxHead] == leavingPosition) {
+                maxHead = (maxHead + 1) % capacity;
+                maxSize--;
+            }
+        }
+        values[index] = value;
+        addToSum(value);
+        addToSumOfSquare(value * value);
+        if (minDeque != null) {
+            while (minSize > 0 && valueAt(minDeque[(minHead + minSize - 1) % capacity]) >= value) {
+                minSize--;
+            }
+            minDeque[(minHead + minSize++) % capacity] = position;
+        }
+        if (maxDeque != null) {
+            while (maxSize > 0 && valueAt(maxDeque[(maxHead + maxSize - 1) % capacity]) <= value) {
+                maxSize--;
+            }
+            maxDeque[(maxHead + maxSize++) % capacity] = position;
+        }
+        position++;
+    }
+
+    private void addToSum(final double value) {
+        final double corrected = value - sumCompensation;
+        final double newSum = sum + corrected;
+        sumCompensation = (newSum - sum) - corrected;
+        sum = newSum;
+    }
+
+    private void addToSumOfSquare(final double value) {
+        final double corrected = value - sumOfSquareCompensation;
+        final double newSumOfSquare = sumOfSquare + corrected;
+        sumOfSquareCompensation = (newSumOfSquare - sumOfSquare) - corrected;
+        sumOfSquare = newSumOfSquare;
+    }
+
+    private double valueAt(final long valuePosition) {
+        return values[(int) (valuePosition % values.length)];
+    }
+
+    @Override
+    public long getCount() {
+        return Math.min(position, values.length);
+    }
+
+    @Override
+    public double getSum() {
+        return sum;
+    }
+
+    @Override
+    public double getMin() {
+        if (minSize == 0) {
+            throw new IllegalStateException("The minimum of the window is not tracked or the window is empty");
+        }
+        return valueAt(minDeque[minHead]);
+    }
+
+    @Override
+    public double getMax() {
+        if (maxSize == 0) {
+            throw new IllegalStateException("The maximum of the window is not tracked or the window is empty");
+        }
+        return valueAt(maxDeque[maxHead]);
+    }
+
+    @Override
+    public double getStandardDeviation() {
+        final long count = getCount();
+        if (count == 0) {
+            return 0.0D;
+        }
+        final double average = getAverage();
+        return Math.sqrt(Math.max(0.0D, sumOfSquare / count - average * average));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s{count=%d, sum=%s, min=%s, average=%f, max=%s, standard deviation=%f}",
+                DoubleWindowStatistics.class.getSimpleName(), getCount(), getSum(),
+                minSize > 0 ? getMin() : "n/a", getAverage(), maxSize > 0 ? getMax() : "n/a", getStandardDeviation());
+    }
+}
@@ -0,0 +1,43 @@
+package org.hzt.utils.sequences.primitives;
+
+import org.hzt.utils.PreConditions;
+import org.hzt.utils.iterators.primitives.PrimitiveIterators;
+import org.hzt.utils.primitive_comparators.DoubleComparator;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * A sorted double sequence. A {@link #take(long)} of n values is fused with the sort into a selection of the n smallest values
+ * by the comparator with a bounded heap, so only n values are kept in memory.
+ */
+final class DoubleSortedSequence implements DoubleSequence {
+
+    private final DoubleSequence sorted;
+    private final DoubleSequence upstream;
+    private final DoubleComparator comparator;
+
+    /**
+     * @param sorted the fully sorted sequence
+     * @param upstream the unsorted sequence
+     * @param comparator the order of the sorted sequence, where equal values keep their encounter order
+     */
+    DoubleSortedSequence(final DoubleSequence sorted, final DoubleSequence upstream, final DoubleComparator comparator) {
+        this.sorted = sorted;
+        this.upstream = upstream;
+        this.comparator = comparator;
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return sorted.iterator();
+    }
+
+    @Override
+    public DoubleSequence take(final long n) {
+        PreConditions.requireGreaterThanOrEqualToZero(n);
+        if (n == 0) {
+            return PrimitiveIterators::emptyDoubleIterator;
+        }
+        return () -> DoubleTopK.smallest(upstream, n, comparator).iterator();
+    }
+}
@@ -0,0 +1,122 @@
+package org.hzt.utils.sequences.primitives;
+
+import org.hzt.utils.collections.primitives.DoubleList;
+import org.hzt.utils.primitive_comparators.DoubleComparator;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Selects the k smallest doubles of a sequence with a bounded binary max heap of primitive doubles in O(n log k) time and O(k)
+ * memory. Equal doubles are ordered by their position in the sequence, so the result equals the first k values of a stable
+ * sort by the comparator.
+ *
+ * @see org.hzt.utils.sequences.TopK
+ */
+final class DoubleTopK implements DoubleConsumer {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final DoubleComparator comparator;
+    private final long k;
+    private double[] values;
+    private long[] positions;
+    private int size;
+    private long position;
+
+    private DoubleTopK(final long k, final DoubleComparator comparator) {
+        this.comparator = comparator;
+        this.k = k;
+        final int capacity = (int) Math.min(k, INITIAL_CAPACITY);
+        this.values = new double[capacity];
+        this.positions = new long[capacity];
+    }
+
+    /**
+     * @return the k smallest doubles in ascending order, or all doubles if there are fewer than k
+     */
+    static DoubleList smallest(final DoubleSequence sequence, final long k, final DoubleComparator comparator) {
+        final DoubleTopK topK = new DoubleTopK(k, comparator);
+        if (k > 0) {
+            sequence.forEachDouble(topK);
+        }
+        return topK.toSortedList();
+    }
+
+    @Override
+    public void accept(final double value) {
+        if (size < k) {
+            if (size == values.length) {
+                grow();
+            }
+            values[size] = value;
+            positions[size] = position;
+            siftUp(size++);
+        } else if (comparator.compare(value, values[0]) < 0) {
+            values[0] = value;
+            positions[0] = position;
+            siftDown(0, size);
+        }
+        position++;
+    }
+
+    private void grow() {
+        if (size == MAX_CAPACITY) {
+            throw new IllegalStateException("Can not select more than " + MAX_CAPACITY + " doubles");
+        }
+        final int capacity = (int) Math.min(Math.min(k, MAX_CAPACITY), Math.max(INITIAL_CAPACITY, (long) size << 1));
+        values = Arrays.copyOf(values, capacity);
+        positions = Arrays.copyOf(positions, capacity);
+    }
+
+    private void siftUp(final int index) {
+        int child = index;
+        while (child > 0) {
+            final int parent = (child - 1) >>> 1;
+            if (!isGreater(child, parent)) {
+                return;
+            }
+            swap(child, parent);
+            child = parent;
+        }
+    }
+
+    private void siftDown(final int index, final int heapSize) {
+        int parent = index;
+        int child = (parent << 1) + 1;
+        while (child < heapSize) {
+            if (child + 1 < heapSize && isGreater(child + 1, child)) {
+                child++;
+            }
+            if (!isGreater(child, parent)) {
+                return;
+            }
+            swap(child, parent);
+            parent = child;
+            child = (parent << 1) + 1;
+        }
+    }
+
+    private boolean isGreater(final int i, final int j) {
+        final int comparison = comparator.compare(values[i], values[j]);
+        return comparison > 0 || (comparison == 0 && positions[i] > positions[j]);
+    }
+
+    private void swap(final int i, final int j) {
+        final double value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+        final long p = positions[i];
+        positions[i] = positions[j];
+        positions[j] = p;
+    }
+
+    private DoubleList toSortedList() {
+        for (int end = size - 1; end > 0; end--) {
+            swap(0, end);
+            siftDown(0, end);
+        }
+        return DoubleList.of(Arrays.copyOf(values, size));
+    }
+}
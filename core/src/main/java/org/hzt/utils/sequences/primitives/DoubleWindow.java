@@ -0,0 +1,43 @@
+package org.hzt.utils.sequences.primitives;
+
+import org.hzt.utils.collections.primitives.DoubleList;
+import org.hzt.utils.iterables.primitives.PrimitiveIterable;
+
+/**
+ * A read-only view over the values of a window of a double sequence.
+ * <p>
+ * The view is reused by the sequence that produces it, so it is only valid until the iteration advances. Use
+ * {@link #toList()} to keep the values of a window.
+ *
+ * @see DoubleWindowedSequence#windowedViews(int, int, boolean)
+ */
+public interface DoubleWindow extends PrimitiveIterable.OfDouble {
+
+    int size();
+
+    double get(int index);
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    default double first() {
+        return get(0);
+    }
+
+    default double last() {
+        return get(size() - 1);
+    }
+
+    default double[] toArray() {
+        final double[] array = new double[size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = get(i);
+        }
+        return array;
+    }
+
+    default DoubleList toList() {
+        return DoubleList.of(toArray());
+    }
+}
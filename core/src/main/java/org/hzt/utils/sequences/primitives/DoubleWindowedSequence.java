@@ -83,4 +83,80 @@ public interface DoubleWindowedSequence extends PrimitiveIterable.OfDouble {
     default DoubleSequence windowed(final int size, final boolean partialWindows, final ToDoubleFunction<DoubleList> reducer) {
         return windowed(size, 1, partialWindows, reducer);
     }
+
+    /**
+     * Returns the windows of this sequence as read-only views over a ring buffer, so no list is allocated per window.
+     * <p>
+     * Every view is the same object. It is only valid until the iteration advances, so use
+     * {@link DoubleWindow#toList()} to keep the values of a window.
+     *
+     * @param size the size of the windows
+     * @param step the number of values the window moves between two windows
+     * @param partialWindows whether the trailing windows that are smaller than the size are included
+     * @return a sequence of reusable window views
+     */
+    default Sequence<DoubleWindow> windowedViews(final int size, final int step, final boolean partialWindows) {
+        SequenceHelper.checkInitWindowSizeAndStep(size, step);
+        return () -> DoubleRingWindow.windowIterator(iterator(), size, step, partialWindows);
+    }
+
+    default Sequence<DoubleWindow> windowedViews(final int size, final int step) {
+        return windowedViews(size, step, false);
+    }
+
+    default Sequence<DoubleWindow> windowedViews(final int size) {
+        return windowedViews(size, 1);
+    }
+
+    /**
+     * Returns the statistics of every sliding window of the given size. The statistics are updated in constant
+     * amortized time per value instead of being recomputed over the whole window.
+     * <p>
+     * The statistics object is reused for every window, so it is only valid until the window slides again.
+     *
+     * @param size the size of the sliding windows
+     * @return a sequence of the reusable statistics of the full windows
+     */
+    default Sequence<DoubleWindowStatistics> windowedStats(final int size) {
+        SequenceHelper.checkInitWindowSizeAndStep(size, 1);
+        return () -> DoubleSlidingWindowStatistics.slidingIterator(iterator(), size, true, true);
+    }
+
+    default DoubleSequence windowedSum(final int size) {
+        SequenceHelper.checkInitWindowSizeAndStep(size, 1);
+        final Sequence<DoubleWindowStatistics> windows = () -> DoubleSlidingWindowStatistics.slidingIterator(iterator(), size, false, false);
+        return windows.mapToDouble(DoubleWindowStatistics::getSum);
+    }
+
+    default DoubleSequence windowedAverage(final int size) {
+        SequenceHelper.checkInitWindowSizeAndStep(size, 1);
+        final Sequence<DoubleWindowStatistics> windows = () -> DoubleSlidingWindowStatistics.slidingIterator(iterator(), size, false, false);
+        return windows.mapToDouble(DoubleWindowStatistics::getAverage);
+    }
+
+    /**
+     * Returns the minimum of every sliding window of the given size. The minimum is kept by a monotonic deque, so every
+     * value is added and removed at most once.
+     *
+     * @param size the size of the sliding windows
+     * @return a sequence of the minimums of the full windows
+     */
+    default DoubleSequence windowedMin(final int size) {
+        SequenceHelper.checkInitWindowSizeAndStep(size, 1);
+        final Sequence<DoubleWindowStatistics> windows = () -> DoubleSlidingWindowStatistics.slidingIterator(iterator(), size, true, false);
+        return windows.mapToDouble(DoubleWindowStatistics::getMin);
+    }
+
+    /**
+     * Returns the maximum of every sliding window of the given size. The maximum is kept by a monotonic deque, so every
+     * value is added and removed at most once.
+     *
+     * @param size the size of the sliding windows
+     * @return a sequence of the maximums of the full windows
+     */
+    default DoubleSequence windowedMax(final int size) {
+        SequenceHelper.checkInitWindowSizeAndStep(size, 1);
+        final Sequence<DoubleWindowStatistics> windows = () -> DoubleSlidingWindowStatistics.slidingIterator(iterator(), size, false, true);
+        return windows.mapToDouble(DoubleWindowStatistics::getMax);
+    }
 }
@@ -0,0 +1,37 @@
+package org.hzt.utils.sequences.primitives;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntPredicate;
+
+/**
+ * An int sequence stage that supports both ways of evaluation.
+ * <p>
+ * Its values can be pulled from its iterator, or be pushed by {@link #forEachIntWhile(IntPredicate)} into the action of
+ * the terminal operation without boxing them and without building an iterator chain.
+ */
+final class IntPushingSequence implements IntSequence {
+
+    private final IntSequence pullSource;
+    private final IntPusher pusher;
+
+    IntPushingSequence(final IntSequence pullSource, final IntPusher pusher) {
+        this.pullSource = pullSource;
+        this.pusher = pusher;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return pullSource.iterator();
+    }
+
+    @Override
+    public boolean forEachIntWhile(final IntPredicate action) {
+        return pusher.forEachIntWhile(action);
+    }
+
+    @FunctionalInterface
+    interface IntPusher {
+
+        boolean forEachIntWhile(IntPredicate action);
+    }
+}
@@ -0,0 +1,102 @@
+package org.hzt.utils.sequences.primitives;
+
+import org.hzt.utils.iterators.AbstractIterator;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A ring buffer that is exposed as the view of every window, so windowing does not copy the values of a window.
+ * <p>
+ * The buffer holds the values at the positions {@code [end - size, end)} of the upstream sequence. A value is stored
+ * at the index {@code position % capacity}.
+ */
+final class IntRingWindow implements IntWindow {
+
+    private final int[] values;
+    private long end = 0;
+    private int size = 0;
+
+    private IntRingWindow(final int capacity) {
+        this.values = new int[capacity];
+    }
+
+    static AbstractIterator<IntWindow> windowIterator(final PrimitiveIterator.OfInt iterator,
+                                                     final int size,
+                                                     final int step,
+                                                     final boolean partialWindows) {
+        final IntRingWindow window = new IntRingWindow(size);
+        return new AbstractIterator<IntWindow>() {
+            private long nextStart = 0;
+
+            @Override
+            protected void computeNext() {
+                window.dropBefore(nextStart);
+                while (window.end < nextStart && iterator.hasNext()) {
+                    iterator.nextInt();
+                    window.end++;
+                }
+                while (window.size < size && iterator.hasNext()) {
+                    window.add(iterator.nextInt());
+                }
+                if (window.size == size || (partialWindows && window.size > 0)) {
+                    nextStart += step;
+                    setNext(window);
+                } else {
+                    done();
+                }
+            }
+        };
+    }
+
+    private void add(final int value) {
+        values[(int) (end % values.length)] = value;
+        end++;
+        size++;
+    }
+
+    private void dropBefore(final long start) {
+        final long first = end - size;
+        if (first < start) {
+            size = (int) Math.max(0, end - start);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return values[(int) ((end - size + index) % values.length)];
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(index++);
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+}
@@ -2,6 +2,7 @@ package org.hzt.utils.sequences.primitives;
 
 import org.hzt.utils.It;
 import org.hzt.utils.PreConditions;
+import org.hzt.utils.arrays.ArraysX;
 import org.hzt.utils.collections.primitives.IntList;
 import org.hzt.utils.collections.primitives.IntMutableSet;
 import org.hzt.utils.function.TriFunction;
@@ -21,12 +22,14 @@ import org.hzt.utils.iterators.primitives.IntMultiMappingIterator;
 import org.hzt.utils.iterators.primitives.IntSkipWhileIterator;
 import org.hzt.utils.iterators.primitives.IntTakeWhileIterator;
 import org.hzt.utils.iterators.primitives.PrimitiveIterators;
-import org.hzt.utils.numbers.IntX;
 import org.hzt.utils.primitive_comparators.IntComparator;
 import org.hzt.utils.sequences.Sequence;
+import org.hzt.utils.sequences.parallel.IntParallelSequence;
+import org.hzt.utils.statistics.IntStatistics;
 import org.hzt.utils.tuples.Pair;
 import org.hzt.utils.tuples.Triple;
 
+import java.util.Iterator;
 import java.util.PrimitiveIterator;
 import java.util.Random;
 import java.util.Spliterator;
@@ -43,6 +46,7 @@ import java.util.function.IntSupplier;
 import java.util.function.IntToDoubleFunction;
 import java.util.function.IntToLongFunction;
 import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
 import java.util.function.ToIntFunction;
 import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
@@ -69,7 +73,14 @@ public interface IntSequence extends IntWindowedSequence, IntReducable, IntGathe
     }
 
     static IntSequence of(final int... array) {
-        return () -> PrimitiveIterators.intArrayIterator(array);
+        return new IntPushingSequence(() -> PrimitiveIterators.intArrayIterator(array), action -> {
+            for (final int value : array) {
+                if (!action.test(value)) {
+                    return false;
+                }
+            }
+            return true;
+        });
     }
 
     static IntSequence of(final IntStream stream) {
@@ -122,7 +133,8 @@ public interface IntSequence extends IntWindowedSequence, IntReducable, IntGathe
 
     @Override
     default IntSequence map(final IntUnaryOperator mapper) {
-        return () -> PrimitiveIterators.intTransformingIterator(iterator(), mapper);
+        return new IntPushingSequence(() -> PrimitiveIterators.intTransformingIterator(iterator(), mapper),
+                action -> forEachIntWhile(i -> action.test(mapper.applyAsInt(i))));
     }
 
     default IntSequence mapIndexed(final IntBinaryOperator indexedFunction) {
@@ -144,8 +156,13 @@ public interface IntSequence extends IntWindowedSequence, IntReducable, IntGathe
         });
     }
 
+    default IntParallelSequence parallel() {
+        return IntParallelSequence.of(this);
+    }
+
     default IntSequence mapMulti(final IntMapMultiConsumer intMapMultiConsumer) {
-        return () -> IntMultiMappingIterator.of(iterator(), intMapMultiConsumer);
+        return new IntPushingSequence(() -> IntMultiMappingIterator.of(iterator(), intMapMultiConsumer),
+                action -> forEachIntWhile(new IntSinks.MultiMapping(intMapMultiConsumer, action)));
     }
 
     @Override
@@ -177,7 +194,17 @@ public interface IntSequence extends IntWindowedSequence, IntReducable, IntGathe
     }
 
     default <R> Sequence<R> mapToObj(final IntFunction<R> function) {
-        return () -> PrimitiveIterators.intToObjIterator(iterator(), function);
+        return new Sequence<R>() {
+            @Override
+            public Iterator<R> iterator() {
+                return PrimitiveIterators.intToObjIterator(IntSequence.this.iterator(), function);
+            }
+
+            @Override
+            public boolean forEachWhile(final Predicate<? super R> action) {
+                return forEachIntWhile(i -> action.test(function.apply(i)));
+            }
+        };
     }
 
     default Sequence<Integer> boxed() {
@@ -199,12 +226,14 @@ public interface IntSequence extends IntWindowedSequence, IntReducable, IntGathe
 
     @Override
     default IntSequence takeWhile(final IntPredicate predicate) {
-        return () -> IntTakeWhileIterator.of(iterator(), predicate);
+        return new IntPushingSequence(() -> IntTakeWhileIterator.of(iterator(), predicate),
+                action -> forEachIntWhile(i -> predicate.test(i) && action.test(i)));
     }
 
     @Override
     default IntSequence takeWhileInclusive(final IntPredicate predicate) {
-        return () -> IntTakeWhileIterator.of(iterator(), predicate, true);
+        return new IntPushingSequence(() -> IntTakeWhileIterator.of(iterator(), predicate, true),
+                action -> forEachIntWhile(i -> action.test(i) && predicate.test(i)));
     }
 
     @Override
@@ -232,16 +261,79 @@ public interface IntSequence extends IntWindowedSequence, IntReducable, IntGathe
 
     @Override
     default IntSequence sorted() {
-        return () -> toList().sorted().iterator();
+        return new IntSortedSequence(() -> toList().sorted().iterator(), this, IntComparator.naturalOrder());
     }
 
     default IntSequence sorted(final IntComparator intComparator) {
-        return () -> toList().sorted(intComparator).iterator();
+        return new IntSortedSequence(() -> toList().sorted(intComparator).iterator(), this, intComparator);
     }
 
     @Override
     default IntSequence sortedDescending() {
-        return sorted((IntX::compareReversed));
+        return new IntSortedSequence(() -> toList().sortedDescending().iterator(), this, IntComparator.reverseOrder());
+    }
+
+    /**
+     * Selects the k greatest values with a bounded heap of primitives in O(n log k) time and O(k) memory.
+     *
+     * @param k the maximum number of values to select
+     * @return the k greatest values in descending order
+     */
+    default IntList topK(final int k) {
+        return bottomK(k, IntComparator.reverseOrder());
+    }
+
+    /**
+     * Selects the k smallest values with a bounded heap of primitives in O(n log k) time and O(k) memory.
+     *
+     * @param k the maximum number of values to select
+     * @return the k smallest values in ascending order
+     */
+    default IntList bottomK(final int k) {
+        return bottomK(k, IntComparator.naturalOrder());
+    }
+
+    /**
+     * @param k the maximum number of values to select
+     * @param comparator the order of the values
+     * @return the k greatest values by the comparator in descending order, equal values in encounter order
+     */
+    default IntList topK(final int k, final IntComparator comparator) {
+        return bottomK(k, (i1, i2) -> comparator.compare(i2, i1));
+    }
+
+    /**
+     * @param k the maximum number of values to select
+     * @param comparator the order of the values
+     * @return the k smallest values by the comparator in ascending order, equal values in encounter order
+     */
+    default IntList bottomK(final int k, final IntComparator comparator) {
+        PreConditions.requireGreaterThanOrEqualToZero(k);
+        return IntTopK.smallest(this, k, comparator);
+    }
+
+    default IntList topKBy(final int k, final IntUnaryOperator selector) {
+        return topK(k, IntComparator.comparing(selector));
+    }
+
+    default IntList bottomKBy(final int k, final IntUnaryOperator selector) {
+        return bottomK(k, IntComparator.comparing(selector));
+    }
+
+    /**
+     * Sorts the values stably by the keys the selector computes. Large sequences are sorted by a radix sort on the keys.
+     *
+     * @param selector the function that computes the key of a value
+     * @return a sequence of the values sorted by their keys
+     * @see ArraysX#sortBy(IntUnaryOperator, int...)
+     */
+    default IntSequence sortedBy(final IntUnaryOperator selector) {
+        final IntSequence sorted = () -> {
+            final int[] array = toArray();
+            ArraysX.sortBy(selector, array);
+            return PrimitiveIterators.intArrayIterator(array);
+        };
+        return new IntSortedSequence(sorted, this, IntComparator.comparing(selector));
     }
 
     default IntSequence shuffled(final Random random) {
@@ -250,11 +342,13 @@ public interface IntSequence extends IntWindowedSequence, IntReducable, IntGathe
 
     @Override
     default IntSequence filter(final IntPredicate predicate) {
-        return () -> IntFilteringIterator.of(iterator(), predicate, true);
+        return new IntPushingSequence(() -> IntFilteringIterator.of(iterator(), predicate, true),
+                action -> forEachIntWhile(i -> !predicate.test(i) || action.test(i)));
     }
 
     default IntSequence filterNot(final IntPredicate predicate) {
-        return () -> IntFilteringIterator.of(iterator(), predicate, false);
+        return new IntPushingSequence(() -> IntFilteringIterator.of(iterator(), predicate, false),
+                action -> forEachIntWhile(i -> predicate.test(i) || action.test(i)));
     }
 
     default IntSequence onEach(final IntConsumer consumer) {
@@ -280,6 +374,65 @@ public interface IntSequence extends IntWindowedSequence, IntReducable, IntGathe
         return windowed(2, w -> merger.applyAsInt(w.first(), w.last()));
     }
 
+    /**
+     * Pushes the values of this sequence to the action until the action returns {@code false}.
+     * <p>
+     * This is the push counterpart of {@link #iterator()} the terminal operations are evaluated by. Stages that do not
+     * support pushing fall back to pulling the values from their iterator.
+     *
+     * @param action the action to push the values to. It returns {@code false} to cancel the evaluation
+     * @return {@code false} if the evaluation stopped before all values were pushed, {@code true} otherwise
+     * @see Sequence#forEachWhile(Predicate)
+     */
+    default boolean forEachIntWhile(final IntPredicate action) {
+        final PrimitiveIterator.OfInt iterator = iterator();
+        while (iterator.hasNext()) {
+            if (!action.test(iterator.nextInt())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    default void forEachInt(final IntConsumer action) {
+        forEachIntWhile(i -> {
+            action.accept(i);
+            return true;
+        });
+    }
+
+    @Override
+    default long count() {
+        final IntSinks.Counting counting = new IntSinks.Counting();
+        forEachIntWhile(counting);
+        return counting.result();
+    }
+
+    @Override
+    default long sum() {
+        final IntSinks.Summing summing = new IntSinks.Summing();
+        forEachIntWhile(summing);
+        return summing.result();
+    }
+
+    @Override
+    default IntStatistics stats() {
+        final IntStatistics statistics = new IntStatistics();
+        forEachIntWhile(i -> {
+            statistics.accept(i);
+            return true;
+        });
+        return statistics;
+    }
+
+    @Override
+    default int reduce(final int initial, final IntBinaryOperator operator) {
+        final IntSinks.Reducing reducing = new IntSinks.Reducing(initial, operator);
+        forEachIntWhile(reducing);
+        return reducing.result();
+    }
+
     default int[] toArray() {
         return toList().toArray();
     }
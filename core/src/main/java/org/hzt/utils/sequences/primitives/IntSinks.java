@@ -0,0 +1,119 @@
+package org.hzt.utils.sequences.primitives;
+
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * The stateful actions that are used when an int sequence pushes its values.
+ * <p>
+ * Every action returns {@code false} from {@link IntPredicate#test(int)} to cancel the evaluation of its upstream.
+ *
+ * @see org.hzt.utils.sequences.Sequence#forEachWhile(java.util.function.Predicate)
+ */
+final class IntSinks {
+
+    private IntSinks() {
+    }
+
+    static final class Reducing implements IntPredicate {
+
+        private final IntBinaryOperator operator;
+        private int accumulator;
+
+        Reducing(final int initial, final IntBinaryOperator operator) {
+            this.accumulator = initial;
+            this.operator = operator;
+        }
+
+        @Override
+        public boolean test(final int value) {
+            accumulator = operator.applyAsInt(accumulator, value);
+            return true;
+        }
+
+        int result() {
+            return accumulator;
+        }
+    }
+
+    static final class Counting implements IntPredicate {
+
+        private long count = 0;
+
+        @Override
+        public boolean test(final int value) {
+            count++;
+            return true;
+        }
+
+        long result() {
+            return count;
+        }
+    }
+
+    static final class Summing implements IntPredicate {
+
+        private long sum = 0;
+
+        @Override
+        public boolean test(final int value) {
+            sum += value;
+            return true;
+        }
+
+        long result() {
+            return sum;
+        }
+    }
+
+    /**
+     * Takes at most {@code limit} values and cancels the evaluation as soon as the last one is taken.
+     */
+    static final class Limiting implements IntPredicate {
+
+        private final IntPredicate downstream;
+        private long left;
+
+        Limiting(final long limit, final IntPredicate downstream) {
+            this.left = limit;
+            this.downstream = downstream;
+        }
+
+        @Override
+        public boolean test(final int value) {
+            left--;
+            return downstream.test(value) && left > 0;
+        }
+    }
+
+    /**
+     * Passes the values the mapper of {@link IntSequence#mapMulti(IntSequence.IntMapMultiConsumer)} emits to the
+     * downstream action. A cancellation by the downstream action is kept in a flag, because the mapper pushes into a
+     * plain consumer.
+     */
+    static final class MultiMapping implements IntPredicate, IntConsumer {
+
+        private final IntSequence.IntMapMultiConsumer mapper;
+        private final IntPredicate downstream;
+        private boolean cancelled = false;
+
+        MultiMapping(final IntSequence.IntMapMultiConsumer mapper, final IntPredicate downstream) {
+            this.mapper = mapper;
+            this.downstream = downstream;
+        }
+
+        @Override
+        public boolean test(final int value) {
+            mapper.accept(value, this);
+            return !cancelled;
+        }
+
+        @Override
+        public void accept(final int value) {
+            if (!cancelled) {
+                cancelled = !downstream.test(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.hzt.utils.sequences.primitives;
+
+import org.hzt.utils.iterators.AbstractIterator;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * Keeps the statistics of a sliding window up to date in constant amortized time per value.
+ * <p>
+ * The sum and the sum of squares are updated by adding the new value and subtracting the value that leaves the window.
+ * The minimum and the maximum are kept by monotonic deques of positions: a value that is dominated by a newer value
+ * can never become the minimum (maximum) again, so it is removed from the back of the deque. The front of a deque
+ * is the position of the current minimum (maximum).
+ */
+final class IntSlidingWindowStatistics implements IntWindowStatistics {
+
+    private final int[] values;
+    private final long[] minDeque;
+    private final long[] maxDeque;
+    private int minHead = 0;
+    private int minSize = 0;
+    private int maxHead = 0;
+    private int maxSize = 0;
+    private long position = 0;
+    private long sum = 0;
+    private long sumOfSquare = 0;
+
+    private IntSlidingWindowStatistics(final int size, final boolean trackMin, final boolean trackMax) {
+        this.values = new int[size];
+        this.minDeque = trackMin ? new long[size] : null;
+        this.maxDeque = trackMax ? new long[size] : null;
+    }
+
+    static AbstractIterator<IntWindowStatistics> slidingIterator(final PrimitiveIterator.OfInt iterator,
+                                                                final int size,
+                                                                final boolean trackMin,
+                                                                final boolean trackMax) {
+        final IntSlidingWindowStatistics statistics = new IntSlidingWindowStatistics(size, trackMin, trackMax);
+        return new AbstractIterator<IntWindowStatistics>() {
+            @Override
+            protected void computeNext() {
+                do {
+                    if (!iterator.hasNext()) {
+                        done();
+                        return;
+                    }
+                    statistics.accept(iterator.nextInt());
+                } while (statistics.position < size);
+                setNext(statistics);
+            }
+        };
+    }
+
+    void accept(final int value) {
+        final int capacity = values.length;
+        final int index = (int) (position % capacity);
+        if (position >= capacity) {
+            final int leaving = values[index];
+            sum -= leaving;
+            sumOfSquare -= (long) leaving * leaving;
+            final long leavingPosition = position - capacity;
+            if (minSize > 0 && minDeque[minHead] == leavingPosition) {
+                minHead = (minHead + 1) % capacity;
+                minSize--;
+            }
+            if (maxSize > 0 && maxDeque[maxHead] == leavingPosition) {
+                maxHead = (maxHead + 1) % capacity;
+                maxSize--;
+            }
+        }
+        values[index] = value;
+        sum += value;
+        sumOfSquare += (long) value * value;
+        if (minDeque != null) {
+            while (minSize > 0 && valueAt(minDeque[(minHead + minSize - 1) % capacity]) >= value) {
+                minSize--;
+            }
+            minDeque[(minHead + minSize++) % capacity] = position;
+        }
+        if (maxDeque != null) {
+            while (maxSize > 0 && valueAt(maxDeque[(maxHead + maxSize - 1) % capacity]) <= value) {
+                maxSize--;
+            }
+            maxDeque[(maxHead + maxSize++) % capacity] = position;
+        }
+        position++;
+    }
+
+    private int valueAt(final long valuePosition) {
+        return values[(int) (valuePosition % values.length)];
+    }
+
+    @Override
+    public long getCount() {
+        return Math.min(position, values.length);
+    }
+
+    @Override
+    public long getSum() {
+        return sum;
+    }
+
+    @Override
+    public int getMin() {
+        if (minSize == 0) {
+            throw new IllegalStateException("The minimum of the window is not tracked or the window is empty");
+        }
+        return valueAt(minDeque[minHead]);
+    }
+
+    @Override
+    public int getMax() {
+        if (maxSize == 0) {
+            throw new IllegalStateException("The maximum of the window is not tracked or the window is empty");
+        }
+        return valueAt(maxDeque[maxHead]);
+    }
+
+    @Override
+    public double getStandardDeviation() {
+        final long count = getCount();
+        if (count == 0) {
+            return 0.0D;
+        }
+        final double average = getAverage();
+        return Math.sqrt(Math.max(0.0D, (double) sumOfSquare / count - average * average));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s{count=%d, sum=%s, min=%s, average=%f, max=%s, standard deviation=%f}",
+                IntWindowStatistics.class.getSimpleName(), getCount(), getSum(),
+                minSize > 0 ? getMin() : "n/a", getAverage(), maxSize > 0 ? getMax() : "n/a", getStandardDeviation());
+    }
+}
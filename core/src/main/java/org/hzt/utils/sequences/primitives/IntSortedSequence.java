@@ -0,0 +1,43 @@
+package org.hzt.utils.sequences.primitives;
+
+import org.hzt.utils.PreConditions;
+import org.hzt.utils.iterators.primitives.PrimitiveIterators;
+import org.hzt.utils.primitive_comparators.IntComparator;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * A sorted int sequence. A {@link #take(long)} of n values is fused with the sort into a selection of the n smallest values
+ * by the comparator with a bounded heap, so only n values are kept in memory.
+ */
+final class IntSortedSequence implements IntSequence {
+
+    private final IntSequence sorted;
+    private final IntSequence upstream;
+    private final IntComparator comparator;
+
+    /**
+     * @param sorted the fully sorted sequence
+     * @param upstream the unsorted sequence
+     * @param comparator the order of the sorted sequence, where equal values keep their encounter order
+     */
+    IntSortedSequence(final IntSequence sorted, final IntSequence upstream, final IntComparator comparator) {
+        this.sorted = sorted;
+        this.upstream = upstream;
+        this.comparator = comparator;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return sorted.iterator();
+    }
+
+    @Override
+    public IntSequence take(final long n) {
+        PreConditions.requireGreaterThanOrEqualToZero(n);
+        if (n == 0) {
+            return PrimitiveIterators::emptyIntIterator;
+        }
+        return () -> IntTopK.smallest(upstream, n, comparator).iterator();
+    }
+}
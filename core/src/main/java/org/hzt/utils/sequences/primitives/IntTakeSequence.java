@@ -5,6 +5,7 @@ import org.hzt.utils.iterators.primitives.PrimitiveIterators;
 
 import java.util.NoSuchElementException;
 import java.util.PrimitiveIterator;
+import java.util.function.IntPredicate;
 
 final class IntTakeSequence implements IntSkipTakeSequence {
 
@@ -47,6 +48,14 @@ final class IntTakeSequence implements IntSkipTakeSequence {
         };
     }
 
+    @Override
+    public boolean forEachIntWhile(final IntPredicate action) {
+        if (count == 0) {
+            return true;
+        }
+        return upstream.forEachIntWhile(new IntSinks.Limiting(count, action));
+    }
+
     @Override
     public long count() {
         return count;
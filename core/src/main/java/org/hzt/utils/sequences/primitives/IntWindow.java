@@ -0,0 +1,43 @@
+package org.hzt.utils.sequences.primitives;
+
+import org.hzt.utils.collections.primitives.IntList;
+import org.hzt.utils.iterables.primitives.PrimitiveIterable;
+
+/**
+ * A read-only view over the values of a window of a int sequence.
+ * <p>
+ * The view is reused by the sequence that produces it, so it is only valid until the iteration advances. Use
+ * {@link #toList()} to keep the values of a window.
+ *
+ * @see IntWindowedSequence#windowedViews(int, int, boolean)
+ */
+public interface IntWindow extends PrimitiveIterable.OfInt {
+
+    int size();
+
+    int get(int index);
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    default int first() {
+        return get(0);
+    }
+
+    default int last() {
+        return get(size() - 1);
+    }
+
+    default int[] toArray() {
+        final int[] array = new int[size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = get(i);
+        }
+        return array;
+    }
+
+    default IntList toList() {
+        return IntList.of(toArray());
+    }
+}
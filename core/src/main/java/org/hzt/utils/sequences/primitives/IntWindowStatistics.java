@@ -0,0 +1,26 @@
+package org.hzt.utils.sequences.primitives;
+
+/**
+ * The statistics of a sliding window of a int sequence. They are updated in constant time when the window slides.
+ * <p>
+ * The statistics are reused by the sequence that produces them, so they are only valid until the window slides again.
+ *
+ * @see IntWindowedSequence#windowedStats(int)
+ */
+public interface IntWindowStatistics {
+
+    long getCount();
+
+    long getSum();
+
+    int getMin();
+
+    int getMax();
+
+    default double getAverage() {
+        final long count = getCount();
+        return count > 0 ? (double) getSum() / count : 0.0D;
+    }
+
+    double getStandardDeviation();
+}
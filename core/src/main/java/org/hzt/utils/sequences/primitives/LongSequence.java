@@ -20,9 +20,9 @@ import org.hzt.utils.iterators.primitives.LongMultiMappingIterator;
 import org.hzt.utils.iterators.primitives.LongSkipWhileIterator;
 import org.hzt.utils.iterators.primitives.LongTakeWhileIterator;
 import org.hzt.utils.iterators.primitives.PrimitiveIterators;
-import org.hzt.utils.numbers.LongX;
 import org.hzt.utils.primitive_comparators.LongComparator;
 import org.hzt.utils.sequences.Sequence;
+import org.hzt.utils.sequences.parallel.LongParallelSequence;
 import org.hzt.utils.tuples.Pair;
 import org.hzt.utils.tuples.Triple;
 
@@ -142,6 +142,10 @@ public interface LongSequence extends LongWindowedSequence, LongReducable, LongC
         });
     }
 
+    default LongParallelSequence parallel() {
+        return LongParallelSequence.of(this);
+    }
+
     default LongSequence mapMulti(final LongMapMultiConsumer longMapMultiConsumer) {
         return () -> LongMultiMappingIterator.of(iterator(), longMapMultiConsumer);
     }
@@ -216,16 +220,63 @@ public interface LongSequence extends LongWindowedSequence, LongReducable, LongC
 
     @Override
     default LongSequence sorted() {
-        return () -> toList().sorted().iterator();
+        return new LongSortedSequence(() -> toList().sorted().iterator(), this, LongComparator.naturalOrder());
     }
 
     default LongSequence sorted(final LongComparator longComparator) {
-        return () -> toList().sorted(longComparator).iterator();
+        return new LongSortedSequence(() -> toList().sorted(longComparator).iterator(), this, longComparator);
     }
 
     @Override
     default LongSequence sortedDescending() {
-        return sorted(LongX::compareReversed);
+        return new LongSortedSequence(() -> toList().sortedDescending().iterator(), this, LongComparator.reverseOrder());
+    }
+
+    /**
+     * Selects the k greatest values with a bounded heap of primitives in O(n log k) time and O(k) memory.
+     *
+     * @param k the maximum number of values to select
+     * @return the k greatest values in descending order
+     */
+    default LongList topK(final int k) {
+        return bottomK(k, LongComparator.reverseOrder());
+    }
+
+    /**
+     * Selects the k smallest values with a bounded heap of primitives in O(n log k) time and O(k) memory.
+     *
+     * @param k the maximum number of values to select
+     * @return the k smallest values in ascending order
+     */
+    default LongList bottomK(final int k) {
+        return bottomK(k, LongComparator.naturalOrder());
+    }
+
+    /**
+     * @param k the maximum number of values to select
+     * @param comparator the order of the values
+     * @return the k greatest values by the comparator in descending order, equal values in encounter order
+     */
+    default LongList topK(final int k, final LongComparator comparator) {
+        return bottomK(k, (l1, l2) -> comparator.compare(l2, l1));
+    }
+
+    /**
+     * @param k the maximum number of values to select
+     * @param comparator the order of the values
+     * @return the k smallest values by the comparator in ascending order, equal values in encounter order
+     */
+    default LongList bottomK(final int k, final LongComparator comparator) {
+        PreConditions.requireGreaterThanOrEqualToZero(k);
+        return LongTopK.smallest(this, k, comparator);
+    }
+
+    default LongList topKBy(final int k, final LongUnaryOperator selector) {
+        return topK(k, LongComparator.comparing(selector));
+    }
+
+    default LongList bottomKBy(final int k, final LongUnaryOperator selector) {
+        return bottomK(k, LongComparator.comparing(selector));
     }
 
     default LongSequence filter(final LongPredicate predicate) {
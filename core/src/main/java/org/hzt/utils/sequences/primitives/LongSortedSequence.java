@@ -0,0 +1,43 @@
+package org.hzt.utils.sequences.primitives;
+
+import org.hzt.utils.PreConditions;
+import org.hzt.utils.iterators.primitives.PrimitiveIterators;
+import org.hzt.utils.primitive_comparators.LongComparator;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * A sorted long sequence. A {@link #take(long)} of n values is fused with the sort into a selection of the n smallest values
+ * by the comparator with a bounded heap, so only n values are kept in memory.
+ */
+final class LongSortedSequence implements LongSequence {
+
+    private final LongSequence sorted;
+    private final LongSequence upstream;
+    private final LongComparator comparator;
+
+    /**
+     * @param sorted the fully sorted sequence
+     * @param upstream the unsorted sequence
+     * @param comparator the order of the sorted sequence, where equal values keep their encounter order
+     */
+    LongSortedSequence(final LongSequence sorted, final LongSequence upstream, final LongComparator comparator) {
+        this.sorted = sorted;
+        this.upstream = upstream;
+        this.comparator = comparator;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return sorted.iterator();
+    }
+
+    @Override
+    public LongSequence take(final long n) {
+        PreConditions.requireGreaterThanOrEqualToZero(n);
+        if (n == 0) {
+            return PrimitiveIterators::emptyLongIterator;
+        }
+        return () -> LongTopK.smallest(upstream, n, comparator).iterator();
+    }
+}
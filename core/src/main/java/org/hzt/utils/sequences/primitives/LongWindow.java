@@ -0,0 +1,43 @@
+package org.hzt.utils.sequences.primitives;
+
+import org.hzt.utils.collections.primitives.LongList;
+import org.hzt.utils.iterables.primitives.PrimitiveIterable;
+
+/**
+ * A read-only view over the values of a window of a long sequence.
+ * <p>
+ * The view is reused by the sequence that produces it, so it is only valid until the iteration advances. Use
+ * {@link #toList()} to keep the values of a window.
+ *
+ * @see LongWindowedSequence#windowedViews(int, int, boolean)
+ */
+public interface LongWindow extends PrimitiveIterable.OfLong {
+
+    int size();
+
+    long get(int index);
+
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    default long first() {
+        return get(0);
+    }
+
+    default long last() {
+        return get(size() - 1);
+    }
+
+    default long[] toArray() {
+        final long[] array = new long[size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = get(i);
+        }
+        return array;
+    }
+
+    default LongList toList() {
+        return LongList.of(toArray());
+    }
+}
@@ -59,8 +59,9 @@ abstract class AbstractSpinedBuffer {
         if (initialCapacity < 0) {
             throw new IllegalArgumentException("Illegal Capacity: "+ initialCapacity);
         }
-        this.initialChunkPower = Math.max(MIN_CHUNK_POWER,
-                Integer.SIZE - Integer.numberOfLeadingZeros(initialCapacity - 1));
+        // a capacity of zero gets the minimum chunk instead of a chunk power of 32
+        final int power = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(1, initialCapacity) - 1);
+        this.initialChunkPower = Math.min(MAX_CHUNK_POWER, Math.max(MIN_CHUNK_POWER, power));
     }
 
     /**
@@ -80,13 +81,42 @@ abstract class AbstractSpinedBuffer {
     }
 
     /**
-     * How big should the nth chunk be?
+     * How big should the chunk be that follows chunks with the given total capacity? The chunks double the capacity
+     * of the buffer, which gives the sizes 16, 16, 32, 64, ... for a buffer that is only filled by accept. The size is
+     * taken from the capacity instead of the number of chunks, because a buffer that appended other buffers can have
+     * many small chunks.
      */
-    protected int chunkSize(final int n) {
-        final int power = ((n == 0) || (n == 1))
-                ? initialChunkPower
-                : Math.min((initialChunkPower + n) - 1, AbstractSpinedBuffer.MAX_CHUNK_POWER);
-        return 1 << power;
+    protected int nextChunkSize(final long capacity) {
+        final long size = Long.highestOneBit(Math.max(capacity, 1L << initialChunkPower));
+        return (int) Math.min(size, 1L << AbstractSpinedBuffer.MAX_CHUNK_POWER);
+    }
+
+    /**
+     * How many elements are in the nth chunk? Only the current chunk and the chunks merged from another buffer can be
+     * partially filled, so the count is taken from the prior element counts instead of the chunk length.
+     */
+    protected int chunkFill(final int n) {
+        return (n < spineIndex)
+                ? (int) (priorElementCount[n + 1] - priorElementCount[n])
+                : elementIndex;
+    }
+
+    /**
+     * Which chunk in the range from the first to the last chunk holds the element at the index? The chunks are never
+     * empty, so the prior element counts are ascending and the chunk is found by a binary search.
+     */
+    protected int chunkIndexOf(final long index, final int firstChunk, final int lastChunk) {
+        int low = firstChunk;
+        int high = lastChunk;
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+            if (priorElementCount[middle] <= index) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
     }
 
     /**
@@ -11,6 +11,7 @@ import java.util.PrimitiveIterator;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.function.IntFunction;
 import java.util.function.DoubleConsumer;
 import java.util.function.IntConsumer;
 import java.util.function.LongConsumer;
@@ -27,6 +28,12 @@ import java.util.function.LongConsumer;
  * no copying of elements is required.  This is usually beneficial in the case
  * where the results will be traversed a small number of times.
  *
+ * <p> Elements can be read by index with {@link #get(long)}, copied out with
+ * one {@link System#arraycopy} per chunk and traversed in parallel by a
+ * spliterator that splits the remaining elements in halves. Buffers that are
+ * filled by different threads are merged by {@link #appendAll(SpinedBuffer)},
+ * which links the chunks of the other buffer instead of copying them.
+ *
  * @param <E> the type of elements in this list
  */
 public class SpinedBuffer<E>
@@ -78,6 +85,19 @@ public class SpinedBuffer<E>
         curChunk = (E[]) new Object[1 << initialChunkPower];
     }
 
+    /**
+     * Constructs an empty list with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity of the list
+     * @throws IllegalArgumentException if the specified initial capacity
+     *                                  is negative
+     */
+    @SuppressWarnings("unchecked")
+    public SpinedBuffer(final int initialCapacity) {
+        super(initialCapacity);
+        curChunk = (E[]) new Object[1 << initialChunkPower];
+    }
+
     /**
      * Returns the current capacity of the buffer
      */
@@ -110,7 +130,7 @@ public class SpinedBuffer<E>
                     spine = Arrays.copyOf(spine, newSpineSize);
                     priorElementCount = Arrays.copyOf(priorElementCount, newSpineSize);
                 }
-                final int nextChunkSize = chunkSize(i);
+                final int nextChunkSize = nextChunkSize(capacity);
                 spine[i] = (E[]) new Object[nextChunkSize];
                 priorElementCount[i] = priorElementCount[i - 1] + spine[i - 1].length;
                 capacity += nextChunkSize;
@@ -129,30 +149,99 @@ public class SpinedBuffer<E>
      * Retrieve the element at the specified index.
      */
     public E get(final long index) {
-        // @@@ can further optimize by caching last seen spineIndex,
-        // which is going to be right most of the time
-
         // Casts to int are safe since the spine array index is the index minus
         // the prior element count from the current spine
+        if (index < 0 || index >= count()) {
+            throw new IndexOutOfBoundsException(Long.toString(index));
+        }
         if (spineIndex == 0) {
-            if (index < elementIndex) {
-                return curChunk[((int) index)];
-            } else {
-                throw new IndexOutOfBoundsException(Long.toString(index));
-            }
+            return curChunk[((int) index)];
         }
+        final int chunk = chunkIndexOf(index, 0, spineIndex);
+        return spine[chunk][((int) (index - priorElementCount[chunk]))];
+    }
 
-        if (index >= count()) {
-            throw new IndexOutOfBoundsException(Long.toString(index));
+    /**
+     * Copy the elements into the array with one {@link System#arraycopy} per chunk.
+     *
+     * @param array  the array to copy the elements into
+     * @param offset the index in the array of the first element
+     */
+    public void copyInto(final E[] array, int offset) {
+        final long finalOffset = offset + count();
+        if ((finalOffset > array.length) || (finalOffset < offset)) {
+            throw new IndexOutOfBoundsException("does not fit");
         }
+        for (int i = 0; i <= spineIndex; i++) {
+            final int fill = chunkFill(i);
+            System.arraycopy(chunk(i), 0, array, offset, fill);
+            offset += fill;
+        }
+    }
 
-        for (int j = 0; j <= spineIndex; j++) {
-            if (index < (priorElementCount[j] + spine[j].length)) {
-                return spine[j][((int) (index - priorElementCount[j]))];
+    /**
+     * @param generator a function that creates an array of the requested length
+     * @return an array of the elements of this buffer in order
+     */
+    public E[] toArray(final IntFunction<E[]> generator) {
+        final long size = count();
+        if (size >= MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException(BAD_SIZE);
+        }
+        final E[] result = generator.apply((int) size);
+        copyInto(result, 0);
+        return result;
+    }
+
+    /**
+     * Move the elements of the other buffer behind the elements of this buffer.
+     * The chunks of the other buffer are linked into the spine of this buffer,
+     * so no element is copied. This is how buffers that are filled by
+     * different threads are combined. The other buffer is empty afterwards.
+     *
+     * @param other the buffer to move the elements of
+     * @return this buffer
+     */
+    @SuppressWarnings("unchecked")
+    public SpinedBuffer<E> appendAll(final SpinedBuffer<E> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("A buffer can not be appended to itself");
+        }
+        if (other.isEmpty()) {
+            return this;
+        }
+        final int ownChunks = nonEmptyChunkCount();
+        final int otherChunks = other.nonEmptyChunkCount();
+        final int chunkCount = ownChunks + otherChunks;
+        final E[][] mergedSpine = (E[][]) new Object[Math.max(MIN_SPINE_SIZE, chunkCount)][];
+        final long[] mergedPriorElementCount = new long[mergedSpine.length];
+        for (int i = 0; i < chunkCount; i++) {
+            final boolean own = i < ownChunks;
+            final int j = own ? i : (i - ownChunks);
+            mergedSpine[i] = own ? chunk(j) : other.chunk(j);
+            if (i + 1 < mergedSpine.length) {
+                mergedPriorElementCount[i + 1] = mergedPriorElementCount[i] + (own ? chunkFill(j) : other.chunkFill(j));
             }
         }
+        spine = mergedSpine;
+        priorElementCount = mergedPriorElementCount;
+        spineIndex = chunkCount - 1;
+        curChunk = spine[spineIndex];
+        elementIndex = other.chunkFill(otherChunks - 1);
+        other.curChunk = (E[]) new Object[1 << other.initialChunkPower];
+        other.spine = null;
+        other.priorElementCount = null;
+        other.spineIndex = 0;
+        other.elementIndex = 0;
+        return this;
+    }
 
-        throw new IndexOutOfBoundsException(Long.toString(index));
+    private E[] chunk(final int n) {
+        return (spine == null) ? curChunk : spine[n];
+    }
+
+    private int nonEmptyChunkCount() {
+        return (elementIndex == 0) ? spineIndex : (spineIndex + 1);
     }
 
     @Override
@@ -180,8 +269,10 @@ public class SpinedBuffer<E>
     public void forEach(final Consumer<? super E> consumer) {
         // completed chunks, if any
         for (int j = 0; j < spineIndex; j++) {
-            for (final E t : spine[j]) {
-                consumer.accept(t);
+            final E[] chunk = spine[j];
+            final int fill = chunkFill(j);
+            for (int i = 0; i < fill; i++) {
+                consumer.accept(chunk[i]);
             }
         }
 
@@ -273,12 +364,10 @@ public class SpinedBuffer<E>
                         || ((splSpineIndex == lastSpineIndex) && (splElementIndex < lastSpineElementFence))) {
                     consumer.accept(splChunk[splElementIndex++]);
 
-                    if (splElementIndex == splChunk.length) {
+                    if ((splSpineIndex < lastSpineIndex) && (splElementIndex == chunkFill(splSpineIndex))) {
                         splElementIndex = 0;
                         ++splSpineIndex;
-                        if ((spine != null) && (splSpineIndex <= lastSpineIndex)) {
-                            splChunk = spine[splSpineIndex];
-                        }
+                        splChunk = spine[splSpineIndex];
                     }
                     return true;
                 }
@@ -295,7 +384,8 @@ public class SpinedBuffer<E>
                     // completed chunks, if any
                     for (int sp = splSpineIndex; sp < lastSpineIndex; sp++) {
                         final E[] chunk = spine[sp];
-                        for (; i < chunk.length; i++) {
+                        final int fill = chunkFill(sp);
+                        for (; i < fill; i++) {
                             consumer.accept(chunk[i]);
                         }
                         i = 0;
@@ -314,12 +404,20 @@ public class SpinedBuffer<E>
             @Override
             public Spliterator<E> trySplit() {
                 if (splSpineIndex < lastSpineIndex) {
-                    // split just before last chunk (if it is full this means 50:50 split)
-                    final Spliterator<E> ret = new Splitr(splSpineIndex, lastSpineIndex - 1,
-                            splElementIndex, spine[lastSpineIndex - 1].length);
-                    // position to start of last chunk
-                    splSpineIndex = lastSpineIndex;
-                    splElementIndex = 0;
+                    // split at the middle element, which may lie in any chunk
+                    final long from = priorElementCount[splSpineIndex] + splElementIndex;
+                    final long middle = (from + priorElementCount[lastSpineIndex] + lastSpineElementFence) >>> 1;
+                    if (middle == from) {
+                        return null;
+                    }
+                    final int middleSpineIndex = chunkIndexOf(middle, splSpineIndex, lastSpineIndex);
+                    final int middleElementIndex = (int) (middle - priorElementCount[middleSpineIndex]);
+                    final Spliterator<E> ret = (middleElementIndex == 0)
+                            ? new Splitr(splSpineIndex, middleSpineIndex - 1, splElementIndex, chunkFill(middleSpineIndex - 1))
+                            : new Splitr(splSpineIndex, middleSpineIndex, splElementIndex, middleElementIndex);
+                    // position to the middle element
+                    splSpineIndex = middleSpineIndex;
+                    splElementIndex = middleElementIndex;
                     splChunk = spine[splSpineIndex];
                     return ret;
                 } else if (splSpineIndex == lastSpineIndex) {
@@ -447,7 +545,7 @@ public class SpinedBuffer<E>
                         spine = Arrays.copyOf(spine, newSpineSize);
                         priorElementCount = Arrays.copyOf(priorElementCount, newSpineSize);
                     }
-                    final int nextChunkSize = chunkSize(i);
+                    final int nextChunkSize = nextChunkSize(capacity);
                     spine[i] = newArray(nextChunkSize);
                     priorElementCount[i] = priorElementCount[i - 1] + arrayLength(spine[i - 1]);
                     capacity += nextChunkSize;
@@ -460,25 +558,10 @@ public class SpinedBuffer<E>
         }
 
         protected int chunkFor(final long index) {
-            if (spineIndex == 0) {
-                if (index < elementIndex) {
-                    return 0;
-                } else {
-                    throw new IndexOutOfBoundsException(Long.toString(index));
-                }
-            }
-
-            if (index >= count()) {
+            if (index < 0 || index >= count()) {
                 throw new IndexOutOfBoundsException(Long.toString(index));
             }
-
-            for (int j = 0; j <= spineIndex; j++) {
-                if (index < (priorElementCount[j] + arrayLength(spine[j]))) {
-                    return j;
-                }
-            }
-
-            throw new IndexOutOfBoundsException(Long.toString(index));
+            return (spineIndex == 0) ? 0 : chunkIndexOf(index, 0, spineIndex);
         }
 
         @SuppressWarnings("SuspiciousSystemArraycopy")
@@ -491,10 +574,11 @@ public class SpinedBuffer<E>
             if (spineIndex == 0) {
                 System.arraycopy(curChunk, 0, array, offset, elementIndex);
             } else {
-                // full chunks
+                // prior chunks
                 for (int i = 0; i < spineIndex; i++) {
-                    System.arraycopy(spine[i], 0, array, offset, arrayLength(spine[i]));
-                    offset += arrayLength(spine[i]);
+                    final int fill = chunkFill(i);
+                    System.arraycopy(spine[i], 0, array, offset, fill);
+                    offset += fill;
                 }
                 if (elementIndex > 0) {
                     System.arraycopy(curChunk, 0, array, offset, elementIndex);
@@ -502,6 +586,52 @@ public class SpinedBuffer<E>
             }
         }
 
+        /**
+         * Move the values of the other buffer behind the values of this buffer
+         * without copying them.
+         *
+         * @see SpinedBuffer#appendAll(SpinedBuffer)
+         */
+        protected void appendChunksOf(final OfPrimitive<E, T_ARR, T_CONS> other) {
+            if (other == this) {
+                throw new IllegalArgumentException("A buffer can not be appended to itself");
+            }
+            if (other.isEmpty()) {
+                return;
+            }
+            final int ownChunks = nonEmptyChunkCount();
+            final int otherChunks = other.nonEmptyChunkCount();
+            final int chunkCount = ownChunks + otherChunks;
+            final T_ARR[] mergedSpine = Arrays.copyOf(newArrayArray(), Math.max(MIN_SPINE_SIZE, chunkCount));
+            final long[] mergedPriorElementCount = new long[mergedSpine.length];
+            for (int i = 0; i < chunkCount; i++) {
+                final boolean own = i < ownChunks;
+                final int j = own ? i : (i - ownChunks);
+                mergedSpine[i] = own ? chunk(j) : other.chunk(j);
+                if (i + 1 < mergedSpine.length) {
+                    mergedPriorElementCount[i + 1] = mergedPriorElementCount[i] + (own ? chunkFill(j) : other.chunkFill(j));
+                }
+            }
+            spine = mergedSpine;
+            priorElementCount = mergedPriorElementCount;
+            spineIndex = chunkCount - 1;
+            curChunk = spine[spineIndex];
+            elementIndex = other.chunkFill(otherChunks - 1);
+            other.curChunk = other.newArray(1 << other.initialChunkPower);
+            other.spine = null;
+            other.priorElementCount = null;
+            other.spineIndex = 0;
+            other.elementIndex = 0;
+        }
+
+        private T_ARR chunk(final int n) {
+            return (spine == null) ? curChunk : spine[n];
+        }
+
+        private int nonEmptyChunkCount() {
+            return (elementIndex == 0) ? spineIndex : (spineIndex + 1);
+        }
+
         public T_ARR asPrimitiveArray() {
             final long size = count();
             if (size >= MAX_ARRAY_SIZE) {
@@ -537,7 +667,7 @@ public class SpinedBuffer<E>
         public void forEach(final T_CONS consumer) {
             // completed chunks, if any
             for (int j = 0; j < spineIndex; j++) {
-                arrayForEach(spine[j], 0, arrayLength(spine[j]), consumer);
+                arrayForEach(spine[j], 0, chunkFill(j), consumer);
             }
 
             // current chunk
@@ -607,12 +737,10 @@ public class SpinedBuffer<E>
                         || ((splSpineIndex == lastSpineIndex) && (splElementIndex < lastSpineElementFence))) {
                     arrayForOne(splChunk, splElementIndex++, consumer);
 
-                    if (splElementIndex == arrayLength(splChunk)) {
+                    if ((splSpineIndex < lastSpineIndex) && (splElementIndex == chunkFill(splSpineIndex))) {
                         splElementIndex = 0;
                         ++splSpineIndex;
-                        if ((spine != null) && (splSpineIndex <= lastSpineIndex)) {
-                            splChunk = spine[splSpineIndex];
-                        }
+                        splChunk = spine[splSpineIndex];
                     }
                     return true;
                 }
@@ -628,8 +756,7 @@ public class SpinedBuffer<E>
                     int i = splElementIndex;
                     // completed chunks, if any
                     for (int sp = splSpineIndex; sp < lastSpineIndex; sp++) {
-                        final T_ARR chunk = spine[sp];
-                        arrayForEach(chunk, i, arrayLength(chunk), consumer);
+                        arrayForEach(spine[sp], i, chunkFill(sp), consumer);
                         i = 0;
                     }
                     // last (or current uncompleted) chunk
@@ -644,12 +771,20 @@ public class SpinedBuffer<E>
             @Override
             public T_SPLITR trySplit() {
                 if (splSpineIndex < lastSpineIndex) {
-                    // split just before last chunk (if it is full this means 50:50 split)
-                    final T_SPLITR ret = newSpliterator(splSpineIndex, lastSpineIndex - 1,
-                            splElementIndex, arrayLength(spine[lastSpineIndex - 1]));
-                    // position us to start of last chunk
-                    splSpineIndex = lastSpineIndex;
-                    splElementIndex = 0;
+                    // split at the middle value, which may lie in any chunk
+                    final long from = priorElementCount[splSpineIndex] + splElementIndex;
+                    final long middle = (from + priorElementCount[lastSpineIndex] + lastSpineElementFence) >>> 1;
+                    if (middle == from) {
+                        return null;
+                    }
+                    final int middleSpineIndex = chunkIndexOf(middle, splSpineIndex, lastSpineIndex);
+                    final int middleElementIndex = (int) (middle - priorElementCount[middleSpineIndex]);
+                    final T_SPLITR ret = (middleElementIndex == 0)
+                            ? newSpliterator(splSpineIndex, middleSpineIndex - 1, splElementIndex, chunkFill(middleSpineIndex - 1))
+                            : newSpliterator(splSpineIndex, middleSpineIndex, splElementIndex, middleElementIndex);
+                    // position us at the middle value
+                    splSpineIndex = middleSpineIndex;
+                    splElementIndex = middleElementIndex;
                     splChunk = spine[splSpineIndex];
                     return ret;
                 } else if (splSpineIndex == lastSpineIndex) {
@@ -677,10 +812,22 @@ public class SpinedBuffer<E>
         public OfInt() {
         }
 
-        OfInt(final int initialCapacity) {
+        public OfInt(final int initialCapacity) {
             super(initialCapacity);
         }
 
+        /**
+         * Move the values of the other buffer behind the values of this buffer
+         * without copying them. The other buffer is empty afterwards.
+         *
+         * @param other the buffer to move the values of
+         * @return this buffer
+         */
+        public OfInt appendAll(final OfInt other) {
+            appendChunksOf(other);
+            return this;
+        }
+
         @Override
         public void forEach(final Consumer<? super Integer> consumer) {
             if (consumer instanceof IntConsumer) {
@@ -787,10 +934,22 @@ public class SpinedBuffer<E>
         public OfLong() {
         }
 
-        OfLong(final int initialCapacity) {
+        public OfLong(final int initialCapacity) {
             super(initialCapacity);
         }
 
+        /**
+         * Move the values of the other buffer behind the values of this buffer
+         * without copying them. The other buffer is empty afterwards.
+         *
+         * @param other the buffer to move the values of
+         * @return this buffer
+         */
+        public OfLong appendAll(final OfLong other) {
+            appendChunksOf(other);
+            return this;
+        }
+
         @Override
         public void forEach(final Consumer<? super Long> consumer) {
             if (consumer instanceof LongConsumer) {
@@ -900,10 +1059,22 @@ public class SpinedBuffer<E>
         public OfDouble() {
         }
 
-        OfDouble(final int initialCapacity) {
+        public OfDouble(final int initialCapacity) {
             super(initialCapacity);
         }
 
+        /**
+         * Move the values of the other buffer behind the values of this buffer
+         * without copying them. The other buffer is empty afterwards.
+         *
+         * @param other the buffer to move the values of
+         * @return this buffer
+         */
+        public OfDouble appendAll(final OfDouble other) {
+            appendChunksOf(other);
+            return this;
+        }
+
         @Override
         public void forEach(final Consumer<? super Double> consumer) {
             if (consumer instanceof DoubleConsumer) {
@@ -1,6 +1,5 @@
 package org.hzt.utils.streams;
 
-import org.hzt.utils.iterables.Iterables;
 import org.hzt.utils.spined_buffers.SpinedBuffer;
 
 import java.util.Objects;
@@ -29,7 +28,7 @@ public interface StreamExtension<T, R> {
         return Collector.of(
                 SpinedBuffer<T>::new,
                 SpinedBuffer::accept,
-                Iterables::combine,
+                SpinedBuffer::appendAll,
                 buffer -> {
                     final Spliterator<T> spliterator = buffer.spliterator();
                     return extend(stream(() -> spliterator, spliterator.characteristics(), false)).collect(collector);
@@ -164,6 +164,26 @@ public interface StreamX<T> extends Stream<T>, Gatherable<T>, Sortable<T>, Numer
         return sorted(Comparator.comparing(selector));
     }
 
+    /**
+     * Sorts the elements by int keys that are computed once per element when the stream is consumed.
+     *
+     * @see Sortable#sortedByInt(ToIntFunction)
+     */
+    @Override
+    default StreamX<T> sortedByInt(final ToIntFunction<? super T> selector) {
+        return StreamX.of(StreamSupport.stream(() -> Sortable.super.sortedByInt(selector).spliterator(), Spliterator.ORDERED, isParallel()));
+    }
+
+    @Override
+    default StreamX<T> sortedByLong(final ToLongFunction<? super T> selector) {
+        return StreamX.of(StreamSupport.stream(() -> Sortable.super.sortedByLong(selector).spliterator(), Spliterator.ORDERED, isParallel()));
+    }
+
+    @Override
+    default StreamX<T> sortedByDouble(final ToDoubleFunction<? super T> selector) {
+        return StreamX.of(StreamSupport.stream(() -> Sortable.super.sortedByDouble(selector).spliterator(), Spliterator.ORDERED, isParallel()));
+    }
+
     @Override
     default StreamX<T> sortedDescending() {
         return sortedByDescending(IterableXHelper::asComparableOrThrow);
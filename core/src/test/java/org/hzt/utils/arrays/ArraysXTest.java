@@ -19,8 +19,12 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
 
 import static org.hzt.utils.It.println;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -51,9 +55,132 @@ class ArraysXTest {
         assertArrayEquals(expected, strings);
     }
 
+    @Test
+    void testSortByComputesEveryKeyOnceAndIsStable() {
+        final Integer[] values = new Random(7).ints(40_000, -1_000, 1_000).boxed().toArray(Integer[]::new);
+        final Integer[] expected = values.clone();
+        Arrays.sort(expected, Comparator.comparing(i -> Math.abs(i % 100)));
+        final Integer[] byInt = values.clone();
+        final Integer[] byLong = values.clone();
+        final Integer[] byDouble = values.clone();
+        final Integer[] byKey = values.clone();
+        final Integer[] small = Arrays.copyOf(values, 100);
+        final Integer[] expectedSmall = small.clone();
+        Arrays.sort(expectedSmall, Comparator.comparing(i -> Math.abs(i % 100)));
+        final AtomicInteger nrOfKeys = new AtomicInteger();
+
+        ArraysX.sortByInt(i -> Math.abs(i % 100), byInt);
+        ArraysX.sortByLong(i -> Math.abs(i % 100), byLong);
+        ArraysX.sortByDouble(i -> Math.abs(i % 100) / 3.0, byDouble);
+        ArraysX.sortBy(i -> {
+            nrOfKeys.incrementAndGet();
+            return "" + (char) ('a' + Math.abs(i % 100));
+        }, Comparator.naturalOrder(), byKey);
+        ArraysX.sortByInt(i -> Math.abs(i % 100), small);
+
+        assertAll(
+                () -> assertArrayEquals(expected, byInt),
+                () -> assertArrayEquals(expected, byLong),
+                () -> assertArrayEquals(expected, byDouble),
+                () -> assertArrayEquals(expected, byKey),
+                () -> assertArrayEquals(expectedSmall, small),
+                () -> assertEquals(values.length, nrOfKeys.get())
+        );
+    }
+
     @Nested
     class PrimitiveArraysTest {
 
+        @Test
+        void testParallelSortIsStableAndYieldsSameResultAsTimSort() {
+            final int[] array = new Random(1).ints(200_000, -1_000_000, 1_000_000).toArray();
+            final int[] expected = ArraysX.copyOf(array);
+            final int[] actual = ArraysX.copyOf(array);
+            final IntComparator byThousands = (i1, i2) -> Integer.compare(i1 / 1_000, i2 / 1_000);
+
+            ArraysX.sort(byThousands, expected);
+            final ForkJoinPool pool = new ForkJoinPool(4);
+            try {
+                IntParallelSort.sort(actual, 0, actual.length, byThousands, pool);
+            } finally {
+                pool.shutdown();
+            }
+
+            assertArrayEquals(expected, actual);
+        }
+
+        @Test
+        void testParallelSortOfRange() {
+            final long[] array = new Random(2).longs(100_000).toArray();
+            final long[] expected = ArraysX.copyOf(array);
+            final long[] actual = ArraysX.copyOf(array);
+
+            Arrays.sort(expected, 10, 90_000);
+            final ForkJoinPool pool = new ForkJoinPool(3);
+            try {
+                LongParallelSort.sort(actual, 10, 90_000, Long::compare, pool);
+            } finally {
+                pool.shutdown();
+            }
+
+            assertArrayEquals(expected, actual);
+        }
+
+        @Test
+        void testRadixSortYieldsSameResultAsArraysSort() {
+            final int[] ints = IntSequence.of(Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1, 1)
+                    .plus(new Random(4).ints(100_000).toArray())
+                    .toArray();
+            final long[] longs = LongSequence.of(Long.MIN_VALUE, Long.MAX_VALUE, 0, -1, 1)
+                    .plus(new Random(5).longs(100_000).toArray())
+                    .toArray();
+            final double[] doubles = DoubleSequence.of(Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.MIN_VALUE,
+                            Double.POSITIVE_INFINITY, -Double.MAX_VALUE)
+                    .plus(new Random(6).doubles(100_000, -1e9, 1e9).toArray())
+                    .toArray();
+
+            final int[] expectedInts = ArraysX.copyOf(ints);
+            final long[] expectedLongs = ArraysX.copyOf(longs);
+            final double[] expectedDoubles = ArraysX.copyOf(doubles);
+            Arrays.sort(expectedInts);
+            Arrays.sort(expectedLongs);
+            Arrays.sort(expectedDoubles);
+
+            ArraysX.radixSort(ints);
+            ArraysX.radixSort(longs);
+            ArraysX.radixSort(doubles);
+
+            assertAll(
+                    () -> assertArrayEquals(expectedInts, ints),
+                    () -> assertArrayEquals(expectedLongs, longs),
+                    () -> assertArrayEquals(expectedDoubles, doubles)
+            );
+        }
+
+        @Test
+        void testRadixSortByIsStable() {
+            final int[] array = new Random(7).ints(50_000, 0, 1_000_000).toArray();
+            final int[] expected = ArraysX.copyOf(array);
+            final IntUnaryOperator lastDigit = i -> i % 10;
+
+            ArraysX.sort(IntComparator.comparing(lastDigit), expected);
+            ArraysX.radixSortBy(lastDigit, array);
+
+            assertArrayEquals(expected, array);
+        }
+
+        @Test
+        void testParallelSortInCommonPool() {
+            final double[] array = new Random(3).doubles(50_000).toArray();
+            final double[] expected = ArraysX.copyOf(array);
+
+            Arrays.sort(expected);
+            ArraysX.reverse(expected);
+            ArraysX.parallelSort(DoubleComparator.reverseOrder(), array);
+
+            assertArrayEquals(expected, array);
+        }
+
         @Test
         void testIntTimSort() {
             final int[] array = Sequence.iterate(1_000, i -> --i)
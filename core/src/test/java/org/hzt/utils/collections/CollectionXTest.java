@@ -76,6 +76,15 @@ class CollectionXTest {
         assertEquals(ListX.of("a", "b", "c", "d", "e", "f", "g"), strings);
     }
 
+    @Test
+    void testMapMultiToInt() {
+        final ListX<String> input = ListX.of("a", "bc", "", "def");
+
+        final IntList lengths = input.mapMultiToInt((s, consumer) -> s.chars().forEach(consumer));
+
+        assertEquals(IntList.of('a', 'b', 'c', 'd', 'e', 'f'), lengths);
+    }
+
     @Test
     void testShuffled() {
         final ListX<Integer> integers = ListX.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
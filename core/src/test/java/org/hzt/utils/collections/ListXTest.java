@@ -24,6 +24,7 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Random;
 import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.collectingAndThen;
@@ -352,6 +353,28 @@ class ListXTest {
         }
     }
 
+    @Test
+    void testSortedByComputesEveryKeyOnce() {
+        final ListX<String> words = ListX.of("pear", "fig", "banana", "kiwi", "apple", "date", "plum", "cherry", "lime");
+        final AtomicInteger nrOfKeys = new AtomicInteger();
+
+        final ListX<String> sortedBy = words.sortedBy(s -> {
+            nrOfKeys.incrementAndGet();
+            return s.length();
+        });
+
+        assertAll(
+                () -> assertIterableEquals(ListX.of("fig", "pear", "kiwi", "date", "plum", "lime", "apple", "banana", "cherry"), sortedBy),
+                () -> assertEquals(words.size(), nrOfKeys.get()),
+                () -> assertIterableEquals(sortedBy, words.sortedByInt(String::length)),
+                () -> assertIterableEquals(sortedBy, words.sortedByLong(String::length)),
+                () -> assertIterableEquals(sortedBy, words.sortedByDouble(s -> s.length() / 2.0)),
+                () -> assertIterableEquals(ListX.of("banana", "cherry", "apple", "pear", "kiwi", "date", "plum", "lime", "fig"),
+                        words.sortedByDescending(String::length)),
+                () -> assertIterableEquals(ListX.of("apple", "banana", "cherry", "date", "fig", "kiwi", "lime", "pear", "plum"), words.sorted())
+        );
+    }
+
     private static int calculateProduct(final ListX<Integer> list) {
         return list.reduce((acc, i) -> acc * i).orElse(0);
     }
@@ -0,0 +1,46 @@
+package org.hzt.utils.collections.primitives;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BigDoubleListTest {
+
+    @Test
+    void testParallelSortOrdersNegativesZerosAndNaNLikeArraysSort() {
+        final double[] values = new Random(7).doubles(200_000, -1_000, 1_000).toArray();
+        values[3] = Double.NaN;
+        values[10] = -0.0;
+        values[100_000] = 0.0;
+        final BigDoubleList list = new BigDoubleList(10, values.length);
+        list.putAll(0, DoubleBuffer.wrap(values));
+
+        list.parallelSort();
+        Arrays.sort(values);
+
+        assertAll(
+                () -> assertArrayEquals(values, list.toArray()),
+                () -> assertTrue(Double.isNaN(list.get(list.size() - 1))),
+                () -> assertTrue(list.binarySearch(values[12_345]) >= 0)
+        );
+    }
+
+    @Test
+    void testSequenceViewOfBigDoubleList() {
+        final BigDoubleList list = BigDoubleList.of(1.5, 2.5, -4.0);
+        list.add(10.0);
+
+        assertAll(
+                () -> assertEquals(4L, list.size()),
+                () -> assertEquals(10.0, list.asSequence().sum()),
+                () -> assertEquals(-4.0, list.asSequence().min())
+        );
+    }
+}
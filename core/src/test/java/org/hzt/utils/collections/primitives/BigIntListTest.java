@@ -0,0 +1,134 @@
+package org.hzt.utils.collections.primitives;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BigIntListTest {
+
+    @Test
+    void testAddGetAndSetOverManyChunks() {
+        final BigIntList list = new BigIntList(4, 0);
+        IntStream.range(0, 1_000).forEach(list);
+        list.set(500, -1);
+
+        assertAll(
+                () -> assertEquals(1_000L, list.size()),
+                () -> assertEquals(0, list.get(0)),
+                () -> assertEquals(15, list.get(15)),
+                () -> assertEquals(16, list.get(16)),
+                () -> assertEquals(-1, list.get(500)),
+                () -> assertEquals(999, list.get(999)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> list.get(1_000)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> list.set(-1, 0))
+        );
+    }
+
+    @Test
+    void testParallelFillAndSetAllUseTheLongIndex() {
+        final BigIntList filled = new BigIntList(10, 300_000);
+        final BigIntList generated = new BigIntList(10, 300_000);
+
+        filled.parallelFill(7);
+        generated.parallelSetAll(index -> (int) (index % 1_000));
+
+        assertAll(
+                () -> assertEquals(7L * 300_000, filled.asSequence().sum()),
+                () -> assertEquals(0, generated.get(0)),
+                () -> assertEquals(999, generated.get(299_999)),
+                () -> assertEquals(123, generated.get(200_123)),
+                () -> assertArrayEquals(IntStream.range(0, 300_000).map(i -> i % 1_000).toArray(), generated.toArray())
+        );
+    }
+
+    @Test
+    void testSortAndParallelSortYieldSameOrderAsArraysSort() {
+        final int[] values = new Random(42).ints(500_000).toArray();
+        final BigIntList sequential = new BigIntList(12, values.length);
+        final BigIntList parallel = new BigIntList(12, values.length);
+        sequential.putAll(0, IntBuffer.wrap(values));
+        parallel.putAll(0, IntBuffer.wrap(values));
+
+        sequential.sort();
+        parallel.parallelSort();
+        Arrays.sort(values);
+
+        assertAll(
+                () -> assertArrayEquals(values, sequential.toArray()),
+                () -> assertArrayEquals(values, parallel.toArray())
+        );
+    }
+
+    @Test
+    void testBinarySearchReturnsIndexOrInsertionPoint() {
+        final BigIntList list = new BigIntList(4, 0);
+        IntStream.range(0, 100).map(i -> i * 2).forEach(list);
+
+        assertAll(
+                () -> assertEquals(0L, list.binarySearch(0)),
+                () -> assertEquals(37L, list.binarySearch(74)),
+                () -> assertEquals(-38L, list.binarySearch(73)),
+                () -> assertEquals(-1L, list.binarySearch(-5)),
+                () -> assertEquals(-101L, list.binarySearch(1_000))
+        );
+    }
+
+    @Test
+    void testSequenceViewAndParallelSequence() {
+        final BigIntList list = new BigIntList(8, 100_000);
+        list.parallelSetAll(index -> (int) index);
+
+        final long expected = IntStream.range(0, 100_000).asLongStream().sum();
+
+        assertAll(
+                () -> assertEquals(expected, list.asSequence().sum()),
+                () -> assertEquals(50_000L, list.asSequence().filter(i -> i % 2 == 0).count()),
+                () -> assertEquals(expected, StreamSupport.intStream(list.spliterator(), true).asLongStream().sum()),
+                () -> assertEquals(expected, list.asSequence().parallel().sum())
+        );
+    }
+
+    @Test
+    void testSpliteratorSplitsAtTheMiddleIndex() {
+        final BigIntList list = new BigIntList(4, 0);
+        IntStream.range(0, 1_000).forEach(list);
+
+        final Spliterator.OfInt suffix = list.spliterator();
+        final Spliterator.OfInt prefix = suffix.trySplit();
+        assertNotNull(prefix);
+
+        final int[] first = new int[1];
+        suffix.tryAdvance((int i) -> first[0] = i);
+
+        assertAll(
+                () -> assertEquals(500L, prefix.estimateSize()),
+                () -> assertEquals(499L, suffix.estimateSize()),
+                () -> assertEquals(500, first[0])
+        );
+    }
+
+    @Test
+    void testPutAllOutOfBoundsThrowsException() {
+        final BigIntList list = BigIntList.withSize(10);
+
+        assertAll(
+                () -> assertTrue(BigIntList.empty().isEmpty()),
+                () -> assertEquals(10L, list.putAll(5, IntBuffer.wrap(new int[]{1, 2, 3, 4, 5}))),
+                () -> assertEquals(5, list.get(9)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> list.putAll(6, IntBuffer.wrap(new int[5]))),
+                () -> assertThrows(IllegalArgumentException.class, () -> BigIntList.withSize(-1))
+        );
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DoubleMutableSetTest {
@@ -46,4 +47,19 @@ class DoubleMutableSetTest {
         );
     }
 
+    @Test
+    void testSignedZerosAndNaNFollowDoubleCompareEquality() {
+        final DoubleMutableSet set = DoubleMutableSet.of(0.0, -0.0, Double.NaN, 0.0 / 0.0, 1.0);
+
+        assertAll(
+                () -> assertEquals(4, set.size()),
+                () -> assertTrue(set.contains(0.0)),
+                () -> assertTrue(set.contains(-0.0)),
+                () -> assertTrue(set.contains(Double.NaN)),
+                () -> assertTrue(set.remove(0.0)),
+                () -> assertFalse(set.contains(0.0)),
+                () -> assertTrue(set.contains(-0.0))
+        );
+    }
+
 }
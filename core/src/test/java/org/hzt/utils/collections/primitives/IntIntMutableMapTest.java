@@ -0,0 +1,112 @@
+package org.hzt.utils.collections.primitives;
+
+import org.hzt.utils.collections.MapX;
+import org.hzt.utils.ranges.IntRange;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntIntMutableMapTest {
+
+    @Test
+    void testAddToCountsOccurrencesWithoutBoxing() {
+        final IntIntMutableMap counts = IntIntMutableMap.empty();
+        IntRange.of(0, 1_000).forEachInt(i -> counts.addTo(i % 10, 1));
+
+        assertAll(
+                () -> assertEquals(10, counts.size()),
+                () -> assertEquals(100, counts.get(0)),
+                () -> assertEquals(100, counts.get(9)),
+                () -> assertEquals(1_000L, counts.values().sum())
+        );
+    }
+
+    @Test
+    void testGetThrowsWhenKeyNotPresent() {
+        final IntIntMutableMap map = IntIntMutableMap.empty();
+        map.put(1, 2);
+
+        assertAll(
+                () -> assertThrows(NoSuchElementException.class, () -> map.get(2)),
+                () -> assertThrows(NoSuchElementException.class, () -> map.get(0)),
+                () -> assertEquals(-1, map.getOrDefault(2, -1))
+        );
+    }
+
+    @Test
+    void testZeroKeyIsStoredNextToTheTable() {
+        final IntIntMutableMap map = IntIntMutableMap.empty();
+        map.put(0, 5);
+        map.merge(0, 3, Integer::sum);
+
+        assertAll(
+                () -> assertTrue(map.containsKey(0)),
+                () -> assertEquals(8, map.get(0)),
+                () -> assertEquals(1, map.size()),
+                () -> assertTrue(map.remove(0)),
+                () -> assertFalse(map.containsKey(0)),
+                () -> assertTrue(map.isEmpty())
+        );
+    }
+
+    @Test
+    void testComputeIfAbsentOnlyComputesWhenAbsent() {
+        final IntIntMutableMap map = IntIntMutableMap.empty();
+        map.computeIfAbsent(3, k -> k * k);
+        final int value = map.computeIfAbsent(3, k -> -1);
+
+        assertEquals(9, value);
+    }
+
+    @Test
+    void testRandomOperationsBehaveLikeHashMap() {
+        final Random random = new Random(1);
+        final IntIntMutableMap map = IntIntMutableMap.empty();
+        final Map<Integer, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 200_000; i++) {
+            final int key = random.nextInt(5_000) - 2_500;
+            final int value = random.nextInt(100);
+            switch (random.nextInt(3)) {
+                case 0:
+                    map.put(key, value);
+                    expected.put(key, value);
+                    break;
+                case 1:
+                    map.addTo(key, value);
+                    expected.merge(key, value, Integer::sum);
+                    break;
+                default:
+                    assertEquals(expected.remove(key) != null, map.remove(key));
+            }
+        }
+        assertAll(
+                () -> assertEquals(expected.size(), map.size()),
+                () -> assertEquals(MapX.of(expected), map.boxed()),
+                () -> assertTrue(IntRange.of(-2_500, 2_500)
+                        .all(key -> map.getOrDefault(key, -1) == expected.getOrDefault(key, -1)))
+        );
+    }
+
+    @Test
+    void testEqualMapsHaveEqualHashCodes() {
+        final IntIntMutableMap map1 = IntIntMutableMap.empty();
+        final IntIntMutableMap map2 = IntIntMutableMap.withInitCapacity(100);
+        IntRange.of(0, 50).forEachInt(i -> map1.put(i, i * 2));
+        IntRange.of(0, 50).sortedDescending().forEachInt(i -> map2.put(i, i * 2));
+
+        assertAll(
+                () -> assertEquals(map1, map2),
+                () -> assertEquals(map1.hashCode(), map2.hashCode()),
+                () -> assertEquals(map1.boxed().hashCode(), map1.hashCode())
+        );
+    }
+}
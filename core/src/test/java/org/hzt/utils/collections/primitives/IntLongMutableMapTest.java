@@ -0,0 +1,142 @@
+package org.hzt.utils.collections.primitives;
+
+import org.hzt.utils.collections.MapX;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntLongMutableMapTest {
+
+    @Test
+    void testPutGetAndAddTo() {
+        final IntLongMutableMap map = IntLongMutableMap.empty();
+        map.put(1, 3L);
+        map.put(2, 4L);
+        map.put(1, 5L);
+        map.addTo(2, 1L);
+        map.addTo(7, 2L);
+
+        assertAll(
+                () -> assertEquals(3, map.size()),
+                () -> assertEquals(5L, map.get(1)),
+                () -> assertEquals(5L, map.get(2)),
+                () -> assertEquals(2L, map.get(7)),
+                () -> assertThrows(NoSuchElementException.class, () -> map.get(3)),
+                () -> assertEquals(-1L, map.getOrDefault(3, -1L)),
+                () -> assertEquals(3L, map.computeIfAbsent(3, k -> 3L)),
+                () -> assertEquals(3L, map.computeIfAbsent(3, k -> -1L)),
+                () -> assertEquals(4L, map.merge(7, 2L, Long::sum))
+        );
+    }
+
+    @Test
+    void testZeroKeyIsStoredNextToTheTable() {
+        final IntLongMutableMap map = IntLongMutableMap.empty();
+        map.put(0, 5L);
+        map.merge(0, 3L, Long::sum);
+
+        assertAll(
+                () -> assertTrue(map.containsKey(0)),
+                () -> assertEquals(8L, map.get(0)),
+                () -> assertEquals(1, map.size()),
+                () -> assertEquals(1L, map.keys().count()),
+                () -> assertTrue(map.remove(0)),
+                () -> assertFalse(map.remove(0)),
+                () -> assertFalse(map.containsKey(0)),
+                () -> assertTrue(map.isEmpty())
+        );
+    }
+
+    @Test
+    void testRemoveShiftsBackCollidingKeysAroundTheEndOfTheTable() {
+        final IntLongHashMap map = new IntLongHashMap(8);
+        final int mask = map.capacity() - 1;
+        final int[] colliding = keysWithHomeSlot(mask, mask, 3);
+        final int atStart = keysWithHomeSlot(0, mask, 1)[0];
+        for (final int key : colliding) {
+            map.put(key, key);
+        }
+        map.put(atStart, atStart);
+
+        final boolean removed = map.remove(colliding[0]);
+
+        assertAll(
+                () -> assertTrue(removed),
+                () -> assertFalse(map.containsKey(colliding[0])),
+                () -> assertEquals(colliding[1], map.get(colliding[1])),
+                () -> assertEquals(colliding[2], map.get(colliding[2])),
+                () -> assertEquals(atStart, map.get(atStart)),
+                () -> assertEquals(3, map.size())
+        );
+    }
+
+    @Test
+    void testTableGrowsAndShrinks() {
+        final IntLongHashMap map = new IntLongHashMap();
+        final int initialCapacity = map.capacity();
+        for (int i = 1; i <= 10_000; i++) {
+            map.put(i, i);
+        }
+        final int grownCapacity = map.capacity();
+        for (int i = 1; i <= 9_990; i++) {
+            map.remove(i);
+        }
+
+        assertAll(
+                () -> assertTrue(grownCapacity >= 10_000 / 0.75),
+                () -> assertTrue(map.capacity() < grownCapacity),
+                () -> assertTrue(map.capacity() >= initialCapacity),
+                () -> assertEquals(10, map.size()),
+                () -> assertEquals(9_995, map.get(9_995)),
+                () -> assertFalse(map.containsKey(5))
+        );
+    }
+
+    @Test
+    void testRandomOperationsBehaveLikeHashMap() {
+        final Random random = new Random(1);
+        final IntLongMutableMap map = IntLongMutableMap.withInitCapacity(4);
+        final Map<Integer, Long> expected = new HashMap<>();
+        for (int i = 0; i < 200_000; i++) {
+            final int key = random.nextInt(5_000) - 2_500;
+            final long value = random.nextInt(100);
+            switch (random.nextInt(3)) {
+                case 0:
+                    map.put(key, value);
+                    expected.put(key, value);
+                    break;
+                case 1:
+                    map.addTo(key, value);
+                    expected.merge(key, value, Long::sum);
+                    break;
+                default:
+                    assertEquals(expected.remove(key) != null, map.remove(key));
+            }
+        }
+        assertAll(
+                () -> assertEquals(expected.size(), map.size()),
+                () -> assertEquals(MapX.of(expected), map.boxed()),
+                () -> assertEquals(MapX.of(expected).hashCode(), map.hashCode())
+        );
+    }
+
+    private static int[] keysWithHomeSlot(final int homeSlot, final int mask, final int count) {
+        final int[] keys = new int[count];
+        int found = 0;
+        for (int key = 1; found < count; key++) {
+            if ((PrimitiveHashHelper.mix(key) & mask) == homeSlot) {
+                keys[found++] = key;
+            }
+        }
+        return keys;
+    }
+}
@@ -4,11 +4,15 @@ import org.hzt.utils.numbers.IntX;
 import org.hzt.utils.ranges.IntRange;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
 import java.util.NoSuchElementException;
 import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -56,4 +60,52 @@ class IntMutableSetTest {
         assertThrows(NoSuchElementException.class, iterator::nextInt);
     }
 
+    @Test
+    void testZeroValueIsStoredNextToTheTable() {
+        final IntMutableSet set = IntMutableSet.of(0, 1, 0, -1);
+
+        assertAll(
+                () -> assertEquals(3, set.size()),
+                () -> assertTrue(set.contains(0)),
+                () -> assertTrue(set.remove(0)),
+                () -> assertFalse(set.contains(0)),
+                () -> assertFalse(set.remove(0)),
+                () -> assertEquals(2, set.size())
+        );
+    }
+
+    @Test
+    void testRandomAddAndRemoveBehavesLikeHashSet() {
+        final Random random = new Random(0);
+        final IntMutableSet set = IntMutableSet.empty();
+        final Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 200_000; i++) {
+            final int value = random.nextInt(10_000) - 5_000;
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(value), set.add(value));
+            } else {
+                assertEquals(expected.remove(value), set.remove(value));
+            }
+        }
+        assertAll(
+                () -> assertEquals(expected.size(), set.size()),
+                () -> assertEquals(expected, set.boxed().toSet()),
+                () -> assertTrue(IntRange.of(-5_000, 5_000).all(i -> set.contains(i) == expected.contains(i)))
+        );
+    }
+
+    @Test
+    void testRemoveIfRemovesAllMatchingValues() {
+        final IntMutableSet set = IntMutableSet.empty();
+        set.addAll(IntRange.of(-1_000, 1_000));
+
+        final boolean removed = set.removeIf(IntX::isEven);
+
+        assertAll(
+                () -> assertTrue(removed),
+                () -> assertEquals(1_000, set.size()),
+                () -> assertTrue(set.asSequence().all(IntX::isOdd))
+        );
+    }
+
 }
@@ -0,0 +1,40 @@
+package org.hzt.utils.collections.primitives;
+
+import org.hzt.utils.ranges.IntRange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class IntObjMutableMapTest {
+
+    @Test
+    void testComputeIfAbsentGroupsValuesByKey() {
+        final IntObjMutableMap<IntMutableList> groups = IntObjMutableMap.empty();
+        IntRange.of(0, 100).forEachInt(i -> groups.computeIfAbsent(i % 3, k -> IntMutableList.empty()).add(i));
+
+        assertAll(
+                () -> assertEquals(3, groups.size()),
+                () -> assertEquals(34, groups.get(0).size()),
+                () -> assertEquals(33, groups.get(2).size()),
+                () -> assertNull(groups.get(3))
+        );
+    }
+
+    @Test
+    void testMergeRemovesMappingWhenRemappingFunctionReturnsNull() {
+        final IntObjMutableMap<String> map = IntObjMutableMap.empty();
+        map.put(1, "a");
+        map.merge(1, "b", String::concat);
+        map.put(2, "c");
+        map.merge(2, "d", (s1, s2) -> null);
+
+        assertAll(
+                () -> assertEquals("ab", map.get(1)),
+                () -> assertFalse(map.containsKey(2)),
+                () -> assertEquals(1, map.size())
+        );
+    }
+}
@@ -0,0 +1,142 @@
+package org.hzt.utils.collections.primitives;
+
+import org.hzt.utils.collections.MapX;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongLongMutableMapTest {
+
+    @Test
+    void testPutGetAndAddTo() {
+        final LongLongMutableMap map = LongLongMutableMap.empty();
+        map.put(1L, 3L);
+        map.put(2L, 4L);
+        map.put(1L, 5L);
+        map.addTo(2L, 1L);
+        map.addTo(7L, 2L);
+
+        assertAll(
+                () -> assertEquals(3, map.size()),
+                () -> assertEquals(5L, map.get(1L)),
+                () -> assertEquals(5L, map.get(2L)),
+                () -> assertEquals(2L, map.get(7L)),
+                () -> assertThrows(NoSuchElementException.class, () -> map.get(3L)),
+                () -> assertEquals(-1L, map.getOrDefault(3L, -1L)),
+                () -> assertEquals(3L, map.computeIfAbsent(3L, k -> 3L)),
+                () -> assertEquals(3L, map.computeIfAbsent(3L, k -> -1L)),
+                () -> assertEquals(4L, map.merge(7L, 2L, Long::sum))
+        );
+    }
+
+    @Test
+    void testZeroKeyIsStoredNextToTheTable() {
+        final LongLongMutableMap map = LongLongMutableMap.empty();
+        map.put(0L, 5L);
+        map.merge(0L, 3L, Long::sum);
+
+        assertAll(
+                () -> assertTrue(map.containsKey(0L)),
+                () -> assertEquals(8L, map.get(0L)),
+                () -> assertEquals(1, map.size()),
+                () -> assertEquals(1L, map.keys().count()),
+                () -> assertTrue(map.remove(0L)),
+                () -> assertFalse(map.remove(0L)),
+                () -> assertFalse(map.containsKey(0L)),
+                () -> assertTrue(map.isEmpty())
+        );
+    }
+
+    @Test
+    void testRemoveShiftsBackCollidingKeysAroundTheEndOfTheTable() {
+        final LongLongHashMap map = new LongLongHashMap(8);
+        final int mask = map.capacity() - 1;
+        final long[] colliding = keysWithHomeSlot(mask, mask, 3);
+        final long atStart = keysWithHomeSlot(0, mask, 1)[0];
+        for (final long key : colliding) {
+            map.put(key, key);
+        }
+        map.put(atStart, atStart);
+
+        final boolean removed = map.remove(colliding[0]);
+
+        assertAll(
+                () -> assertTrue(removed),
+                () -> assertFalse(map.containsKey(colliding[0])),
+                () -> assertEquals(colliding[1], map.get(colliding[1])),
+                () -> assertEquals(colliding[2], map.get(colliding[2])),
+                () -> assertEquals(atStart, map.get(atStart)),
+                () -> assertEquals(3, map.size())
+        );
+    }
+
+    @Test
+    void testTableGrowsAndShrinks() {
+        final LongLongHashMap map = new LongLongHashMap();
+        final int initialCapacity = map.capacity();
+        for (int i = 1; i <= 10_000; i++) {
+            map.put(i, i);
+        }
+        final int grownCapacity = map.capacity();
+        for (int i = 1; i <= 9_990; i++) {
+            map.remove(i);
+        }
+
+        assertAll(
+                () -> assertTrue(grownCapacity >= 10_000 / 0.75),
+                () -> assertTrue(map.capacity() < grownCapacity),
+                () -> assertTrue(map.capacity() >= initialCapacity),
+                () -> assertEquals(10, map.size()),
+                () -> assertEquals(9_995, map.get(9_995)),
+                () -> assertFalse(map.containsKey(5))
+        );
+    }
+
+    @Test
+    void testRandomOperationsBehaveLikeHashMap() {
+        final Random random = new Random(1);
+        final LongLongMutableMap map = LongLongMutableMap.withInitCapacity(4);
+        final Map<Long, Long> expected = new HashMap<>();
+        for (int i = 0; i < 200_000; i++) {
+            final long key = (random.nextInt(5_000) - 2_500) * 1_000_000_007L;
+            final long value = random.nextInt(100);
+            switch (random.nextInt(3)) {
+                case 0:
+                    map.put(key, value);
+                    expected.put(key, value);
+                    break;
+                case 1:
+                    map.addTo(key, value);
+                    expected.merge(key, value, Long::sum);
+                    break;
+                default:
+                    assertEquals(expected.remove(key) != null, map.remove(key));
+            }
+        }
+        assertAll(
+                () -> assertEquals(expected.size(), map.size()),
+                () -> assertEquals(MapX.of(expected), map.boxed()),
+                () -> assertEquals(MapX.of(expected).hashCode(), map.hashCode())
+        );
+    }
+
+    private static long[] keysWithHomeSlot(final int homeSlot, final int mask, final int count) {
+        final long[] keys = new long[count];
+        int found = 0;
+        for (long key = 1; found < count; key++) {
+            if ((PrimitiveHashHelper.mix(key) & mask) == homeSlot) {
+                keys[found++] = key;
+            }
+        }
+        return keys;
+    }
+}
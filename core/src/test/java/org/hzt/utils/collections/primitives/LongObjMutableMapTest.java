@@ -0,0 +1,151 @@
+package org.hzt.utils.collections.primitives;
+
+import org.hzt.utils.collections.MapX;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LongObjMutableMapTest {
+
+    @Test
+    void testPutGetAndComputeIfAbsent() {
+        final LongObjMutableMap<String> map = LongObjMutableMap.empty();
+        map.put(1L, "one");
+        map.put(2L, "two");
+        map.put(1L, "uno");
+
+        assertAll(
+                () -> assertEquals(2, map.size()),
+                () -> assertEquals("uno", map.get(1L)),
+                () -> assertNull(map.get(3L)),
+                () -> assertEquals("none", map.getOrDefault(3L, "none")),
+                () -> assertEquals("3", map.computeIfAbsent(3L, Long::toString)),
+                () -> assertEquals("3", map.computeIfAbsent(3L, k -> "other")),
+                () -> assertEquals("twotwo", map.merge(2L, "two", String::concat))
+        );
+    }
+
+    @Test
+    void testMergeRemovesTheMappingWhenTheRemappingFunctionReturnsNull() {
+        final LongObjMutableMap<String> map = LongObjMutableMap.empty();
+        map.put(5L, "five");
+
+        final String merged = map.merge(5L, "ignored", (oldValue, value) -> null);
+
+        assertAll(
+                () -> assertNull(merged),
+                () -> assertFalse(map.containsKey(5L)),
+                () -> assertTrue(map.isEmpty())
+        );
+    }
+
+    @Test
+    void testZeroKeyIsStoredNextToTheTable() {
+        final LongObjMutableMap<String> map = LongObjMutableMap.empty();
+        map.put(0L, "zero");
+        map.merge(0L, "!", String::concat);
+
+        assertAll(
+                () -> assertTrue(map.containsKey(0L)),
+                () -> assertEquals("zero!", map.get(0L)),
+                () -> assertEquals(1, map.size()),
+                () -> assertEquals(1L, map.keys().count()),
+                () -> assertTrue(map.remove(0L)),
+                () -> assertFalse(map.remove(0L)),
+                () -> assertNull(map.get(0L)),
+                () -> assertTrue(map.isEmpty())
+        );
+    }
+
+    @Test
+    void testRemoveShiftsBackCollidingKeysAroundTheEndOfTheTable() {
+        final LongObjHashMap<String> map = new LongObjHashMap<>(8);
+        final int mask = map.capacity() - 1;
+        final long[] colliding = keysWithHomeSlot(mask, mask, 3);
+        final long atStart = keysWithHomeSlot(0, mask, 1)[0];
+        for (final long key : colliding) {
+            map.put(key, Long.toString(key));
+        }
+        map.put(atStart, Long.toString(atStart));
+
+        final boolean removed = map.remove(colliding[0]);
+
+        assertAll(
+                () -> assertTrue(removed),
+                () -> assertFalse(map.containsKey(colliding[0])),
+                () -> assertEquals(Long.toString(colliding[1]), map.get(colliding[1])),
+                () -> assertEquals(Long.toString(colliding[2]), map.get(colliding[2])),
+                () -> assertEquals(Long.toString(atStart), map.get(atStart)),
+                () -> assertEquals(3, map.size())
+        );
+    }
+
+    @Test
+    void testTableGrowsAndShrinks() {
+        final LongObjHashMap<String> map = new LongObjHashMap<>();
+        final int initialCapacity = map.capacity();
+        for (long i = 1; i <= 10_000; i++) {
+            map.put(i, Long.toString(i));
+        }
+        final int grownCapacity = map.capacity();
+        for (long i = 1; i <= 9_990; i++) {
+            map.remove(i);
+        }
+
+        assertAll(
+                () -> assertTrue(grownCapacity >= 10_000 / 0.75),
+                () -> assertTrue(map.capacity() < grownCapacity),
+                () -> assertTrue(map.capacity() >= initialCapacity),
+                () -> assertEquals(10, map.size()),
+                () -> assertEquals("9995", map.get(9_995L)),
+                () -> assertFalse(map.containsKey(5L))
+        );
+    }
+
+    @Test
+    void testRandomOperationsBehaveLikeHashMap() {
+        final Random random = new Random(1);
+        final LongObjMutableMap<Integer> map = LongObjMutableMap.withInitCapacity(4);
+        final Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 200_000; i++) {
+            final long key = (random.nextInt(5_000) - 2_500) * 1_000_000_007L;
+            final int value = random.nextInt(100);
+            switch (random.nextInt(3)) {
+                case 0:
+                    map.put(key, value);
+                    expected.put(key, value);
+                    break;
+                case 1:
+                    map.merge(key, value, Integer::sum);
+                    expected.merge(key, value, Integer::sum);
+                    break;
+                default:
+                    assertEquals(expected.remove(key) != null, map.remove(key));
+            }
+        }
+        assertAll(
+                () -> assertEquals(expected.size(), map.size()),
+                () -> assertEquals(MapX.of(expected), map.boxed()),
+                () -> assertEquals(MapX.of(expected).hashCode(), map.hashCode())
+        );
+    }
+
+    private static long[] keysWithHomeSlot(final int homeSlot, final int mask, final int count) {
+        final long[] keys = new long[count];
+        int found = 0;
+        for (long key = 1; found < count; key++) {
+            if ((PrimitiveHashHelper.mix(key) & mask) == homeSlot) {
+                keys[found++] = key;
+            }
+        }
+        return keys;
+    }
+}
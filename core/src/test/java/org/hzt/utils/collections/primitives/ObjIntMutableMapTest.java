@@ -0,0 +1,46 @@
+package org.hzt.utils.collections.primitives;
+
+import org.hzt.utils.sequences.Sequence;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ObjIntMutableMapTest {
+
+    @Test
+    void testCountWordsByAddTo() {
+        final List<String> words = List.of("a", "b", "a", "c", "b", "a");
+        final ObjIntMutableMap<String> counts = ObjIntMutableMap.empty();
+        words.forEach(word -> counts.addTo(word, 1));
+
+        assertAll(
+                () -> assertEquals(3, counts.size()),
+                () -> assertEquals(3, counts.get("a")),
+                () -> assertEquals(2, counts.get("b")),
+                () -> assertEquals(1, counts.get("c")),
+                () -> assertEquals(0, counts.getOrDefault("d", 0)),
+                () -> assertEquals(Sequence.of("a", "b", "c").toSet(), counts.keys().toSet())
+        );
+    }
+
+    @Test
+    void testNullKeyIsSupported() {
+        final ObjIntMutableMap<String> map = ObjIntMutableMap.empty();
+        map.put(null, 1);
+        map.put("x", 2);
+
+        assertAll(
+                () -> assertTrue(map.containsKey(null)),
+                () -> assertEquals(1, map.get(null)),
+                () -> assertEquals("{null=1, x=2}", map.toString()),
+                () -> assertTrue(map.remove(null)),
+                () -> assertFalse(map.containsKey(null)),
+                () -> assertEquals(1, map.size())
+        );
+    }
+}
@@ -2,16 +2,30 @@ package org.hzt.utils.io;
 
 import org.hzt.utils.It;
 import org.hzt.utils.collections.ListX;
+import org.hzt.utils.collections.primitives.BigIntList;
+import org.hzt.utils.collections.primitives.BigLongList;
 import org.hzt.utils.collections.primitives.IntList;
+import org.hzt.utils.ranges.IntRange;
 import org.hzt.utils.sequences.Sequence;
 import org.hzt.utils.strings.StringX;
 import org.junit.jupiter.api.Test;
-
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class FileXTest {
 
@@ -69,4 +83,99 @@ class FileXTest {
 
         assertEquals(1748, result);
     }
+
+    @Test
+    void testMappedLinesYieldSameLinesAsReadLines(@TempDir final Path directory) throws IOException {
+        final Path path = directory.resolve("lines.txt");
+        Files.write(path, "first\r\n\nthird line\nlast without new line".getBytes(StandardCharsets.UTF_8));
+        final FileX file = FileX.of(path);
+
+        final ListX<String> lines = file.useMappedLines(sequence -> sequence.map(ByteLine::toString).toListX());
+
+        assertIterableEquals(file.readLines(), lines);
+    }
+
+    @Test
+    void testMappedLineViewsAreNotDecoded(@TempDir final Path directory) throws IOException {
+        final Path path = directory.resolve("numbers.txt");
+        Files.write(path, "12\n-3\n40\n".getBytes(StandardCharsets.UTF_8));
+
+        final long sum = FileX.of(path).useMappedLines(lines -> lines.mapToLong(ByteLine::parseLong).sum());
+        final ListX<ByteLine> views = FileX.of(path).useMappedLines(Sequence::toListX);
+
+        assertAll(
+                () -> assertEquals(49, sum),
+                () -> assertEquals(3, views.size()),
+                () -> assertEquals('-', views.get(1).charAt(0)),
+                () -> assertEquals("0", views.get(2).subSequence(1, 2).toString())
+        );
+    }
+
+    @Test
+    void testLinesAreNotSplitAtSegmentBoundaries(@TempDir final Path directory) throws IOException {
+        final Path path = directory.resolve("segments.txt");
+        Files.write(path, IntRange.of(0, 1_000).mapToObj(Integer::toString).toListX());
+
+        try (final FileChannel channel = FileChannel.open(path)) {
+            final MappedLineIterator iterator = new MappedLineIterator(channel, 0, channel.size(), 16);
+            final ListX<Integer> numbers = Sequence.of(() -> iterator).map(ByteLine::parseInt).toListX();
+
+            assertIterableEquals(IntRange.of(0, 1_000).boxed().toListX(), numbers);
+        }
+    }
+
+    @Test
+    void testLineLongerThanSegmentThrowsException(@TempDir final Path directory) throws IOException {
+        final Path path = directory.resolve("long-line.txt");
+        Files.write(path, "a line longer than the segment\nshort".getBytes(StandardCharsets.UTF_8));
+
+        try (final FileChannel channel = FileChannel.open(path)) {
+            final MappedLineIterator iterator = new MappedLineIterator(channel, 0, channel.size(), 8);
+
+            assertThrows(IllegalStateException.class, iterator::next);
+        }
+    }
+
+    @Test
+    void testMappedLinesInParallelAreSplitAtLineBoundaries(@TempDir final Path directory) throws IOException {
+        final Path path = directory.resolve("parallel.txt");
+        Files.write(path, IntRange.of(0, 100_000).mapToObj(Integer::toString).toListX());
+        final FileX file = FileX.of(path);
+
+        final int nrOfChunks = file.useMappedLinesInParallel(lines -> lines.evaluateChunks(chunk -> 1, Integer::sum));
+        final long sum = file.useMappedLinesInParallel(lines -> lines.mapToLong(ByteLine::parseLong).sum());
+        final ListX<Integer> numbers = file.useMappedLinesInParallel(lines -> lines.map(ByteLine::parseInt).toListX());
+
+        assertAll(
+                () -> assertTrue(nrOfChunks > 1),
+                () -> assertEquals(4_999_950_000L, sum),
+                () -> assertIterableEquals(IntRange.of(0, 100_000).boxed().toListX(), numbers)
+        );
+    }
+
+    @Test
+    void testReadPrimitivesIntoBigLists(@TempDir final Path directory) throws IOException {
+        final Path ints = directory.resolve("ints.bin");
+        final Path longs = directory.resolve("longs.bin");
+        final ByteBuffer intBytes = ByteBuffer.allocate(1_000 * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        final ByteBuffer longBytes = ByteBuffer.allocate(1_000 * Long.BYTES);
+        for (int i = 0; i < 1_000; i++) {
+            intBytes.putInt(i - 500);
+            longBytes.putLong(i * 1_000_000_000L);
+        }
+        Files.write(ints, intBytes.array());
+        Files.write(longs, longBytes.array());
+        final Path odd = directory.resolve("odd.bin");
+        Files.write(odd, new byte[10]);
+
+        final BigIntList intList = FileX.of(ints).readInts(ByteOrder.LITTLE_ENDIAN);
+        final BigLongList longList = FileX.of(longs).readLongs(ByteOrder.BIG_ENDIAN);
+
+        assertAll(
+                () -> assertArrayEquals(IntRange.of(-500, 500).toArray(), intList.toArray()),
+                () -> assertEquals(999_000_000_000L, longList.get(999)),
+                () -> assertEquals(1_000L, longList.size()),
+                () -> assertThrows(IllegalStateException.class, () -> FileX.of(odd).readLongs(ByteOrder.BIG_ENDIAN))
+        );
+    }
 }
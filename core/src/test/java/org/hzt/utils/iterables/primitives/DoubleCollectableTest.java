@@ -6,10 +6,9 @@ import org.hzt.utils.numbers.DoubleX;
 import org.hzt.utils.sequences.primitives.DoubleSequence;
 import org.junit.jupiter.api.Test;
 
-import java.util.Locale;
-
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DoubleCollectableTest {
 
@@ -22,11 +21,9 @@ class DoubleCollectableTest {
 
         doubles.forEachDouble(It::println);
 
-        final String actual = DoubleX.toRoundedString(doubles.last(), 5, Locale.ENGLISH);
-
         assertAll(
                 () -> assertEquals(12, doubles.size()),
-                () -> assertEquals("1.61803", actual)
+                () -> assertTrue(doubles.contains(DoubleX.GOLDEN_RATIO))
         );
     }
 }
@@ -2,9 +2,13 @@ package org.hzt.utils.iterables.primitives;
 
 import org.hzt.utils.collections.MapX;
 import org.hzt.utils.collections.primitives.DoubleMutableList;
+import org.hzt.utils.collections.primitives.IntDoubleMap;
+import org.hzt.utils.collections.primitives.IntLongMap;
+import org.hzt.utils.collections.primitives.IntObjMap;
 import org.hzt.utils.ranges.DoubleRange;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class DoubleGroupableTest {
@@ -20,4 +24,25 @@ class DoubleGroupableTest {
 
         assertEquals(4, maxSize);
     }
+
+    @Test
+    void testCountByAndAggregatesPerBucket() {
+        final DoubleRange range = DoubleRange.closed(0, 9.5, 0.5);
+
+        final IntLongMap counts = range.countBy(x -> (int) x);
+        final IntDoubleMap sums = range.sumBy(x -> (int) x);
+        final IntDoubleMap mins = range.minBy(x -> (int) x / 5);
+        final IntDoubleMap maxs = range.maxBy(x -> (int) x / 5);
+        final IntObjMap<DoubleMutableList> groups = range.groupingBy(x -> (int) x);
+
+        assertAll(
+                () -> assertEquals(10, counts.size()),
+                () -> assertEquals(2L, counts.get(3)),
+                () -> assertEquals(6.5, sums.get(3)),
+                () -> assertEquals(0.0, mins.get(0)),
+                () -> assertEquals(5.0, mins.get(1)),
+                () -> assertEquals(9.5, maxs.get(1)),
+                () -> assertEquals(DoubleMutableList.of(4.0, 4.5), groups.get(4))
+        );
+    }
 }
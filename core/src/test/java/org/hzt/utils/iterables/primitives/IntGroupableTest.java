@@ -0,0 +1,81 @@
+package org.hzt.utils.iterables.primitives;
+
+import org.hzt.utils.collections.MutableMapX;
+import org.hzt.utils.collections.primitives.IntIntMap;
+import org.hzt.utils.collections.primitives.IntLongMap;
+import org.hzt.utils.collections.primitives.IntMutableList;
+import org.hzt.utils.collections.primitives.IntObjMap;
+import org.hzt.utils.collections.primitives.LongLongMap;
+import org.hzt.utils.collections.primitives.LongObjMap;
+import org.hzt.utils.collections.primitives.LongMutableList;
+import org.hzt.utils.ranges.IntRange;
+import org.hzt.utils.ranges.LongRange;
+import org.hzt.utils.sequences.primitives.IntSequence;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+
+class IntGroupableTest {
+
+    @Test
+    void testCountByYieldsSameHistogramAsBoxedGrouping() {
+        final int[] ints = new Random(0).ints(10_000, -1_000, 1_000).toArray();
+
+        final IntLongMap counts = IntSequence.of(ints).countBy(i -> i % 7);
+        final Map<Integer, Long> expected = IntStream.of(ints).boxed()
+                .collect(Collectors.groupingBy(i -> i % 7, Collectors.counting()));
+
+        assertEquals(counts.boxed(), MutableMapX.ofMap(expected));
+    }
+
+    @Test
+    void testSumMinAndMaxBy() {
+        final IntRange range = IntRange.closed(1, 10);
+
+        final IntLongMap sums = range.sumBy(i -> i % 2);
+        final IntIntMap mins = range.minBy(i -> i % 3);
+        final IntIntMap maxs = range.maxBy(i -> i % 3);
+
+        assertAll(
+                () -> assertEquals(25L, sums.get(1)),
+                () -> assertEquals(30L, sums.get(0)),
+                () -> assertEquals(3, mins.get(0)),
+                () -> assertEquals(1, mins.get(1)),
+                () -> assertEquals(9, maxs.get(0)),
+                () -> assertEquals(8, maxs.get(2))
+        );
+    }
+
+    @Test
+    void testGroupingByKeepsEncounterOrderPerGroup() {
+        final IntObjMap<IntMutableList> groups = IntRange.of(0, 20).groupingBy(i -> i % 5);
+
+        assertAll(
+                () -> assertEquals(5, groups.size()),
+                () -> assertIterableEquals(IntMutableList.of(3, 8, 13, 18), groups.get(3)),
+                () -> assertEquals(groups.boxed(), IntRange.of(0, 20).groupBy(i -> i % 5))
+        );
+    }
+
+    @Test
+    void testLongCountByAndGroupingBy() {
+        final LongRange range = LongRange.of(0, 1_000);
+
+        final LongLongMap counts = range.countBy(l -> l / 100);
+        final LongObjMap<LongMutableList> groups = range.groupingBy(l -> l % 3);
+
+        assertAll(
+                () -> assertEquals(10, counts.size()),
+                () -> assertEquals(10, counts.values().filter(count -> count == 100).count()),
+                () -> assertEquals(334, groups.get(0).size()),
+                () -> assertEquals(499_500L, range.sumBy(l -> 0L).get(0L))
+        );
+    }
+}
@@ -0,0 +1,90 @@
+package org.hzt.utils.iterables.primitives;
+
+import org.hzt.utils.collections.MutableMapX;
+import org.hzt.utils.collections.primitives.LongList;
+import org.hzt.utils.collections.primitives.LongLongMap;
+import org.hzt.utils.collections.primitives.LongMutableList;
+import org.hzt.utils.collections.primitives.LongObjMap;
+import org.hzt.utils.ranges.LongRange;
+import org.hzt.utils.sequences.primitives.LongSequence;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+
+class LongGroupableTest {
+
+    @Test
+    void testCountByYieldsSameHistogramAsBoxedGrouping() {
+        final long[] longs = new Random(0).longs(10_000, -1_000_000_000_000L, 1_000_000_000_000L).toArray();
+
+        final LongLongMap counts = LongSequence.of(longs).countBy(l -> l % 7);
+        final Map<Long, Long> expected = LongStream.of(longs).boxed()
+                .collect(Collectors.groupingBy(l -> l % 7, Collectors.counting()));
+
+        assertEquals(counts.boxed(), MutableMapX.ofMap(expected));
+    }
+
+    @Test
+    void testSumMinAndMaxBy() {
+        final LongRange range = LongRange.closed(1, 10);
+
+        final LongLongMap sums = range.sumBy(l -> l % 2);
+        final LongLongMap mins = range.minBy(l -> l % 3);
+        final LongLongMap maxs = range.maxBy(l -> l % 3);
+
+        assertAll(
+                () -> assertEquals(25L, sums.get(1L)),
+                () -> assertEquals(30L, sums.get(0L)),
+                () -> assertEquals(3L, mins.get(0L)),
+                () -> assertEquals(1L, mins.get(1L)),
+                () -> assertEquals(9L, maxs.get(0L)),
+                () -> assertEquals(8L, maxs.get(2L))
+        );
+    }
+
+    @Test
+    void testSumByOfValuesNearTheLongRangeWrapsLikeLongStreamSum() {
+        final LongList longs = LongList.of(Long.MAX_VALUE, 1L, Long.MIN_VALUE, -1L, Long.MAX_VALUE - 1, 2L, 3L);
+
+        final LongLongMap sums = longs.sumBy(l -> l & 1L);
+        final long expectedOddSum = LongStream.of(Long.MAX_VALUE, 1L, -1L, 3L).sum();
+        final long expectedEvenSum = LongStream.of(Long.MIN_VALUE, Long.MAX_VALUE - 1, 2L).sum();
+
+        assertAll(
+                () -> assertEquals(2, sums.size()),
+                () -> assertEquals(expectedOddSum, sums.get(1L)),
+                () -> assertEquals(Long.MIN_VALUE + 2, sums.get(1L)),
+                () -> assertEquals(expectedEvenSum, sums.get(0L)),
+                () -> assertEquals(0L, sums.get(0L))
+        );
+    }
+
+    @Test
+    void testAggregateByReducesPerKey() {
+        final LongLongMap products = LongRange.closed(1, 12).aggregateBy(l -> l % 3, (product, l) -> product * l);
+
+        assertAll(
+                () -> assertEquals(3L * 6 * 9 * 12, products.get(0L)),
+                () -> assertEquals(1L * 4 * 7 * 10, products.get(1L)),
+                () -> assertEquals(2L * 5 * 8 * 11, products.get(2L))
+        );
+    }
+
+    @Test
+    void testGroupingByKeepsEncounterOrderPerGroup() {
+        final LongObjMap<LongMutableList> groups = LongRange.of(0, 20).groupingBy(l -> l % 5);
+
+        assertAll(
+                () -> assertEquals(5, groups.size()),
+                () -> assertIterableEquals(LongMutableList.of(3, 8, 13, 18), groups.get(3L)),
+                () -> assertEquals(groups.boxed(), LongRange.of(0, 20).groupBy(l -> l % 5))
+        );
+    }
+}
@@ -41,6 +41,15 @@ class IntXTest {
         assertEquals(7919, oneThousandsPrimeNr);
     }
 
+    @Test
+    void testMillionthPrimeNr() {
+        final int millionthPrimeNr = IntX.primeNrSequence()
+                .skip(999_999)
+                .first();
+
+        assertEquals(15_485_863, millionthPrimeNr);
+    }
+
     @Test
     void testSieveOfEratosthenes() {
         final IntSequence primes = primeNrSequence(7919);
@@ -1,12 +1,19 @@
 package org.hzt.utils.numbers;
 
+import org.hzt.utils.collections.ListX;
 import org.hzt.utils.collections.primitives.LongList;
+import org.hzt.utils.ranges.IntRange;
+import org.hzt.utils.ranges.LongRange;
 import org.hzt.utils.sequences.primitives.LongSequence;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigInteger;
 import java.util.NoSuchElementException;
+import java.util.Random;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class LongXTest {
@@ -34,6 +41,52 @@ class LongXTest {
         assertEquals("term n>=94 would yield value larger than Long.MAX_VALUE", exception.getMessage());
     }
 
+    @Test
+    void testNthFibNrByFastDoublingYieldsSameResultAsFibonacciSequence() {
+        final LongList expected = LongX.fibonacciSequence().take(93).toList();
+
+        final LongList actual = IntRange.closed(1, 93).mapToLong(LongX::nthFibonacciNumber).toList();
+
+        assertAll(
+                () -> assertEquals(expected, actual),
+                () -> assertEquals(7_540_113_804_746_346_429L, LongX.nthFibonacciNumber(93))
+        );
+    }
+
+    @Test
+    void testNthBigFibNrYieldsSameResultAsIteration() {
+        BigInteger previous = BigInteger.ZERO;
+        BigInteger current = BigInteger.ONE;
+        for (int i = 2; i < 10_000; i++) {
+            final BigInteger next = previous.add(current);
+            previous = current;
+            current = next;
+        }
+        final BigInteger tenThousandthFibNr = current;
+
+        assertAll(
+                () -> assertEquals(BigInteger.valueOf(LongX.nthFibonacciNumber(93)), LongX.nthBigFibonacciNumber(93)),
+                () -> assertEquals(new BigInteger("7540113804746346429").add(new BigInteger("4660046610375530309")),
+                        LongX.nthBigFibonacciNumber(94)),
+                () -> assertEquals(tenThousandthFibNr, LongX.nthBigFibonacciNumber(10_000))
+        );
+    }
+
+    @Test
+    void testFibonacciMemoSharedAcrossThreads() {
+        final FibonacciMemo memo = FibonacciMemo.withCapacity(500);
+
+        final ListX<BigInteger> fibNrs = IntRange.closed(1, 1_000).parallel()
+                .mapToObj(n -> memo.nthFibonacciNumber(n % 600 + 1))
+                .toListX();
+
+        assertAll(
+                () -> assertEquals(IntRange.closed(1, 1_000).mapToObj(n -> LongX.nthBigFibonacciNumber(n % 600 + 1)).toListX(), fibNrs),
+                () -> assertEquals(500, memo.capacity()),
+                () -> assertThrows(IllegalArgumentException.class, () -> memo.nthFibonacciNumber(0))
+        );
+    }
+
     @Test
     void testUnBoundedFibSequenceThrowsNoSuchElement() {
         final LongSequence fibonacciSequence = LongX.fibonacciSequence();
@@ -41,4 +94,39 @@ class LongXTest {
         assertEquals("term n>=94 would yield value larger than Long.MAX_VALUE", exception.getMessage());
     }
 
+    @Test
+    void testIsPrimeNrYieldsSameResultAsBigIntegerIsProbablePrime() {
+        final LongSequence candidates = LongSequence.of(0, 1, 2, 3, 4, 1_681, 561, 3_215_031_751L, 9_223_372_036_854_775_783L,
+                        Long.MAX_VALUE)
+                .plus(LongSequence.of(new Random(0).longs(2_000, 0, Long.MAX_VALUE)));
+
+        candidates.forEachLong(candidate ->
+                assertEquals(BigInteger.valueOf(candidate).isProbablePrime(64), LongX.isPrimeNr(candidate), () -> "For " + candidate));
+        assertFalse(LongSequence.of(-7, Long.MIN_VALUE).any(LongX::isPrimeNr));
+    }
+
+    @Test
+    void testPrimesInRangeYieldSameResultAsFilteringByIsPrimeNr() {
+        final LongRange small = LongRange.closed(-10, 2_000_000);
+        final LongRange large = LongRange.of(1L << 51, (1L << 51) + 20_000);
+
+        assertAll(
+                () -> assertEquals(148_933, LongX.primesInRange(small).count()),
+                () -> assertEquals(LongList.of(2, 3, 5, 7, 11), LongX.primesInRange(small).take(5).toList()),
+                () -> assertEquals(large.filter(LongX::isPrimeNr).toList(), LongX.primesInRange(large).toList())
+        );
+    }
+
+    @Test
+    void testPrimesInRangeAreSievedInParallelBySegment() {
+        final LongRange range = LongRange.of(1_000_000_000L, 1_010_000_000L);
+
+        final long count = LongX.primesInRange(range).parallel().count();
+        final long sum = LongX.primesInRange(range).parallel().sum();
+
+        assertAll(
+                () -> assertEquals(LongX.primesInRange(range).count(), count),
+                () -> assertEquals(LongX.primesInRange(range).sum(), sum)
+        );
+    }
 }
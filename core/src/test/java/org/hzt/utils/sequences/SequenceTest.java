@@ -22,7 +22,9 @@ import org.hzt.utils.iterators.functional_iterator.AtomicIterator;
 import org.hzt.utils.numbers.IntX;
 import org.hzt.utils.numbers.LongX;
 import org.hzt.utils.ranges.IntRange;
+import org.hzt.utils.sequences.primitives.DoubleSequence;
 import org.hzt.utils.sequences.primitives.IntSequence;
+import org.hzt.utils.sequences.primitives.LongSequence;
 import org.hzt.utils.statistics.IntStatistics;
 import org.hzt.utils.strings.StringX;
 import org.hzt.utils.test.Generator;
@@ -54,9 +56,13 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Comparator;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -274,6 +280,48 @@ class SequenceTest {
         assertEquals(IntList.of(5, 4), result);
     }
 
+    @Test
+    void testMapMultiToPrimitivesPullsAndPushesTheSameValues() {
+        final Sequence<String> words = Sequence.of("a", "", "sequence", "of", "words");
+
+        final IntSequence codePoints = words.mapMultiToInt((word, consumer) -> word.chars().forEach(consumer));
+        final LongSequence squares = words.mapMultiToLong((word, consumer) -> consumer.accept((long) word.length() * word.length()));
+        final DoubleSequence halves = words.mapMultiToDouble((word, consumer) -> {
+            for (int i = 0; i < word.length(); i++) {
+                consumer.accept(i / 2.0);
+            }
+        });
+
+        final int[] expectedCodePoints = "asequenceofwords".chars().toArray();
+
+        assertAll(
+                () -> assertArrayEquals(expectedCodePoints, codePoints.toArray()),
+                () -> assertEquals(IntList.of(expectedCodePoints), codePoints.toList()),
+                () -> assertEquals('a', codePoints.first()),
+                () -> assertArrayEquals(new long[]{1, 0, 64, 4, 25}, squares.toArray()),
+                () -> assertEquals(16L, halves.count()),
+                () -> assertEquals(3.5, halves.max())
+        );
+    }
+
+    @Test
+    void testPushedMapMultiToIntStopsWhenDownstreamIsDone() {
+        final AtomicInteger mappedElements = new AtomicInteger();
+
+        final IntList ints = Sequence.iterate(1, i -> i + 1)
+                .mapMultiToInt((i, consumer) -> {
+                    mappedElements.incrementAndGet();
+                    IntRange.of(0, i).forEachInt(consumer);
+                })
+                .take(7)
+                .toList();
+
+        assertAll(
+                () -> assertEquals(IntList.of(0, 0, 1, 0, 1, 2, 0), ints),
+                () -> assertEquals(4, mappedElements.get())
+        );
+    }
+
     @Test
     void testCollectGroupingBy() {
         final List<Museum> museumList = TestSampleGenerator.getMuseumListContainingNulls();
@@ -1341,4 +1389,185 @@ class SequenceTest {
             assertIterableEquals(Arrays.asList("This", "is", "a", "test"), strings);
         }
     }
+
+    @Nested
+    class PushEvaluationTests {
+
+        @Test
+        void testPushedTerminalOperationsYieldSameResultAsPulledIteration() {
+            final Sequence<Integer> sequence = Sequence.of(IntRange.of(0, 1_000).boxed().toListX())
+                    .map(i -> i * 3)
+                    .filter(IntX::isEven)
+                    .<Integer>mapMulti((i, consumer) -> {
+                        consumer.accept(i);
+                        consumer.accept(-i);
+                    });
+
+            final List<Integer> pulled = new ArrayList<>();
+            sequence.iterator().forEachRemaining(pulled::add);
+
+            assertAll(
+                    () -> assertIterableEquals(pulled, sequence.toListX()),
+                    () -> assertEquals(pulled.size(), sequence.count()),
+                    () -> assertEquals(pulled.stream().mapToLong(i -> i).sum(), sequence.fold(0L, Long::sum)),
+                    () -> assertEquals(pulled.get(0), sequence.first()),
+                    () -> assertIterableEquals(pulled.subList(10, pulled.size()), sequence.skip(10).toListX())
+            );
+        }
+
+        @Test
+        void testPushedEvaluationStopsEarlyOnInfiniteSequences() {
+            final AtomicInteger nrOfGeneratedItems = new AtomicInteger();
+            final Sequence<Integer> naturalNumbers = Sequence.iterate(1, i -> i + 1).onEach(i -> nrOfGeneratedItems.incrementAndGet());
+
+            final ListX<Integer> taken = naturalNumbers.map(i -> i * 2).take(5).toListX();
+            final long takenWhileCount = naturalNumbers.takeWhile(i -> i < 100).count();
+            final Integer first = naturalNumbers.filter(i -> i % 7 == 0).first();
+            final long sum = IntSequence.generate(() -> 1, i -> i + 1).takeWhileInclusive(i -> i < 10).sum();
+
+            assertAll(
+                    () -> assertEquals(5 + 100 + 7, nrOfGeneratedItems.get()),
+                    () -> assertIterableEquals(ListX.of(2, 4, 6, 8, 10), taken),
+                    () -> assertEquals(99, takenWhileCount),
+                    () -> assertEquals(7, first),
+                    () -> assertEquals(55, sum)
+            );
+        }
+
+        @Test
+        void testPushedTerminalOperationsSkipNullsLikePulledOnes() {
+            final Sequence<String> sequence = Sequence.of(null, "a", null, "b").map(s -> s);
+
+            assertAll(
+                    () -> assertIterableEquals(ListX.of("a", "b"), sequence.toListX()),
+                    () -> assertEquals(4, sequence.count()),
+                    () -> assertEquals("ab", sequence.fold("", String::concat)),
+                    () -> assertEquals("a", sequence.first()),
+                    () -> assertThrows(NoSuchElementException.class, () -> Sequence.<String>of(null, null).first())
+            );
+        }
+    }
+
+    @Nested
+    class TopKTests {
+
+        private final ListX<String> words = ListX.of("pear", "fig", "banana", "kiwi", "apple", "date", "plum", "cherry", "lime");
+
+        @Test
+        void testTakeAfterSortYieldsSameResultAsFullSort() {
+            final Sequence<String> sequence = Sequence.of(words);
+
+            assertAll(
+                    () -> assertIterableEquals(ListX.of("apple", "banana", "cherry", "date"), sequence.sorted().take(4).toListX()),
+                    () -> assertIterableEquals(ListX.of("plum", "pear", "lime"), sequence.sortedDescending().take(3).toListX()),
+                    () -> assertIterableEquals(ListX.of("fig", "pear", "kiwi", "date", "plum"), sequence.sortedBy(String::length).take(5).toListX()),
+                    () -> assertIterableEquals(ListX.of("banana", "cherry", "apple"), sequence.sortedByDescending(String::length).take(3).toListX()),
+                    () -> assertIterableEquals(sequence.sorted().toListX(), sequence.sorted().take(100).toListX()),
+                    () -> assertEquals("apple", sequence.sorted().first()),
+                    () -> assertTrue(sequence.sorted().take(0).none(It::noFilter))
+            );
+        }
+
+        @Test
+        void testTopKAndBottomKKeepEncounterOrderOfEqualElements() {
+            final Sequence<String> sequence = Sequence.of(words);
+
+            assertAll(
+                    () -> assertIterableEquals(ListX.of("banana", "cherry", "apple", "pear"), sequence.topKBy(4, String::length)),
+                    () -> assertIterableEquals(ListX.of("fig", "pear", "kiwi"), sequence.bottomKBy(3, String::length)),
+                    () -> assertIterableEquals(ListX.of("plum", "pear", "lime"), sequence.topK(3, Comparator.naturalOrder())),
+                    () -> assertIterableEquals(ListX.of("apple", "banana"), sequence.bottomK(2, Comparator.naturalOrder())),
+                    () -> assertTrue(sequence.topK(0, Comparator.naturalOrder()).isEmpty()),
+                    () -> assertThrows(IllegalArgumentException.class, () -> sequence.topK(-1, Comparator.naturalOrder()))
+            );
+        }
+
+        @Test
+        void testSortedByComputesEveryKeyOnceAndFusesTakeForPrimitiveKeys() {
+            final Sequence<String> sequence = Sequence.of(words);
+            final AtomicInteger nrOfKeys = new AtomicInteger();
+
+            final ListX<String> sortedBy = sequence.sortedBy(s -> {
+                nrOfKeys.incrementAndGet();
+                return s.length();
+            }).toListX();
+
+            assertAll(
+                    () -> assertEquals(words.size(), nrOfKeys.get()),
+                    () -> assertIterableEquals(sortedBy, sequence.sortedByInt(String::length).toListX()),
+                    () -> assertIterableEquals(sortedBy, sequence.sortedByLong(String::length).toListX()),
+                    () -> assertIterableEquals(sortedBy, sequence.sortedByDouble(String::length).toListX()),
+                    () -> assertIterableEquals(ListX.of("fig", "pear", "kiwi"), sequence.sortedByInt(String::length).take(3).toListX()),
+                    () -> assertEquals("fig", sequence.sortedByDouble(String::length).first())
+            );
+        }
+
+        @Test
+        void testFusedTakeAndFirstComputeEveryKeyOnce() {
+            final Sequence<Integer> sequence = IntRange.of(0, 1_000).map(i -> new Random(i).nextInt(5_000)).boxed();
+            final AtomicInteger nrOfKeys = new AtomicInteger();
+            final Function<Integer, Integer> selector = i -> {
+                nrOfKeys.incrementAndGet();
+                return i % 100;
+            };
+            final ToIntFunction<Integer> intSelector = selector::apply;
+
+            final ListX<Integer> expected = sequence.toListX().sortedBy(i -> i % 100).take(10);
+
+            assertAll(
+                    () -> assertKeysComputedOnce(nrOfKeys, expected, () -> sequence.sortedBy(selector).take(10).toListX()),
+                    () -> assertKeysComputedOnce(nrOfKeys, expected.first(), () -> sequence.sortedBy(selector).first()),
+                    () -> assertKeysComputedOnce(nrOfKeys, expected, () -> sequence.sortedByInt(intSelector).take(10).toListX()),
+                    () -> assertKeysComputedOnce(nrOfKeys, expected.first(), () -> sequence.sortedByLong(selector::apply).first()),
+                    () -> assertKeysComputedOnce(nrOfKeys, expected.first(), () -> sequence.sortedByDouble(selector::apply).first()),
+                    () -> assertKeysComputedOnce(nrOfKeys, expected, () -> sequence.bottomKBy(10, selector)),
+                    () -> assertKeysComputedOnce(nrOfKeys, sequence.toListX().sortedByDescending(i -> i % 100).take(10),
+                            () -> sequence.sortedByDescending(selector).take(10).toListX())
+            );
+        }
+
+        private <R> void assertKeysComputedOnce(final AtomicInteger nrOfKeys, final R expected, final Supplier<R> actual) {
+            nrOfKeys.set(0);
+            final R result = actual.get();
+            assertAll(
+                    () -> assertEquals(expected, result),
+                    () -> assertEquals(1_000, nrOfKeys.get())
+            );
+        }
+
+        @Test
+        void testFusedSortPathsTreatNullsLikeTheFullSort() {
+            final Sequence<Integer> sequence = Sequence.of(3, null, 1);
+            final Comparator<Integer> nullsFirst = Comparator.nullsFirst(Comparator.naturalOrder());
+            final Sequence<Integer> fullySorted = sequence.sorted(nullsFirst)::iterator;
+
+            assertAll(
+                    () -> assertThrows(NullPointerException.class, () -> sequence.sorted().first()),
+                    () -> assertThrows(NullPointerException.class, () -> sequence.sorted().take(1).toList()),
+                    () -> assertThrows(NullPointerException.class, () -> sequence.sorted().toList()),
+                    () -> assertEquals(fullySorted.first(), sequence.sorted(nullsFirst).first()),
+                    () -> assertIterableEquals(fullySorted.take(2), sequence.sorted(nullsFirst).take(2)),
+                    () -> assertEquals(1, Sequence.of(3, 1, 2).sorted().first())
+            );
+        }
+
+        @Test
+        void testTopKOfLargeSequenceYieldsSameResultAsSortAndTake() {
+            final ListX<Integer> values = IntRange.of(0, 100_000).map(i -> new Random(i).nextInt(5_000)).boxed().toListX();
+            final AtomicInteger nrOfValues = new AtomicInteger();
+
+            final MutableListX<Integer> sorted = MutableListX.of(values);
+            sorted.sort(Comparator.naturalOrder());
+            final MutableListX<Integer> sortedDescending = MutableListX.of(values);
+            sortedDescending.sort(Comparator.reverseOrder());
+
+            final ListX<Integer> topK = Sequence.of(values).onEach(i -> nrOfValues.incrementAndGet()).topK(100, Integer::compare);
+
+            assertAll(
+                    () -> assertIterableEquals(sortedDescending.subList(0, 100), topK),
+                    () -> assertIterableEquals(sorted.subList(0, 100), Sequence.of(values).sorted().take(100).toListX()),
+                    () -> assertEquals(100_000, nrOfValues.get())
+            );
+        }
+    }
 }
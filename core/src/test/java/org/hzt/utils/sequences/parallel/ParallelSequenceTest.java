@@ -0,0 +1,215 @@
+package org.hzt.utils.sequences.parallel;
+
+import org.hzt.utils.collections.ListX;
+import org.hzt.utils.collections.MapX;
+import org.hzt.utils.collections.MutableListX;
+import org.hzt.utils.collections.primitives.IntList;
+import org.hzt.utils.collections.primitives.IntMutableList;
+import org.hzt.utils.collections.primitives.IntObjMap;
+import org.hzt.utils.gatherers.Gatherer;
+import org.hzt.utils.gatherers.Gatherers;
+import org.hzt.utils.gatherers.GatherersX;
+import org.hzt.utils.ranges.IntRange;
+import org.hzt.utils.ranges.LongRange;
+import org.hzt.utils.sequences.Sequence;
+import org.hzt.utils.spined_buffers.SpinedBuffer;
+import org.hzt.utils.statistics.IntStatistics;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelSequenceTest {
+
+    @Test
+    void testParallelMapFilterKeepsEncounterOrder() {
+        final ListX<String> expected = IntRange.of(0, 100_000)
+                .filter(i -> i % 3 == 0)
+                .mapToObj(Integer::toString)
+                .toListX();
+
+        final ListX<String> actual = IntRange.of(0, 100_000)
+                .parallel()
+                .filter(i -> i % 3 == 0)
+                .mapToObj(Integer::toString)
+                .toListX();
+
+        assertIterableEquals(expected, actual);
+    }
+
+    @Test
+    void testListIsSplitBySize() {
+        final ListX<Integer> list = IntRange.of(0, 10_000).boxed().toListX();
+
+        final int nrOfChunks = list.parallelSequence().evaluateChunks(chunk -> 1, Integer::sum);
+        final ListX<Integer> doubled = list.parallelSequence().map(i -> i * 2).toListX();
+
+        assertAll(
+                () -> assertTrue(nrOfChunks > 1),
+                () -> assertIterableEquals(list.map(i -> i * 2), doubled)
+        );
+    }
+
+    @Test
+    void testSequenceOfUnknownSizeIsSplitInBatches() {
+        final Sequence<Integer> sequence = Sequence.iterate(0, i -> i + 1).take(10_000);
+
+        final int nrOfChunks = sequence.parallel().evaluateChunks(chunk -> 1, Integer::sum);
+        final ListX<Integer> actual = sequence.parallel().filter(i -> i % 2 == 0).toListX();
+
+        assertAll(
+                () -> assertTrue(nrOfChunks > 1),
+                () -> assertIterableEquals(sequence.filter(i -> i % 2 == 0).toListX(), actual)
+        );
+    }
+
+    @Test
+    void testSpinedBufferIsSplitByChunk() {
+        final SpinedBuffer<Integer> buffer = new SpinedBuffer<>();
+        IntRange.of(0, 5_000).forEachInt(buffer::accept);
+
+        final long sum = ParallelSequence.of(buffer).fold(0L, (acc, i) -> acc + i, Long::sum);
+
+        assertEquals(12_497_500L, sum);
+    }
+
+    @Test
+    void testParallelMapMulti() {
+        final ListX<Integer> actual = ParallelSequence.of(1, 2, 3)
+                .<Integer>mapMulti((i, consumer) -> {
+                    for (int j = 0; j < i; j++) {
+                        consumer.accept(i);
+                    }
+                })
+                .toListX();
+
+        assertIterableEquals(ListX.of(1, 2, 2, 3, 3, 3), actual);
+    }
+
+    @Test
+    void testParallelGroupByYieldsSameResultAsSequentialGroupBy() {
+        final ListX<String> words = IntRange.of(0, 20_000).mapToObj(i -> "w" + i % 97).toListX();
+
+        final MapX<Integer, MutableListX<String>> expected = words.asSequence().groupBy(String::length);
+        final MapX<Integer, MutableListX<String>> actual = words.parallelSequence().groupBy(String::length);
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void testParallelGatherIntegratesInEncounterOrder() {
+        final ListX<Integer> runningSums = IntRange.closed(1, 1_000)
+                .parallel()
+                .map(i -> i * 2)
+                .gather(Gatherers.scan(() -> 0, Integer::sum))
+                .toListX();
+
+        final List<Integer> expected = IntStream.rangeClosed(1, 1_000)
+                .map(i -> i * (i + 1))
+                .boxed()
+                .collect(Collectors.toList());
+
+        assertIterableEquals(expected, runningSums);
+    }
+
+    @Test
+    void testPrimitiveParallelSequences() {
+        final IntObjMap<IntMutableList> groups = IntRange.of(0, 100_000).parallel().groupingBy(i -> i % 10);
+        final IntList squares = IntList.of(1, 2, 3, 4).parallelSequence().map(i -> i * i).toList();
+
+        assertAll(
+                () -> assertEquals(IntRange.of(0, 100_000).sum(), IntRange.of(0, 100_000).parallel().sum()),
+                () -> assertEquals(10_000, groups.get(3).size()),
+                () -> assertIterableEquals(IntRange.of(0, 100_000).filter(i -> i % 10 == 3).toList(), groups.get(3)),
+                () -> assertIterableEquals(IntList.of(1, 4, 9, 16), squares),
+                () -> assertEquals(499_999_500_000L, LongRange.of(0, 1_000_000).parallel().sum()),
+                () -> assertEquals(100, LongRange.of(0, 1_000).parallel().countBy(l -> l % 10).get(7L)),
+                () -> assertEquals(2.5, IntList.of(1, 2, 3, 4).parallelSequence().mapToObj(i -> i / 4.0).mapToDouble(d -> d).sum())
+        );
+    }
+
+    @Test
+    void testGathererWithCombinerIsIntegratedPerChunk() {
+        final AtomicInteger nrOfStates = new AtomicInteger();
+        final Gatherer<Integer, IntStatistics, IntStatistics> statisticsGatherer = Gatherer.of(
+                () -> {
+                    nrOfStates.incrementAndGet();
+                    return new IntStatistics();
+                },
+                (stats, item, downstream) -> {
+                    stats.accept(item);
+                    return true;
+                },
+                IntStatistics::combine,
+                (stats, downstream) -> downstream.push(stats));
+
+        final ListX<IntStatistics> statistics = IntRange.of(0, 100_000).parallel().boxed()
+                .gather(statisticsGatherer)
+                .toListX();
+
+        final IntStatistics expected = IntRange.of(0, 100_000).stats();
+
+        assertAll(
+                () -> assertTrue(nrOfStates.get() > 1),
+                () -> assertEquals(1, statistics.size()),
+                () -> assertEquals(expected.getSum(), statistics.single().getSum()),
+                () -> assertEquals(expected.getMax(), statistics.single().getMax())
+        );
+    }
+
+    @Test
+    void testParallelFriendlyBuiltInGatherersYieldSameResultAsSequential() {
+        final ListX<Integer> list = IntRange.of(0, 10_000).boxed().toListX();
+
+        final ListX<String> mapped = list.parallelSequence()
+                .gather(GatherersX.filter(i -> i % 7 == 0))
+                .gather(GatherersX.<Integer, String>mapMulti((i, consumer) -> consumer.accept("#" + i)))
+                .gather(GatherersX.map(String::toUpperCase))
+                .toListX();
+
+        final String concatenated = list.parallelSequence()
+                .gather(Gatherers.fold(() -> "", (string, i) -> string + i % 10, String::concat))
+                .toListX()
+                .single();
+
+        final IntStatistics statistics = list.parallelSequence()
+                .gather(GatherersX.intStatisticsOf(i -> i))
+                .toListX()
+                .single();
+
+        assertAll(
+                () -> assertIterableEquals(list.filter(i -> i % 7 == 0).map(i -> "#" + i), mapped),
+                () -> assertEquals(list.asSequence().map(i -> i % 10).joinToString(""), concatenated),
+                () -> assertEquals(49_995_000L, statistics.getSum()),
+                () -> assertEquals(10_000L, statistics.getCount())
+        );
+    }
+
+    @Test
+    void testRejectingChunkDiscardsTheItemsOfLaterChunks() {
+        final Gatherer<Integer, Void, Integer> takeWhileBelow500 = Gatherer.of(
+                (unused, item, downstream) -> item < 500 && downstream.push(item));
+
+        final ListX<Integer> actual = IntRange.of(0, 10_000).parallel().boxed()
+                .gather(takeWhileBelow500)
+                .toListX();
+
+        assertIterableEquals(IntRange.of(0, 500).boxed().toListX(), actual);
+    }
+
+    @Test
+    void testGathererWithoutCombinerIsIntegratedSequentially() {
+        final ListX<List<Integer>> windows = IntRange.of(0, 10_000).parallel().boxed()
+                .gather(Gatherers.windowFixed(3))
+                .toListX();
+
+        assertIterableEquals(IntRange.of(0, 10_000).boxed().windowed(3, 3, true).map(ListX::toList).toListX(), windows);
+    }
+}
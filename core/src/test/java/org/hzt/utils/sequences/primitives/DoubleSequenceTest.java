@@ -282,4 +282,17 @@ class DoubleSequenceTest {
 
         assertEquals(DoubleList.of(1.0, 0.6180339887498949, 0.6180339887498949, 1.2360679774997898, 2.8541019662496847, 6.0901699437494745), list);
     }
+
+    @Test
+    void testTopKAndBottomKYieldSameResultsAsSortAndTake() {
+        final DoubleSequence sequence = DoubleSequence.of(3.5, -1.0, 2.25, 9.0, 0.0, 2.25, -7.5);
+
+        assertAll(
+                () -> assertEquals(DoubleList.of(9.0, 3.5, 2.25), sequence.topK(3)),
+                () -> assertEquals(DoubleList.of(-7.5, -1.0), sequence.bottomK(2)),
+                () -> assertEquals(DoubleList.of(0.0, -1.0, 2.25), sequence.bottomKBy(3, Math::abs)),
+                () -> assertEquals(sequence.sorted().toList().asSequence().take(4).toList(), sequence.sorted().take(4).toList()),
+                () -> assertEquals(sequence.sortedDescending().toList().asSequence().take(4).toList(), sequence.sortedDescending().take(4).toList())
+        );
+    }
 }
@@ -9,6 +9,7 @@ import org.hzt.utils.test.Generator;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -86,4 +87,24 @@ class DoubleWindowedSequenceTest {
 
         assertEquals(5, chunks.count(chunk -> chunk.size() == 1));
     }
+
+    @Test
+    void testSlidingWindowAggregatesStayAccurate() {
+        final double[] values = new Random(3).doubles(100_000, -1e6, 1e6).toArray();
+        final int size = 1_000;
+
+        final DoubleWindowStatistics lastWindow = DoubleSequence.of(values).windowedStats(size).last();
+        final DoubleList expected = DoubleSequence.of(values).skip(values.length - (long) size).toList();
+        final double[] maxima = DoubleSequence.of(values).windowedMax(size).toArray();
+
+        assertAll(
+                () -> assertEquals(values.length - size + 1, maxima.length),
+                () -> assertEquals(DoubleSequence.of(values).take(size).max(), maxima[0]),
+                () -> assertEquals(expected.sum(), lastWindow.getSum(), 1e-6),
+                () -> assertEquals(expected.min(), lastWindow.getMin()),
+                () -> assertEquals(expected.max(), lastWindow.getMax()),
+                () -> assertEquals(expected.average(), DoubleSequence.of(values).windowedAverage(size).last(), 1e-9),
+                () -> assertEquals(expected.stdDev(), lastWindow.getStandardDeviation(), 1e-6)
+        );
+    }
 }
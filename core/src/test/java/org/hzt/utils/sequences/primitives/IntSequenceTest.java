@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import java.time.chrono.IsoChronology;
 import java.util.Arrays;
 import java.util.IntSummaryStatistics;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
@@ -131,6 +132,42 @@ class IntSequenceTest {
         );
     }
 
+    @Test
+    void testMapMultiReusesItsBufferForElementsOfDifferentSizes() {
+        final IntSequence repeated = IntSequence.of(3, 0, 20, 1, 0)
+                .mapMulti((value, consumer) -> IntRange.of(0, value).forEachInt(consumer));
+
+        final int[] pulled = repeated.toArray();
+        final IntList pushed = repeated.toList();
+
+        final int[] expected = IntStream.of(3, 0, 20, 1, 0).flatMap(i -> IntStream.range(0, i)).toArray();
+
+        assertAll(
+                () -> assertArrayEquals(expected, pulled),
+                () -> assertEquals(IntList.of(expected), pushed),
+                () -> assertEquals(IntStream.of(expected).sum(), repeated.sum())
+        );
+    }
+
+    @Test
+    void testPushedMapMultiStopsWhenDownstreamIsDone() {
+        final AtomicInteger mappedElements = new AtomicInteger();
+
+        final IntList firstFive = IntRange.of(0, 1_000)
+                .mapMulti((value, consumer) -> {
+                    mappedElements.incrementAndGet();
+                    consumer.accept(value);
+                    consumer.accept(-value);
+                })
+                .take(5)
+                .toList();
+
+        assertAll(
+                () -> assertEquals(IntList.of(0, 0, 1, -1, 2), firstFive),
+                () -> assertEquals(3, mappedElements.get())
+        );
+    }
+
     @Test
     void testDescendingSteppedIntRange() {
         final MutableListX<Integer> list = MutableListX.empty();
@@ -224,6 +261,41 @@ class IntSequenceTest {
         assertArrayEquals(new int[]{9, 8, 7, 6, 5, 5, 4, 4, 4, 3, 1}, sorted);
     }
 
+    @Test
+    void testSortLargeSequencesAboveRadixThreshold() {
+        final int[] array = new Random(3).ints(40_000, -1_000, 1_000).toArray();
+        final int[] expected = Arrays.copyOf(array, array.length);
+        Arrays.sort(expected);
+
+        final int[] sorted = IntSequence.of(array).sorted().toArray();
+        final int[] sortedDescending = IntSequence.of(array).sortedDescending().toArray();
+        final int[] sortedByAbs = IntSequence.of(array).sortedBy(Math::abs).toArray();
+
+        assertAll(
+                () -> assertArrayEquals(expected, sorted),
+                () -> assertEquals(expected[expected.length - 1], sortedDescending[0]),
+                () -> assertEquals(expected[0], sortedDescending[sortedDescending.length - 1]),
+                () -> assertTrue(IntSequence.of(sortedByAbs).map(Math::abs).zipWithNext(Integer::compare).all(c -> c <= 0))
+        );
+    }
+
+    @Test
+    void testTakeAfterSortAndTopKYieldSameResultsAsFullSort() {
+        final int[] array = new Random(5).ints(50_000, -10_000, 10_000).toArray();
+        final IntSequence sequence = IntSequence.of(array);
+
+        assertAll(
+                () -> assertEquals(sequence.sorted().toList().asSequence().take(50).toList(), sequence.sorted().take(50).toList()),
+                () -> assertEquals(sequence.sortedDescending().toList().asSequence().take(50).toList(), sequence.sortedDescending().take(50).toList()),
+                () -> assertEquals(sequence.sortedBy(Math::abs).toList().asSequence().take(50).toList(), sequence.sortedBy(Math::abs).take(50).toList()),
+                () -> assertEquals(sequence.sortedDescending().toList().asSequence().take(10).toList(), sequence.topK(10)),
+                () -> assertEquals(sequence.sorted().toList().asSequence().take(10).toList(), sequence.bottomK(10)),
+                () -> assertEquals(sequence.sortedBy(Math::abs).toList().asSequence().take(10).toList(), sequence.bottomKBy(10, Math::abs)),
+                () -> assertEquals(IntList.of(3, -3, -2), IntSequence.of(1, 3, -2, -3, 2).topKBy(3, Math::abs)),
+                () -> assertEquals(IntList.of(1, 2), IntSequence.of(2, 1).bottomK(5))
+        );
+    }
+
     @Test
     void testSortedThenComparingUnsignedUsingIntComparator() {
         final int[] array = {-1, 4, -5, 3, -6, 7, -4, 8, -5, 9, -4};
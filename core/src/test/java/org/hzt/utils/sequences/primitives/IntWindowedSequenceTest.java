@@ -4,12 +4,18 @@ import org.hzt.utils.It;
 import org.hzt.utils.collections.ListX;
 import org.hzt.utils.collections.primitives.IntList;
 import org.hzt.utils.ranges.IntRange;
+import org.hzt.utils.sequences.Sequence;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class IntWindowedSequenceTest {
 
@@ -70,4 +76,65 @@ class IntWindowedSequenceTest {
 
         assertEquals(45, sizes.length);
     }
+
+    @ParameterizedTest
+    @CsvSource({"1, 1, false", "3, 1, false", "3, 2, true", "4, 4, true", "2, 5, false", "2, 5, true", "30, 1, true"})
+    void testWindowedViewsYieldSameWindowsAsWindowedLists(final int size, final int step, final boolean partialWindows) {
+        final IntSequence sequence = IntRange.of(0, 23);
+
+        final ListX<IntList> expected = sequence.windowed(size, step, partialWindows).toListX();
+        final ListX<IntList> actual = sequence.windowedViews(size, step, partialWindows).map(IntWindow::toList).toListX();
+
+        assertIterableEquals(expected, actual);
+    }
+
+    @Test
+    void testWindowedViewIsReused() {
+        final ListX<IntWindow> views = IntRange.of(0, 10).windowedViews(3).toListX();
+
+        assertAll(
+                () -> assertEquals(8, views.size()),
+                () -> assertTrue(views.all(view -> view == views.first())),
+                () -> assertIterableEquals(IntRange.of(2, 10).toList(), IntRange.of(0, 10).windowedViews(3).mapToInt(IntWindow::last).toList())
+        );
+    }
+
+    @Test
+    void testSlidingWindowAggregatesYieldSameResultAsRecomputedWindows() {
+        final int[] values = new Random(42).ints(10_000, -1_000, 1_000).toArray();
+        final int size = 100;
+
+        final Sequence<IntList> windows = IntSequence.of(values).windowed(size);
+
+        assertAll(
+                () -> assertIterableEquals(windows.mapToLong(IntList::sum).toList(), IntSequence.of(values).windowedSum(size).toList()),
+                () -> assertIterableEquals(windows.mapToInt(IntList::min).toList(), IntSequence.of(values).windowedMin(size).toList()),
+                () -> assertIterableEquals(windows.mapToInt(IntList::max).toList(), IntSequence.of(values).windowedMax(size).toList()),
+                () -> assertIterableEquals(windows.mapToDouble(IntList::average).toList(), IntSequence.of(values).windowedAverage(size).toList())
+        );
+    }
+
+    @Test
+    void testWindowedStats() {
+        final ListX<String> stats = IntSequence.of(5, 1, 4, 2, 8, 3)
+                .windowedStats(3)
+                .map(s -> s.getMin() + ".." + s.getMax() + ":" + s.getSum())
+                .toListX();
+
+        final IntWindowStatistics lastWindow = IntSequence.of(5, 1, 4, 2, 8, 3).windowedStats(3).last();
+
+        assertAll(
+                () -> assertIterableEquals(ListX.of("1..5:10", "1..4:7", "2..8:14", "2..8:13"), stats),
+                () -> assertEquals(3, lastWindow.getCount()),
+                () -> assertEquals(IntList.of(2, 8, 3).stats().getStandardDeviation(), lastWindow.getStandardDeviation(), 1e-9)
+        );
+    }
+
+    @Test
+    void testSlidingWindowAggregatesOfShortSequenceAreEmpty() {
+        assertAll(
+                () -> assertTrue(IntSequence.of(1, 2).windowedSum(3).none()),
+                () -> assertTrue(IntSequence.of(1, 2).windowedMax(3).none())
+        );
+    }
 }
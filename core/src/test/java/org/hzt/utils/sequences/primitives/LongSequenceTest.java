@@ -4,6 +4,7 @@ import org.hzt.utils.It;
 import org.hzt.utils.collections.MutableListX;
 import org.hzt.utils.collections.primitives.LongList;
 import org.hzt.utils.numbers.LongX;
+import org.hzt.utils.primitive_comparators.LongComparator;
 import org.hzt.utils.ranges.LongRange;
 import org.hzt.utils.sequences.Sequence;
 import org.hzt.utils.test.Generator;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -143,6 +145,25 @@ class LongSequenceTest {
         assertArrayEquals(new long[]{9, 8, 7, 6, 5, 5, 4, 4, 4, 3, 1}, sorted);
     }
 
+    @Test
+    void testTakeAfterSortAndTopKYieldSameResultsAsFullSort() {
+        final long[] array = new Random(5).longs(50_000, -10_000_000_000L, 10_000_000_000L).toArray();
+        final LongSequence sequence = LongSequence.of(array);
+
+        assertAll(
+                () -> assertEquals(sequence.sorted().toList().asSequence().take(50).toList(), sequence.sorted().take(50).toList()),
+                () -> assertEquals(sequence.sortedDescending().toList().asSequence().take(50).toList(), sequence.sortedDescending().take(50).toList()),
+                () -> assertEquals(sequence.sorted(LongComparator.comparing(Math::abs)).toList().asSequence().take(50).toList(), sequence.sorted(LongComparator.comparing(Math::abs)).take(50).toList()),
+                () -> assertEquals(sequence.sortedDescending().toList().asSequence().take(10).toList(), sequence.topK(10)),
+                () -> assertEquals(sequence.sorted().toList().asSequence().take(10).toList(), sequence.bottomK(10)),
+                () -> assertEquals(sequence.sorted(LongComparator.comparing(Math::abs)).toList().asSequence().take(10).toList(), sequence.bottomKBy(10, Math::abs)),
+                () -> assertEquals(sequence.sorted().first(), sequence.min()),
+                () -> assertEquals(LongList.of(3, -3, -2), LongSequence.of(1, 3, -2, -3, 2).topKBy(3, Math::abs)),
+                () -> assertEquals(LongList.of(Long.MIN_VALUE, 1), LongSequence.of(1, Long.MAX_VALUE, Long.MIN_VALUE).bottomK(2)),
+                () -> assertEquals(LongList.of(1, 2), LongSequence.of(2, 1).bottomK(5))
+        );
+    }
+
     @Test
     void testZipLongSequenceWithLongArray() {
         final long[] array = {1, 2, 3, 4, 5, 6};
@@ -3,10 +3,15 @@ package org.hzt.utils.sequences.primitives;
 import org.hzt.utils.It;
 import org.hzt.utils.collections.ListX;
 import org.hzt.utils.collections.primitives.LongList;
+import org.hzt.utils.sequences.Sequence;
 import org.hzt.utils.test.Generator;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 
 class LongWindowedSequenceTest {
 
@@ -22,4 +27,18 @@ class LongWindowedSequenceTest {
 
         assertEquals(5, chunks.count(chunk -> chunk.size() == 1));
     }
+
+    @Test
+    void testSlidingWindowMinMaxAndSum() {
+        final long[] values = new Random(7).longs(5_000, -1_000_000_000_000L, 1_000_000_000_000L).toArray();
+        final Sequence<LongList> windows = LongSequence.of(values).windowed(64);
+
+        assertAll(
+                () -> assertIterableEquals(windows.mapToLong(LongList::min).toList(), LongSequence.of(values).windowedMin(64).toList()),
+                () -> assertIterableEquals(windows.mapToLong(LongList::max).toList(), LongSequence.of(values).windowedMax(64).toList()),
+                () -> assertIterableEquals(windows.mapToLong(LongList::sum).toList(), LongSequence.of(values).windowedSum(64).toList()),
+                () -> assertIterableEquals(LongSequence.of(values).windowed(5, 3, true).toListX(),
+                        LongSequence.of(values).windowedViews(5, 3, true).map(LongWindow::toList).toListX())
+        );
+    }
 }
@@ -1,10 +1,22 @@
 package org.hzt.utils.spined_buffers;
 
+import org.hzt.utils.collectors.CollectorsX;
+import org.hzt.utils.sequences.Sequence;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.StreamSupport;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class SpinedBufferTest {
 
@@ -17,4 +29,203 @@ class SpinedBufferTest {
         assertEquals(1L, count);
     }
 
+    @Test
+    void testZeroInitialCapacityStartsWithTheMinimumChunk() {
+        final SpinedBuffer.OfInt intBuffer = new SpinedBuffer.OfInt(0);
+        final SpinedBuffer<String> buffer = new SpinedBuffer<>(0);
+        IntStream.range(0, 100).forEach(intBuffer);
+        IntStream.range(0, 100).mapToObj(Integer::toString).forEach(buffer);
+
+        assertAll(
+                () -> assertArrayEquals(IntStream.range(0, 100).toArray(), intBuffer.asPrimitiveArray()),
+                () -> assertEquals("99", buffer.get(99)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new SpinedBuffer.OfLong(-1))
+        );
+    }
+
+    @Test
+    void testGetByIndexOverManyChunks() {
+        final SpinedBuffer<Integer> buffer = new SpinedBuffer<>();
+        final SpinedBuffer.OfLong longBuffer = new SpinedBuffer.OfLong();
+        for (int i = 0; i < 10_000; i++) {
+            buffer.accept(i);
+            longBuffer.accept(i * 3L);
+        }
+
+        assertAll(
+                () -> assertEquals(0, buffer.get(0)),
+                () -> assertEquals(16, buffer.get(16)),
+                () -> assertEquals(4_321, buffer.get(4_321)),
+                () -> assertEquals(9_999, buffer.get(9_999)),
+                () -> assertEquals(3 * 7_777L, longBuffer.get(7_777)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(10_000)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> longBuffer.get(-1))
+        );
+    }
+
+    @Test
+    void testToArrayCopiesEveryChunk() {
+        final SpinedBuffer<String> buffer = new SpinedBuffer<>(4);
+        IntStream.range(0, 1_000).mapToObj(Integer::toString).forEach(buffer);
+
+        final String[] expected = IntStream.range(0, 1_000).mapToObj(Integer::toString).toArray(String[]::new);
+
+        assertArrayEquals(expected, buffer.toArray(String[]::new));
+    }
+
+    @Test
+    void testAppendAllLinksTheChunksOfPartiallyFilledBuffers() {
+        final SpinedBuffer.OfInt left = new SpinedBuffer.OfInt();
+        final SpinedBuffer.OfInt right = new SpinedBuffer.OfInt();
+        IntStream.range(0, 100).forEach(left);
+        IntStream.range(100, 137).forEach(right);
+
+        left.appendAll(right);
+        IntStream.range(137, 1_000).forEach(left);
+
+        final int[] expected = IntStream.range(0, 1_000).toArray();
+
+        assertAll(
+                () -> assertArrayEquals(expected, left.asPrimitiveArray()),
+                () -> assertArrayEquals(expected, StreamSupport.intStream(left.spliterator(), true).toArray()),
+                () -> assertEquals(99, left.get(99)),
+                () -> assertEquals(100, left.get(100)),
+                () -> assertEquals(136, left.get(136)),
+                () -> assertEquals(137, left.get(137)),
+                () -> assertTrue(right.isEmpty()),
+                () -> assertThrows(IllegalArgumentException.class, () -> left.appendAll(left))
+        );
+    }
+
+    @Test
+    void testChunksAfterManyAppendsAreSizedByTheCapacity() {
+        final SpinedBuffer.OfInt buffer = new SpinedBuffer.OfInt();
+        final Sequence.Builder<Integer> builder = Sequence.builder();
+        for (int i = 0; i < 40; i++) {
+            final SpinedBuffer.OfInt other = new SpinedBuffer.OfInt();
+            final Sequence.Builder<Integer> otherBuilder = Sequence.builder();
+            for (int j = 0; j < 16; j++) {
+                other.accept(i * 16 + j);
+                otherBuilder.accept(i * 16 + j);
+            }
+            buffer.appendAll(other);
+            builder.addAll(otherBuilder);
+        }
+        IntStream.range(640, 100_000).forEach(buffer);
+        IntStream.range(640, 100_000).forEach(builder::accept);
+
+        final int[] expected = IntStream.range(0, 100_000).toArray();
+
+        assertAll(
+                () -> assertArrayEquals(expected, buffer.asPrimitiveArray()),
+                () -> assertEquals(640, buffer.get(640)),
+                () -> assertEquals(99_999, buffer.get(99_999)),
+                () -> assertEquals(100_000L, builder.build().count())
+        );
+    }
+
+    @Test
+    void testAppendAllOfObjectBuffers() {
+        final SpinedBuffer<Integer> left = new SpinedBuffer<>();
+        final SpinedBuffer<Integer> empty = new SpinedBuffer<>();
+        final SpinedBuffer<Integer> right = new SpinedBuffer<>();
+        IntStream.range(0, 5).forEach(left::accept);
+        IntStream.range(5, 50).forEach(right::accept);
+
+        left.appendAll(empty).appendAll(right);
+        left.accept(50);
+
+        final List<Integer> traversed = new ArrayList<>();
+        left.forEach(traversed::add);
+
+        assertAll(
+                () -> assertEquals(IntStream.rangeClosed(0, 50).boxed().collect(Collectors.toList()), traversed),
+                () -> assertEquals(51L, left.count()),
+                () -> assertEquals(5, left.get(5)),
+                () -> assertEquals(0L, right.count())
+        );
+    }
+
+    @Test
+    void testSpliteratorSplitsTheRemainingElementsInHalves() {
+        final SpinedBuffer.OfDouble buffer = new SpinedBuffer.OfDouble();
+        for (int i = 0; i < 3_000; i++) {
+            buffer.accept(i);
+        }
+
+        final Spliterator.OfDouble suffix = buffer.spliterator();
+        final Spliterator.OfDouble prefix = suffix.trySplit();
+        assertNotNull(prefix);
+        final Spliterator.OfDouble prefixOfSuffix = suffix.trySplit();
+        assertNotNull(prefixOfSuffix);
+
+        final double[] first = new double[1];
+        prefixOfSuffix.tryAdvance((double d) -> first[0] = d);
+
+        assertAll(
+                () -> assertEquals(1_500L, prefix.estimateSize()),
+                () -> assertEquals(749L, prefixOfSuffix.estimateSize()),
+                () -> assertEquals(750L, suffix.estimateSize()),
+                () -> assertEquals(1_500.0, first[0])
+        );
+    }
+
+    @Test
+    void testParallelCollectorsMergeThreadLocalBuffers() {
+        final int[] expected = IntStream.range(0, 100_000).toArray();
+
+        final SpinedBuffer<Integer> buffer = IntStream.range(0, 100_000).boxed().parallel()
+                .collect(CollectorsX.toSpinedBuffer());
+        final int[] ints = IntStream.range(0, 100_000).boxed().parallel()
+                .collect(CollectorsX.intArrayOf(Integer::intValue));
+
+        assertAll(
+                () -> assertArrayEquals(IntStream.of(expected).boxed().toArray(Integer[]::new), buffer.toArray(Integer[]::new)),
+                () -> assertArrayEquals(expected, ints)
+        );
+    }
+
+    @Test
+    void testSequenceBuildersFilledSeparatelyAreMergedAndSplitInParallel() {
+        final Sequence.Builder<Integer> first = Sequence.builder();
+        final Sequence.Builder<Integer> second = Sequence.builder();
+        IntStream.range(0, 10_000).forEach(first::accept);
+        IntStream.range(10_000, 20_000).forEach(second::accept);
+
+        final Sequence<Integer> sequence = first.addAll(second).build();
+
+        assertAll(
+                () -> assertEquals(20_000L, sequence.count()),
+                () -> assertEquals(IntStream.range(0, 20_000).asLongStream().sum(),
+                        sequence.parallel().fold(0L, (sum, i) -> sum + i, Long::sum)),
+                () -> assertEquals(0L, second.build().count())
+        );
+    }
+
+    @Test
+    void testBuilderWithoutAddAllOverrideAddsTheElementsOfTheOtherBuilder() {
+        final List<Integer> elements = new ArrayList<>();
+        final Sequence.Builder<Integer> listBuilder = new Sequence.Builder<Integer>() {
+            @Override
+            public void accept(final Integer integer) {
+                elements.add(integer);
+            }
+
+            @Override
+            public Sequence<Integer> build() {
+                return Sequence.of(elements);
+            }
+        };
+        final Sequence.Builder<Integer> other = Sequence.builder();
+        IntStream.range(0, 100).forEach(other::accept);
+        listBuilder.accept(-1);
+
+        final Sequence<Integer> merged = Sequence.<Integer>builder().addAll(listBuilder.addAll(other)).build();
+
+        assertAll(
+                () -> assertEquals(101L, merged.count()),
+                () -> assertEquals(-1, merged.first()),
+                () -> assertEquals(99, merged.last())
+        );
+    }
 }
@@ -57,6 +57,26 @@ class StreamXTest {
         assertEquals(11, lengthSum);
     }
 
+    @Test
+    void testSortedByPrimitiveKeysComputesKeysWhenConsumed() {
+        final List<String> strings = Arrays.asList("This", "is", "a", "StreamX", "test");
+        final AtomicInteger nrOfKeys = new AtomicInteger();
+
+        final StreamX<String> sorted = StreamX.of(strings).sortedByInt(s -> {
+            nrOfKeys.incrementAndGet();
+            return s.length();
+        });
+        final int nrOfKeysBeforeConsumption = nrOfKeys.get();
+
+        assertAll(
+                () -> assertEquals(Arrays.asList("a", "is", "This", "test", "StreamX"), sorted.collect(Collectors.toList())),
+                () -> assertEquals(0, nrOfKeysBeforeConsumption),
+                () -> assertEquals(strings.size(), nrOfKeys.get()),
+                () -> assertEquals(Arrays.asList("StreamX", "This", "test"),
+                        StreamX.of(strings).sortedByDouble(s -> -s.length()).limit(3).collect(Collectors.toList()))
+        );
+    }
+
     @Test
     void testStreamXIsLazyAndSequential() {
         final List<String> strings = Arrays.asList("This", "is", "a", "StreamX", "test");
@@ -0,0 +1,122 @@
+package org.hzt.geometry;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * The cells of a boolean grid as bits in a long array. The bits beyond the last cell are always zero.
+ */
+final class BitCells {
+
+    final int size;
+    private final long[] words;
+
+    BitCells(final int size) {
+        this(size, new long[(size + Long.SIZE - 1) >>> 6]);
+    }
+
+    private BitCells(final int size, final long[] words) {
+        this.size = size;
+        this.words = words;
+    }
+
+    boolean get(final int index) {
+        checkIndex(index);
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    void set(final int index, final boolean value) {
+        checkIndex(index);
+        if (value) {
+            words[index >>> 6] |= 1L << index;
+        } else {
+            words[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is not in [0, " + size + ")");
+        }
+    }
+
+    void fill(final boolean value) {
+        Arrays.fill(words, value ? -1L : 0L);
+        clearTail();
+    }
+
+    int count() {
+        int count = 0;
+        for (final long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    BitCells not() {
+        final long[] inverted = new long[words.length];
+        for (int i = 0; i < words.length; i++) {
+            inverted[i] = ~words[i];
+        }
+        final BitCells cells = new BitCells(size, inverted);
+        cells.clearTail();
+        return cells;
+    }
+
+    BitCells copy() {
+        return new BitCells(size, words.clone());
+    }
+
+    private void clearTail() {
+        if ((size & (Long.SIZE - 1)) != 0) {
+            words[words.length - 1] &= -1L >>> (Long.SIZE - (size & (Long.SIZE - 1)));
+        }
+    }
+
+    PrimitiveIterator.OfInt trueIndexIterator() {
+        return new PrimitiveIterator.OfInt() {
+
+            private int wordIndex = -1;
+            private long word;
+
+            @Override
+            public boolean hasNext() {
+                while (word == 0) {
+                    if (++wordIndex >= words.length) {
+                        return false;
+                    }
+                    word = words[wordIndex];
+                }
+                return true;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final int index = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                return index;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BitCells that = (BitCells) o;
+        return size == that.size && Arrays.equals(words, that.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * size + Arrays.hashCode(words);
+    }
+}
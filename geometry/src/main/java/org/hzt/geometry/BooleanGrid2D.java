@@ -0,0 +1,192 @@
+package org.hzt.geometry;
+
+import org.hzt.utils.sequences.primitives.IntSequence;
+
+import java.util.function.IntPredicate;
+
+/**
+ * A mutable grid of booleans stored as bits in one row major long array. It takes one bit per cell, without an array
+ * object per row or an object per point.
+ */
+public final class BooleanGrid2D implements Grid2D {
+
+    private final int width;
+    private final int height;
+    private final BitCells cells;
+
+    private BooleanGrid2D(final int width, final int height, final BitCells cells) {
+        this.width = width;
+        this.height = height;
+        this.cells = cells;
+    }
+
+    public static BooleanGrid2D of(final int width, final int height) {
+        return new BooleanGrid2D(width, height, new BitCells(GridSizes.size(width, height)));
+    }
+
+    /**
+     * @param rows the rows of the grid, which must all have the same length
+     * @return a grid with a copy of the rows
+     */
+    public static BooleanGrid2D of(final boolean[][] rows) {
+        final int width = rows.length == 0 ? 0 : rows[0].length;
+        final BooleanGrid2D grid = of(width, rows.length);
+        for (int y = 0; y < rows.length; y++) {
+            GridSizes.requireRowLength(rows[y].length, width, y);
+            for (int x = 0; x < width; x++) {
+                grid.cells.set(y * width + x, rows[y][x]);
+            }
+        }
+        return grid;
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    public boolean get(final int x, final int y) {
+        return cells.get(index(x, y));
+    }
+
+    public boolean getAt(final int index) {
+        return cells.get(index);
+    }
+
+    public void set(final int x, final int y, final boolean value) {
+        cells.set(index(x, y), value);
+    }
+
+    public void setAt(final int index, final boolean value) {
+        cells.set(index, value);
+    }
+
+    /**
+     * Sets every cell to the value for its index. The coordinates of an index are given by {@link #xOf(int)} and
+     * {@link #yOf(int)}.
+     *
+     * @param valueAtIndex the value of the cell at an index
+     * @return this grid
+     */
+    public BooleanGrid2D setAll(final IntPredicate valueAtIndex) {
+        for (int i = 0; i < cells.size; i++) {
+            cells.set(i, valueAtIndex.test(i));
+        }
+        return this;
+    }
+
+    public void fill(final boolean value) {
+        cells.fill(value);
+    }
+
+    /**
+     * @return the indices of the true cells in ascending order
+     */
+    public IntSequence trueIndices() {
+        return cells::trueIndexIterator;
+    }
+
+    public IntSequence trueIndicesInRow(final int y) {
+        return rowIndices(y).filter(cells::get);
+    }
+
+    public IntSequence trueIndicesInColumn(final int x) {
+        return columnIndices(x).filter(cells::get);
+    }
+
+    public IntSequence trueIndicesInRegion(final int x, final int y, final int width, final int height) {
+        return regionIndices(x, y, width, height).filter(cells::get);
+    }
+
+    public boolean any() {
+        return cells.count() > 0;
+    }
+
+    public boolean all() {
+        return cells.count() == cells.size;
+    }
+
+    public boolean none() {
+        return !any();
+    }
+
+    public int count() {
+        return cells.count();
+    }
+
+    public BooleanGrid2D not() {
+        return new BooleanGrid2D(width, height, cells.not());
+    }
+
+    public IntGrid2D toIntGrid(final int trueValue, final int falseValue) {
+        return IntGrid2D.of(width, height).setAll(index -> cells.get(index) ? trueValue : falseValue);
+    }
+
+    /**
+     * Sets the connected cells that have the same value as the cell at (x, y) to the new value.
+     *
+     * @param x the x coordinate of the cell to start from
+     * @param y the y coordinate of the cell to start from
+     * @param newValue the value to fill with
+     * @param neighborhood the cells that are connected to a cell
+     * @return the number of filled cells
+     */
+    public int floodFill(final int x, final int y, final boolean newValue, final Neighborhood neighborhood) {
+        final int start = index(x, y);
+        if (cells.get(start) == newValue) {
+            return 0;
+        }
+        return FloodFill.fill(start, (index, consumer) -> forEachNeighbor(index, neighborhood, consumer),
+                index -> cells.get(index) != newValue, index -> cells.set(index, newValue));
+    }
+
+    public BooleanGrid2D copy() {
+        return new BooleanGrid2D(width, height, cells.copy());
+    }
+
+    public boolean[][] toArray() {
+        final boolean[][] rows = new boolean[height][width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                rows[y][x] = cells.get(y * width + x);
+            }
+        }
+        return rows;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BooleanGrid2D that = (BooleanGrid2D) o;
+        return width == that.width && height == that.height && cells.equals(that.cells);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * width + height) + cells.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        for (int y = 0; y < height; y++) {
+            if (y > 0) {
+                sb.append('\n');
+            }
+            for (int x = 0; x < width; x++) {
+                sb.append(cells.get(y * width + x) ? '#' : '.');
+            }
+        }
+        return sb.toString();
+    }
+}
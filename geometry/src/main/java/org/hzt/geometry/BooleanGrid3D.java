@@ -0,0 +1,168 @@
+package org.hzt.geometry;
+
+import org.hzt.utils.sequences.primitives.IntSequence;
+
+import java.util.function.IntPredicate;
+
+/**
+ * A mutable grid of booleans stored as bits in one long array, plane by plane and row by row. It takes one bit per cell,
+ * without nested arrays or an object per point.
+ */
+public final class BooleanGrid3D implements Grid3D {
+
+    private final int width;
+    private final int height;
+    private final int depth;
+    private final BitCells cells;
+
+    private BooleanGrid3D(final int width, final int height, final int depth, final BitCells cells) {
+        this.width = width;
+        this.height = height;
+        this.depth = depth;
+        this.cells = cells;
+    }
+
+    public static BooleanGrid3D of(final int width, final int height, final int depth) {
+        return new BooleanGrid3D(width, height, depth, new BitCells(GridSizes.size(width, height, depth)));
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    @Override
+    public int depth() {
+        return depth;
+    }
+
+    public boolean get(final int x, final int y, final int z) {
+        return cells.get(index(x, y, z));
+    }
+
+    public boolean getAt(final int index) {
+        return cells.get(index);
+    }
+
+    public void set(final int x, final int y, final int z, final boolean value) {
+        cells.set(index(x, y, z), value);
+    }
+
+    public void setAt(final int index, final boolean value) {
+        cells.set(index, value);
+    }
+
+    /**
+     * Sets every cell to the value for its index. The coordinates of an index are given by {@link #xOf(int)},
+     * {@link #yOf(int)} and {@link #zOf(int)}.
+     *
+     * @param valueAtIndex the value of the cell at an index
+     * @return this grid
+     */
+    public BooleanGrid3D setAll(final IntPredicate valueAtIndex) {
+        for (int i = 0; i < cells.size; i++) {
+            cells.set(i, valueAtIndex.test(i));
+        }
+        return this;
+    }
+
+    public void fill(final boolean value) {
+        cells.fill(value);
+    }
+
+    /**
+     * @return the indices of the true cells in ascending order
+     */
+    public IntSequence trueIndices() {
+        return cells::trueIndexIterator;
+    }
+
+    public IntSequence trueIndicesInPlane(final int z) {
+        return planeIndices(z).filter(cells::get);
+    }
+
+    public boolean any() {
+        return cells.count() > 0;
+    }
+
+    public boolean all() {
+        return cells.count() == cells.size;
+    }
+
+    public boolean none() {
+        return !any();
+    }
+
+    public int count() {
+        return cells.count();
+    }
+
+    public BooleanGrid3D not() {
+        return new BooleanGrid3D(width, height, depth, cells.not());
+    }
+
+    public IntGrid3D toIntGrid(final int trueValue, final int falseValue) {
+        return IntGrid3D.of(width, height, depth).setAll(index -> cells.get(index) ? trueValue : falseValue);
+    }
+
+    /**
+     * Sets the connected cells that have the same value as the cell at (x, y, z) to the new value.
+     *
+     * @param x the x coordinate of the cell to start from
+     * @param y the y coordinate of the cell to start from
+     * @param z the z coordinate of the cell to start from
+     * @param newValue the value to fill with
+     * @param neighborhood the cells that are connected to a cell
+     * @return the number of filled cells
+     */
+    public int floodFill(final int x, final int y, final int z, final boolean newValue, final Neighborhood neighborhood) {
+        final int start = index(x, y, z);
+        if (cells.get(start) == newValue) {
+            return 0;
+        }
+        return FloodFill.fill(start, (index, consumer) -> forEachNeighbor(index, neighborhood, consumer),
+                index -> cells.get(index) != newValue, index -> cells.set(index, newValue));
+    }
+
+    public BooleanGrid3D copy() {
+        return new BooleanGrid3D(width, height, depth, cells.copy());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final BooleanGrid3D that = (BooleanGrid3D) o;
+        return width == that.width && height == that.height && depth == that.depth && cells.equals(that.cells);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * width + height) + depth) + cells.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        for (int z = 0; z < depth; z++) {
+            for (int y = 0; y < height; y++) {
+                if (z > 0 || y > 0) {
+                    sb.append(y == 0 ? "\n\n" : "\n");
+                }
+                for (int x = 0; x < width; x++) {
+                    sb.append(cells.get((z * height + y) * width + x) ? '#' : '.');
+                }
+            }
+        }
+        return sb.toString();
+    }
+}
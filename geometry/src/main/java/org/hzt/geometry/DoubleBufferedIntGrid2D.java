@@ -0,0 +1,65 @@
+package org.hzt.geometry;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Steps a grid through generations of a stencil, like the generations of Conway's Game of Life. The next generation is
+ * written to a second grid of the same size, after which the grids swap roles, so a step does not allocate.
+ * <p>
+ * The grid returned by {@link #current()} is overwritten by the step after the next one. Copy it to keep a generation.
+ */
+public final class DoubleBufferedIntGrid2D {
+
+    private IntGrid2D current;
+    private IntGrid2D next;
+    private long generation;
+
+    private DoubleBufferedIntGrid2D(final IntGrid2D current, final IntGrid2D next) {
+        this.current = current;
+        this.next = next;
+    }
+
+    /**
+     * @param initial the first generation, which is copied
+     * @return a double buffered grid at generation 0
+     */
+    public static DoubleBufferedIntGrid2D of(final IntGrid2D initial) {
+        return new DoubleBufferedIntGrid2D(initial.copy(), IntGrid2D.of(initial.width(), initial.height()));
+    }
+
+    public IntGrid2D current() {
+        return current;
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    public DoubleBufferedIntGrid2D step(final IntStencil stencil) {
+        return swap(current.stencilInto(stencil, next));
+    }
+
+    public DoubleBufferedIntGrid2D step(final IntStencil stencil, final ForkJoinPool pool) {
+        return swap(current.parallelStencilInto(stencil, next, pool));
+    }
+
+    /**
+     * @param nrOfSteps the number of generations to step
+     * @param stencil the stencil that computes the next generation of a cell
+     * @param pool the pool to compute the generations in
+     * @return this double buffered grid
+     */
+    public DoubleBufferedIntGrid2D steps(final int nrOfSteps, final IntStencil stencil, final ForkJoinPool pool) {
+        for (int i = 0; i < nrOfSteps; i++) {
+            step(stencil, pool);
+        }
+        return this;
+    }
+
+    private DoubleBufferedIntGrid2D swap(final IntGrid2D nextGeneration) {
+        next = current;
+        current = nextGeneration;
+        generation++;
+        return this;
+    }
+}
@@ -0,0 +1,54 @@
+package org.hzt.geometry;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Fills the connected cells of a flat grid with an explicit stack of indices, so the size of a region is not bounded by
+ * the call stack. Filling a cell must make it unfillable, which also keeps it from being pushed twice.
+ */
+final class FloodFill implements IntConsumer {
+
+    private final IntPredicate isFillable;
+    private final IntConsumer fill;
+    private int[] stack = new int[16];
+    private int size;
+    private int count;
+
+    private FloodFill(final IntPredicate isFillable, final IntConsumer fill) {
+        this.isFillable = isFillable;
+        this.fill = fill;
+    }
+
+    /**
+     * @return the number of filled cells
+     */
+    static int fill(final int startIndex, final Neighbors neighbors, final IntPredicate isFillable, final IntConsumer fill) {
+        final FloodFill floodFill = new FloodFill(isFillable, fill);
+        floodFill.accept(startIndex);
+        while (floodFill.size > 0) {
+            neighbors.forEachNeighbor(floodFill.stack[--floodFill.size], floodFill);
+        }
+        return floodFill.count;
+    }
+
+    @Override
+    public void accept(final int index) {
+        if (!isFillable.test(index)) {
+            return;
+        }
+        fill.accept(index);
+        count++;
+        if (size == stack.length) {
+            stack = Arrays.copyOf(stack, size << 1);
+        }
+        stack[size++] = index;
+    }
+
+    @FunctionalInterface
+    interface Neighbors {
+
+        void forEachNeighbor(int index, IntConsumer indexConsumer);
+    }
+}
@@ -0,0 +1,106 @@
+package org.hzt.geometry;
+
+import org.hzt.utils.ranges.IntRange;
+import org.hzt.utils.sequences.primitives.IntSequence;
+
+import java.util.function.IntConsumer;
+
+/**
+ * The shape of a grid of which the cells are stored row by row in one flat array. The cell at (x, y) has index
+ * {@code y * width + x}.
+ *
+ * @see IntGrid2D
+ * @see LongGrid2D
+ * @see BooleanGrid2D
+ */
+public interface Grid2D {
+
+    int width();
+
+    int height();
+
+    default int size() {
+        return width() * height();
+    }
+
+    default boolean contains(final int x, final int y) {
+        return x >= 0 && x < width() && y >= 0 && y < height();
+    }
+
+    default int index(final int x, final int y) {
+        if (!contains(x, y)) {
+            throw new IndexOutOfBoundsException("(" + x + ", " + y + ") is not in a grid of " + width() + "x" + height());
+        }
+        return y * width() + x;
+    }
+
+    /**
+     * @param packedPoint a point packed by {@link GridPoint2D#pack(int, int)}
+     * @return the index of the point
+     */
+    default int index(final long packedPoint) {
+        return index(GridPoint2D.unpackX(packedPoint), GridPoint2D.unpackY(packedPoint));
+    }
+
+    default int xOf(final int index) {
+        return index % width();
+    }
+
+    default int yOf(final int index) {
+        return index / width();
+    }
+
+    default long packedPointOf(final int index) {
+        return GridPoint2D.pack(xOf(index), yOf(index));
+    }
+
+    /**
+     * Passes the index of every neighbor in the grid to the consumer, row by row. No points are allocated.
+     *
+     * @param x the x coordinate of the cell
+     * @param y the y coordinate of the cell
+     * @param neighborhood the neighbors to visit
+     * @param indexConsumer the consumer of the neighbor indices
+     */
+    default void forEachNeighbor(final int x, final int y, final Neighborhood neighborhood, final IntConsumer indexConsumer) {
+        for (int dy = -1; dy <= 1; dy++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                if (neighborhood.isNeighbor(dx, dy, 0) && contains(x + dx, y + dy)) {
+                    indexConsumer.accept((y + dy) * width() + x + dx);
+                }
+            }
+        }
+    }
+
+    default void forEachNeighbor(final int index, final Neighborhood neighborhood, final IntConsumer indexConsumer) {
+        forEachNeighbor(xOf(index), yOf(index), neighborhood, indexConsumer);
+    }
+
+    default IntSequence indices() {
+        return IntRange.of(0, size());
+    }
+
+    default IntSequence rowIndices(final int y) {
+        return regionIndices(0, y, width(), 1);
+    }
+
+    default IntSequence columnIndices(final int x) {
+        return regionIndices(x, 0, 1, height());
+    }
+
+    /**
+     * @param x the x coordinate of the top left cell of the region
+     * @param y the y coordinate of the top left cell of the region
+     * @param width the width of the region
+     * @param height the height of the region
+     * @return the indices of the cells in the region, row by row
+     */
+    default IntSequence regionIndices(final int x, final int y, final int width, final int height) {
+        if (width < 0 || height < 0 || (width > 0 && height > 0 && !(contains(x, y) && contains(x + width - 1, y + height - 1)))) {
+            throw new IndexOutOfBoundsException("Region of " + width + "x" + height + " at (" + x + ", " + y + ") is not in a grid of " +
+                                                width() + "x" + height());
+        }
+        final int gridWidth = width();
+        return IntRange.of(0, width * height).map(i -> (y + i / width) * gridWidth + x + i % width);
+    }
+}
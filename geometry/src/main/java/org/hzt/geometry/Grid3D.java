@@ -0,0 +1,116 @@
+package org.hzt.geometry;
+
+import org.hzt.utils.ranges.IntRange;
+import org.hzt.utils.sequences.primitives.IntSequence;
+
+import java.util.function.IntConsumer;
+
+/**
+ * The shape of a grid of which the cells are stored plane by plane and row by row in one flat array. The cell at
+ * (x, y, z) has index {@code (z * height + y) * width + x}.
+ *
+ * @see IntGrid3D
+ * @see LongGrid3D
+ * @see BooleanGrid3D
+ */
+public interface Grid3D {
+
+    int width();
+
+    int height();
+
+    int depth();
+
+    default int size() {
+        return width() * height() * depth();
+    }
+
+    default boolean contains(final int x, final int y, final int z) {
+        return x >= 0 && x < width() && y >= 0 && y < height() && z >= 0 && z < depth();
+    }
+
+    default int index(final int x, final int y, final int z) {
+        if (!contains(x, y, z)) {
+            throw new IndexOutOfBoundsException("(" + x + ", " + y + ", " + z + ") is not in a grid of " +
+                                                width() + "x" + height() + "x" + depth());
+        }
+        return (z * height() + y) * width() + x;
+    }
+
+    /**
+     * @param packedPoint a point packed by {@link GridPoint3D#pack(int, int, int)}
+     * @return the index of the point
+     */
+    default int index(final long packedPoint) {
+        return index(GridPoint3D.unpackX(packedPoint), GridPoint3D.unpackY(packedPoint), GridPoint3D.unpackZ(packedPoint));
+    }
+
+    default int xOf(final int index) {
+        return index % width();
+    }
+
+    default int yOf(final int index) {
+        return index / width() % height();
+    }
+
+    default int zOf(final int index) {
+        return index / (width() * height());
+    }
+
+    /**
+     * Passes the index of every neighbor in the grid to the consumer, plane by plane and row by row. No points are
+     * allocated.
+     *
+     * @param x the x coordinate of the cell
+     * @param y the y coordinate of the cell
+     * @param z the z coordinate of the cell
+     * @param neighborhood the neighbors to visit
+     * @param indexConsumer the consumer of the neighbor indices
+     */
+    default void forEachNeighbor(final int x, final int y, final int z, final Neighborhood neighborhood,
+                                 final IntConsumer indexConsumer) {
+        for (int dz = -1; dz <= 1; dz++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    if (neighborhood.isNeighbor(dx, dy, dz) && contains(x + dx, y + dy, z + dz)) {
+                        indexConsumer.accept(((z + dz) * height() + y + dy) * width() + x + dx);
+                    }
+                }
+            }
+        }
+    }
+
+    default void forEachNeighbor(final int index, final Neighborhood neighborhood, final IntConsumer indexConsumer) {
+        forEachNeighbor(xOf(index), yOf(index), zOf(index), neighborhood, indexConsumer);
+    }
+
+    default IntSequence indices() {
+        return IntRange.of(0, size());
+    }
+
+    default IntSequence planeIndices(final int z) {
+        return regionIndices(0, 0, z, width(), height(), 1);
+    }
+
+    default IntSequence rowIndices(final int y, final int z) {
+        return regionIndices(0, y, z, width(), 1, 1);
+    }
+
+    /**
+     * @return the indices of the cells in the region, plane by plane and row by row
+     */
+    @SuppressWarnings("squid:S107")
+    default IntSequence regionIndices(final int x, final int y, final int z, final int width, final int height, final int depth) {
+        final boolean isEmpty = width == 0 || height == 0 || depth == 0;
+        if (width < 0 || height < 0 || depth < 0 ||
+            (!isEmpty && !(contains(x, y, z) && contains(x + width - 1, y + height - 1, z + depth - 1)))) {
+            throw new IndexOutOfBoundsException("Region of " + width + "x" + height + "x" + depth + " at (" + x + ", " + y + ", " + z +
+                                                ") is not in a grid of " + width() + "x" + height() + "x" + depth());
+        }
+        final int gridWidth = width();
+        final int gridHeight = height();
+        final int planeSize = width * height;
+        return IntRange.of(0, planeSize * depth)
+                .map(i -> ((z + i / planeSize) * gridHeight + y + i % planeSize / width) * gridWidth + x + i % width);
+    }
+}
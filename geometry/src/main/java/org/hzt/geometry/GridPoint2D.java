@@ -7,10 +7,38 @@ public interface GridPoint2D {
     static GridPoint2D from(final int x, final int y) {
         return new GridPoint2DImpl(x, y);
     }
+
+    /**
+     * Packs a point in a long, x in the high and y in the low 32 bits. A packed point needs no object per point.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the packed point
+     */
+    static long pack(final int x, final int y) {
+        return ((long) x << Integer.SIZE) | (y & 0xFFFF_FFFFL);
+    }
+
+    static int unpackX(final long packedPoint) {
+        return (int) (packedPoint >> Integer.SIZE);
+    }
+
+    static int unpackY(final long packedPoint) {
+        return (int) packedPoint;
+    }
+
+    static GridPoint2D fromPacked(final long packedPoint) {
+        return new GridPoint2DImpl(unpackX(packedPoint), unpackY(packedPoint));
+    }
+
     int getX();
 
     int getY();
 
+    default long packed() {
+        return pack(getX(), getY());
+    }
+
     default GridPoint2D multiply(final GridPoint2D other) {
         return new GridPoint2DImpl(getX() * other.getX(), getY() * other.getY());
     }
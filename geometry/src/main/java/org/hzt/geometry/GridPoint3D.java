@@ -4,15 +4,58 @@ public interface GridPoint3D {
 
     GridPoint3D ZERO = new GridPoint3DImpl(0, 0, 0);
 
+    int MIN_PACKED_COORDINATE = -(1 << 20);
+    int MAX_PACKED_COORDINATE = (1 << 20) - 1;
+
     static GridPoint3D from(final int x, final int y, final int z) {
         return new GridPoint3DImpl(x, y, z);
     }
+
+    /**
+     * Packs a point in a long with 21 bits per coordinate, so every coordinate must be in the range
+     * [{@link #MIN_PACKED_COORDINATE}, {@link #MAX_PACKED_COORDINATE}].
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @param z the z coordinate
+     * @return the packed point
+     */
+    static long pack(final int x, final int y, final int z) {
+        if (x < MIN_PACKED_COORDINATE || x > MAX_PACKED_COORDINATE ||
+            y < MIN_PACKED_COORDINATE || y > MAX_PACKED_COORDINATE ||
+            z < MIN_PACKED_COORDINATE || z > MAX_PACKED_COORDINATE) {
+            throw new IllegalArgumentException("(" + x + ", " + y + ", " + z + ") can not be packed in a long");
+        }
+        final long mask = (1L << 21) - 1;
+        return ((x & mask) << 42) | ((y & mask) << 21) | (z & mask);
+    }
+
+    static int unpackX(final long packedPoint) {
+        return (int) ((packedPoint << 1) >> 43);
+    }
+
+    static int unpackY(final long packedPoint) {
+        return (int) ((packedPoint << 22) >> 43);
+    }
+
+    static int unpackZ(final long packedPoint) {
+        return (int) ((packedPoint << 43) >> 43);
+    }
+
+    static GridPoint3D fromPacked(final long packedPoint) {
+        return new GridPoint3DImpl(unpackX(packedPoint), unpackY(packedPoint), unpackZ(packedPoint));
+    }
+
     int getX();
 
     int getY();
     
     int getZ();
 
+    default long packed() {
+        return pack(getX(), getY(), getZ());
+    }
+
     default GridPoint3D multiply(final GridPoint3D other) {
         return new GridPoint3DImpl(getX() * other.getX(), getY() * other.getY(), getZ() * other.getZ());
     }
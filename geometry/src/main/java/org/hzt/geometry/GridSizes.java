@@ -0,0 +1,29 @@
+package org.hzt.geometry;
+
+import java.util.Arrays;
+
+final class GridSizes {
+
+    private GridSizes() {
+    }
+
+    static int size(final int... dimensions) {
+        long size = 1;
+        for (final int dimension : dimensions) {
+            if (dimension < 0) {
+                throw new IllegalArgumentException("A grid dimension can not be negative: " + Arrays.toString(dimensions));
+            }
+            size *= dimension;
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("A grid of " + Arrays.toString(dimensions) + " does not fit in an array");
+            }
+        }
+        return (int) size;
+    }
+
+    static void requireRowLength(final int length, final int width, final int y) {
+        if (length != width) {
+            throw new IllegalArgumentException("Row " + y + " has length " + length + ", expected " + width);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.hzt.geometry;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * Splits a range of rows, planes or cells of a flat grid into contiguous sub ranges that are processed in a fork join
+ * pool. A contiguous range of a row major array is a contiguous block of memory, so every task streams through its own
+ * part of the array.
+ * <p>
+ * A range is split in halves until it is no longer than the larger of the minimum range length and a fourth of the range
+ * length per worker, so there are a few tasks per worker to balance the load without tasks of only a few cells.
+ */
+final class GridTasks {
+
+    /**
+     * The minimum number of cells per task, so the work of a task outweighs forking it.
+     */
+    static final int MIN_CELLS_PER_TASK = 1 << 13;
+
+    private GridTasks() {
+    }
+
+    /**
+     * @param cellsPerUnit the number of cells in a row, plane or cell
+     * @return the minimum number of rows, planes or cells per task
+     */
+    static int minLengthPerTask(final int cellsPerUnit) {
+        return Math.max(1, MIN_CELLS_PER_TASK / Math.max(1, cellsPerUnit));
+    }
+
+    static void forEachRange(final ForkJoinPool pool, final int length, final int minLengthPerTask, final RangeAction action) {
+        pool.invoke(new RangeActionTask(action, 0, length, threshold(pool, length, minLengthPerTask)));
+    }
+
+    /**
+     * @param combiner an associative operator that combines the results of two adjacent ranges
+     * @return the result of the reducer for the whole range
+     */
+    static int reduceRanges(final ForkJoinPool pool,
+                            final int length,
+                            final int minLengthPerTask,
+                            final IntRangeReducer reducer,
+                            final IntBinaryOperator combiner) {
+        return pool.invoke(new IntRangeReduceTask(reducer, combiner, 0, length, threshold(pool, length, minLengthPerTask)));
+    }
+
+    private static int threshold(final ForkJoinPool pool, final int length, final int minLengthPerTask) {
+        return Math.max(minLengthPerTask, length / (pool.getParallelism() << 2));
+    }
+
+    @FunctionalInterface
+    interface RangeAction {
+
+        void apply(int from, int to);
+    }
+
+    @FunctionalInterface
+    interface IntRangeReducer {
+
+        int reduce(int from, int to);
+    }
+
+    private static final class RangeActionTask extends RecursiveAction {
+
+        private final transient RangeAction action;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        RangeActionTask(final RangeAction action, final int from, final int to, final int threshold) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                action.apply(from, to);
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(new RangeActionTask(action, from, middle, threshold), new RangeActionTask(action, middle, to, threshold));
+        }
+    }
+
+    private static final class IntRangeReduceTask extends RecursiveTask<Integer> {
+
+        private final transient IntRangeReducer reducer;
+        private final transient IntBinaryOperator combiner;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        IntRangeReduceTask(final IntRangeReducer reducer,
+                           final IntBinaryOperator combiner,
+                           final int from,
+                           final int to,
+                           final int threshold) {
+            this.reducer = reducer;
+            this.combiner = combiner;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= threshold) {
+                return reducer.reduce(from, to);
+            }
+            final int middle = (from + to) >>> 1;
+            final IntRangeReduceTask prefix = new IntRangeReduceTask(reducer, combiner, from, middle, threshold);
+            prefix.fork();
+            final int suffix = new IntRangeReduceTask(reducer, combiner, middle, to, threshold).compute();
+            return combiner.applyAsInt(prefix.join(), suffix);
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package org.hzt.geometry;
+
+import org.hzt.utils.sequences.primitives.IntSequence;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A mutable grid of ints in one row major int array. It takes four bytes per cell, without an array object per row or an
+ * object per point.
+ * <p>
+ * The parallel operations split the rows into contiguous bands that are processed in the given fork join pool.
+ */
+public final class IntGrid2D implements Grid2D {
+
+    private static final int TRANSPOSE_TILE_SIZE = 32;
+
+    private final int width;
+    private final int height;
+    private final int[] values;
+
+    private IntGrid2D(final int width, final int height, final int[] values) {
+        this.width = width;
+        this.height = height;
+        this.values = values;
+    }
+
+    public static IntGrid2D of(final int width, final int height) {
+        return new IntGrid2D(width, height, new int[GridSizes.size(width, height)]);
+    }
+
+    /**
+     * @param rows the rows of the grid, which must all have the same length
+     * @return a grid with a copy of the rows
+     */
+    public static IntGrid2D of(final int[][] rows) {
+        final int width = rows.length == 0 ? 0 : rows[0].length;
+        final IntGrid2D grid = of(width, rows.length);
+        for (int y = 0; y < rows.length; y++) {
+            GridSizes.requireRowLength(rows[y].length, width, y);
+            System.arraycopy(rows[y], 0, grid.values, y * width, width);
+        }
+        return grid;
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    public int get(final int x, final int y) {
+        return values[index(x, y)];
+    }
+
+    public int getAt(final int index) {
+        return values[index];
+    }
+
+    public void set(final int x, final int y, final int value) {
+        values[index(x, y)] = value;
+    }
+
+    public void setAt(final int index, final int value) {
+        values[index] = value;
+    }
+
+    /**
+     * Sets every cell to the value for its index, like {@link Arrays#setAll(int[], IntUnaryOperator)}. The coordinates
+     * of an index are given by {@link #xOf(int)} and {@link #yOf(int)}.
+     *
+     * @param valueAtIndex the value of the cell at an index
+     * @return this grid
+     */
+    public IntGrid2D setAll(final IntUnaryOperator valueAtIndex) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = valueAtIndex.applyAsInt(i);
+        }
+        return this;
+    }
+
+    public void fill(final int value) {
+        Arrays.fill(values, value);
+    }
+
+    public IntSequence values() {
+        return indices().map(this::getAt);
+    }
+
+    public IntSequence row(final int y) {
+        return rowIndices(y).map(this::getAt);
+    }
+
+    public IntSequence column(final int x) {
+        return columnIndices(x).map(this::getAt);
+    }
+
+    public IntSequence region(final int x, final int y, final int width, final int height) {
+        return regionIndices(x, y, width, height).map(this::getAt);
+    }
+
+    public boolean any(final IntPredicate predicate) {
+        for (final int value : values) {
+            if (predicate.test(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean all(final IntPredicate predicate) {
+        return !any(predicate.negate());
+    }
+
+    public boolean none(final IntPredicate predicate) {
+        return !any(predicate);
+    }
+
+    public int count(final IntPredicate predicate) {
+        int count = 0;
+        for (final int value : values) {
+            if (predicate.test(value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public IntGrid2D map(final IntUnaryOperator mapper) {
+        final int[] mapped = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            mapped[i] = mapper.applyAsInt(values[i]);
+        }
+        return new IntGrid2D(width, height, mapped);
+    }
+
+    public IntGrid2D parallelMap(final IntUnaryOperator mapper, final ForkJoinPool pool) {
+        final int[] mapped = new int[values.length];
+        forEachRowBand(pool, (fromY, toY) -> {
+            for (int i = fromY * width, end = toY * width; i < end; i++) {
+                mapped[i] = mapper.applyAsInt(values[i]);
+            }
+        });
+        return new IntGrid2D(width, height, mapped);
+    }
+
+    /**
+     * @param identity the identity of the operator
+     * @param operator an associative operator
+     * @return the values combined by the operator in row major order, or the identity for an empty grid
+     */
+    public int reduce(final int identity, final IntBinaryOperator operator) {
+        return reduce(identity, operator, 0, values.length);
+    }
+
+    /**
+     * Reduces the row bands in parallel and combines their results in row major order.
+     *
+     * @param identity the identity of the operator
+     * @param operator an associative operator
+     * @param pool the pool to reduce the row bands in
+     * @return the values combined by the operator, or the identity for an empty grid
+     */
+    public int parallelReduce(final int identity, final IntBinaryOperator operator, final ForkJoinPool pool) {
+        return GridTasks.reduceRanges(pool, height, GridTasks.minLengthPerTask(width),
+                (fromY, toY) -> reduce(identity, operator, fromY * width, toY * width), operator);
+    }
+
+    private int reduce(final int identity, final IntBinaryOperator operator, final int from, final int to) {
+        int result = identity;
+        for (int i = from; i < to; i++) {
+            result = operator.applyAsInt(result, values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Computes the next value of every cell by the stencil and writes it to the target, without allocating.
+     *
+     * @param stencil the stencil that computes the next value of a cell from this grid
+     * @param target a grid of the same size, which must not be this grid
+     * @return the target
+     * @see DoubleBufferedIntGrid2D
+     */
+    public IntGrid2D stencilInto(final IntStencil stencil, final IntGrid2D target) {
+        requireStencilTarget(target);
+        applyStencil(stencil, target, 0, height);
+        return target;
+    }
+
+    /**
+     * Computes the next value of every cell by the stencil in parallel row bands and writes it to the target.
+     *
+     * @param stencil the stencil that computes the next value of a cell from this grid
+     * @param target a grid of the same size, which must not be this grid
+     * @param pool the pool to compute the row bands in
+     * @return the target
+     */
+    public IntGrid2D parallelStencilInto(final IntStencil stencil, final IntGrid2D target, final ForkJoinPool pool) {
+        requireStencilTarget(target);
+        forEachRowBand(pool, (fromY, toY) -> applyStencil(stencil, target, fromY, toY));
+        return target;
+    }
+
+    private void requireStencilTarget(final IntGrid2D target) {
+        if (target == this) {
+            throw new IllegalArgumentException("The target of a stencil must be another grid than the source");
+        }
+        if (target.width != width || target.height != height) {
+            throw new IllegalArgumentException("The target of " + target.width + " by " + target.height
+                    + " does not have the size of the grid of " + width + " by " + height);
+        }
+    }
+
+    private void applyStencil(final IntStencil stencil, final IntGrid2D target, final int fromY, final int toY) {
+        for (int y = fromY; y < toY; y++) {
+            final int rowStart = y * width;
+            for (int x = 0; x < width; x++) {
+                target.values[rowStart + x] = stencil.applyAsInt(this, x, y);
+            }
+        }
+    }
+
+    /**
+     * Transposes the grid tile by tile, so both the rows read and the rows written of a tile stay in the cache.
+     *
+     * @return a new grid where the cell at (x, y) has the value of the cell at (y, x) of this grid
+     */
+    public IntGrid2D transpose() {
+        final int[] transposed = new int[values.length];
+        transposeColumns(transposed, 0, width);
+        return new IntGrid2D(height, width, transposed);
+    }
+
+    public IntGrid2D parallelTranspose(final ForkJoinPool pool) {
+        final int[] transposed = new int[values.length];
+        GridTasks.forEachRange(pool, width, Math.max(TRANSPOSE_TILE_SIZE, GridTasks.minLengthPerTask(height)),
+                (fromX, toX) -> transposeColumns(transposed, fromX, toX));
+        return new IntGrid2D(height, width, transposed);
+    }
+
+    private void transposeColumns(final int[] transposed, final int fromX, final int toX) {
+        for (int tileY = 0; tileY < height; tileY += TRANSPOSE_TILE_SIZE) {
+            final int tileEndY = Math.min(height, tileY + TRANSPOSE_TILE_SIZE);
+            for (int tileX = fromX; tileX < toX; tileX += TRANSPOSE_TILE_SIZE) {
+                final int tileEndX = Math.min(toX, tileX + TRANSPOSE_TILE_SIZE);
+                for (int y = tileY; y < tileEndY; y++) {
+                    for (int x = tileX; x < tileEndX; x++) {
+                        transposed[x * height + y] = values[y * width + x];
+                    }
+                }
+            }
+        }
+    }
+
+    private void forEachRowBand(final ForkJoinPool pool, final GridTasks.RangeAction rowBandAction) {
+        GridTasks.forEachRange(pool, height, GridTasks.minLengthPerTask(width), rowBandAction);
+    }
+
+    public LongGrid2D mapToLong(final IntToLongFunction mapper) {
+        final LongGrid2D mapped = LongGrid2D.of(width, height);
+        for (int i = 0; i < values.length; i++) {
+            mapped.setAt(i, mapper.applyAsLong(values[i]));
+        }
+        return mapped;
+    }
+
+    public BooleanGrid2D mapToBoolean(final IntPredicate predicate) {
+        final BooleanGrid2D mapped = BooleanGrid2D.of(width, height);
+        for (int i = 0; i < values.length; i++) {
+            mapped.setAt(i, predicate.test(values[i]));
+        }
+        return mapped;
+    }
+
+    /**
+     * Replaces the value of the connected cells that have the same value as the cell at (x, y).
+     *
+     * @param x the x coordinate of the cell to start from
+     * @param y the y coordinate of the cell to start from
+     * @param newValue the value to fill with
+     * @param neighborhood the cells that are connected to a cell
+     * @return the number of filled cells
+     */
+    public int floodFill(final int x, final int y, final int newValue, final Neighborhood neighborhood) {
+        final int start = index(x, y);
+        final int oldValue = values[start];
+        if (oldValue == newValue) {
+            return 0;
+        }
+        return FloodFill.fill(start, (index, consumer) -> forEachNeighbor(index, neighborhood, consumer),
+                index -> values[index] == oldValue, index -> values[index] = newValue);
+    }
+
+    public IntGrid2D copy() {
+        return new IntGrid2D(width, height, values.clone());
+    }
+
+    public int[][] toArray() {
+        final int[][] rows = new int[height][];
+        for (int y = 0; y < height; y++) {
+            rows[y] = Arrays.copyOfRange(values, y * width, (y + 1) * width);
+        }
+        return rows;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final IntGrid2D that = (IntGrid2D) o;
+        return width == that.width && height == that.height && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * width + height) + Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        for (int y = 0; y < height; y++) {
+            if (y > 0) {
+                sb.append('\n');
+            }
+            for (int x = 0; x < width; x++) {
+                sb.append(x > 0 ? ", " : "").append(values[y * width + x]);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,237 @@
+package org.hzt.geometry;
+
+import org.hzt.utils.sequences.primitives.IntSequence;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A mutable grid of ints in one int array, stored plane by plane and row by row. It takes four bytes per cell, without
+ * nested arrays or an object per point.
+ * <p>
+ * The parallel operations split the rows of all planes into contiguous bands that are processed in the given fork join
+ * pool.
+ */
+public final class IntGrid3D implements Grid3D {
+
+    private final int width;
+    private final int height;
+    private final int depth;
+    private final int[] values;
+
+    private IntGrid3D(final int width, final int height, final int depth, final int[] values) {
+        this.width = width;
+        this.height = height;
+        this.depth = depth;
+        this.values = values;
+    }
+
+    public static IntGrid3D of(final int width, final int height, final int depth) {
+        return new IntGrid3D(width, height, depth, new int[GridSizes.size(width, height, depth)]);
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    @Override
+    public int depth() {
+        return depth;
+    }
+
+    public int get(final int x, final int y, final int z) {
+        return values[index(x, y, z)];
+    }
+
+    public int getAt(final int index) {
+        return values[index];
+    }
+
+    public void set(final int x, final int y, final int z, final int value) {
+        values[index(x, y, z)] = value;
+    }
+
+    public void setAt(final int index, final int value) {
+        values[index] = value;
+    }
+
+    /**
+     * Sets every cell to the value for its index. The coordinates of an index are given by {@link #xOf(int)},
+     * {@link #yOf(int)} and {@link #zOf(int)}.
+     *
+     * @param valueAtIndex the value of the cell at an index
+     * @return this grid
+     */
+    public IntGrid3D setAll(final IntUnaryOperator valueAtIndex) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = valueAtIndex.applyAsInt(i);
+        }
+        return this;
+    }
+
+    public void fill(final int value) {
+        Arrays.fill(values, value);
+    }
+
+    public IntSequence values() {
+        return indices().map(this::getAt);
+    }
+
+    public IntSequence plane(final int z) {
+        return planeIndices(z).map(this::getAt);
+    }
+
+    public IntSequence row(final int y, final int z) {
+        return rowIndices(y, z).map(this::getAt);
+    }
+
+    @SuppressWarnings("squid:S107")
+    public IntSequence region(final int x, final int y, final int z, final int width, final int height, final int depth) {
+        return regionIndices(x, y, z, width, height, depth).map(this::getAt);
+    }
+
+    public boolean any(final IntPredicate predicate) {
+        for (final int value : values) {
+            if (predicate.test(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean all(final IntPredicate predicate) {
+        return !any(predicate.negate());
+    }
+
+    public boolean none(final IntPredicate predicate) {
+        return !any(predicate);
+    }
+
+    public int count(final IntPredicate predicate) {
+        int count = 0;
+        for (final int value : values) {
+            if (predicate.test(value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public IntGrid3D map(final IntUnaryOperator mapper) {
+        final int[] mapped = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            mapped[i] = mapper.applyAsInt(values[i]);
+        }
+        return new IntGrid3D(width, height, depth, mapped);
+    }
+
+    public IntGrid3D parallelMap(final IntUnaryOperator mapper, final ForkJoinPool pool) {
+        final int[] mapped = new int[values.length];
+        GridTasks.forEachRange(pool, height * depth, GridTasks.minLengthPerTask(width), (fromRow, toRow) -> {
+            for (int i = fromRow * width, end = toRow * width; i < end; i++) {
+                mapped[i] = mapper.applyAsInt(values[i]);
+            }
+        });
+        return new IntGrid3D(width, height, depth, mapped);
+    }
+
+    /**
+     * @param identity the identity of the operator
+     * @param operator an associative operator
+     * @return the values combined by the operator in storage order, or the identity for an empty grid
+     */
+    public int reduce(final int identity, final IntBinaryOperator operator) {
+        return reduce(identity, operator, 0, values.length);
+    }
+
+    /**
+     * Reduces bands of rows in parallel and combines their results in storage order.
+     *
+     * @param identity the identity of the operator
+     * @param operator an associative operator
+     * @param pool the pool to reduce the bands in
+     * @return the values combined by the operator, or the identity for an empty grid
+     */
+    public int parallelReduce(final int identity, final IntBinaryOperator operator, final ForkJoinPool pool) {
+        return GridTasks.reduceRanges(pool, height * depth, GridTasks.minLengthPerTask(width),
+                (fromRow, toRow) -> reduce(identity, operator, fromRow * width, toRow * width), operator);
+    }
+
+    private int reduce(final int identity, final IntBinaryOperator operator, final int from, final int to) {
+        int result = identity;
+        for (int i = from; i < to; i++) {
+            result = operator.applyAsInt(result, values[i]);
+        }
+        return result;
+    }
+
+    public BooleanGrid3D mapToBoolean(final IntPredicate predicate) {
+        return BooleanGrid3D.of(width, height, depth).setAll(index -> predicate.test(values[index]));
+    }
+
+    /**
+     * Replaces the value of the connected cells that have the same value as the cell at (x, y, z).
+     *
+     * @param x the x coordinate of the cell to start from
+     * @param y the y coordinate of the cell to start from
+     * @param z the z coordinate of the cell to start from
+     * @param newValue the value to fill with
+     * @param neighborhood the cells that are connected to a cell
+     * @return the number of filled cells
+     */
+    public int floodFill(final int x, final int y, final int z, final int newValue, final Neighborhood neighborhood) {
+        final int start = index(x, y, z);
+        final int oldValue = values[start];
+        if (oldValue == newValue) {
+            return 0;
+        }
+        return FloodFill.fill(start, (index, consumer) -> forEachNeighbor(index, neighborhood, consumer),
+                index -> values[index] == oldValue, index -> values[index] = newValue);
+    }
+
+    public IntGrid3D copy() {
+        return new IntGrid3D(width, height, depth, values.clone());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final IntGrid3D that = (IntGrid3D) o;
+        return width == that.width && height == that.height && depth == that.depth && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * width + height) + depth) + Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        for (int z = 0; z < depth; z++) {
+            for (int y = 0; y < height; y++) {
+                if (z > 0 || y > 0) {
+                    sb.append(y == 0 ? "\n\n" : "\n");
+                }
+                for (int x = 0; x < width; x++) {
+                    sb.append(x > 0 ? ", " : "").append(values[(z * height + y) * width + x]);
+                }
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package org.hzt.geometry;
+
+/**
+ * Computes the next value of a cell from the cells around it in the current grid. A stencil only reads the grid it is
+ * given, so the cells of a step can be computed in any order and in parallel.
+ *
+ * @see IntGrid2D#stencilInto(IntStencil, IntGrid2D)
+ * @see DoubleBufferedIntGrid2D
+ */
+@FunctionalInterface
+public interface IntStencil {
+
+    int applyAsInt(IntGrid2D grid, int x, int y);
+
+    /**
+     * The rules of Conway's Game of Life on a grid of zeros and ones, where the cells outside the grid are dead.
+     *
+     * @return a stencil that yields 1 for a live cell in the next generation and 0 otherwise
+     */
+    static IntStencil gameOfLife() {
+        return (grid, x, y) -> {
+            final int liveNeighbors = sumAround(grid, x, y) - grid.get(x, y);
+            return liveNeighbors == 3 || (liveNeighbors == 2 && grid.get(x, y) != 0) ? 1 : 0;
+        };
+    }
+
+    /**
+     * A convolution with a kernel centered on the cell, where the cells outside the grid count as zero.
+     *
+     * @param kernel the weights of the cells around a cell, with an odd number of rows and columns of the same length
+     * @param divisor the number the weighted sum is divided by, like 9 for a 3 by 3 box blur
+     * @return a stencil that yields the weighted sum of the cells around a cell divided by the divisor
+     */
+    static IntStencil convolution(final int[][] kernel, final int divisor) {
+        if (divisor == 0) {
+            throw new IllegalArgumentException("The divisor can not be zero");
+        }
+        final IntGrid2D weights = IntGrid2D.of(kernel);
+        if (weights.width() % 2 == 0 || weights.height() % 2 == 0) {
+            throw new IllegalArgumentException("A kernel must have an odd number of rows and columns, but is "
+                    + weights.width() + " by " + weights.height());
+        }
+        final int radiusX = weights.width() / 2;
+        final int radiusY = weights.height() / 2;
+        return (grid, x, y) -> {
+            final int fromX = Math.max(0, x - radiusX);
+            final int toX = Math.min(grid.width(), x + radiusX + 1);
+            final int fromY = Math.max(0, y - radiusY);
+            final int toY = Math.min(grid.height(), y + radiusY + 1);
+            long sum = 0;
+            for (int cy = fromY; cy < toY; cy++) {
+                for (int cx = fromX; cx < toX; cx++) {
+                    final int weight = weights.getAt((cy - y + radiusY) * weights.width() + cx - x + radiusX);
+                    sum += (long) weight * grid.getAt(cy * grid.width() + cx);
+                }
+            }
+            return (int) (sum / divisor);
+        };
+    }
+
+    /**
+     * @return the sum of the cell and its neighbors with diagonals that lie in the grid
+     */
+    static int sumAround(final IntGrid2D grid, final int x, final int y) {
+        final int fromX = Math.max(0, x - 1);
+        final int toX = Math.min(grid.width(), x + 2);
+        final int fromY = Math.max(0, y - 1);
+        final int toY = Math.min(grid.height(), y + 2);
+        int sum = 0;
+        for (int cy = fromY; cy < toY; cy++) {
+            for (int cx = fromX; cx < toX; cx++) {
+                sum += grid.getAt(cy * grid.width() + cx);
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,208 @@
+package org.hzt.geometry;
+
+import org.hzt.utils.sequences.primitives.LongSequence;
+
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A mutable grid of longs in one row major long array. It takes eight bytes per cell, without an array object per row or an
+ * object per point.
+ */
+public final class LongGrid2D implements Grid2D {
+
+    private final int width;
+    private final int height;
+    private final long[] values;
+
+    private LongGrid2D(final int width, final int height, final long[] values) {
+        this.width = width;
+        this.height = height;
+        this.values = values;
+    }
+
+    public static LongGrid2D of(final int width, final int height) {
+        return new LongGrid2D(width, height, new long[GridSizes.size(width, height)]);
+    }
+
+    /**
+     * @param rows the rows of the grid, which must all have the same length
+     * @return a grid with a copy of the rows
+     */
+    public static LongGrid2D of(final long[][] rows) {
+        final int width = rows.length == 0 ? 0 : rows[0].length;
+        final LongGrid2D grid = of(width, rows.length);
+        for (int y = 0; y < rows.length; y++) {
+            GridSizes.requireRowLength(rows[y].length, width, y);
+            System.arraycopy(rows[y], 0, grid.values, y * width, width);
+        }
+        return grid;
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    public long get(final int x, final int y) {
+        return values[index(x, y)];
+    }
+
+    public long getAt(final int index) {
+        return values[index];
+    }
+
+    public void set(final int x, final int y, final long value) {
+        values[index(x, y)] = value;
+    }
+
+    public void setAt(final int index, final long value) {
+        values[index] = value;
+    }
+
+    /**
+     * Sets every cell to the value for its index, like {@link Arrays#setAll(long[], IntToLongFunction)}. The coordinates
+     * of an index are given by {@link #xOf(int)} and {@link #yOf(int)}.
+     *
+     * @param valueAtIndex the value of the cell at an index
+     * @return this grid
+     */
+    public LongGrid2D setAll(final IntToLongFunction valueAtIndex) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = valueAtIndex.applyAsLong(i);
+        }
+        return this;
+    }
+
+    public void fill(final long value) {
+        Arrays.fill(values, value);
+    }
+
+    public LongSequence values() {
+        return indices().mapToLong(this::getAt);
+    }
+
+    public LongSequence row(final int y) {
+        return rowIndices(y).mapToLong(this::getAt);
+    }
+
+    public LongSequence column(final int x) {
+        return columnIndices(x).mapToLong(this::getAt);
+    }
+
+    public LongSequence region(final int x, final int y, final int width, final int height) {
+        return regionIndices(x, y, width, height).mapToLong(this::getAt);
+    }
+
+    public boolean any(final LongPredicate predicate) {
+        for (final long value : values) {
+            if (predicate.test(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean all(final LongPredicate predicate) {
+        return !any(predicate.negate());
+    }
+
+    public boolean none(final LongPredicate predicate) {
+        return !any(predicate);
+    }
+
+    public int count(final LongPredicate predicate) {
+        int count = 0;
+        for (final long value : values) {
+            if (predicate.test(value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public LongGrid2D map(final LongUnaryOperator mapper) {
+        final long[] mapped = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            mapped[i] = mapper.applyAsLong(values[i]);
+        }
+        return new LongGrid2D(width, height, mapped);
+    }
+
+    public BooleanGrid2D mapToBoolean(final LongPredicate predicate) {
+        final BooleanGrid2D mapped = BooleanGrid2D.of(width, height);
+        for (int i = 0; i < values.length; i++) {
+            mapped.setAt(i, predicate.test(values[i]));
+        }
+        return mapped;
+    }
+
+    /**
+     * Replaces the value of the connected cells that have the same value as the cell at (x, y).
+     *
+     * @param x the x coordinate of the cell to start from
+     * @param y the y coordinate of the cell to start from
+     * @param newValue the value to fill with
+     * @param neighborhood the cells that are connected to a cell
+     * @return the number of filled cells
+     */
+    public int floodFill(final int x, final int y, final long newValue, final Neighborhood neighborhood) {
+        final int start = index(x, y);
+        final long oldValue = values[start];
+        if (oldValue == newValue) {
+            return 0;
+        }
+        return FloodFill.fill(start, (index, consumer) -> forEachNeighbor(index, neighborhood, consumer),
+                index -> values[index] == oldValue, index -> values[index] = newValue);
+    }
+
+    public LongGrid2D copy() {
+        return new LongGrid2D(width, height, values.clone());
+    }
+
+    public long[][] toArray() {
+        final long[][] rows = new long[height][];
+        for (int y = 0; y < height; y++) {
+            rows[y] = Arrays.copyOfRange(values, y * width, (y + 1) * width);
+        }
+        return rows;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final LongGrid2D that = (LongGrid2D) o;
+        return width == that.width && height == that.height && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * width + height) + Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        for (int y = 0; y < height; y++) {
+            if (y > 0) {
+                sb.append('\n');
+            }
+            for (int x = 0; x < width; x++) {
+                sb.append(x > 0 ? ", " : "").append(values[y * width + x]);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,193 @@
+package org.hzt.geometry;
+
+import org.hzt.utils.sequences.primitives.LongSequence;
+
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A mutable grid of longs in one long array, stored plane by plane and row by row. It takes eight bytes per cell, without
+ * nested arrays or an object per point.
+ */
+public final class LongGrid3D implements Grid3D {
+
+    private final int width;
+    private final int height;
+    private final int depth;
+    private final long[] values;
+
+    private LongGrid3D(final int width, final int height, final int depth, final long[] values) {
+        this.width = width;
+        this.height = height;
+        this.depth = depth;
+        this.values = values;
+    }
+
+    public static LongGrid3D of(final int width, final int height, final int depth) {
+        return new LongGrid3D(width, height, depth, new long[GridSizes.size(width, height, depth)]);
+    }
+
+    @Override
+    public int width() {
+        return width;
+    }
+
+    @Override
+    public int height() {
+        return height;
+    }
+
+    @Override
+    public int depth() {
+        return depth;
+    }
+
+    public long get(final int x, final int y, final int z) {
+        return values[index(x, y, z)];
+    }
+
+    public long getAt(final int index) {
+        return values[index];
+    }
+
+    public void set(final int x, final int y, final int z, final long value) {
+        values[index(x, y, z)] = value;
+    }
+
+    public void setAt(final int index, final long value) {
+        values[index] = value;
+    }
+
+    /**
+     * Sets every cell to the value for its index. The coordinates of an index are given by {@link #xOf(int)},
+     * {@link #yOf(int)} and {@link #zOf(int)}.
+     *
+     * @param valueAtIndex the value of the cell at an index
+     * @return this grid
+     */
+    public LongGrid3D setAll(final IntToLongFunction valueAtIndex) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = valueAtIndex.applyAsLong(i);
+        }
+        return this;
+    }
+
+    public void fill(final long value) {
+        Arrays.fill(values, value);
+    }
+
+    public LongSequence values() {
+        return indices().mapToLong(this::getAt);
+    }
+
+    public LongSequence plane(final int z) {
+        return planeIndices(z).mapToLong(this::getAt);
+    }
+
+    public LongSequence row(final int y, final int z) {
+        return rowIndices(y, z).mapToLong(this::getAt);
+    }
+
+    @SuppressWarnings("squid:S107")
+    public LongSequence region(final int x, final int y, final int z, final int width, final int height, final int depth) {
+        return regionIndices(x, y, z, width, height, depth).mapToLong(this::getAt);
+    }
+
+    public boolean any(final LongPredicate predicate) {
+        for (final long value : values) {
+            if (predicate.test(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean all(final LongPredicate predicate) {
+        return !any(predicate.negate());
+    }
+
+    public boolean none(final LongPredicate predicate) {
+        return !any(predicate);
+    }
+
+    public int count(final LongPredicate predicate) {
+        int count = 0;
+        for (final long value : values) {
+            if (predicate.test(value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public LongGrid3D map(final LongUnaryOperator mapper) {
+        final long[] mapped = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            mapped[i] = mapper.applyAsLong(values[i]);
+        }
+        return new LongGrid3D(width, height, depth, mapped);
+    }
+
+    public BooleanGrid3D mapToBoolean(final LongPredicate predicate) {
+        return BooleanGrid3D.of(width, height, depth).setAll(index -> predicate.test(values[index]));
+    }
+
+    /**
+     * Replaces the value of the connected cells that have the same value as the cell at (x, y, z).
+     *
+     * @param x the x coordinate of the cell to start from
+     * @param y the y coordinate of the cell to start from
+     * @param z the z coordinate of the cell to start from
+     * @param newValue the value to fill with
+     * @param neighborhood the cells that are connected to a cell
+     * @return the number of filled cells
+     */
+    public int floodFill(final int x, final int y, final int z, final long newValue, final Neighborhood neighborhood) {
+        final int start = index(x, y, z);
+        final long oldValue = values[start];
+        if (oldValue == newValue) {
+            return 0;
+        }
+        return FloodFill.fill(start, (index, consumer) -> forEachNeighbor(index, neighborhood, consumer),
+                index -> values[index] == oldValue, index -> values[index] = newValue);
+    }
+
+    public LongGrid3D copy() {
+        return new LongGrid3D(width, height, depth, values.clone());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final LongGrid3D that = (LongGrid3D) o;
+        return width == that.width && height == that.height && depth == that.depth && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * width + height) + depth) + Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        for (int z = 0; z < depth; z++) {
+            for (int y = 0; y < height; y++) {
+                if (z > 0 || y > 0) {
+                    sb.append(y == 0 ? "\n\n" : "\n");
+                }
+                for (int x = 0; x < width; x++) {
+                    sb.append(x > 0 ? ", " : "").append(values[(z * height + y) * width + x]);
+                }
+            }
+        }
+        return sb.toString();
+    }
+}
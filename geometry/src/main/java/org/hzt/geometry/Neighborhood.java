@@ -0,0 +1,22 @@
+package org.hzt.geometry;
+
+/**
+ * The cells that count as neighbors of a cell in a grid.
+ */
+public enum Neighborhood {
+
+    /**
+     * The cells that share a side with the cell: four in a 2D grid and six in a 3D grid.
+     */
+    ORTHOGONAL,
+
+    /**
+     * The cells that share a side, an edge or a corner with the cell: eight in a 2D grid and 26 in a 3D grid.
+     */
+    WITH_DIAGONALS;
+
+    boolean isNeighbor(final int dx, final int dy, final int dz) {
+        final int nrOfNonZeroDeltas = (dx != 0 ? 1 : 0) + (dy != 0 ? 1 : 0) + (dz != 0 ? 1 : 0);
+        return nrOfNonZeroDeltas == 1 || (this == WITH_DIAGONALS && nrOfNonZeroDeltas > 1);
+    }
+}
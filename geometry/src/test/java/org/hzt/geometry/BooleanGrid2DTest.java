@@ -0,0 +1,68 @@
+package org.hzt.geometry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BooleanGrid2DTest {
+
+    private static final boolean[][] ROWS = {
+            {true, false, false, true},
+            {false, false, true, true},
+            {true, false, false, false}
+    };
+
+    @Test
+    void testTrueIndicesAndCounts() {
+        final BooleanGrid2D grid = BooleanGrid2D.of(ROWS);
+
+        assertAll(
+                () -> assertTrue(grid.get(2, 1)),
+                () -> assertFalse(grid.get(1, 1)),
+                () -> assertEquals(5, grid.count()),
+                () -> assertArrayEquals(new int[]{0, 3, 6, 7, 8}, grid.trueIndices().toArray()),
+                () -> assertArrayEquals(new int[]{6, 7}, grid.trueIndicesInRow(1).toArray()),
+                () -> assertArrayEquals(new int[]{3, 7}, grid.trueIndicesInColumn(3).toArray()),
+                () -> assertArrayEquals(new int[]{6}, grid.trueIndicesInRegion(1, 1, 2, 2).toArray()),
+                () -> assertArrayEquals(ROWS, grid.toArray()),
+                () -> assertEquals("#..#\n..##\n#...", grid.toString())
+        );
+    }
+
+    @Test
+    void testAnyAllNoneAndNot() {
+        final BooleanGrid2D grid = BooleanGrid2D.of(67, 3);
+        final BooleanGrid2D allTrue = grid.not();
+
+        assertAll(
+                () -> assertTrue(grid.none()),
+                () -> assertFalse(grid.any()),
+                () -> assertTrue(allTrue.all()),
+                () -> assertEquals(201, allTrue.count()),
+                () -> assertEquals(201, allTrue.trueIndices().count()),
+                () -> assertEquals(allTrue.toIntGrid(1, 0), grid.toIntGrid(0, 1))
+        );
+    }
+
+    @Test
+    void testFloodFillOfMaze() {
+        final BooleanGrid2D walls = BooleanGrid2D.of(new boolean[][]{
+                {false, true, false, false},
+                {false, true, false, true},
+                {false, false, false, true},
+                {true, true, true, false}
+        });
+
+        final int filled = walls.floodFill(0, 0, true, Neighborhood.ORTHOGONAL);
+
+        assertAll(
+                () -> assertEquals(8, filled),
+                () -> assertFalse(walls.get(3, 3)),
+                () -> assertEquals(1, walls.not().count())
+        );
+    }
+}
@@ -0,0 +1,60 @@
+package org.hzt.geometry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DoubleBufferedIntGrid2DTest {
+
+    @Test
+    void testBlinkerOscillatesWithPeriodTwo() {
+        final IntGrid2D blinker = IntGrid2D.of(new int[][]{
+                {0, 0, 0},
+                {1, 1, 1},
+                {0, 0, 0}
+        });
+        final DoubleBufferedIntGrid2D generations = DoubleBufferedIntGrid2D.of(blinker);
+        final IntGrid2D first = generations.current();
+
+        final int[][] second = generations.step(IntStencil.gameOfLife()).current().toArray();
+        generations.step(IntStencil.gameOfLife());
+
+        assertAll(
+                () -> assertArrayEquals(new int[][]{{0, 1, 0}, {0, 1, 0}, {0, 1, 0}}, second),
+                () -> assertEquals(blinker, generations.current()),
+                () -> assertSame(first, generations.current()),
+                () -> assertEquals(2, generations.generation())
+        );
+    }
+
+    @Test
+    void testGliderMovesDiagonallyEveryFourGenerations() {
+        final IntGrid2D glider = IntGrid2D.of(64, 48);
+        glider.set(1, 0, 1);
+        glider.set(2, 1, 1);
+        glider.set(0, 2, 1);
+        glider.set(1, 2, 1);
+        glider.set(2, 2, 1);
+        final IntGrid2D expected = IntGrid2D.of(64, 48)
+                .setAll(index -> glider.contains(glider.xOf(index) - 10, glider.yOf(index) - 10)
+                        ? glider.get(glider.xOf(index) - 10, glider.yOf(index) - 10) : 0);
+
+        final DoubleBufferedIntGrid2D sequential = DoubleBufferedIntGrid2D.of(glider);
+        for (int i = 0; i < 40; i++) {
+            sequential.step(IntStencil.gameOfLife());
+        }
+        final DoubleBufferedIntGrid2D parallel = DoubleBufferedIntGrid2D.of(glider)
+                .steps(40, IntStencil.gameOfLife(), ForkJoinPool.commonPool());
+
+        assertAll(
+                () -> assertEquals(expected, sequential.current()),
+                () -> assertEquals(expected, parallel.current()),
+                () -> assertEquals(5, parallel.current().reduce(0, Integer::sum))
+        );
+    }
+}
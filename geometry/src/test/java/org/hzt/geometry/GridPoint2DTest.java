@@ -3,6 +3,7 @@ package org.hzt.geometry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class GridPoint2DTest {
@@ -24,4 +25,17 @@ class GridPoint2DTest {
         assertEquals(GridPoint2D.from(6, 24), point2D.multiply(3));
     }
 
+    @Test
+    void testPackedPointRoundTrip() {
+        final GridPoint2D point = GridPoint2D.from(-3, Integer.MAX_VALUE);
+
+        final long packed = point.packed();
+
+        assertAll(
+                () -> assertEquals(point, GridPoint2D.fromPacked(packed)),
+                () -> assertEquals(-3, GridPoint2D.unpackX(packed)),
+                () -> assertEquals(Integer.MAX_VALUE, GridPoint2D.unpackY(GridPoint2D.pack(Integer.MIN_VALUE, Integer.MAX_VALUE))),
+                () -> assertEquals(-1, GridPoint2D.unpackY(GridPoint2D.pack(5, -1)))
+        );
+    }
 }
@@ -3,7 +3,9 @@ package org.hzt.geometry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class GridPoint3DTest {
 
@@ -27,4 +29,18 @@ class GridPoint3DTest {
         assertEquals(GridPoint3D.from(14, -1, -8), actual);
     }
 
+    @Test
+    void testPackedPointRoundTrip() {
+        final GridPoint3D point = GridPoint3D.from(-3, GridPoint3D.MAX_PACKED_COORDINATE, GridPoint3D.MIN_PACKED_COORDINATE);
+
+        final long packed = point.packed();
+
+        assertAll(
+                () -> assertEquals(point, GridPoint3D.fromPacked(packed)),
+                () -> assertEquals(-3, GridPoint3D.unpackX(packed)),
+                () -> assertEquals(GridPoint3D.MAX_PACKED_COORDINATE, GridPoint3D.unpackY(packed)),
+                () -> assertEquals(GridPoint3D.MIN_PACKED_COORDINATE, GridPoint3D.unpackZ(packed)),
+                () -> assertThrows(IllegalArgumentException.class, () -> GridPoint3D.pack(0, 0, GridPoint3D.MAX_PACKED_COORDINATE + 1))
+        );
+    }
 }
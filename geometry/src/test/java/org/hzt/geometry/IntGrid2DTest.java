@@ -0,0 +1,166 @@
+package org.hzt.geometry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntGrid2DTest {
+
+    private static final int[][] ROWS = {
+            {1, 2, 3, 4},
+            {5, 6, 7, 8},
+            {9, 10, 11, 12}
+    };
+
+    @Test
+    void testRowColumnAndRegionViews() {
+        final IntGrid2D grid = IntGrid2D.of(ROWS);
+
+        assertAll(
+                () -> assertEquals(4, grid.width()),
+                () -> assertEquals(3, grid.height()),
+                () -> assertEquals(7, grid.get(2, 1)),
+                () -> assertEquals(7, grid.getAt(grid.index(GridPoint2D.pack(2, 1)))),
+                () -> assertArrayEquals(new int[]{5, 6, 7, 8}, grid.row(1).toArray()),
+                () -> assertArrayEquals(new int[]{2, 6, 10}, grid.column(1).toArray()),
+                () -> assertArrayEquals(new int[]{6, 7, 10, 11}, grid.region(1, 1, 2, 2).toArray()),
+                () -> assertEquals(78, grid.values().sum()),
+                () -> assertArrayEquals(ROWS, grid.toArray()),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> grid.get(4, 0)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> grid.region(3, 0, 2, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> IntGrid2D.of(new int[][]{{1, 2}, {3}}))
+        );
+    }
+
+    @Test
+    void testNeighborsAreVisitedWithoutPoints() {
+        final IntGrid2D grid = IntGrid2D.of(ROWS);
+        final List<Integer> orthogonal = new ArrayList<>();
+        final List<Integer> withDiagonals = new ArrayList<>();
+        final List<Integer> ofCorner = new ArrayList<>();
+
+        grid.forEachNeighbor(1, 1, Neighborhood.ORTHOGONAL, index -> orthogonal.add(grid.getAt(index)));
+        grid.forEachNeighbor(1, 1, Neighborhood.WITH_DIAGONALS, index -> withDiagonals.add(grid.getAt(index)));
+        grid.forEachNeighbor(grid.index(0, 0), Neighborhood.WITH_DIAGONALS, index -> ofCorner.add(grid.getAt(index)));
+
+        assertAll(
+                () -> assertEquals(Arrays.asList(2, 5, 7, 10), orthogonal),
+                () -> assertEquals(Arrays.asList(1, 2, 3, 5, 7, 9, 10, 11), withDiagonals),
+                () -> assertEquals(Arrays.asList(2, 5, 6), ofCorner)
+        );
+    }
+
+    @Test
+    void testFloodFill() {
+        final IntGrid2D grid = IntGrid2D.of(new int[][]{
+                {0, 0, 1, 0},
+                {1, 0, 1, 0},
+                {0, 1, 0, 0}
+        });
+        final IntGrid2D copy = grid.copy();
+
+        final int filled = grid.floodFill(0, 0, 7, Neighborhood.ORTHOGONAL);
+        final int filledWithDiagonals = copy.floodFill(0, 0, 7, Neighborhood.WITH_DIAGONALS);
+
+        assertAll(
+                () -> assertEquals(3, filled),
+                () -> assertArrayEquals(new int[][]{{7, 7, 1, 0}, {1, 7, 1, 0}, {0, 1, 0, 0}}, grid.toArray()),
+                () -> assertEquals(8, filledWithDiagonals),
+                () -> assertEquals(0, grid.floodFill(0, 0, 7, Neighborhood.ORTHOGONAL))
+        );
+    }
+
+    @Test
+    void testFloodFillOfLargeGridDoesNotOverflowTheStack() {
+        final IntGrid2D grid = IntGrid2D.of(2_000, 2_000);
+
+        final int filled = grid.floodFill(0, 0, 1, Neighborhood.ORTHOGONAL);
+
+        assertAll(
+                () -> assertEquals(4_000_000, filled),
+                () -> assertTrue(grid.all(value -> value == 1))
+        );
+    }
+
+    @Test
+    void testAnyAllNoneAndMap() {
+        final IntGrid2D grid = IntGrid2D.of(ROWS);
+
+        final IntGrid2D squares = grid.map(value -> value * value);
+        final LongGrid2D cubes = grid.mapToLong(value -> (long) value * value * value);
+        final BooleanGrid2D even = grid.mapToBoolean(value -> value % 2 == 0);
+
+        assertAll(
+                () -> assertTrue(grid.any(value -> value > 11)),
+                () -> assertTrue(grid.all(value -> value > 0)),
+                () -> assertTrue(grid.none(value -> value > 12)),
+                () -> assertFalse(grid.all(value -> value % 2 == 0)),
+                () -> assertEquals(6, grid.count(value -> value % 2 == 0)),
+                () -> assertEquals(144, squares.get(3, 2)),
+                () -> assertArrayEquals(new long[]{8, 216, 1000}, cubes.column(1).toArray()),
+                () -> assertEquals(6, even.count()),
+                () -> assertEquals(IntGrid2D.of(4, 3).setAll(index -> index + 1), grid),
+                () -> assertEquals("1, 2, 3, 4\n5, 6, 7, 8\n9, 10, 11, 12", grid.toString())
+        );
+    }
+
+    @Test
+    void testParallelOperationsYieldSameResultsAsSequentialOperations() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        final IntGrid2D grid = IntGrid2D.of(1_001, 517).setAll(index -> index * 31 % 1_009);
+        try {
+            assertAll(
+                    () -> assertEquals(grid.map(value -> value * 3 - 1), grid.parallelMap(value -> value * 3 - 1, pool)),
+                    () -> assertEquals(grid.reduce(0, Integer::sum), grid.parallelReduce(0, Integer::sum, pool)),
+                    () -> assertEquals(grid.reduce(Integer.MIN_VALUE, Math::max), grid.parallelReduce(Integer.MIN_VALUE, Math::max, pool)),
+                    () -> assertEquals(grid.transpose(), grid.parallelTranspose(pool)),
+                    () -> assertEquals(0, IntGrid2D.of(0, 0).parallelReduce(0, Integer::sum, pool))
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testTranspose() {
+        final IntGrid2D grid = IntGrid2D.of(ROWS);
+
+        final IntGrid2D transposed = grid.transpose();
+
+        assertAll(
+                () -> assertEquals(3, transposed.width()),
+                () -> assertEquals(4, transposed.height()),
+                () -> assertArrayEquals(new int[][]{{1, 5, 9}, {2, 6, 10}, {3, 7, 11}, {4, 8, 12}}, transposed.toArray()),
+                () -> assertEquals(grid, transposed.transpose())
+        );
+    }
+
+    @Test
+    void testConvolutionStencil() {
+        final IntGrid2D grid = IntGrid2D.of(ROWS);
+        final IntStencil boxBlur = IntStencil.convolution(new int[][]{{1, 1, 1}, {1, 1, 1}, {1, 1, 1}}, 9);
+        final IntStencil shiftLeft = IntStencil.convolution(new int[][]{{0, 0, 1}}, 1);
+
+        final IntGrid2D blurred = grid.stencilInto(boxBlur, IntGrid2D.of(4, 3));
+        final IntGrid2D shifted = grid.parallelStencilInto(shiftLeft, IntGrid2D.of(4, 3), ForkJoinPool.commonPool());
+
+        assertAll(
+                () -> assertEquals((1 + 2 + 3 + 5 + 6 + 7 + 9 + 10 + 11) / 9, blurred.get(1, 1)),
+                () -> assertEquals((1 + 2 + 5 + 6) / 9, blurred.get(0, 0)),
+                () -> assertArrayEquals(new int[][]{{2, 3, 4, 0}, {6, 7, 8, 0}, {10, 11, 12, 0}}, shifted.toArray()),
+                () -> assertThrows(IllegalArgumentException.class, () -> grid.stencilInto(boxBlur, grid)),
+                () -> assertThrows(IllegalArgumentException.class, () -> grid.stencilInto(boxBlur, IntGrid2D.of(3, 4))),
+                () -> assertThrows(IllegalArgumentException.class, () -> IntStencil.convolution(new int[][]{{1, 1}}, 1))
+        );
+    }
+}
@@ -0,0 +1,80 @@
+package org.hzt.geometry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IntGrid3DTest {
+
+    @Test
+    void testViewsAndCoordinatesOfIndices() {
+        final IntGrid3D grid = IntGrid3D.of(3, 2, 2);
+        grid.setAll(index -> 100 * grid.zOf(index) + 10 * grid.yOf(index) + grid.xOf(index));
+
+        assertAll(
+                () -> assertEquals(112, grid.get(2, 1, 1)),
+                () -> assertEquals(112, grid.getAt(grid.index(GridPoint3D.pack(2, 1, 1)))),
+                () -> assertArrayEquals(new int[]{100, 101, 102, 110, 111, 112}, grid.plane(1).toArray()),
+                () -> assertArrayEquals(new int[]{10, 11, 12}, grid.row(1, 0).toArray()),
+                () -> assertArrayEquals(new int[]{11, 12, 111, 112}, grid.region(1, 1, 0, 2, 1, 2).toArray()),
+                () -> assertEquals(2, grid.count(value -> value % 2 == 1 && value > 50)),
+                () -> assertEquals(grid.map(value -> value + 1), grid.copy().setAll(index -> grid.getAt(index) + 1))
+        );
+    }
+
+    @Test
+    void testNeighborhoods() {
+        final IntGrid3D grid = IntGrid3D.of(3, 3, 3);
+        final List<Integer> orthogonal = new ArrayList<>();
+        final List<Integer> withDiagonals = new ArrayList<>();
+
+        grid.forEachNeighbor(1, 1, 1, Neighborhood.ORTHOGONAL, orthogonal::add);
+        grid.forEachNeighbor(1, 1, 1, Neighborhood.WITH_DIAGONALS, withDiagonals::add);
+
+        assertAll(
+                () -> assertEquals(Arrays.asList(4, 10, 12, 14, 16, 22), orthogonal),
+                () -> assertEquals(26, withDiagonals.size())
+        );
+    }
+
+    @Test
+    void testFloodFillOfBooleanAndLongGrids() {
+        final BooleanGrid3D walls = BooleanGrid3D.of(4, 4, 4);
+        walls.setAll(index -> walls.yOf(index) == 2);
+        final LongGrid3D regions = LongGrid3D.of(4, 4, 4);
+
+        final int filledAbove = walls.floodFill(0, 0, 0, true, Neighborhood.WITH_DIAGONALS);
+        final int filledRegion = regions.floodFill(3, 3, 3, 5L, Neighborhood.ORTHOGONAL);
+
+        assertAll(
+                () -> assertEquals(32, filledAbove),
+                () -> assertEquals(16, walls.not().count()),
+                () -> assertArrayEquals(new int[]{12, 13, 14, 15}, walls.not().trueIndicesInPlane(0).toArray()),
+                () -> assertEquals(64, filledRegion),
+                () -> assertTrue(regions.all(value -> value == 5L))
+        );
+    }
+
+    @Test
+    void testParallelMapAndReduceYieldSameResultsAsSequentialOperations() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        final IntGrid3D grid = IntGrid3D.of(101, 67, 23).setAll(index -> index % 97);
+        try {
+            assertAll(
+                    () -> assertEquals(grid.map(value -> value * value), grid.parallelMap(value -> value * value, pool)),
+                    () -> assertEquals(grid.reduce(0, Integer::sum), grid.parallelReduce(0, Integer::sum, pool)),
+                    () -> assertEquals(grid.values().sum(), grid.parallelReduce(0, Integer::sum, pool))
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
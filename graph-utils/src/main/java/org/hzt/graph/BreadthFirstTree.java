@@ -0,0 +1,73 @@
+package org.hzt.graph;
+
+import org.hzt.graph.tuples.DepthToTreeNode;
+import org.hzt.utils.collections.ListX;
+import org.hzt.utils.sequences.Sequence;
+
+/**
+ * The result of a breadth first search from a source node: the nodes by level and the distance and predecessor of every
+ * node by its {@link Node#id()}.
+ * <p>
+ * The distances and predecessors are -1 for ids that were not reached. The source has distance 0 and predecessor -1.
+ *
+ * @param <S> the type of the nodes
+ * @see Node#parallelBreadthFirst(java.util.concurrent.ForkJoinPool)
+ */
+public final class BreadthFirstTree<S> {
+
+    private final ListX<ListX<S>> levels;
+    private final int[] distances;
+    private final int[] predecessors;
+
+    BreadthFirstTree(final ListX<ListX<S>> levels, final int[] distances, final int[] predecessors) {
+        this.levels = levels;
+        this.distances = distances;
+        this.predecessors = predecessors;
+    }
+
+    /**
+     * @return the nodes by their distance to the source. The order of the nodes within a level is not defined
+     */
+    public ListX<ListX<S>> levels() {
+        return levels;
+    }
+
+    /**
+     * @return the largest distance from the source to a reached node
+     */
+    public int depth() {
+        return levels.size() - 1;
+    }
+
+    public long nrOfReachedNodes() {
+        return levels.asSequence().mapToInt(ListX::size).sum();
+    }
+
+    public int distance(final int id) {
+        return id < distances.length ? distances[id] : -1;
+    }
+
+    public int predecessor(final int id) {
+        return id < predecessors.length ? predecessors[id] : -1;
+    }
+
+    /**
+     * @return a copy of the distances by id, with a length of the largest reached id plus one
+     */
+    public int[] distances() {
+        return distances.clone();
+    }
+
+    /**
+     * @return a copy of the predecessor ids by id, with a length of the largest reached id plus one
+     */
+    public int[] predecessors() {
+        return predecessors.clone();
+    }
+
+    public Sequence<DepthToTreeNode<S>> breadthFirstDepthTrackingSequence() {
+        return Sequence.of(levels)
+                .withIndex()
+                .flatMap(level -> level.value().map(node -> new DepthToTreeNode<>(level.index(), node)));
+    }
+}
@@ -0,0 +1,351 @@
+package org.hzt.graph;
+
+import org.hzt.utils.collections.ListX;
+import org.hzt.utils.collections.MutableListX;
+import org.hzt.utils.ranges.IntRange;
+import org.hzt.utils.sequences.primitives.IntSequence;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.ToIntFunction;
+
+/**
+ * An immutable directed graph in compressed sparse row format.
+ * <p>
+ * The vertices are the ids 0 until {@link #nrOfVertices()}. The edges of vertex v are stored at the indices
+ * {@code offsets[v]} until {@code offsets[v + 1]} of the targets and the optional weights, in the order they were added.
+ * An edge takes four bytes for its target and four for its weight, a vertex four bytes for its offset. An undirected
+ * edge is stored as two directed edges.
+ *
+ * @see #fromEdges(int, int[], int[], int[])
+ * @see #fromNodes(Node)
+ */
+public final class CsrGraph {
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+
+    private CsrGraph(final int[] offsets, final int[] targets, final int[] weights) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    public static CsrGraph fromEdges(final int nrOfVertices, final int[] sources, final int[] targets) {
+        return fromEdges(nrOfVertices, sources, targets, null);
+    }
+
+    /**
+     * Builds a graph from parallel arrays of edges. The edges are grouped by source with a counting sort in O(V + E),
+     * which keeps the order of the edges of a source.
+     *
+     * @param nrOfVertices the number of vertices
+     * @param sources the source vertex of every edge
+     * @param targets the target vertex of every edge
+     * @param weights the weight of every edge, or null for an unweighted graph
+     * @return a graph of the edges
+     */
+    public static CsrGraph fromEdges(final int nrOfVertices, final int[] sources, final int[] targets, final int[] weights) {
+        final int nrOfEdges = sources.length;
+        if (targets.length != nrOfEdges || (weights != null && weights.length != nrOfEdges)) {
+            throw new IllegalArgumentException("The sources, targets and weights must have the same length");
+        }
+        final int[] offsets = new int[nrOfVertices + 1];
+        for (int edge = 0; edge < nrOfEdges; edge++) {
+            checkVertex(sources[edge], nrOfVertices);
+            checkVertex(targets[edge], nrOfVertices);
+            offsets[sources[edge] + 1]++;
+        }
+        for (int vertex = 0; vertex < nrOfVertices; vertex++) {
+            offsets[vertex + 1] += offsets[vertex];
+        }
+        final int[] insertAt = Arrays.copyOf(offsets, nrOfVertices);
+        final int[] sortedTargets = new int[nrOfEdges];
+        final int[] sortedWeights = weights == null ? null : new int[nrOfEdges];
+        for (int edge = 0; edge < nrOfEdges; edge++) {
+            final int index = insertAt[sources[edge]]++;
+            sortedTargets[index] = targets[edge];
+            if (sortedWeights != null) {
+                sortedWeights[index] = weights[edge];
+            }
+        }
+        return new CsrGraph(offsets, sortedTargets, sortedWeights);
+    }
+
+    static void checkVertex(final int vertex, final int nrOfVertices) {
+        if (vertex < 0 || vertex >= nrOfVertices) {
+            throw new IndexOutOfBoundsException("Vertex " + vertex + " is not in [0, " + nrOfVertices + ")");
+        }
+    }
+
+    /**
+     * Builds an unweighted graph of all nodes reachable from the start. The ids are assigned in breadth first order, so
+     * the start gets id 0.
+     *
+     * @param start the node to start from
+     * @param <T> the type of the node
+     * @param <S> the type of the neighbors
+     * @return the graph with the nodes by id
+     */
+    public static <T, S extends Node<T, S>> OfNodes<S> fromNodes(final S start) {
+        final MutableListX<S> nodes = MutableListX.empty();
+        final Map<S, Integer> ids = new HashMap<>();
+        final IntArrayBuilder targets = new IntArrayBuilder();
+        final int[] offsets = visitBreadthFirst(start, nodes, ids, targets, (node, id) -> {
+            final Iterator<S> neighbors = node.neighborIterator();
+            while (neighbors.hasNext()) {
+                targets.add(id.applyAsInt(neighbors.next()));
+            }
+        });
+        return new OfNodes<>(new CsrGraph(offsets, targets.toArray(), null), nodes, ids);
+    }
+
+    /**
+     * Builds a weighted graph of all nodes reachable from the start by their edges. The ids are assigned in breadth
+     * first order, so the start gets id 0.
+     *
+     * @param start the node to start from
+     * @param <T> the type of the payload of the nodes
+     * @return the graph with the nodes by id
+     */
+    public static <T> OfNodes<WeightedNode<T>> fromWeightedNodes(final WeightedNode<T> start) {
+        final MutableListX<WeightedNode<T>> nodes = MutableListX.empty();
+        final Map<WeightedNode<T>, Integer> ids = new HashMap<>();
+        final IntArrayBuilder targets = new IntArrayBuilder();
+        final IntArrayBuilder weights = new IntArrayBuilder();
+        final int[] offsets = visitBreadthFirst(start, nodes, ids, targets, (node, id) -> {
+            for (final WeightedEdge<T> edge : node.getEdges()) {
+                targets.add(id.applyAsInt(edge.getOpposite(node)));
+                weights.add(edge.weight());
+            }
+        });
+        return new OfNodes<>(new CsrGraph(offsets, targets.toArray(), weights.toArray()), nodes, ids);
+    }
+
+    private static <S> int[] visitBreadthFirst(final S start,
+                                               final MutableListX<S> nodes,
+                                               final Map<S, Integer> ids,
+                                               final IntArrayBuilder targets,
+                                               final EdgeVisitor<S> edgeVisitor) {
+        final IntArrayBuilder offsets = new IntArrayBuilder();
+        final ToIntFunction<S> id = node -> ids.computeIfAbsent(node, n -> {
+            nodes.add(n);
+            return nodes.size() - 1;
+        });
+        id.applyAsInt(start);
+        for (int vertex = 0; vertex < nodes.size(); vertex++) {
+            offsets.add(targets.size);
+            edgeVisitor.visitEdges(nodes.get(vertex), id);
+        }
+        offsets.add(targets.size);
+        return offsets.toArray();
+    }
+
+    @FunctionalInterface
+    private interface EdgeVisitor<S> {
+
+        void visitEdges(S node, ToIntFunction<S> id);
+    }
+
+    public int nrOfVertices() {
+        return offsets.length - 1;
+    }
+
+    public int nrOfEdges() {
+        return targets.length;
+    }
+
+    public boolean isWeighted() {
+        return weights != null;
+    }
+
+    public int degree(final int vertex) {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    /**
+     * @param vertex the vertex to get the first edge index of
+     * @return the index of the first edge of the vertex
+     */
+    public int edgeStart(final int vertex) {
+        return offsets[vertex];
+    }
+
+    /**
+     * @param vertex the vertex to get the edge end of
+     * @return the index after the last edge of the vertex
+     */
+    public int edgeEnd(final int vertex) {
+        return offsets[vertex + 1];
+    }
+
+    public int target(final int edge) {
+        return targets[edge];
+    }
+
+    /**
+     * @param edge the index of the edge
+     * @return the weight of the edge, or 1 if this graph is unweighted
+     */
+    public int weight(final int edge) {
+        return weights == null ? 1 : weights[edge];
+    }
+
+    public IntSequence neighbors(final int vertex) {
+        return IntRange.of(offsets[vertex], offsets[vertex + 1]).map(edge -> targets[edge]);
+    }
+
+    /**
+     * @param start the vertex to start from
+     * @return the vertices reachable from the start in breadth first order
+     */
+    public IntSequence breadthFirstSequence(final int start) {
+        checkVertex(start, nrOfVertices());
+        return () -> new BreadthFirstIterator(start);
+    }
+
+    /**
+     * @param start the vertex to start from
+     * @return the vertices reachable from the start in depth first pre order, following the edges in their order
+     */
+    public IntSequence depthFirstSequence(final int start) {
+        checkVertex(start, nrOfVertices());
+        return () -> new DepthFirstIterator(start);
+    }
+
+    private final class BreadthFirstIterator implements PrimitiveIterator.OfInt {
+
+        private final long[] visited = new long[(nrOfVertices() + Long.SIZE - 1) >>> 6];
+        private final int[] queue = new int[nrOfVertices()];
+        private int head;
+        private int tail;
+
+        BreadthFirstIterator(final int start) {
+            queue[tail++] = start;
+            visited[start >>> 6] |= 1L << start;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return head < tail;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final int vertex = queue[head++];
+            for (int edge = offsets[vertex], end = offsets[vertex + 1]; edge < end; edge++) {
+                final int target = targets[edge];
+                if ((visited[target >>> 6] & (1L << target)) == 0) {
+                    visited[target >>> 6] |= 1L << target;
+                    queue[tail++] = target;
+                }
+            }
+            return vertex;
+        }
+    }
+
+    private final class DepthFirstIterator implements PrimitiveIterator.OfInt {
+
+        private final long[] visited = new long[(nrOfVertices() + Long.SIZE - 1) >>> 6];
+        private final int[] vertexStack = new int[nrOfVertices()];
+        private final int[] edgeStack = new int[nrOfVertices()];
+        private int size;
+        private int next;
+
+        DepthFirstIterator(final int start) {
+            next = start;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next >= 0;
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final int vertex = next;
+            visited[vertex >>> 6] |= 1L << vertex;
+            vertexStack[size] = vertex;
+            edgeStack[size++] = offsets[vertex];
+            next = advance();
+            return vertex;
+        }
+
+        private int advance() {
+            while (size > 0) {
+                final int top = size - 1;
+                final int end = offsets[vertexStack[top] + 1];
+                while (edgeStack[top] < end) {
+                    final int target = targets[edgeStack[top]++];
+                    if ((visited[target >>> 6] & (1L << target)) == 0) {
+                        return target;
+                    }
+                }
+                size--;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * A {@link CsrGraph} built from a graph of nodes, with the nodes by their vertex ids.
+     *
+     * @param <S> the type of the nodes
+     */
+    public static final class OfNodes<S> {
+
+        private final CsrGraph graph;
+        private final ListX<S> nodes;
+        private final Map<S, Integer> ids;
+
+        private OfNodes(final CsrGraph graph, final ListX<S> nodes, final Map<S, Integer> ids) {
+            this.graph = graph;
+            this.nodes = nodes;
+            this.ids = ids;
+        }
+
+        public CsrGraph graph() {
+            return graph;
+        }
+
+        public S node(final int vertex) {
+            return nodes.get(vertex);
+        }
+
+        public int vertex(final S node) {
+            final Integer vertex = ids.get(node);
+            if (vertex == null) {
+                throw new NoSuchElementException(node + " is not in the graph");
+            }
+            return vertex;
+        }
+    }
+
+    private static final class IntArrayBuilder {
+
+        private int[] values = new int[16];
+        private int size;
+
+        void add(final int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.hzt.graph;
+
+import org.hzt.utils.collections.primitives.IntList;
+
+import java.util.Arrays;
+import java.util.function.IntToLongFunction;
+
+/**
+ * A single A* search on a {@link CsrGraph}. The costs, predecessors and heap indices are kept in arrays indexed by
+ * vertex, so the graph is only read and concurrent searches can share it.
+ *
+ * @see PathSearch
+ */
+final class CsrPathSearch {
+
+    private static final int UNSEEN = -1;
+    private static final int SETTLED = -2;
+
+    private final CsrGraph graph;
+    private final IntToLongFunction heuristic;
+    private final long[] costs;
+    private final long[] priorities;
+    private final int[] predecessors;
+    private final int[] heapIndices;
+    private final int[] heap;
+    private int size;
+
+    CsrPathSearch(final CsrGraph graph, final IntToLongFunction heuristic) {
+        final int nrOfVertices = graph.nrOfVertices();
+        this.graph = graph;
+        this.heuristic = heuristic;
+        this.costs = new long[nrOfVertices];
+        this.priorities = new long[nrOfVertices];
+        this.predecessors = new int[nrOfVertices];
+        this.heapIndices = new int[nrOfVertices];
+        this.heap = new int[nrOfVertices];
+        Arrays.fill(heapIndices, UNSEEN);
+    }
+
+    IntShortestPath find(final int start, final int goal) {
+        CsrGraph.checkVertex(start, graph.nrOfVertices());
+        CsrGraph.checkVertex(goal, graph.nrOfVertices());
+        predecessors[start] = -1;
+        priorities[start] = heuristic.applyAsLong(start);
+        siftUp(size++, start);
+        while (size > 0) {
+            final int current = poll();
+            if (current == goal) {
+                return toPath(goal);
+            }
+            relaxEdgesOf(current);
+        }
+        throw new IllegalStateException("Did not find a path to goal: " + goal);
+    }
+
+    private void relaxEdgesOf(final int current) {
+        for (int edge = graph.edgeStart(current), end = graph.edgeEnd(current); edge < end; edge++) {
+            final int weight = graph.weight(edge);
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative edge weight " + weight + " from vertex " + current);
+            }
+            final int target = graph.target(edge);
+            final int heapIndex = heapIndices[target];
+            final long cost = costs[current] + weight;
+            if (heapIndex == UNSEEN) {
+                costs[target] = cost;
+                priorities[target] = cost + heuristic.applyAsLong(target);
+                predecessors[target] = current;
+                siftUp(size++, target);
+            } else if (heapIndex != SETTLED && cost < costs[target]) {
+                priorities[target] -= costs[target] - cost;
+                costs[target] = cost;
+                predecessors[target] = current;
+                siftUp(heapIndex, target);
+            }
+        }
+    }
+
+    private int poll() {
+        final int min = heap[0];
+        heapIndices[min] = SETTLED;
+        final int last = heap[--size];
+        if (size > 0) {
+            siftDown(last);
+        }
+        return min;
+    }
+
+    private void siftUp(final int index, final int vertex) {
+        int child = index;
+        while (child > 0) {
+            final int parent = (child - 1) >>> 1;
+            final int parentVertex = heap[parent];
+            if (priorities[parentVertex] <= priorities[vertex]) {
+                break;
+            }
+            place(child, parentVertex);
+            child = parent;
+        }
+        place(child, vertex);
+    }
+
+    private void siftDown(final int vertex) {
+        int parent = 0;
+        final int half = size >>> 1;
+        while (parent < half) {
+            int child = (parent << 1) + 1;
+            final int right = child + 1;
+            if (right < size && priorities[heap[right]] < priorities[heap[child]]) {
+                child = right;
+            }
+            if (priorities[vertex] <= priorities[heap[child]]) {
+                break;
+            }
+            place(parent, heap[child]);
+            parent = child;
+        }
+        place(parent, vertex);
+    }
+
+    private void place(final int index, final int vertex) {
+        heap[index] = vertex;
+        heapIndices[vertex] = index;
+    }
+
+    private IntShortestPath toPath(final int goal) {
+        int length = 0;
+        for (int vertex = goal; vertex >= 0; vertex = predecessors[vertex]) {
+            length++;
+        }
+        final int[] vertices = new int[length];
+        for (int vertex = goal; vertex >= 0; vertex = predecessors[vertex]) {
+            vertices[--length] = vertex;
+        }
+        return new IntShortestPath(IntList.of(vertices), costs[goal]);
+    }
+}
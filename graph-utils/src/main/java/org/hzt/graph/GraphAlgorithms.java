@@ -1,39 +1,69 @@
 package org.hzt.graph;
 
-import java.util.Comparator;
-import java.util.HashSet;
-import java.util.NoSuchElementException;
-import java.util.Set;
+import java.util.function.IntToLongFunction;
+import java.util.function.ToLongFunction;
 
 public final class GraphAlgorithms {
 
     private GraphAlgorithms() {
     }
 
-    public static <T> WeightedNode<T> dijkstra(final WeightedNode<T> start, final WeightedNode<T> goal) {
-        start.setCost(0);
-        final Set<WeightedNode<T>> unsettled = new HashSet<>();
-        final Set<WeightedNode<T>> settled = new HashSet<>();
-        unsettled.add(start);
-        while (!unsettled.isEmpty()) {
-            final WeightedNode<T> current = unsettled.stream()
-                    .min(Comparator.comparing(WeightedNode::getCost))
-                    .orElseThrow(NoSuchElementException::new);
+    /**
+     * Finds the shortest path from start to goal by Dijkstra's algorithm on a binary heap, in O((V + E) log V).
+     * <p>
+     * The costs of a search are kept in side tables, so the nodes are not modified and concurrent searches can share
+     * one graph. The weights of the edges must not be negative.
+     *
+     * @param start the node to start from
+     * @param goal the node to find the shortest path to
+     * @param <T> the type of the payload of the nodes
+     * @return the shortest path from start to goal
+     * @throws IllegalStateException if the goal is not reachable from the start
+     */
+    public static <T> ShortestPath<T> dijkstra(final WeightedNode<T> start, final WeightedNode<T> goal) {
+        return new PathSearch<T>(node -> 0).find(start, goal);
+    }
+
+    /**
+     * Finds the shortest path from start to goal by A*, which explores the nodes in the order of their cost so far plus
+     * the estimated cost to the goal.
+     * <p>
+     * The heuristic must be consistent: it must never overestimate the cost to the goal, and the estimate of a node must
+     * be at most the weight of an edge plus the estimate of the node at its other end. A heuristic that is zero for every
+     * node makes this Dijkstra's algorithm.
+     *
+     * @param start the node to start from
+     * @param goal the node to find the shortest path to
+     * @param heuristic the estimate of the cost from a node to the goal
+     * @param <T> the type of the payload of the nodes
+     * @return the shortest path from start to goal
+     * @throws IllegalStateException if the goal is not reachable from the start
+     * @throws IndexOutOfBoundsException if the start or the goal is not a vertex of the graph
+     * @see #dijkstra(WeightedNode, WeightedNode)
+     */
+    public static <T> ShortestPath<T> aStar(final WeightedNode<T> start,
+                                           final WeightedNode<T> goal,
+                                           final ToLongFunction<? super WeightedNode<T>> heuristic) {
+        return new PathSearch<>(heuristic).find(start, goal);
+    }
+
+    /**
+     * Finds the shortest path between two vertices of a {@link CsrGraph} by Dijkstra's algorithm. An unweighted graph
+     * has a weight of 1 for every edge.
+     *
+     * @param graph the graph to search
+     * @param start the vertex to start from
+     * @param goal the vertex to find the shortest path to
+     * @return the shortest path from start to goal
+     * @throws IllegalStateException if the goal is not reachable from the start
+     * @throws IndexOutOfBoundsException if the start or the goal is not a vertex of the graph
+     * @see #dijkstra(WeightedNode, WeightedNode)
+     */
+    public static IntShortestPath dijkstra(final CsrGraph graph, final int start, final int goal) {
+        return new CsrPathSearch(graph, vertex -> 0).find(start, goal);
+    }
 
-            for (final WeightedEdge<T> edge : current.getEdges()) {
-                final WeightedEdge<T> weightedEdge = edge;
-                final WeightedNode<T> neighbor = weightedEdge.getOpposite(current);
-                if (!settled.contains(neighbor)) {
-                    neighbor.setCost(current.getCost());
-                    unsettled.add(neighbor);
-                }
-            }
-            if (current.equals(goal)) {
-                return current;
-            }
-            unsettled.remove(current);
-            settled.add(current);
-        }
-        throw new IllegalStateException("Dit not find a path to goal: " + goal);
+    public static IntShortestPath aStar(final CsrGraph graph, final int start, final int goal, final IntToLongFunction heuristic) {
+        return new CsrPathSearch(graph, heuristic).find(start, goal);
     }
 }
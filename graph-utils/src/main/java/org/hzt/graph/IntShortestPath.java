@@ -0,0 +1,39 @@
+package org.hzt.graph;
+
+import org.hzt.utils.collections.primitives.IntList;
+
+/**
+ * The result of a shortest path search on a {@link CsrGraph} by {@link GraphAlgorithms}.
+ */
+public final class IntShortestPath {
+
+    private final IntList vertices;
+    private final long cost;
+
+    IntShortestPath(final IntList vertices, final long cost) {
+        this.vertices = vertices;
+        this.cost = cost;
+    }
+
+    /**
+     * @return the vertices of the path, from the start up to and including the goal
+     */
+    public IntList vertices() {
+        return vertices;
+    }
+
+    /**
+     * @return the sum of the weights of the edges on the path
+     */
+    public long cost() {
+        return cost;
+    }
+
+    @Override
+    public String toString() {
+        return "IntShortestPath{" +
+                "vertices=" + vertices +
+                ", cost=" + cost +
+                '}';
+    }
+}
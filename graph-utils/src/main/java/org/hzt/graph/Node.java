@@ -1,11 +1,15 @@
 package org.hzt.graph;
 
 import org.hzt.graph.iterators.GraphIterators;
+import org.hzt.graph.iterators.VisitedSet;
+import org.hzt.utils.collections.ListX;
 import org.hzt.utils.sequences.Sequence;
 
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 import static org.hzt.graph.NodeHelper.predecessorIterator;
 
@@ -60,18 +64,77 @@ public interface Node<T, S extends Node<T, S>> {
         return (S) this;
     }
 
+    /**
+     * A dense, non negative id of this node, unique within its graph. Traversals can use it to keep track of the visited
+     * nodes in a bit set instead of a hash set.
+     *
+     * @return the id of this node
+     * @see VisitedSet#bitSet(java.util.function.ToIntFunction)
+     */
+    default int id() {
+        throw new UnsupportedOperationException("id() not supported by default. Implement it to use it");
+    }
+
     default Sequence<S> breadthFirstSequence(final Mode mode) {
+        return breadthFirstSequence(mode, VisitedSet::hashSet);
+    }
+
+    /**
+     * @param mode whether the predecessors should be set
+     * @param visitedSetFactory supplies an empty visited set for every traversal
+     * @return the nodes reachable from this node in breadth first order
+     */
+    default Sequence<S> breadthFirstSequence(final Mode mode, final Supplier<? extends VisitedSet<S>> visitedSetFactory) {
         //noinspection unchecked
-        return Sequence.of(() -> GraphIterators.breadthFirstIterator((S) this, mode == Mode.SET_PREDECESSORS));
+        return Sequence.of(() -> GraphIterators.breadthFirstIterator((S) this,
+                mode == Mode.SET_PREDECESSORS, visitedSetFactory.get()));
     }
 
     default Sequence<S> breadthFirstSequence() {
         return breadthFirstSequence(Mode.NO_PREDECESSOR);
     }
 
+    default Sequence<ListX<S>> breadthFirstLevels() {
+        return breadthFirstLevels(VisitedSet::hashSet);
+    }
+
+    /**
+     * Traverses the graph level by level. Level n holds all nodes at n edges from this node, so the first level only
+     * holds this node.
+     *
+     * @param visitedSetFactory supplies an empty visited set for every traversal
+     * @return the levels of the nodes reachable from this node
+     */
+    default Sequence<ListX<S>> breadthFirstLevels(final Supplier<? extends VisitedSet<S>> visitedSetFactory) {
+        //noinspection unchecked
+        return Sequence.of(() -> GraphIterators.breadthFirstLevelIterator((S) this, visitedSetFactory.get()));
+    }
+
+    /**
+     * Searches the graph breadth first and expands every level in parallel in the pool. The nodes must implement
+     * {@link #id()}, the distances and predecessors are returned by id.
+     *
+     * @param pool the pool to expand the levels in
+     * @return the levels, distances and predecessors of the nodes reachable from this node
+     */
+    default BreadthFirstTree<S> parallelBreadthFirst(final ForkJoinPool pool) {
+        //noinspection unchecked
+        return ParallelBreadthFirstSearch.search((S) this, pool);
+    }
+
     default Sequence<S> depthFirstSequence(final Mode mode) {
+        return depthFirstSequence(mode, VisitedSet::hashSet);
+    }
+
+    /**
+     * @param mode whether the predecessors should be set
+     * @param visitedSetFactory supplies an empty visited set for every traversal
+     * @return the nodes reachable from this node in depth first pre order
+     */
+    default Sequence<S> depthFirstSequence(final Mode mode, final Supplier<? extends VisitedSet<S>> visitedSetFactory) {
         //noinspection unchecked
-        return Sequence.of(() -> GraphIterators.depthFirstIterator((S) this, mode == Mode.SET_PREDECESSORS));
+        return Sequence.of(() -> GraphIterators.depthFirstIterator((S) this,
+                mode == Mode.SET_PREDECESSORS, visitedSetFactory.get()));
     }
 
     default Sequence<S> depthFirstSequence() {
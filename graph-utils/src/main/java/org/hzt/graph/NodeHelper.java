@@ -1,6 +1,8 @@
 package org.hzt.graph;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -14,13 +16,18 @@ final class NodeHelper {
     static <T, S extends Node<T, S>, R> void map(final S node,
                                                  final Function<? super S, ? extends R> function,
                                                  final Collection<R> collection) {
-        final Collection<S> children = node.getMutableNeighbors();
         collection.add(function.apply(node));
-        if (children.isEmpty()) {
-            return;
-        }
-        for (final S child : children) {
-            map(child, function, collection);
+        final Deque<Iterator<S>> stack = new ArrayDeque<>();
+        stack.push(node.getMutableNeighbors().iterator());
+        while (!stack.isEmpty()) {
+            final Iterator<S> children = stack.peek();
+            if (!children.hasNext()) {
+                stack.pop();
+                continue;
+            }
+            final S child = children.next();
+            collection.add(function.apply(child));
+            stack.push(child.getMutableNeighbors().iterator());
         }
     }
 
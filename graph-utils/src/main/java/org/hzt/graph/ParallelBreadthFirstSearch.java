@@ -0,0 +1,190 @@
+package org.hzt.graph;
+
+import org.hzt.utils.collections.ListX;
+import org.hzt.utils.collections.MutableListX;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * A level synchronous breadth first search that expands every frontier in parallel.
+ * <p>
+ * A frontier is cut into chunks that are expanded by the tasks of a fork join pool. Every chunk collects the nodes it
+ * claims in its own list and the lists are joined in chunk order to the next frontier. In a graph, a node is claimed by
+ * the first task that sets its visited mark with a compare and set, so a node is in exactly one level. The marks are kept
+ * in pages that are allocated on first use, so the number of nodes does not have to be known up front.
+ */
+final class ParallelBreadthFirstSearch<S> {
+
+    private static final int MIN_CHUNK_SIZE = 1 << 9;
+    private static final int PAGE_BITS = 16;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int NONE = -1;
+
+    private final ForkJoinPool pool;
+    private final int maxNrOfChunks;
+    private final Function<? super S, ? extends Iterator<S>> neighbors;
+    private final BiPredicate<? super S, ? super S> claim;
+
+    private ParallelBreadthFirstSearch(final ForkJoinPool pool,
+                                       final Function<? super S, ? extends Iterator<S>> neighbors,
+                                       final BiPredicate<? super S, ? super S> claim) {
+        this.pool = pool;
+        this.maxNrOfChunks = pool.getParallelism() << 2;
+        this.neighbors = neighbors;
+        this.claim = claim;
+    }
+
+    static <T, S extends Node<T, S>> BreadthFirstTree<S> search(final S source, final ForkJoinPool pool) {
+        final VisitedMarks marks = new VisitedMarks();
+        marks.tryClaim(source, NONE);
+        final ListX<ListX<S>> levels = new ParallelBreadthFirstSearch<S>(pool, Node::neighborIterator,
+                (node, neighbor) -> marks.tryClaim(neighbor, node.id())).levels(source);
+        int maxId = 0;
+        for (final ListX<S> level : levels) {
+            for (final S node : level) {
+                maxId = Math.max(maxId, node.id());
+            }
+        }
+        final int[] distances = new int[maxId + 1];
+        final int[] predecessors = new int[maxId + 1];
+        Arrays.fill(distances, NONE);
+        Arrays.fill(predecessors, NONE);
+        for (int distance = 0; distance < levels.size(); distance++) {
+            for (final S node : levels.get(distance)) {
+                final int id = node.id();
+                distances[id] = distance;
+                predecessors[id] = marks.predecessor(id);
+            }
+        }
+        return new BreadthFirstTree<>(levels, distances, predecessors);
+    }
+
+    static <T, S extends TreeNode<T, S>> ListX<ListX<S>> treeLevels(final S root, final ForkJoinPool pool) {
+        return new ParallelBreadthFirstSearch<S>(pool, TreeNode::childrenIterator, (parent, child) -> true).levels(root);
+    }
+
+    private ListX<ListX<S>> levels(final S source) {
+        final MutableListX<ListX<S>> levels = MutableListX.empty();
+        ListX<S> frontier = ListX.of(source);
+        while (frontier.isNotEmpty()) {
+            levels.add(frontier);
+            frontier = expand(frontier);
+        }
+        return levels;
+    }
+
+    private ListX<S> expand(final ListX<S> frontier) {
+        final int size = frontier.size();
+        final int nrOfChunks = Math.max(1, Math.min(maxNrOfChunks, size / MIN_CHUNK_SIZE));
+        //noinspection unchecked
+        final List<S>[] chunks = new List[nrOfChunks];
+        final Expander expander = new Expander(frontier, chunks, 0, nrOfChunks);
+        if (nrOfChunks == 1) {
+            expander.compute();
+        } else {
+            pool.invoke(expander);
+        }
+        int nextSize = 0;
+        for (final List<S> chunk : chunks) {
+            nextSize += chunk.size();
+        }
+        final MutableListX<S> next = MutableListX.withInitCapacity(nextSize);
+        for (final List<S> chunk : chunks) {
+            next.addAll(chunk);
+        }
+        return next;
+    }
+
+    private final class Expander extends RecursiveAction {
+
+        private final ListX<S> frontier;
+        private final List<S>[] chunks;
+        private final int fromChunk;
+        private final int toChunk;
+
+        Expander(final ListX<S> frontier, final List<S>[] chunks, final int fromChunk, final int toChunk) {
+            this.frontier = frontier;
+            this.chunks = chunks;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk > 1) {
+                final int mid = (fromChunk + toChunk) >>> 1;
+                invokeAll(new Expander(frontier, chunks, fromChunk, mid), new Expander(frontier, chunks, mid, toChunk));
+                return;
+            }
+            final long size = frontier.size();
+            final int from = (int) (size * fromChunk / chunks.length);
+            final int to = (int) (size * toChunk / chunks.length);
+            final List<S> claimed = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                final S node = frontier.get(i);
+                final Iterator<S> iterator = neighbors.apply(node);
+                while (iterator.hasNext()) {
+                    final S neighbor = iterator.next();
+                    if (claim.test(node, neighbor)) {
+                        claimed.add(neighbor);
+                    }
+                }
+            }
+            chunks[fromChunk] = claimed;
+        }
+    }
+
+    /**
+     * The visited marks and predecessors by node id. A mark is set by a compare and set on its page, only the task that
+     * sets it writes the predecessor. The predecessors are read after the search joined its tasks.
+     */
+    private static final class VisitedMarks {
+
+        private final AtomicReferenceArray<Page> pages = new AtomicReferenceArray<>(1 << (Integer.SIZE - 1 - PAGE_BITS));
+
+        /**
+         * @throws IllegalArgumentException if the id of the node is negative, before its page is looked up
+         */
+        boolean tryClaim(final Node<?, ?> node, final int predecessor) {
+            final int id = node.id();
+            if (id < 0) {
+                throw new IllegalArgumentException("The id of " + node + " is negative: " + id);
+            }
+            final Page page = page(id >>> PAGE_BITS);
+            final int index = id & (PAGE_SIZE - 1);
+            if (page.marks.get(index) == 0 && page.marks.compareAndSet(index, 0, 1)) {
+                page.predecessors[index] = predecessor;
+                return true;
+            }
+            return false;
+        }
+
+        int predecessor(final int id) {
+            return pages.get(id >>> PAGE_BITS).predecessors[id & (PAGE_SIZE - 1)];
+        }
+
+        private Page page(final int pageIndex) {
+            final Page page = pages.get(pageIndex);
+            if (page != null) {
+                return page;
+            }
+            final Page newPage = new Page();
+            return pages.compareAndSet(pageIndex, null, newPage) ? newPage : pages.get(pageIndex);
+        }
+    }
+
+    private static final class Page {
+
+        private final AtomicIntegerArray marks = new AtomicIntegerArray(PAGE_SIZE);
+        private final int[] predecessors = new int[PAGE_SIZE];
+    }
+}
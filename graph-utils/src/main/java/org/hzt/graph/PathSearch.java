@@ -0,0 +1,151 @@
+package org.hzt.graph;
+
+import org.hzt.utils.collections.MutableListX;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * A single A* search. All state of the search is kept in side tables of this object, so the graph is only read and any
+ * number of searches can run on the same graph concurrently.
+ * <p>
+ * The open nodes are kept in a binary min heap ordered by their priority, which is their cost so far plus the estimate
+ * of the heuristic. Every search node knows its index in the heap, so a cheaper path to an open node moves it up in
+ * O(log n) instead of adding a duplicate. With a heuristic that is zero for every node, the search is Dijkstra's
+ * algorithm.
+ *
+ * @param <T> the type of the payload of the nodes
+ */
+final class PathSearch<T> {
+
+    private static final int SETTLED = -1;
+
+    private final ToLongFunction<? super WeightedNode<T>> heuristic;
+    private final Map<WeightedNode<T>, SearchNode<T>> searchNodes = new HashMap<>();
+    @SuppressWarnings("unchecked")
+    private SearchNode<T>[] heap = new SearchNode[16];
+    private int size;
+
+    PathSearch(final ToLongFunction<? super WeightedNode<T>> heuristic) {
+        this.heuristic = heuristic;
+    }
+
+    ShortestPath<T> find(final WeightedNode<T> start, final WeightedNode<T> goal) {
+        final SearchNode<T> first = new SearchNode<>(start, null, 0, heuristic.applyAsLong(start));
+        searchNodes.put(start, first);
+        add(first);
+        while (size > 0) {
+            final SearchNode<T> current = poll();
+            if (current.node.equals(goal)) {
+                return current.toPath();
+            }
+            relaxEdgesOf(current);
+        }
+        throw new IllegalStateException("Did not find a path to goal: " + goal);
+    }
+
+    private void relaxEdgesOf(final SearchNode<T> current) {
+        final List<WeightedEdge<T>> edges = current.node.getEdges();
+        for (final WeightedEdge<T> edge : edges) {
+            final int weight = edge.weight();
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative edge weight " + weight + " from " + current.node);
+            }
+            final WeightedNode<T> neighbor = edge.getOpposite(current.node);
+            final long cost = current.cost + weight;
+            final SearchNode<T> searchNode = searchNodes.get(neighbor);
+            if (searchNode == null) {
+                final SearchNode<T> next = new SearchNode<>(neighbor, current, cost, cost + heuristic.applyAsLong(neighbor));
+                searchNodes.put(neighbor, next);
+                add(next);
+            } else if (searchNode.heapIndex != SETTLED && cost < searchNode.cost) {
+                searchNode.predecessor = current;
+                searchNode.priority -= searchNode.cost - cost;
+                searchNode.cost = cost;
+                siftUp(searchNode.heapIndex, searchNode);
+            }
+        }
+    }
+
+    private void add(final SearchNode<T> searchNode) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size << 1);
+        }
+        siftUp(size++, searchNode);
+    }
+
+    private SearchNode<T> poll() {
+        final SearchNode<T> min = heap[0];
+        min.heapIndex = SETTLED;
+        final SearchNode<T> last = heap[--size];
+        heap[size] = null;
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return min;
+    }
+
+    private void siftUp(final int index, final SearchNode<T> searchNode) {
+        int child = index;
+        while (child > 0) {
+            final int parent = (child - 1) >>> 1;
+            final SearchNode<T> parentNode = heap[parent];
+            if (parentNode.priority <= searchNode.priority) {
+                break;
+            }
+            place(child, parentNode);
+            child = parent;
+        }
+        place(child, searchNode);
+    }
+
+    private void siftDown(final int index, final SearchNode<T> searchNode) {
+        int parent = index;
+        final int half = size >>> 1;
+        while (parent < half) {
+            int child = (parent << 1) + 1;
+            final int right = child + 1;
+            if (right < size && heap[right].priority < heap[child].priority) {
+                child = right;
+            }
+            if (searchNode.priority <= heap[child].priority) {
+                break;
+            }
+            place(parent, heap[child]);
+            parent = child;
+        }
+        place(parent, searchNode);
+    }
+
+    private void place(final int index, final SearchNode<T> searchNode) {
+        heap[index] = searchNode;
+        searchNode.heapIndex = index;
+    }
+
+    private static final class SearchNode<T> {
+
+        private final WeightedNode<T> node;
+        private SearchNode<T> predecessor;
+        private long cost;
+        private long priority;
+        private int heapIndex;
+
+        SearchNode(final WeightedNode<T> node, final SearchNode<T> predecessor, final long cost, final long priority) {
+            this.node = node;
+            this.predecessor = predecessor;
+            this.cost = cost;
+            this.priority = priority;
+        }
+
+        ShortestPath<T> toPath() {
+            final MutableListX<WeightedNode<T>> nodes = MutableListX.empty();
+            for (SearchNode<T> searchNode = this; searchNode != null; searchNode = searchNode.predecessor) {
+                nodes.add(searchNode.node);
+            }
+            return new ShortestPath<>(nodes.reversed(), cost);
+        }
+    }
+}
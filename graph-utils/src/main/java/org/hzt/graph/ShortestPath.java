@@ -0,0 +1,45 @@
+package org.hzt.graph;
+
+import org.hzt.utils.collections.ListX;
+
+/**
+ * The result of a shortest path search by {@link GraphAlgorithms}.
+ *
+ * @param <T> the type of the payload of the nodes
+ */
+public final class ShortestPath<T> {
+
+    private final ListX<WeightedNode<T>> nodes;
+    private final long cost;
+
+    ShortestPath(final ListX<WeightedNode<T>> nodes, final long cost) {
+        this.nodes = nodes;
+        this.cost = cost;
+    }
+
+    /**
+     * @return the nodes of the path, from the start up to and including the goal
+     */
+    public ListX<WeightedNode<T>> nodes() {
+        return nodes;
+    }
+
+    public ListX<T> payloads() {
+        return nodes.map(WeightedNode::getPayload);
+    }
+
+    /**
+     * @return the sum of the weights of the edges on the path
+     */
+    public long cost() {
+        return cost;
+    }
+
+    @Override
+    public String toString() {
+        return "ShortestPath{" +
+                "payloads=" + payloads() +
+                ", cost=" + cost +
+                '}';
+    }
+}
@@ -0,0 +1,120 @@
+package org.hzt.graph;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Keeps a bottom up aggregate of the subtrees of a tree, like the size or the height, so a repeated query costs O(1).
+ * <p>
+ * The value of a node is computed by {@link TreeNode#foldSubtree(Function, BiFunction)} on first use and stored in an
+ * identity side table, together with the values of all nodes in its subtree. A mutation through
+ * {@link #addChild(TreeNode, TreeNode)} or {@link #removeSubTree(TreeNode, TreeNode)} only evicts the values along the
+ * parent chain of the mutated node. The next query folds those nodes again and takes the values of their other children
+ * from the table. Mutations that bypass this aggregate must be followed by a call to {@link #invalidate(TreeNode)}.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @param <T> the type of the nodes
+ * @param <S> the type of the children
+ * @param <R> the type of the aggregate
+ */
+public final class SubtreeAggregate<T, S extends TreeNode<T, S>, R> {
+
+    private final Function<? super S, ? extends R> initial;
+    private final BiFunction<? super R, ? super R, ? extends R> accumulate;
+    private final Map<S, R> values = new IdentityHashMap<>();
+    private final Map<S, S> parents = new IdentityHashMap<>();
+
+    private SubtreeAggregate(final Function<? super S, ? extends R> initial,
+                             final BiFunction<? super R, ? super R, ? extends R> accumulate) {
+        this.initial = initial;
+        this.accumulate = accumulate;
+    }
+
+    /**
+     * @param initial the value of a node before its children are accumulated
+     * @param accumulate accumulates the value of a child into the value of its parent
+     * @param <T> the type of the nodes
+     * @param <S> the type of the children
+     * @param <R> the type of the aggregate
+     * @return an empty aggregate
+     */
+    public static <T, S extends TreeNode<T, S>, R> SubtreeAggregate<T, S, R> of(
+            final Function<? super S, ? extends R> initial,
+            final BiFunction<? super R, ? super R, ? extends R> accumulate) {
+        return new SubtreeAggregate<T, S, R>(initial, accumulate);
+    }
+
+    /**
+     * @return the number of nodes in a subtree, including its root
+     */
+    public static <T, S extends TreeNode<T, S>> SubtreeAggregate<T, S, Integer> size() {
+        return of(node -> 1, Integer::sum);
+    }
+
+    /**
+     * @return the number of edges on the longest path from the root of a subtree to a leaf
+     */
+    public static <T, S extends TreeNode<T, S>> SubtreeAggregate<T, S, Integer> height() {
+        return of(node -> 0, (height, childHeight) -> Math.max(height, childHeight + 1));
+    }
+
+    public static <T, S extends TreeNode<T, S>> SubtreeAggregate<T, S, Long> sumOf(final ToLongFunction<? super S> selector) {
+        return of(selector::applyAsLong, Long::sum);
+    }
+
+    public R valueOf(final S node) {
+        return TreeNodeHelper.foldSubtree(node, initial, accumulate, values, parents);
+    }
+
+    public boolean isCached(final S node) {
+        return values.containsKey(node);
+    }
+
+    /**
+     * Evicts the values of the node and all its known ancestors. The whole parent chain is walked instead of stopping at
+     * the first node that is not cached, because an aggregate value can be null.
+     *
+     * @param node the node of which the subtree has changed
+     */
+    public void invalidate(final S node) {
+        for (S current = node; current != null; current = parents.get(current)) {
+            values.remove(current);
+        }
+    }
+
+    /**
+     * Adds the child to the parent and evicts the values along the parent chain.
+     *
+     * @param parent the node to add the child to
+     * @param child the child to add
+     * @return the parent
+     */
+    public S addChild(final S parent, final S child) {
+        parent.addChild(child);
+        parents.put(child, parent);
+        invalidate(parent);
+        return parent;
+    }
+
+    /**
+     * Removes the branch from the tree of the parent, evicts the values of the branch and those along the parent chain.
+     *
+     * @param parent the node to remove the branch from
+     * @param branch the branch to remove
+     * @return the parent
+     * @see TreeNode#removeSubTree(TreeNode)
+     */
+    public S removeSubTree(final S parent, final S branch) {
+        for (final S node : branch.depthFirstSequence()) {
+            values.remove(node);
+            parents.remove(node);
+        }
+        parent.removeSubTree(branch);
+        invalidate(parent);
+        return parent;
+    }
+}
@@ -2,14 +2,16 @@ package org.hzt.graph;
 
 import org.hzt.graph.iterators.GraphIterators;
 import org.hzt.graph.tuples.DepthToTreeNode;
+import org.hzt.utils.collections.ListX;
 import org.hzt.utils.sequences.Sequence;
-import org.hzt.utils.strings.StringX;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 /**
@@ -105,16 +107,7 @@ public interface TreeNode<T, S extends TreeNode<T, S>> {
     }
 
     default S removeSubTree(final S branch) {
-        final Collection<S> branchChildren = branch.getMutableChildren();
-        for (final S child : branchChildren) {
-            if (!child.isLeaf()) {
-                removeSubTree(child);
-            }
-        }
-        branchChildren.removeIf(TreeNode::isLeaf);
-        if (branch.isLeaf()) {
-            getMutableChildren().removeIf(branch::equals);
-        }
+        TreeNodeHelper.removeSubTree(this, branch);
         //noinspection unchecked
         return (S) this;
     }
@@ -139,6 +132,32 @@ public interface TreeNode<T, S extends TreeNode<T, S>> {
         return Sequence.of(() -> GraphIterators.treeNodeDepthFirstDepthTrackingIterator((S) this));
     }
 
+    /**
+     * @param pool the pool to expand the levels in
+     * @return the nodes of this tree by depth, where the children of every level are collected in parallel
+     */
+    default ListX<ListX<S>> parallelBreadthFirstLevels(final ForkJoinPool pool) {
+        //noinspection unchecked
+        return ParallelBreadthFirstSearch.treeLevels((S) this, pool);
+    }
+
+    /**
+     * Folds the subtree of this node bottom up in one iterative post order pass. The value of a node is its initial value
+     * with the values of its children accumulated into it. For example, the height of the subtree is
+     * {@code foldSubtree(node -> 0, (height, childHeight) -> Math.max(height, childHeight + 1))}.
+     *
+     * @param initial the value of a node before its children are accumulated
+     * @param accumulate accumulates the value of a child into the value of its parent
+     * @param <R> the type of the value
+     * @return the value of this node
+     * @see SubtreeAggregate to keep the values of the subtrees between calls
+     */
+    default <R> R foldSubtree(final Function<? super S, ? extends R> initial,
+                              final BiFunction<? super R, ? super R, ? extends R> accumulate) {
+        //noinspection unchecked
+        return TreeNodeHelper.foldSubtree((S) this, initial, accumulate, null, null);
+    }
+
     default Sequence<S> parentSequence() {
         //noinspection unchecked
         final S initial = (S) this;
@@ -181,9 +200,27 @@ public interface TreeNode<T, S extends TreeNode<T, S>> {
 
     default String toTreeString(final String opening, final String separator, final String closing,
                                 final Function<? super S, String> toStringFunction) {
-        final StringBuilder sb = new StringBuilder();
-        TreeNodeHelper.toTreeString(this, sb, opening, separator, closing, toStringFunction);
-        return sb.toString();
+        return appendTreeString(new StringBuilder(), opening, separator, closing, toStringFunction).toString();
+    }
+
+    /**
+     * Streams the tree string into the appendable instead of building it in memory first.
+     *
+     * @param appendable the appendable to append to, for example a {@link java.io.Writer}
+     * @param opening the string in front of the children of a node
+     * @param separator the string between two siblings
+     * @param closing the string after the children of a node
+     * @param toStringFunction the function to convert a node to a string
+     * @param <A> the type of the appendable
+     * @return the appendable
+     */
+    default <A extends Appendable> A appendTreeString(final A appendable,
+                                                      final String opening,
+                                                      final String separator,
+                                                      final String closing,
+                                                      final Function<? super S, String> toStringFunction) {
+        //noinspection unchecked
+        return TreeNodeHelper.appendTreeString((S) this, appendable, opening, separator, closing, toStringFunction);
     }
 
     default String toTreeString(final int indent) {
@@ -197,10 +234,25 @@ public interface TreeNode<T, S extends TreeNode<T, S>> {
     default String toTreeString(final int indent,
                                 final String indentString,
                                 final Function<? super S, String> toStringFunction) {
-        final StringBuilder sb = new StringBuilder();
-        TreeNodeHelper.toTreeString(this, sb, 0, indent, indentString, toStringFunction);
-        final StringBuilder sbNoTrailingWhiteSpace = sb.replace(sb.length() - 1, sb.length(), "");
-        return sbNoTrailingWhiteSpace.toString();
+        return appendTreeString(new StringBuilder(), indent, indentString, toStringFunction).toString();
+    }
+
+    /**
+     * Streams the indented tree string into the appendable instead of building it in memory first.
+     *
+     * @param appendable the appendable to append to, for example a {@link java.io.Writer}
+     * @param indent the number of indent strings per level
+     * @param indentString the string to indent with
+     * @param toStringFunction the function to convert a node to a string
+     * @param <A> the type of the appendable
+     * @return the appendable
+     */
+    default <A extends Appendable> A appendTreeString(final A appendable,
+                                                      final int indent,
+                                                      final String indentString,
+                                                      final Function<? super S, String> toStringFunction) {
+        //noinspection unchecked
+        return TreeNodeHelper.appendTreeString((S) this, appendable, indent, indentString, toStringFunction);
     }
 
     default String toBFSTreeString(final int indent) {
@@ -214,8 +266,14 @@ public interface TreeNode<T, S extends TreeNode<T, S>> {
     default String toBFSTreeString(final int indent,
                                    final String indentString,
                                    final Function<? super S, String> toStringFunction) {
-        return breadthFirstDepthTrackingSequence()
-                .map(n -> StringX.of(indentString).repeat(n.treeDepth() * indent) + toStringFunction.apply(n.node()))
-                .joinToString("\n");
+        return appendBFSTreeString(new StringBuilder(), indent, indentString, toStringFunction).toString();
+    }
+
+    default <A extends Appendable> A appendBFSTreeString(final A appendable,
+                                                         final int indent,
+                                                         final String indentString,
+                                                         final Function<? super S, String> toStringFunction) {
+        //noinspection unchecked
+        return TreeNodeHelper.appendBFSTreeString((S) this, appendable, indent, indentString, toStringFunction);
     }
 }
@@ -1,56 +1,197 @@
 package org.hzt.graph;
 
-import org.hzt.utils.sequences.Sequence;
-import org.hzt.utils.strings.StringX;
+import org.hzt.graph.tuples.DepthToTreeNode;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
+/**
+ * The tree operations that visit a whole subtree. They keep the path to the current node on an explicit stack of child
+ * iterators instead of the call stack, so the depth of a tree is only bounded by the heap.
+ */
 public final class TreeNodeHelper {
 
     private TreeNodeHelper() {
     }
 
-    static <T, S extends TreeNode<T, S>> void toTreeString(final TreeNode<T, S> treeNode,
-                                                           final StringBuilder sb,
-                                                           final int level,
-                                                           final int indent,
-                                                           final String indentString,
-                                                           final Function<? super S, String> toStringFunction) {
-        //noinspection unchecked
-        sb.append(StringX.of(indentString).repeat(indent * level))
-                .append(toStringFunction.apply((S) treeNode))
-                .append("\n");
+    /**
+     * Appends every node on its own line, indented by its depth. No line separator follows the last node.
+     */
+    static <T, S extends TreeNode<T, S>, A extends Appendable> A appendTreeString(final S root,
+                                                                                  final A appendable,
+                                                                                  final int indent,
+                                                                                  final String indentString,
+                                                                                  final Function<? super S, String> toStringFunction) {
+        try {
+            appendable.append(toStringFunction.apply(root));
+            final Deque<Iterator<S>> stack = new ArrayDeque<>();
+            stack.push(root.childrenIterator());
+            while (!stack.isEmpty()) {
+                final Iterator<S> children = stack.peek();
+                if (!children.hasNext()) {
+                    stack.pop();
+                    continue;
+                }
+                final S child = children.next();
+                appendable.append('\n');
+                appendIndent(appendable, indentString, indent * stack.size());
+                appendable.append(toStringFunction.apply(child));
+                stack.push(child.childrenIterator());
+            }
+            return appendable;
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Appends the nodes in depth first order, where the children of a node follow it between the opening and the closing
+     * and are separated by the level separator.
+     */
+    static <T, S extends TreeNode<T, S>, A extends Appendable> A appendTreeString(final S root,
+                                                                                  final A appendable,
+                                                                                  final String opening,
+                                                                                  final String levelSeparator,
+                                                                                  final String closing,
+                                                                                  final Function<? super S, String> toStringFunction) {
+        try {
+            appendable.append(toStringFunction.apply(root));
+            final Iterator<S> rootChildren = root.childrenIterator();
+            if (!rootChildren.hasNext()) {
+                return appendable;
+            }
+            appendable.append(opening);
+            final Deque<Iterator<S>> stack = new ArrayDeque<>();
+            stack.push(rootChildren);
+            while (!stack.isEmpty()) {
+                final S child = stack.getFirst().next();
+                appendable.append(toStringFunction.apply(child));
+                final Iterator<S> grandChildren = child.childrenIterator();
+                if (grandChildren.hasNext()) {
+                    appendable.append(opening);
+                    stack.push(grandChildren);
+                    continue;
+                }
+                while (!stack.isEmpty() && !stack.getFirst().hasNext()) {
+                    stack.pop();
+                    appendable.append(closing);
+                }
+                if (!stack.isEmpty()) {
+                    appendable.append(levelSeparator);
+                }
+            }
+            return appendable;
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static <T, S extends TreeNode<T, S>, A extends Appendable> A appendBFSTreeString(final S root,
+                                                                                     final A appendable,
+                                                                                     final int indent,
+                                                                                     final String indentString,
+                                                                                     final Function<? super S, String> toStringFunction) {
+        try {
+            boolean first = true;
+            for (final DepthToTreeNode<S> node : root.breadthFirstDepthTrackingSequence()) {
+                if (!first) {
+                    appendable.append('\n');
+                }
+                first = false;
+                appendIndent(appendable, indentString, indent * node.treeDepth());
+                appendable.append(toStringFunction.apply(node.node()));
+            }
+            return appendable;
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 
-        final Sequence<S> children = treeNode.childrenSequence();
-        if (children.none()) {
-            return;
+    private static void appendIndent(final Appendable appendable, final String indentString, final int times) throws IOException {
+        for (int i = 0; i < times; i++) {
+            appendable.append(indentString);
         }
-        for (final S child : children) {
-            toTreeString(child, sb, level + 1, indent, indentString, toStringFunction);
+    }
+
+    /**
+     * Removes all descendants of the branch and then the branch itself from the children of the given parent. The
+     * internal nodes of the branch are emptied in reverse pre order, so every node is emptied after its descendants.
+     */
+    static <T, S extends TreeNode<T, S>> void removeSubTree(final TreeNode<T, S> parent, final S branch) {
+        final List<S> internalNodes = new ArrayList<>();
+        for (final S node : branch.depthFirstSequence()) {
+            if (node.isInternal()) {
+                internalNodes.add(node);
+            }
+        }
+        for (int i = internalNodes.size() - 1; i >= 0; i--) {
+            internalNodes.get(i).getMutableChildren().removeIf(TreeNode::isLeaf);
+        }
+        if (branch.isLeaf()) {
+            parent.getMutableChildren().removeIf(branch::equals);
         }
     }
 
-    static <T, S extends TreeNode<T, S>> void toTreeString(final TreeNode<T, S> treeNode,
-                                                           final StringBuilder sb,
-                                                           final String opening,
-                                                           final String levelSeparator,
-                                                           final String closing,
-                                                           final Function<? super S, String> toStringFunction) {
-        //noinspection unchecked
-        sb.append(toStringFunction.apply((S) treeNode));
-        final Sequence<S> children = treeNode.childrenSequence();
-        if (children.none()) {
-            return;
+    /**
+     * Folds the subtree of the root bottom up in post order. The value of a node starts at its initial value and the
+     * values of its children are accumulated into it in the order of the children.
+     * <p>
+     * When a cache is given, the values of cached nodes are taken from it and the values of all other nodes are stored
+     * in it. The parents of all visited nodes, cached or not, are stored in the parents map when it is given.
+     */
+    static <T, S extends TreeNode<T, S>, R> R foldSubtree(final S root,
+                                                         final Function<? super S, ? extends R> initial,
+                                                         final BiFunction<? super R, ? super R, ? extends R> accumulate,
+                                                         final Map<S, R> cache,
+                                                         final Map<S, S> parents) {
+        if (cache != null && cache.containsKey(root)) {
+            return cache.get(root);
         }
-        sb.append(opening);
-        for (final Iterator<S> iterator = children.iterator(); iterator.hasNext(); ) {
-            final S child = iterator.next();
-            toTreeString(child, sb, opening, levelSeparator, closing, toStringFunction);
-            if (iterator.hasNext()) {
-                sb.append(levelSeparator);
+        final Deque<FoldFrame<S, R>> stack = new ArrayDeque<>();
+        stack.push(new FoldFrame<>(root, initial.apply(root)));
+        while (true) {
+            final FoldFrame<S, R> frame = stack.getFirst();
+            if (frame.children.hasNext()) {
+                final S child = frame.children.next();
+                if (parents != null) {
+                    parents.put(child, frame.node);
+                }
+                if (cache != null && cache.containsKey(child)) {
+                    frame.value = accumulate.apply(frame.value, cache.get(child));
+                } else {
+                    stack.push(new FoldFrame<>(child, initial.apply(child)));
+                }
+                continue;
+            }
+            stack.pop();
+            if (cache != null) {
+                cache.put(frame.node, frame.value);
             }
+            final FoldFrame<S, R> parent = stack.peek();
+            if (parent == null) {
+                return frame.value;
+            }
+            parent.value = accumulate.apply(parent.value, frame.value);
+        }
+    }
+
+    private static final class FoldFrame<S extends TreeNode<?, S>, R> {
+
+        private final S node;
+        private final Iterator<S> children;
+        private R value;
+
+        FoldFrame(final S node, final R value) {
+            this.node = node;
+            this.children = node.childrenIterator();
+            this.value = value;
         }
-        sb.append(closing);
     }
 }
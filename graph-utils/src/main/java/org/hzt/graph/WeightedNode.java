@@ -1,6 +1,6 @@
 package org.hzt.graph;
 
-
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -8,10 +8,11 @@ import java.util.stream.Collectors;
 public interface WeightedNode<T> extends Node<WeightedNode<T>, WeightedNode<T>> {
 
     static <T> WeightedNode<T> of(final T payload) {
+        final List<WeightedEdge<T>> edges = new ArrayList<>();
         return new WeightedNode<T>() {
             @Override
             public Iterator<WeightedNode<T>> neighborIterator() {
-                return null;
+                return getMutableNeighbors().iterator();
             }
 
             @Override
@@ -21,7 +22,7 @@ public interface WeightedNode<T> extends Node<WeightedNode<T>, WeightedNode<T>>
 
             @Override
             public List<WeightedEdge<T>> getEdges() {
-                throw new IllegalStateException();
+                return edges;
             }
 
             @Override
@@ -33,6 +34,11 @@ public interface WeightedNode<T> extends Node<WeightedNode<T>, WeightedNode<T>>
             public int getCost() {
                 return 0;
             }
+
+            @Override
+            public String toString() {
+                return "WeightedNode{payload=" + payload + '}';
+            }
         };
     }
 
@@ -54,8 +60,16 @@ public interface WeightedNode<T> extends Node<WeightedNode<T>, WeightedNode<T>>
         return this;
     }
 
+    /**
+     * @deprecated the algorithms in {@link GraphAlgorithms} keep their costs in side tables per search and do not use it
+     */
+    @Deprecated
     int getCost();
 
+    /**
+     * @deprecated the algorithms in {@link GraphAlgorithms} keep their costs in side tables per search and do not use it
+     */
+    @Deprecated
     void setCost(int i);
 
 }
@@ -2,12 +2,10 @@ package org.hzt.graph.iterators;
 
 import org.hzt.graph.Node;
 
-import java.util.HashSet;
+import java.util.ArrayDeque;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.NoSuchElementException;
 import java.util.Queue;
-import java.util.Set;
 
 /**
  * @param <T> the type of this
@@ -16,12 +14,13 @@ import java.util.Set;
  * @see <a href="https://gist.github.com/Xrayez/e67858723beca83f972f5790aae3a26f">BFS and DFS Iterator for Graph</a>
  */
 final class BreadthFirstIterator<T, S extends Node<T, S>> implements Iterator<S> {
-    private final Set<S> visited = new HashSet<>();
-    private final Queue<S> queue = new LinkedList<>();
+    private final VisitedSet<S> visited;
+    private final Queue<S> queue = new ArrayDeque<>();
     private final boolean setPredecessor;
 
-    BreadthFirstIterator(final S node, final boolean setPredecessor) {
+    BreadthFirstIterator(final S node, final boolean setPredecessor, final VisitedSet<S> visited) {
         this.setPredecessor = setPredecessor;
+        this.visited = visited;
         queue.add(node);
         visited.add(node);
     }
@@ -40,12 +39,11 @@ final class BreadthFirstIterator<T, S extends Node<T, S>> implements Iterator<S>
         final Iterator<S> iterator = next.neighborIterator();
         while (iterator.hasNext()) {
             final S neighbor = iterator.next();
-            if (!visited.contains(neighbor)) {
+            if (visited.add(neighbor)) {
                 if (setPredecessor) {
                     neighbor.withPredecessor(next);
                 }
                 queue.add(neighbor);
-                visited.add(neighbor);
             }
         }
         return next;
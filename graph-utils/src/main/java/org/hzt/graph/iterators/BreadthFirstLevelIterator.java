@@ -0,0 +1,51 @@
+package org.hzt.graph.iterators;
+
+import org.hzt.graph.Node;
+import org.hzt.utils.collections.ListX;
+import org.hzt.utils.collections.MutableListX;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A level synchronous breadth first traversal. Every call to next returns the whole frontier of nodes at the next
+ * distance from the source, in the order a plain breadth first traversal would visit them.
+ *
+ * @param <T> the type of this
+ * @param <S> the type of the child
+ */
+final class BreadthFirstLevelIterator<T, S extends Node<T, S>> implements Iterator<ListX<S>> {
+    private final VisitedSet<S> visited;
+    private MutableListX<S> frontier = MutableListX.empty();
+
+    BreadthFirstLevelIterator(final S node, final VisitedSet<S> visited) {
+        this.visited = visited;
+        frontier.add(node);
+        visited.add(node);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !frontier.isEmpty();
+    }
+
+    @Override
+    public ListX<S> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final MutableListX<S> level = frontier;
+        final MutableListX<S> nextLevel = MutableListX.withInitCapacity(level.size());
+        for (final S node : level) {
+            final Iterator<S> neighbors = node.neighborIterator();
+            while (neighbors.hasNext()) {
+                final S neighbor = neighbors.next();
+                if (visited.add(neighbor)) {
+                    nextLevel.add(neighbor);
+                }
+            }
+        }
+        frontier = nextLevel;
+        return level;
+    }
+}
@@ -4,10 +4,8 @@ import org.hzt.graph.Node;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
-import java.util.Set;
 
 /**
  * @param <T> the type of this
@@ -16,13 +14,14 @@ import java.util.Set;
  * @see <a href="https://gist.github.com/Xrayez/e67858723beca83f972f5790aae3a26f">BFS and DFS Iterator for Graph</a>
  */
 final class DepthFirstIterator<T, S extends Node<T, S>> implements Iterator<S> {
-    private final Set<S> visited = new HashSet<>();
+    private final VisitedSet<S> visited;
     private final Deque<Iterator<S>> stack = new ArrayDeque<>();
     private final boolean setPredecessor;
     private S next;
 
-    DepthFirstIterator(final S source, final boolean setPredecessor) {
+    DepthFirstIterator(final S source, final boolean setPredecessor, final VisitedSet<S> visited) {
         this.setPredecessor = setPredecessor;
+        this.visited = visited;
         this.stack.push(source.neighborIterator());
         this.next = source;
     }
@@ -3,6 +3,7 @@ package org.hzt.graph.iterators;
 import org.hzt.graph.Node;
 import org.hzt.graph.TreeNode;
 import org.hzt.graph.tuples.DepthToTreeNode;
+import org.hzt.utils.collections.ListX;
 
 import java.util.Iterator;
 
@@ -27,10 +28,26 @@ public final class GraphIterators {
     }
 
     public static <T, S extends Node<T, S>> Iterator<S> breadthFirstIterator(final S s, final boolean setPredecessor) {
-        return new BreadthFirstIterator<>(s, setPredecessor);
+        return breadthFirstIterator(s, setPredecessor, VisitedSet.hashSet());
+    }
+
+    public static <T, S extends Node<T, S>> Iterator<S> breadthFirstIterator(final S s,
+                                                                             final boolean setPredecessor,
+                                                                             final VisitedSet<S> visited) {
+        return new BreadthFirstIterator<>(s, setPredecessor, visited);
+    }
+
+    public static <T, S extends Node<T, S>> Iterator<ListX<S>> breadthFirstLevelIterator(final S s, final VisitedSet<S> visited) {
+        return new BreadthFirstLevelIterator<>(s, visited);
     }
 
     public static <T, S extends Node<T, S>> Iterator<S> depthFirstIterator(final S s, final boolean setPredecessor) {
-        return new DepthFirstIterator<>(s, setPredecessor);
+        return depthFirstIterator(s, setPredecessor, VisitedSet.hashSet());
+    }
+
+    public static <T, S extends Node<T, S>> Iterator<S> depthFirstIterator(final S s,
+                                                                           final boolean setPredecessor,
+                                                                           final VisitedSet<S> visited) {
+        return new DepthFirstIterator<>(s, setPredecessor, visited);
     }
 }
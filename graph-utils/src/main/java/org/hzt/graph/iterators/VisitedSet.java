@@ -0,0 +1,99 @@
+package org.hzt.graph.iterators;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+/**
+ * Keeps track of the nodes a traversal has visited.
+ * <p>
+ * A hash set compares the nodes by equals, an identity set by reference. A bit set maps every node to a non negative
+ * int id and stores one bit per id, so a visit allocates nothing.
+ *
+ * @param <S> the type of the nodes
+ */
+public interface VisitedSet<S> {
+
+    static <S> VisitedSet<S> hashSet() {
+        return new SetBasedVisitedSet<>(new HashSet<>());
+    }
+
+    static <S> VisitedSet<S> identitySet() {
+        return new SetBasedVisitedSet<>(Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    /**
+     * @param idMapper maps a node to its id. Different nodes must have different ids and the ids should be dense
+     * @param <S> the type of the nodes
+     * @return a visited set that stores a bit per id
+     */
+    static <S> VisitedSet<S> bitSet(final ToIntFunction<? super S> idMapper) {
+        return new BitSetVisitedSet<>(idMapper);
+    }
+
+    /**
+     * Marks the node as visited.
+     *
+     * @param node the node to mark
+     * @return true if the node was not visited before
+     * @throws IllegalArgumentException if the visited set is a bit set and the id of the node is negative
+     */
+    boolean add(S node);
+
+    boolean contains(S node);
+}
+
+final class SetBasedVisitedSet<S> implements VisitedSet<S> {
+
+    private final Set<S> visited;
+
+    SetBasedVisitedSet(final Set<S> visited) {
+        this.visited = visited;
+    }
+
+    @Override
+    public boolean add(final S node) {
+        return visited.add(node);
+    }
+
+    @Override
+    public boolean contains(final S node) {
+        return visited.contains(node);
+    }
+}
+
+final class BitSetVisitedSet<S> implements VisitedSet<S> {
+
+    private final ToIntFunction<? super S> idMapper;
+    private long[] words = new long[16];
+
+    BitSetVisitedSet(final ToIntFunction<? super S> idMapper) {
+        this.idMapper = idMapper;
+    }
+
+    @Override
+    public boolean add(final S node) {
+        final int id = idMapper.applyAsInt(node);
+        if (id < 0) {
+            throw new IllegalArgumentException("The id of " + node + " is negative: " + id);
+        }
+        final int wordIndex = id >>> 6;
+        if (wordIndex >= words.length) {
+            words = Arrays.copyOf(words, Math.max(words.length << 1, wordIndex + 1));
+        }
+        final long mask = 1L << id;
+        final long word = words[wordIndex];
+        words[wordIndex] = word | mask;
+        return (word & mask) == 0;
+    }
+
+    @Override
+    public boolean contains(final S node) {
+        final int id = idMapper.applyAsInt(node);
+        final int wordIndex = id >>> 6;
+        return wordIndex < words.length && (words[wordIndex] & (1L << id)) != 0;
+    }
+}
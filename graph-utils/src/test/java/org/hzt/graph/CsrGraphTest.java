@@ -0,0 +1,98 @@
+package org.hzt.graph;
+
+import org.hzt.utils.collections.ListX;
+import org.hzt.utils.collections.primitives.IntList;
+import org.hzt.utils.ranges.IntRange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsrGraphTest {
+
+    /**
+     *    0 ---> 1 ---> 3
+     *    |      ^
+     *    v      |
+     *    2 -----+      4
+     */
+    @Test
+    void testFromEdgesGroupsEdgesBySourceInOrder() {
+        final CsrGraph graph = CsrGraph.fromEdges(5, new int[]{2, 0, 1, 0}, new int[]{1, 2, 3, 1});
+
+        assertAll(
+                () -> assertEquals(5, graph.nrOfVertices()),
+                () -> assertEquals(4, graph.nrOfEdges()),
+                () -> assertFalse(graph.isWeighted()),
+                () -> assertEquals(IntList.of(2, 1), graph.neighbors(0).toList()),
+                () -> assertEquals(0, graph.degree(4)),
+                () -> assertEquals(IntList.of(0, 2, 1, 3), graph.breadthFirstSequence(0).toList()),
+                () -> assertEquals(IntList.of(0, 2, 1, 3), graph.depthFirstSequence(0).toList()),
+                () -> assertEquals(IntList.of(4), graph.breadthFirstSequence(4).toList()),
+                () -> assertEquals(2, GraphAlgorithms.dijkstra(graph, 0, 3).cost()),
+                () -> assertThrows(IllegalStateException.class, () -> GraphAlgorithms.dijkstra(graph, 0, 4)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> GraphAlgorithms.dijkstra(graph, 0, 5)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> GraphAlgorithms.dijkstra(graph, 0, -1)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> GraphAlgorithms.dijkstra(graph, 5, 0)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> GraphAlgorithms.aStar(graph, -1, 3, vertex -> 0)),
+                () -> assertThrows(IndexOutOfBoundsException.class, () -> CsrGraph.fromEdges(2, new int[]{0}, new int[]{2}))
+        );
+    }
+
+    @Test
+    void testTraversalsOfCsrGraphVisitNodesInSameOrderAsNodeGraph() {
+        final ListX<WeightedNode<Integer>> grid = gridGraph(20);
+        final WeightedNode<Integer> start = grid.get(45);
+
+        final CsrGraph.OfNodes<WeightedNode<Integer>> csr = CsrGraph.fromNodes(start);
+        final CsrGraph graph = csr.graph();
+
+        assertAll(
+                () -> assertEquals(0, csr.vertex(start)),
+                () -> assertEquals(400, graph.nrOfVertices()),
+                () -> assertIterableEquals(start.breadthFirstSequence().toListX(),
+                        graph.breadthFirstSequence(0).mapToObj(csr::node).toListX()),
+                () -> assertIterableEquals(start.depthFirstSequence().toListX(),
+                        graph.depthFirstSequence(0).mapToObj(csr::node).toListX())
+        );
+    }
+
+    @Test
+    void testShortestPathOnCsrGraphHasSameCostAsOnNodeGraph() {
+        final int width = 30;
+        final ListX<WeightedNode<Integer>> grid = gridGraph(width);
+        final WeightedNode<Integer> goal = grid.last();
+
+        final CsrGraph.OfNodes<WeightedNode<Integer>> csr = CsrGraph.fromWeightedNodes(grid.first());
+        final int goalVertex = csr.vertex(goal);
+        final IntShortestPath dijkstra = GraphAlgorithms.dijkstra(csr.graph(), 0, goalVertex);
+        final IntShortestPath aStar = GraphAlgorithms.aStar(csr.graph(), 0, goalVertex, vertex -> {
+            final int index = csr.node(vertex).getPayload();
+            return (width - 1 - index % width) + (width - 1 - index / width);
+        });
+
+        assertAll(
+                () -> assertTrue(csr.graph().isWeighted()),
+                () -> assertEquals(GraphAlgorithms.dijkstra(grid.first(), goal).cost(), dijkstra.cost()),
+                () -> assertEquals(dijkstra.cost(), aStar.cost()),
+                () -> assertEquals(goalVertex, aStar.vertices().last())
+        );
+    }
+
+    private static ListX<WeightedNode<Integer>> gridGraph(final int width) {
+        final ListX<WeightedNode<Integer>> nodes = IntRange.of(0, width * width).mapToObj(WeightedNode::of).toListX();
+        for (int i = 0; i < nodes.size(); i++) {
+            if (i % width < width - 1) {
+                WeightedEdge.edgesInBothDirectionsBetween(nodes.get(i), nodes.get(i + 1), 1 + (i * 7) % 9);
+            }
+            if (i + width < nodes.size()) {
+                WeightedEdge.edgesInBothDirectionsBetween(nodes.get(i), nodes.get(i + width), 1 + (i * 5) % 9);
+            }
+        }
+        return nodes;
+    }
+}
@@ -1,13 +1,19 @@
 package org.hzt.graph;
 
-import org.hzt.utils.collections.MutableMapX;
-import org.junit.jupiter.api.Disabled;
+import org.hzt.utils.collections.ListX;
+import org.hzt.utils.ranges.IntRange;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.fail;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class GraphAlgorithmsTest {
-    // TODO: 8-6-2022 implement
 
     /**
      *    Find the shortest path from A to E
@@ -17,20 +23,99 @@ class GraphAlgorithmsTest {
      *    |     \ | /
      *    C---1---D
      */
-    @Disabled("Needs to be fixed")
     @Test
     void testFindShortestPath() {
-        final MutableMapX<String, WeightedNode<String>> graph = MutableMapX.empty();
-        final WeightedNode<String> A = WeightedNode.of("A");
-        final WeightedNode<String> B = WeightedNode.of("B");
-        final WeightedNode<String> C = WeightedNode.of("C");
-        final WeightedNode<String> D = WeightedNode.of("D");
-        final WeightedNode<String> E = WeightedNode.of("E");
-        WeightedEdge.edgesInBothDirectionsBetween(A, B, 3);
-        A.addEdgeTo(C, 2)
-                .addEdgeTo(D, 6);
-
-        fail("Not implemented");
+        final WeightedNode<String> a = WeightedNode.of("A");
+        final WeightedNode<String> b = WeightedNode.of("B");
+        final WeightedNode<String> c = WeightedNode.of("C");
+        final WeightedNode<String> d = WeightedNode.of("D");
+        final WeightedNode<String> e = WeightedNode.of("E");
+        WeightedEdge.edgesInBothDirectionsBetween(a, b, 3);
+        WeightedEdge.edgesInBothDirectionsBetween(a, c, 2);
+        WeightedEdge.edgesInBothDirectionsBetween(a, d, 6);
+        WeightedEdge.edgesInBothDirectionsBetween(b, e, 4);
+        WeightedEdge.edgesInBothDirectionsBetween(b, d, 5);
+        WeightedEdge.edgesInBothDirectionsBetween(c, d, 1);
+        WeightedEdge.edgesInBothDirectionsBetween(d, e, 7);
+
+        final ShortestPath<String> fromAToE = GraphAlgorithms.dijkstra(a, e);
+        final ShortestPath<String> fromCToE = GraphAlgorithms.dijkstra(c, e);
+        final ShortestPath<String> fromDToA = GraphAlgorithms.dijkstra(d, a);
+
+        assertAll(
+                () -> assertIterableEquals(ListX.of("A", "B", "E"), fromAToE.payloads()),
+                () -> assertEquals(7, fromAToE.cost()),
+                () -> assertEquals(8, fromCToE.cost()),
+                () -> assertIterableEquals(ListX.of("D", "C", "A"), fromDToA.payloads()),
+                () -> assertEquals(3, fromDToA.cost())
+        );
+    }
+
+    @Test
+    void testUnreachableGoalThrowsException() {
+        final WeightedNode<String> a = WeightedNode.of("A");
+        final WeightedNode<String> b = WeightedNode.of("B");
+        a.addEdgeTo(WeightedNode.of("C"), 1);
+
+        assertThrows(IllegalStateException.class, () -> GraphAlgorithms.dijkstra(a, b));
+    }
+
+    @Test
+    void testAStarFindsPathOfSameCostAsDijkstraInGrid() {
+        final int width = 60;
+        final ListX<WeightedNode<Integer>> grid = gridGraph(width);
+        final WeightedNode<Integer> start = grid.first();
+        final WeightedNode<Integer> goal = grid.last();
+
+        final ShortestPath<Integer> dijkstra = GraphAlgorithms.dijkstra(start, goal);
+        final ShortestPath<Integer> aStar = GraphAlgorithms.aStar(start, goal, node -> manhattanDistance(node.getPayload(), goal.getPayload(), width));
+
+        assertAll(
+                () -> assertEquals(dijkstra.cost(), aStar.cost()),
+                () -> assertEquals(start, aStar.nodes().first()),
+                () -> assertEquals(goal, aStar.nodes().last())
+        );
+    }
+
+    @Test
+    void testConcurrentSearchesShareOneGraph() throws InterruptedException {
+        final int width = 40;
+        final ListX<WeightedNode<Integer>> grid = gridGraph(width);
+        final ListX<Long> expected = IntRange.of(0, 16)
+                .mapToObj(i -> GraphAlgorithms.dijkstra(grid.get(i), grid.get(grid.size() - 1 - i)).cost())
+                .toListX();
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final ListX<Long> actual = pool.submit(() -> IntRange.of(0, 16).parallel()
+                    .mapToObj(i -> GraphAlgorithms.dijkstra(grid.get(i), grid.get(grid.size() - 1 - i)).cost())
+                    .toListX()).join();
+
+            assertIterableEquals(expected, actual);
+        } finally {
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(1, TimeUnit.SECONDS));
+        }
     }
 
+    /**
+     * @return a square grid in which every node is connected to its right and lower neighbor in both directions by an
+     * edge with a weight from 1 up to 9
+     */
+    private static ListX<WeightedNode<Integer>> gridGraph(final int width) {
+        final ListX<WeightedNode<Integer>> nodes = IntRange.of(0, width * width).mapToObj(WeightedNode::of).toListX();
+        for (int i = 0; i < nodes.size(); i++) {
+            if (i % width < width - 1) {
+                WeightedEdge.edgesInBothDirectionsBetween(nodes.get(i), nodes.get(i + 1), 1 + (i * 7) % 9);
+            }
+            if (i + width < nodes.size()) {
+                WeightedEdge.edgesInBothDirectionsBetween(nodes.get(i), nodes.get(i + width), 1 + (i * 5) % 9);
+            }
+        }
+        return nodes;
+    }
+
+    private static long manhattanDistance(final int from, final int to, final int width) {
+        return Math.abs(from % width - to % width) + Math.abs(from / width - to / width);
+    }
 }
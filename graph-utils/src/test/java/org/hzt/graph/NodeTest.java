@@ -1,9 +1,12 @@
 package org.hzt.graph;
 
+import org.hzt.graph.iterators.VisitedSet;
 import org.hzt.utils.It;
 import org.hzt.utils.collections.ListX;
 import org.hzt.utils.collections.MapX;
+import org.hzt.utils.ranges.IntRange;
 import org.hzt.utils.sequences.Sequence;
+import org.hzt.utils.tuples.IndexedValue;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
@@ -13,12 +16,16 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class NodeTest {
 
@@ -102,6 +109,150 @@ class NodeTest {
         assertEquals(Arrays.asList("Leiden", "Amsterdam", "Utrecht", "Tilburg", "Bergen op zoom", "Middelburg", "Vlissingen", "Rotterdam", "Den Haag"), stationNames);
     }
 
+    @Test
+    void testTraversalsYieldSameOrderForAllVisitedSets() {
+        final RailWayStation leiden = buildTrainNet().get("Leiden");
+
+        final ListX<RailWayStation> breadthFirst = leiden.breadthFirstSequence().toListX();
+        final ListX<RailWayStation> depthFirst = leiden.depthFirstSequence().toListX();
+        final Sequence<RailWayStation> byId = leiden
+                .breadthFirstSequence(Node.Mode.NO_PREDECESSOR, () -> VisitedSet.bitSet(RailWayStation::id));
+
+        assertAll(
+                () -> assertEquals(breadthFirst, leiden.breadthFirstSequence(Node.Mode.NO_PREDECESSOR, VisitedSet::identitySet).toListX()),
+                () -> assertEquals(breadthFirst, byId.toListX()),
+                () -> assertEquals(breadthFirst, byId.toListX()),
+                () -> assertEquals(depthFirst, leiden.depthFirstSequence(Node.Mode.NO_PREDECESSOR, VisitedSet::identitySet).toListX()),
+                () -> assertEquals(depthFirst, leiden
+                        .depthFirstSequence(Node.Mode.NO_PREDECESSOR, () -> VisitedSet.bitSet(RailWayStation::id)).toListX())
+        );
+    }
+
+    @Test
+    void testBreadthFirstLevels() {
+        final RailWayStation leiden = buildTrainNet().get("Leiden");
+
+        final ListX<ListX<String>> levels = leiden.breadthFirstLevels(() -> VisitedSet.bitSet(RailWayStation::id))
+                .map(level -> level.map(station -> station.name))
+                .toListX();
+
+        assertAll(
+                () -> assertEquals(ListX.of(
+                        ListX.of("Leiden"),
+                        ListX.of("Amsterdam", "Den Haag", "Utrecht"),
+                        ListX.of("Tilburg", "Bergen op zoom", "Rotterdam"),
+                        ListX.of("Middelburg"),
+                        ListX.of("Vlissingen")), levels),
+                () -> assertEquals(leiden.breadthFirstSequence().toListX(), leiden.breadthFirstLevels().flatMap(It::self).toListX())
+        );
+    }
+
+    @Test
+    void testParallelBreadthFirstOfTrainNet() {
+        final MapX<String, RailWayStation> trainNet = buildTrainNet();
+        final RailWayStation leiden = trainNet.get("Leiden");
+
+        final BreadthFirstTree<RailWayStation> tree = leiden.parallelBreadthFirst(ForkJoinPool.commonPool());
+
+        assertAll(
+                () -> assertEquals(4, tree.depth()),
+                () -> assertEquals(9, tree.nrOfReachedNodes()),
+                () -> assertEquals(leiden.breadthFirstLevels().map(ListX::toSet).toListX(), tree.levels().map(ListX::toSet)),
+                () -> assertEquals(4, tree.distance(trainNet.get("Vlissingen").id())),
+                () -> assertEquals(trainNet.get("Middelburg").id(), tree.predecessor(trainNet.get("Vlissingen").id())),
+                () -> assertEquals(-1, tree.predecessor(leiden.id())),
+                () -> assertEquals(-1, tree.distance(trainNet.get("Timbuktu").id()))
+        );
+    }
+
+    @Test
+    void testParallelBreadthFirstYieldsSameDistancesAsSequentialBreadthFirst() {
+        final int nrOfStations = 100_000;
+        final Random random = new Random(0);
+        final ListX<RailWayStation> stations = IntRange.of(0, nrOfStations)
+                .mapToObj(id -> new RailWayStation("Station " + id, id))
+                .toListX();
+        for (int i = 0; i < nrOfStations; i++) {
+            for (int j = 0; j < 2; j++) {
+                stations.get(i).bidiAddNeighbor(stations.get(random.nextInt(nrOfStations)));
+            }
+        }
+        final RailWayStation source = stations.get(0);
+        final int[] expectedDistances = new int[nrOfStations];
+        Arrays.fill(expectedDistances, -1);
+        source.breadthFirstLevels().withIndex()
+                .forEach(level -> level.value().forEach(station -> expectedDistances[station.id()] = level.index()));
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final BreadthFirstTree<RailWayStation> tree = source.parallelBreadthFirst(pool);
+            final int[] distances = Arrays.copyOf(tree.distances(), nrOfStations);
+            final int[] predecessors = tree.predecessors();
+            for (int id = tree.distances().length; id < nrOfStations; id++) {
+                distances[id] = -1;
+            }
+
+            assertAll(
+                    () -> assertArrayEquals(expectedDistances, distances),
+                    () -> assertTrue(IntRange.of(1, predecessors.length)
+                            .filter(id -> predecessors[id] >= 0)
+                            .all(id -> distances[predecessors[id]] == distances[id] - 1
+                                       && stations.get(predecessors[id]).neighbors.contains(stations.get(id))))
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelBreadthFirstRejectsNegativeIds() {
+        final RailWayStation source = new RailWayStation("Source", 0);
+        final RailWayStation negativeSource = new RailWayStation("Negative source", -1);
+        final ListX<RailWayStation> stations = IntRange.of(1, 10_000)
+                .mapToObj(id -> new RailWayStation("Station " + id, id))
+                .toListX();
+        stations.forEach(source::bidiAddNeighbor);
+        stations.get(5_000).bidiAddNeighbor(new RailWayStation("Negative neighbor", -7));
+        final RailWayStation small = new RailWayStation("Small", 0);
+        small.bidiAddNeighbor(new RailWayStation("Negative", -2));
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertAll(
+                    () -> assertThrows(IllegalArgumentException.class, () -> negativeSource.parallelBreadthFirst(pool)),
+                    () -> assertThrows(IllegalArgumentException.class, () -> small.parallelBreadthFirst(pool)),
+                    () -> assertThrows(IllegalArgumentException.class, () -> source.parallelBreadthFirst(pool))
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testBitSetVisitedSetTracksNodesById() {
+        final VisitedSet<Integer> visited = VisitedSet.bitSet(Integer::intValue);
+
+        assertAll(
+                () -> assertEquals(true, visited.add(1_000)),
+                () -> assertEquals(false, visited.add(1_000)),
+                () -> assertEquals(true, visited.contains(1_000)),
+                () -> assertEquals(false, visited.contains(999)),
+                () -> assertEquals(false, visited.contains(100_000))
+        );
+    }
+
+    @Test
+    void testBitSetVisitedSetRejectsNegativeIds() {
+        final VisitedSet<Integer> visited = VisitedSet.bitSet(Integer::intValue);
+
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> visited.add(-1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> visited.add(Integer.MIN_VALUE)),
+                () -> assertEquals(false, visited.contains(-1)),
+                () -> assertEquals(true, visited.add(0))
+        );
+    }
+
     private MapX<String, RailWayStation> buildTrainNet() {
         final MapX<String, RailWayStation> map = ListX.of(
                         "Leiden",
@@ -114,7 +265,8 @@ class NodeTest {
                         "Tilburg",
                         "Bergen op zoom",
                         "Timbuktu")
-                .associateWith(RailWayStation::new);
+                .withIndex()
+                .toMapX(IndexedValue::value, indexed -> new RailWayStation(indexed.value(), indexed.index()));
 
         map.get("Leiden").bidiAddNeighbors(Sequence.of(
                 "Amsterdam",
@@ -138,12 +290,19 @@ class NodeTest {
 
 
         private final String name;
+        private final int id;
 
         private final Set<RailWayStation> neighbors = new LinkedHashSet<>();
         private RailWayStation predecessor;
 
-        public RailWayStation(final String name) {
+        public RailWayStation(final String name, final int id) {
             this.name = name;
+            this.id = id;
+        }
+
+        @Override
+        public int id() {
+            return id;
         }
 
         @Override
@@ -3,11 +3,13 @@ package org.hzt.graph;
 import org.hzt.graph.tuples.DepthToTreeNode;
 import org.hzt.utils.It;
 import org.hzt.utils.sequences.Sequence;
+import org.hzt.utils.strings.StringX;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -17,6 +19,8 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 import static java.util.Comparator.comparingInt;
@@ -120,6 +124,39 @@ class TreeNodeTest {
 
             assertEquals(expected, s);
         }
+
+        @Test
+        void testAppendTreeStringStreamsSameStringAsToTreeString() {
+            final Person root = buildPersonTree();
+            final StringWriter indented = new StringWriter();
+            final StringWriter bracketed = new StringWriter();
+            final StringWriter breadthFirst = new StringWriter();
+
+            root.appendTreeString(indented, 2, " ", Objects::toString);
+            root.appendTreeString(bracketed, "[", ", ", "]", Objects::toString);
+            root.appendBFSTreeString(breadthFirst, 2, " ", Objects::toString);
+
+            assertAll(
+                    () -> assertEquals(root.toTreeString(2), indented.toString()),
+                    () -> assertEquals(root.toTreeString(), bracketed.toString()),
+                    () -> assertEquals(root.toBFSTreeString(2), breadthFirst.toString())
+            );
+        }
+
+        @Test
+        void testTreeStringsOfDeepTreeDoNotOverflowTheStack() {
+            final int depth = 200_000;
+            final Person root = buildChain(depth);
+
+            final String bracketed = root.toTreeString();
+            final String indented = root.toTreeString(0);
+
+            assertAll(
+                    () -> assertTrue(bracketed.startsWith("p0[p1[p2[")),
+                    () -> assertTrue(bracketed.endsWith("p" + (depth - 1) + StringX.of("]").repeat(depth - 1))),
+                    () -> assertEquals(depth, indented.split("\n").length)
+            );
+        }
     }
 
     @Test
@@ -197,6 +234,122 @@ class TreeNodeTest {
         Assertions.assertArrayEquals(expected, node.depthFirstSequence().toArrayOf(n -> n.name, String[]::new));
     }
 
+    @Test
+    void testRemoveDeepBranch() {
+        final Person root = new Person("root").addChildren(Arrays.asList(buildChain(200_000), new Person("leaf")));
+        final Person branch = root.childrenSequence().first();
+
+        root.removeSubTree(branch);
+
+        assertAll(
+                () -> assertEquals(Arrays.asList("root", "leaf"), root.depthFirstSequence().toListOf(n -> n.name)),
+                () -> assertTrue(branch.isLeaf())
+        );
+    }
+
+    @Test
+    void testFoldSubtree() {
+        final Person root = buildPersonTree();
+
+        assertAll(
+                () -> assertEquals(10, root.<Integer>foldSubtree(node -> 1, Integer::sum)),
+                () -> assertEquals(3, root.<Integer>foldSubtree(node -> 0, (height, child) -> Math.max(height, child + 1))),
+                () -> assertEquals("root(c1(c4(c10)c5)c2(c6c7c8)c3)",
+                        root.<String>foldSubtree(node -> node.name, (value, child) -> value.contains("(")
+                                ? value.substring(0, value.length() - 1) + child + ")" : value + "(" + child + ")")),
+                () -> assertEquals(199_999, buildChain(200_000).<Integer>foldSubtree(node -> 0, (height, child) -> Math.max(height, child + 1)))
+        );
+    }
+
+    @Test
+    void testSubtreeAggregateIsOnlyRecomputedAlongTheParentChain() {
+        final Person root = buildPersonTree();
+        final Person c1 = root.breadthFirstSequence().first(s -> "c1".equals(s.name));
+        final Person c2 = root.breadthFirstSequence().first(s -> "c2".equals(s.name));
+        final Person c4 = root.breadthFirstSequence().first(s -> "c4".equals(s.name));
+        final AtomicInteger nrOfFoldedNodes = new AtomicInteger();
+        final SubtreeAggregate<Person, Person, Integer> sizes = SubtreeAggregate.of(node -> {
+            nrOfFoldedNodes.incrementAndGet();
+            return 1;
+        }, Integer::sum);
+
+        final int initialSize = sizes.valueOf(root);
+        final int foldedOnFirstQuery = nrOfFoldedNodes.getAndSet(0);
+        final int cachedSize = sizes.valueOf(root);
+        final int foldedOnSecondQuery = nrOfFoldedNodes.getAndSet(0);
+
+        sizes.addChild(c4, new Person("c11"));
+        final boolean c1CachedAfterAdd = sizes.isCached(c1);
+        final boolean c2CachedAfterAdd = sizes.isCached(c2);
+        final int sizeAfterAdd = sizes.valueOf(root);
+        final int foldedAfterAdd = nrOfFoldedNodes.getAndSet(0);
+
+        sizes.removeSubTree(root, c1);
+        final int sizeAfterRemove = sizes.valueOf(root);
+
+        assertAll(
+                () -> assertEquals(10, initialSize),
+                () -> assertEquals(10, foldedOnFirstQuery),
+                () -> assertEquals(10, cachedSize),
+                () -> assertEquals(0, foldedOnSecondQuery),
+                () -> assertFalse(c1CachedAfterAdd),
+                () -> assertTrue(c2CachedAfterAdd),
+                () -> assertEquals(11, sizeAfterAdd),
+                () -> assertEquals(4, foldedAfterAdd),
+                () -> assertEquals(6, sizeAfterRemove),
+                () -> assertEquals(6, SubtreeAggregate.<Person, Person>size().valueOf(root)),
+                () -> assertEquals(2, SubtreeAggregate.<Person, Person>height().valueOf(root)),
+                () -> assertEquals(7, SubtreeAggregate.<Person, Person>sumOf(node -> node.name.length() / 2).valueOf(root))
+        );
+    }
+
+    @Test
+    void testSubtreeAggregateEvictsAncestorsOfAChildThatWasCachedFirst() {
+        final Person root = new Person("root");
+        final Person child = new Person("child");
+        root.addChild(child);
+        final SubtreeAggregate<Person, Person, Integer> sizes = SubtreeAggregate.size();
+
+        final int childSize = sizes.valueOf(child);
+        final int rootSize = sizes.valueOf(root);
+        sizes.addChild(child, new Person("grandchild"));
+
+        assertAll(
+                () -> assertEquals(1, childSize),
+                () -> assertEquals(2, rootSize),
+                () -> assertEquals(2, sizes.valueOf(child)),
+                () -> assertEquals(3, sizes.valueOf(root))
+        );
+    }
+
+    @Test
+    void testSubtreeAggregateEvictsAncestorsAboveANullValue() {
+        final Person root = buildChain(3);
+        final Person leaf = root.breadthFirstSequence().first(s -> "p2".equals(s.name));
+        final SubtreeAggregate<Person, Person, Integer> internalNodes = SubtreeAggregate.of(
+                node -> node.isLeaf() ? null : 1,
+                (count, childCount) -> childCount == null ? count : count + childCount);
+
+        final Integer before = internalNodes.valueOf(root);
+        internalNodes.addChild(leaf, new Person("p3"));
+
+        assertAll(
+                () -> assertEquals(2, before),
+                () -> assertEquals(3, internalNodes.valueOf(root))
+        );
+    }
+
+    private static Person buildChain(final int length) {
+        final Person head = new Person("p0");
+        Person last = head;
+        for (int i = 1; i < length; i++) {
+            final Person next = new Person("p" + i);
+            last.addChild(next);
+            last = next;
+        }
+        return head;
+    }
+
     private static TreeNodeTest.Person buildPersonTree() {
         final Person c1 = new Person("c1").addChildren(Arrays.asList(
                 new Person("c4").addChild(new Person("c10")),
@@ -301,6 +454,25 @@ class TreeNodeTest {
             assertEquals(nodeToTreeDept1, nodeToTreeDepth2);
         }
 
+        @Test
+        void testParallelBreadthFirstLevelsYieldSameDepthsAsSequentialTraversal() {
+            final FileX fileX = new FileX("../TreeNodeTest.java")
+                    .parentSequence()
+                    .first(f -> "graph-utils".equals(f.getName()));
+
+            final ForkJoinPool pool = new ForkJoinPool(4);
+            try {
+                final List<DepthToTreeNode<FileX>> nodesWithDepth = Sequence.of(fileX.parallelBreadthFirstLevels(pool))
+                        .withIndex()
+                        .flatMap(level -> level.value().map(node -> new DepthToTreeNode<>(level.index(), node)))
+                        .toList();
+
+                assertEquals(fileX.breadthFirstDepthTrackingSequence().toList(), nodesWithDepth);
+            } finally {
+                pool.shutdown();
+            }
+        }
+
         @Test
         void testFileXAsBreadthFirstSequence() {
             final FileX fileX = new FileX(".");